@@ -0,0 +1,112 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.benchmark;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import quickfix.FieldNotFound;
+import quickfix.Group;
+import quickfix.Message;
+import quickfix.MessageUtils;
+import quickfix.field.ApplVerID;
+import quickfix.field.BeginString;
+import quickfix.field.CheckSum;
+import quickfix.field.MDEntryPx;
+import quickfix.field.MDEntrySize;
+import quickfix.field.MDEntryType;
+import quickfix.field.MDReqID;
+import quickfix.field.MsgSeqNum;
+import quickfix.field.MsgType;
+import quickfix.field.NoMDEntries;
+import quickfix.field.SenderCompID;
+import quickfix.field.SendingTime;
+import quickfix.field.Symbol;
+import quickfix.field.TargetCompID;
+
+import java.time.LocalDateTime;
+
+import static quickfix.FixVersions.BEGINSTRING_FIXT11;
+
+/**
+ * The MarketDataSnapshotFullRefresh measured by the assertion benchmarks, for every FIX version and in three sizes:
+ * no repeating groups, a typical book and a many-group message.
+ * <p>
+ * FIX 5.0 and later are sent over FIXT.1.1 with the ApplVerID in the header, as a session would. The Message is
+ * serialised once so that BodyLength and CheckSum are set.
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+@State(Scope.Benchmark)
+public class BenchmarkMessage {
+
+	public enum Size {
+
+		SMALL(0), MEDIUM(20), HUGE(10000);
+
+		final int entries;
+
+		Size(int entries) {
+			this.entries = entries;
+		}
+	}
+
+	static final String SYMBOL = "EUR/USD";
+
+	static final String SENDER_COMP_ID = "SENDER";
+
+	@Param({"FIX.4.0", "FIX.4.1", "FIX.4.2", "FIX.4.3", "FIX.4.4", "FIX.5.0", "FIX.5.0SP1", "FIX.5.0SP2"})
+	public String version;
+
+	@Param({"SMALL", "MEDIUM", "HUGE"})
+	public Size size;
+
+	Message message;
+
+	String beginString;
+
+	String applVerId;
+
+	String checksum;
+
+	@Setup
+	public void setUp() throws FieldNotFound {
+		boolean fixt = version.startsWith("FIX.5");
+		beginString = fixt ? BEGINSTRING_FIXT11 : version;
+		applVerId = fixt ? MessageUtils.toApplVerID(version).getValue() : null;
+
+		message = new Message();
+		message.getHeader().setField(new BeginString(beginString));
+		if (fixt) {
+			message.getHeader().setField(new ApplVerID(applVerId));
+		}
+		message.getHeader().setField(new MsgType(MsgType.MARKET_DATA_SNAPSHOT_FULL_REFRESH));
+		message.getHeader().setField(new SenderCompID(SENDER_COMP_ID));
+		message.getHeader().setField(new TargetCompID("TARGET"));
+		message.getHeader().setField(new MsgSeqNum(1));
+		message.getHeader().setField(new SendingTime(LocalDateTime.of(2020, 7, 27, 12, 28, 2)));
+		message.setField(new MDReqID("REQ-1"));
+		message.setField(new Symbol(SYMBOL));
+		for (int i = 0; i < size.entries; i++) {
+			Group group = new Group(NoMDEntries.FIELD, MDEntryType.FIELD);
+			group.setField(new MDEntryType(i % 2 == 0 ? MDEntryType.BID : MDEntryType.OFFER));
+			group.setField(new MDEntryPx(1.1000 + i / 100000.0));
+			group.setField(new MDEntrySize(1000 + i));
+			message.addGroup(group);
+		}
+
+		message.toString();
+		checksum = message.getTrailer().getString(CheckSum.FIELD);
+	}
+}
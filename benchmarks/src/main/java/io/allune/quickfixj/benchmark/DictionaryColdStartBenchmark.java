@@ -0,0 +1,84 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.benchmark;
+
+import io.allune.quickfixj.internal.Dictionaries;
+import io.allune.quickfixj.internal.DictionarySnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import quickfix.ConfigError;
+import quickfix.DataDictionary;
+import quickfix.FieldType;
+import quickfix.field.ClOrdID;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cold start cost of resolving a dictionary: parsing the QuickFIX/J dictionary XML against opening a
+ * binary {@link DictionarySnapshot} and resolving a field type and a message name from it.
+ * <p>
+ * Single shot, since the point is the first use of a dictionary in a fresh JVM rather than a warmed up lookup.
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 10)
+@Fork(5)
+public class DictionaryColdStartBenchmark {
+
+	@Param({"FIX.4.4", "FIX.5.0SP2"})
+	public String beginString;
+
+	private Path snapshotFile;
+
+	@Setup
+	public void setUp() throws IOException {
+		snapshotFile = Files.createTempFile(beginString.replace(".", ""), ".snapshot");
+		Dictionaries.instance().saveSnapshot(beginString, snapshotFile);
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(snapshotFile);
+	}
+
+	@Benchmark
+	public FieldType loadDictionaryXml() throws ConfigError {
+		DataDictionary dataDictionary = new DataDictionary(beginString.replace(".", "") + ".xml");
+		dataDictionary.getMsgType("NewOrderSingle");
+		return dataDictionary.getFieldType(ClOrdID.FIELD);
+	}
+
+	@Benchmark
+	public FieldType openSnapshot() throws IOException {
+		DictionarySnapshot snapshot = DictionarySnapshot.open(snapshotFile);
+		snapshot.getMsgType("NewOrderSingle");
+		return snapshot.getFieldType(ClOrdID.FIELD);
+	}
+}
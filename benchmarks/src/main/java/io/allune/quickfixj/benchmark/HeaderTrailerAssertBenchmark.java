@@ -0,0 +1,66 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.benchmark;
+
+import io.allune.quickfixj.api.MessageHeaderAssert;
+import io.allune.quickfixj.api.MessageTrailerAssert;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import quickfix.field.MsgType;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.allune.quickfixj.api.Assertions.assertThat;
+
+/**
+ * Measures the typed assertions of {@link MessageHeaderAssert} and {@link MessageTrailerAssert} against a
+ * {@link BenchmarkMessage} of every FIX version and size, the body only making a difference through the navigation
+ * from the Message.
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HeaderTrailerAssertBenchmark {
+
+	@Benchmark
+	public MessageHeaderAssert hasBeginString(BenchmarkMessage message) {
+		return assertThat(message.message).header().hasBeginString(message.beginString);
+	}
+
+	@Benchmark
+	public MessageHeaderAssert hasMsgType(BenchmarkMessage message) {
+		return assertThat(message.message).header().hasMsgType(MsgType.MARKET_DATA_SNAPSHOT_FULL_REFRESH);
+	}
+
+	@Benchmark
+	public MessageHeaderAssert hasSessionFields(BenchmarkMessage message) {
+		return assertThat(message.message).header()
+				.hasSenderCompID(BenchmarkMessage.SENDER_COMP_ID)
+				.hasTargetCompID("TARGET")
+				.hasMsgSeqNum(1);
+	}
+
+	@Benchmark
+	public MessageTrailerAssert hasChecksum(BenchmarkMessage message) {
+		return assertThat(message.message).trailer().hasChecksum(message.checksum);
+	}
+}
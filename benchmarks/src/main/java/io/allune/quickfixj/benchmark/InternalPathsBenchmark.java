@@ -0,0 +1,63 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.benchmark;
+
+import io.allune.quickfixj.internal.Messages;
+import io.allune.quickfixj.internal.Versions;
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.api.WritableAssertionInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import quickfix.IncorrectDataFormat;
+import quickfix.field.Symbol;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the internal paths below the assertions, {@link Messages#getFieldValue(int, String, quickfix.FieldMap)}
+ * and {@link Versions#assertMessageIsVersion(AssertionInfo, quickfix.Message, String, String)}, against a
+ * {@link BenchmarkMessage} of every FIX version and size, without the cost of creating an assertion object.
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InternalPathsBenchmark {
+
+	private final Messages messages = Messages.instance();
+
+	private final Versions versions = Versions.instance();
+
+	private final AssertionInfo info = new WritableAssertionInfo();
+
+	@Benchmark
+	public Object getFieldValue(BenchmarkMessage message) throws IncorrectDataFormat {
+		return messages.getFieldValue(Symbol.FIELD, message.version, message.message);
+	}
+
+	@Benchmark
+	public void assertMessageIsVersion(BenchmarkMessage message) {
+		versions.assertMessageIsVersion(info, message.message, message.beginString, message.applVerId);
+	}
+}
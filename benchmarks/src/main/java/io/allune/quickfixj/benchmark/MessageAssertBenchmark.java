@@ -0,0 +1,87 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.benchmark;
+
+import io.allune.quickfixj.api.MessageAssert;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import quickfix.field.MDReqID;
+import quickfix.field.Symbol;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.allune.quickfixj.api.Assertions.assertThat;
+
+/**
+ * Measures the body assertions of {@link MessageAssert} against a {@link BenchmarkMessage} of every FIX version and
+ * size. A passing assertion on a field should not grow with the number of repeating groups.
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageAssertBenchmark {
+
+	@Benchmark
+	public MessageAssert hasField(BenchmarkMessage message) {
+		return assertThat(message.message).hasField(Symbol.FIELD);
+	}
+
+	@Benchmark
+	public MessageAssert hasFieldValue(BenchmarkMessage message) {
+		return assertThat(message.message).hasFieldValue(Symbol.FIELD, BenchmarkMessage.SYMBOL);
+	}
+
+	@Benchmark
+	public MessageAssert hasFieldValues(BenchmarkMessage message) {
+		return assertThat(message.message)
+				.hasFieldValue(MDReqID.FIELD, "REQ-1")
+				.hasFieldValue(Symbol.FIELD, BenchmarkMessage.SYMBOL);
+	}
+
+	@Benchmark
+	public MessageAssert isMarketDataSnapshotFullRefresh(BenchmarkMessage message) {
+		return assertThat(message.message).isMarketDataSnapshotFullRefresh();
+	}
+
+	@Benchmark
+	public MessageAssert isVersion(BenchmarkMessage message) {
+		MessageAssert messageAssert = assertThat(message.message);
+		switch (message.version) {
+			case "FIX.4.0":
+				return messageAssert.isVersion40();
+			case "FIX.4.1":
+				return messageAssert.isVersion41();
+			case "FIX.4.2":
+				return messageAssert.isVersion42();
+			case "FIX.4.3":
+				return messageAssert.isVersion43();
+			case "FIX.4.4":
+				return messageAssert.isVersion44();
+			case "FIX.5.0":
+				return messageAssert.isVersion50();
+			case "FIX.5.0SP1":
+				return messageAssert.isVersion50sp1();
+			default:
+				return messageAssert.isVersion50sp2();
+		}
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.benchmark;
+
+import io.allune.quickfixj.api.MessageAssert;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import quickfix.Group;
+import quickfix.InvalidMessage;
+import quickfix.Message;
+import quickfix.MessageUtils;
+import quickfix.field.BeginString;
+import quickfix.field.MDEntryPx;
+import quickfix.field.MDEntrySize;
+import quickfix.field.MDEntryType;
+import quickfix.field.MsgSeqNum;
+import quickfix.field.MsgType;
+import quickfix.field.NoMDEntries;
+import quickfix.field.SenderCompID;
+import quickfix.field.Symbol;
+import quickfix.field.TargetCompID;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.allune.quickfixj.api.Assertions.assertThat;
+import static quickfix.FixVersions.BEGINSTRING_FIX44;
+
+/**
+ * Measures the cost of a MsgType check against MarketDataSnapshotFullRefresh messages of increasing size.
+ * <p>
+ * {@link #isMarketDataSnapshotFullRefresh()} should stay flat across {@code entries} whereas
+ * {@link #msgTypeFromSerialisedMessage()}, the approach previously used by the assertions, grows with the message.
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MsgTypeBenchmark {
+
+	@Param({"0", "100", "10000"})
+	public int entries;
+
+	private Message message;
+
+	@Setup
+	public void setUp() {
+		message = new Message();
+		message.getHeader().setField(new BeginString(BEGINSTRING_FIX44));
+		message.getHeader().setField(new MsgType(MsgType.MARKET_DATA_SNAPSHOT_FULL_REFRESH));
+		message.getHeader().setField(new SenderCompID("SENDER"));
+		message.getHeader().setField(new TargetCompID("TARGET"));
+		message.getHeader().setField(new MsgSeqNum(1));
+		message.setField(new Symbol("EUR/USD"));
+		for (int i = 0; i < entries; i++) {
+			Group group = new Group(NoMDEntries.FIELD, MDEntryType.FIELD);
+			group.setField(new MDEntryType(i % 2 == 0 ? MDEntryType.BID : MDEntryType.OFFER));
+			group.setField(new MDEntryPx(1.1000 + i / 100000.0));
+			group.setField(new MDEntrySize(1000 + i));
+			message.addGroup(group);
+		}
+	}
+
+	@Benchmark
+	public MessageAssert isMarketDataSnapshotFullRefresh() {
+		return assertThat(message).isMarketDataSnapshotFullRefresh();
+	}
+
+	@Benchmark
+	public String msgTypeFromSerialisedMessage() throws InvalidMessage {
+		return MessageUtils.getMessageType(message.toString());
+	}
+}
@@ -12,12 +12,18 @@
  */
 package io.allune.quickfixj.api;
 
+import io.allune.quickfixj.error.DictionaryRepresentation;
 import io.allune.quickfixj.internal.Dictionaries;
+import io.allune.quickfixj.internal.FieldValueTable;
+import io.allune.quickfixj.internal.Groups;
 import io.allune.quickfixj.internal.Messages;
 import io.allune.quickfixj.internal.Versions;
 import org.assertj.core.api.AbstractAssert;
 import org.assertj.core.internal.Failures;
 import quickfix.FieldMap;
+import quickfix.Group;
+
+import java.util.function.Consumer;
 
 import static io.allune.quickfixj.error.FieldShouldHaveValue.fieldShouldHaveValue;
 import static io.allune.quickfixj.error.ShouldHaveField.shouldHaveField;
@@ -39,8 +45,14 @@ public abstract class AbstractFieldMapAssert<SELF extends AbstractFieldMapAssert
 
 	Versions versions = Versions.instance();
 
+	Groups groups = Groups.instance();
+
 	Dictionaries dictionaries = Dictionaries.instance();
 
+	boolean exactDecimalComparison;
+
+	private FieldValueTable fieldValueTable;
+
 	/**
 	 * Creates a new <code>{@link AbstractFieldMapAssert}</code>.
 	 *
@@ -98,8 +110,13 @@ public abstract class AbstractFieldMapAssert<SELF extends AbstractFieldMapAssert
 
 		hasField(expectedFieldTag);
 
+		if (exactDecimalComparison && getFieldValueTable().isDecimal(expectedFieldTag)) {
+			messages.assertDecimalFieldHasValue(info, actual, expectedFieldTag, expectedFieldValue);
+			return (SELF) this;
+		}
+
 		try {
-			Object actualFieldValue = messages.getFieldValue(expectedFieldTag, getBeginString(), this.actual);
+			Object actualFieldValue = messages.getFieldValue(expectedFieldTag, getFieldValueTable(), this.actual);
 			if (!expectedFieldValue.equals(actualFieldValue))
 				throw failures.failure(info, fieldShouldHaveValue(actual, expectedFieldTag, actualFieldValue, expectedFieldValue));
 		} catch (Exception ex) {
@@ -109,6 +126,234 @@ public abstract class AbstractFieldMapAssert<SELF extends AbstractFieldMapAssert
 		return (SELF) this;
 	}
 
+	/**
+	 * Verifies that the actual FieldMap has an int field with the expected value.
+	 * <p>
+	 * The raw value of the field is compared without boxing, so the passing path does not allocate.
+	 *
+	 * @param expectedFieldTag   The expected tag number of the field.
+	 * @param expectedFieldValue The expected value.
+	 * @return {@code this} assertion object.
+	 */
+	public SELF hasIntFieldValue(int expectedFieldTag, int expectedFieldValue) {
+		isNotNull();
+		messages.assertIntFieldHasValue(info, actual, expectedFieldTag, expectedFieldValue);
+		return (SELF) this;
+	}
+
+	/**
+	 * Verifies that the actual FieldMap has a float field (e.g. PRICE, QTY or AMT) whose value is within the given
+	 * tolerance of the expected value.
+	 * <p>
+	 * The raw value of the field is compared without boxing, so the passing path does not allocate.
+	 *
+	 * @param expectedFieldTag   The expected tag number of the field.
+	 * @param expectedFieldValue The expected value.
+	 * @param tolerance          The maximum allowed absolute difference between the actual and expected values.
+	 * @return {@code this} assertion object.
+	 */
+	public SELF hasDoubleFieldValue(int expectedFieldTag, double expectedFieldValue, double tolerance) {
+		isNotNull();
+		if (tolerance < 0) {
+			throw new IllegalArgumentException("'tolerance' must not be negative");
+		}
+		messages.assertDoubleFieldHasValue(info, actual, expectedFieldTag, expectedFieldValue, tolerance);
+		return (SELF) this;
+	}
+
+	/**
+	 * Verifies that the actual FieldMap has a decimal field (e.g. PRICE, QTY or AMT) whose value is exactly
+	 * {@code expectedUnscaledValue * 10^-expectedScale}, e.g. {@code hasDecimalFieldValue(Price.FIELD, 30025, 2)}
+	 * for a price of {@code 300.25}.
+	 * <p>
+	 * Trailing zeros are not significant, so {@code 300.250} matches too. The raw value of the field is compared
+	 * without creating {@link java.math.BigDecimal} or {@link Double} objects.
+	 *
+	 * @param expectedFieldTag      The expected tag number of the field.
+	 * @param expectedUnscaledValue The unscaled expected value.
+	 * @param expectedScale         The scale of the expected value.
+	 * @return {@code this} assertion object.
+	 */
+	public SELF hasDecimalFieldValue(int expectedFieldTag, long expectedUnscaledValue, int expectedScale) {
+		isNotNull();
+		messages.assertDecimalFieldHasValue(info, actual, expectedFieldTag, expectedUnscaledValue, expectedScale);
+		return (SELF) this;
+	}
+
+	/**
+	 * Compares decimal fields (PRICE, AMT, QTY, FLOAT, PRICEOFFSET and PERCENTAGE) exactly in
+	 * {@link #hasFieldValue(int, Object)} instead of converting them to {@code double}.
+	 * <p>
+	 * The raw value of the field is compared with the expected value, which may be a {@link java.math.BigDecimal},
+	 * any other {@link Number} or a {@link String}; e.g. {@code hasFieldValue(Price.FIELD, new BigDecimal("300.25"))}.
+	 *
+	 * @return {@code this} assertion object.
+	 */
+	public SELF usingExactDecimalComparison() {
+		exactDecimalComparison = true;
+		return (SELF) this;
+	}
+
+	/**
+	 * Verifies that the actual FieldMap has a char field with the expected value.
+	 * <p>
+	 * The raw value of the field is compared without boxing, so the passing path does not allocate.
+	 *
+	 * @param expectedFieldTag   The expected tag number of the field.
+	 * @param expectedFieldValue The expected value.
+	 * @return {@code this} assertion object.
+	 */
+	public SELF hasCharFieldValue(int expectedFieldTag, char expectedFieldValue) {
+		isNotNull();
+		messages.assertCharFieldHasValue(info, actual, expectedFieldTag, expectedFieldValue);
+		return (SELF) this;
+	}
+
+	/**
+	 * Verifies that the actual FieldMap has a boolean field with the expected value.
+	 * <p>
+	 * The raw value of the field is compared without boxing, so the passing path does not allocate.
+	 *
+	 * @param expectedFieldTag   The expected tag number of the field.
+	 * @param expectedFieldValue The expected value.
+	 * @return {@code this} assertion object.
+	 */
+	public SELF hasBooleanFieldValue(int expectedFieldTag, boolean expectedFieldValue) {
+		isNotNull();
+		messages.assertBooleanFieldHasValue(info, actual, expectedFieldTag, expectedFieldValue);
+		return (SELF) this;
+	}
+
+	/**
+	 * Verifies that the actual FieldMap has a repeating group with the provided tag number.
+	 *
+	 * @param expectedGroupTag The expected tag number of the repeating group, e.g. NoMDEntries.
+	 * @return {@code this} assertion object.
+	 */
+	public SELF hasGroup(int expectedGroupTag) {
+		isNotNull();
+		groups.assertHasGroup(info, actual, expectedGroupTag);
+		return (SELF) this;
+	}
+
+	/**
+	 * Verifies that the repeating group of the actual FieldMap has the expected number of entries.
+	 *
+	 * @param groupTag      The tag number of the repeating group, e.g. NoMDEntries.
+	 * @param expectedCount The expected number of entries.
+	 * @return {@code this} assertion object.
+	 */
+	public SELF hasGroupCount(int groupTag, int expectedCount) {
+		isNotNull();
+		groups.assertGroupCount(info, actual, groupTag, expectedCount);
+		return (SELF) this;
+	}
+
+	/**
+	 * Verifies that an entry of the repeating group of the actual FieldMap has a field with the expected value.
+	 * Example:
+	 * <pre>
+	 * 	<code class='java'>
+	 * 		assertThat(marketDataSnapshot).hasGroupFieldValue(NoMDEntries.FIELD, 1, MDEntryType.FIELD, '0');
+	 * 	</code>
+	 * </pre>
+	 *
+	 * @param groupTag           The tag number of the repeating group, e.g. NoMDEntries.
+	 * @param index              The number of the entry, from 1.
+	 * @param expectedFieldTag   The expected tag number of the field.
+	 * @param expectedFieldValue The expected value.
+	 * @return {@code this} assertion object.
+	 */
+	public SELF hasGroupFieldValue(int groupTag, int index, int expectedFieldTag, Object expectedFieldValue) {
+		group(groupTag, index).hasFieldValue(expectedFieldTag, expectedFieldValue);
+		return (SELF) this;
+	}
+
+	/**
+	 * Navigates to an entry of the repeating group of the actual FieldMap. The entry is asserted on in place rather
+	 * than copied.
+	 *
+	 * @param groupTag The tag number of the repeating group, e.g. NoMDEntries.
+	 * @param index    The number of the entry, from 1.
+	 * @return a {@link GroupAssert} assertion object for the entry.
+	 */
+	public GroupAssert group(int groupTag, int index) {
+		isNotNull();
+		Group group = groups.getGroup(info, actual, groupTag, index);
+		return groupAssert(group).as("entry <%s> of repeating group <%s>", index, groupTag);
+	}
+
+	/**
+	 * Verifies that the actual FieldMap has the repeating group and that every entry satisfies the requirements.
+	 * Every entry is evaluated, so the error lists all the failing entries.
+	 * Example:
+	 * <pre>
+	 * 	<code class='java'>
+	 * 		assertThat(marketDataSnapshot).allGroupsSatisfy(NoMDEntries.FIELD, entry -&gt; entry
+	 * 				.hasField(MDEntryPx.FIELD)
+	 * 				.hasField(MDEntrySize.FIELD));
+	 * 	</code>
+	 * </pre>
+	 *
+	 * @param groupTag     The tag number of the repeating group, e.g. NoMDEntries.
+	 * @param requirements The requirements each entry must satisfy.
+	 * @return {@code this} assertion object.
+	 */
+	public SELF allGroupsSatisfy(int groupTag, Consumer<GroupAssert> requirements) {
+		isNotNull();
+		groups.assertAllGroupsSatisfy(info, actual, groupTag, group -> requirements.accept(groupAssert(group)));
+		return (SELF) this;
+	}
+
+	private GroupAssert groupAssert(Group group) {
+		GroupAssert groupAssert = new GroupAssert(group, getBeginString());
+		groupAssert.copySettingsFrom(this);
+		return groupAssert;
+	}
+
+	/**
+	 * Replaces the dictionaries used by this assertion object.
+	 *
+	 * @param dictionaries the dictionaries to use.
+	 */
+	void useDictionaries(Dictionaries dictionaries) {
+		if (dictionaries != this.dictionaries) {
+			info.useRepresentation(new DictionaryRepresentation(info.representation(), dictionaries));
+		}
+		this.dictionaries = dictionaries;
+		this.fieldValueTable = null;
+	}
+
+	/**
+	 * Renders the values of the error messages of this assertion object only when the errors are read, for soft
+	 * assertions.
+	 *
+	 * @param rendering the rendering collecting the deferred values.
+	 */
+	final void deferRendering(DeferredRendering rendering) {
+		info.useRepresentation(rendering.deferring(info.representation()));
+	}
+
+	/**
+	 * Copies the settings of the given assertion object, e.g. when navigating from a message to its header.
+	 *
+	 * @param other the assertion object to copy the settings from.
+	 */
+	void copySettingsFrom(AbstractFieldMapAssert<?, ?> other) {
+		useDictionaries(other.dictionaries);
+		this.exactDecimalComparison = other.exactDecimalComparison;
+	}
+
+	/**
+	 * @return the {@link FieldValueTable} of the dictionary for the actual message, resolved once per assertion object.
+	 */
+	FieldValueTable getFieldValueTable() {
+		if (fieldValueTable == null) {
+			fieldValueTable = dictionaries.getFieldValueTable(getBeginString());
+		}
+		return fieldValueTable;
+	}
+
 	/**
 	 * @return Returns the BeginString value for the actual message.
 	 */
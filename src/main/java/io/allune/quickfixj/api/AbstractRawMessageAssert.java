@@ -0,0 +1,240 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.api;
+
+import io.allune.quickfixj.internal.RawMessage;
+import io.allune.quickfixj.internal.RawMessages;
+import org.assertj.core.api.AbstractAssert;
+import quickfix.FixVersions;
+
+import static quickfix.FixVersions.BEGINSTRING_FIX40;
+import static quickfix.FixVersions.BEGINSTRING_FIX41;
+import static quickfix.FixVersions.BEGINSTRING_FIX42;
+import static quickfix.FixVersions.BEGINSTRING_FIX43;
+import static quickfix.FixVersions.BEGINSTRING_FIX44;
+import static quickfix.FixVersions.BEGINSTRING_FIXT11;
+import static quickfix.field.ApplVerID.FIX50;
+import static quickfix.field.ApplVerID.FIX50SP1;
+import static quickfix.field.ApplVerID.FIX50SP2;
+
+/**
+ * Base class for assertions on a FIX message in wire format, answered by scanning its characters without
+ * constructing a {@link quickfix.Message}.
+ *
+ * @param <SELF> the "self" type of this assertion class.
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+public abstract class AbstractRawMessageAssert<SELF extends AbstractRawMessageAssert<SELF>> extends AbstractAssert<SELF, CharSequence> {
+
+	RawMessages rawMessages = RawMessages.instance();
+
+	/**
+	 * The actual message, as the view the assertions scan.
+	 */
+	final RawMessage rawMessage;
+
+	/**
+	 * Creates a new <code>{@link AbstractRawMessageAssert}</code>.
+	 *
+	 * @param message  the {@link RawMessage} to verify.
+	 * @param selfType the "self type".
+	 */
+	AbstractRawMessageAssert(RawMessage message, Class<SELF> selfType) {
+		super(message, selfType);
+		this.rawMessage = message;
+	}
+
+	/**
+	 * Verifies that the actual message has a field with the provided tag number.
+	 *
+	 * @param expectedTag The expected tag number of the field.
+	 * @return {@code this} assertion object.
+	 */
+	public SELF hasField(int expectedTag) {
+		rawMessages.assertHasField(info, rawMessage, expectedTag);
+		return (SELF) this;
+	}
+
+	/**
+	 * Verifies that the actual message has the fields with the provided tag numbers.
+	 *
+	 * @param expectedFieldTags The expected tag numbers of the fields.
+	 * @return {@code this} assertion object.
+	 */
+	public SELF hasFields(int... expectedFieldTags) {
+		for (int field : expectedFieldTags) {
+			hasField(field);
+		}
+		return (SELF) this;
+	}
+
+	/**
+	 * Verifies that the actual message has a field with the expected value, as written on the wire.
+	 *
+	 * @param expectedFieldTag   The expected tag number of the field.
+	 * @param expectedFieldValue The expected value.
+	 * @return {@code this} assertion object.
+	 */
+	public SELF hasFieldValue(int expectedFieldTag, CharSequence expectedFieldValue) {
+		if (expectedFieldValue == null) {
+			throw new IllegalArgumentException("'expectedFieldValue' must not be null.");
+		}
+		rawMessages.assertFieldHasValue(info, rawMessage, expectedFieldTag, expectedFieldValue);
+		return (SELF) this;
+	}
+
+	/**
+	 * Verifies that the actual message has an int field with the expected value.
+	 *
+	 * @param expectedFieldTag   The expected tag number of the field.
+	 * @param expectedFieldValue The expected value.
+	 * @return {@code this} assertion object.
+	 */
+	public SELF hasIntFieldValue(int expectedFieldTag, int expectedFieldValue) {
+		rawMessages.assertIntFieldHasValue(info, rawMessage, expectedFieldTag, expectedFieldValue);
+		return (SELF) this;
+	}
+
+	/**
+	 * Verifies that the actual message has a decimal field equal to {@code expectedUnscaledValue} &times;
+	 * 10<sup>-expectedScale</sup>, ignoring trailing zeros.
+	 *
+	 * @param expectedFieldTag      The expected tag number of the field.
+	 * @param expectedUnscaledValue The unscaled expected value.
+	 * @param expectedScale         The scale of the expected value.
+	 * @return {@code this} assertion object.
+	 */
+	public SELF hasDecimalFieldValue(int expectedFieldTag, long expectedUnscaledValue, int expectedScale) {
+		rawMessages.assertDecimalFieldHasValue(info, rawMessage, expectedFieldTag, expectedUnscaledValue, expectedScale);
+		return (SELF) this;
+	}
+
+	/**
+	 * Verifies that the actual message has a char field with the expected value.
+	 *
+	 * @param expectedFieldTag   The expected tag number of the field.
+	 * @param expectedFieldValue The expected value.
+	 * @return {@code this} assertion object.
+	 */
+	public SELF hasCharFieldValue(int expectedFieldTag, char expectedFieldValue) {
+		rawMessages.assertCharFieldHasValue(info, rawMessage, expectedFieldTag, expectedFieldValue);
+		return (SELF) this;
+	}
+
+	/**
+	 * Verifies that the actual message has a boolean field with the expected value.
+	 *
+	 * @param expectedFieldTag   The expected tag number of the field.
+	 * @param expectedFieldValue The expected value.
+	 * @return {@code this} assertion object.
+	 */
+	public SELF hasBooleanFieldValue(int expectedFieldTag, boolean expectedFieldValue) {
+		rawMessages.assertBooleanFieldHasValue(info, rawMessage, expectedFieldTag, expectedFieldValue);
+		return (SELF) this;
+	}
+
+	/**
+	 * Verifies that the actual message is of the given MsgType.
+	 *
+	 * @param expectedMsgType the expected MsgType, e.g. {@link quickfix.field.MsgType#ORDER_SINGLE}.
+	 * @return {@code this} assertion object.
+	 */
+	public SELF hasMsgType(String expectedMsgType) {
+		rawMessages.assertIsOfType(info, rawMessage, expectedMsgType);
+		return (SELF) this;
+	}
+
+	/**
+	 * Verifies that the actual message's FIX version number is {@link FixVersions#BEGINSTRING_FIX40}.
+	 *
+	 * @return {@code this} assertion object.
+	 */
+	public SELF isVersion40() {
+		rawMessages.assertIsVersion(info, rawMessage, BEGINSTRING_FIX40, null);
+		return (SELF) this;
+	}
+
+	/**
+	 * Verifies that the actual message's FIX version number is {@link FixVersions#BEGINSTRING_FIX41}.
+	 *
+	 * @return {@code this} assertion object.
+	 */
+	public SELF isVersion41() {
+		rawMessages.assertIsVersion(info, rawMessage, BEGINSTRING_FIX41, null);
+		return (SELF) this;
+	}
+
+	/**
+	 * Verifies that the actual message's FIX version number is {@link FixVersions#BEGINSTRING_FIX42}.
+	 *
+	 * @return {@code this} assertion object.
+	 */
+	public SELF isVersion42() {
+		rawMessages.assertIsVersion(info, rawMessage, BEGINSTRING_FIX42, null);
+		return (SELF) this;
+	}
+
+	/**
+	 * Verifies that the actual message's FIX version number is {@link FixVersions#BEGINSTRING_FIX43}.
+	 *
+	 * @return {@code this} assertion object.
+	 */
+	public SELF isVersion43() {
+		rawMessages.assertIsVersion(info, rawMessage, BEGINSTRING_FIX43, null);
+		return (SELF) this;
+	}
+
+	/**
+	 * Verifies that the actual message's FIX version number is {@link FixVersions#BEGINSTRING_FIX44}.
+	 *
+	 * @return {@code this} assertion object.
+	 */
+	public SELF isVersion44() {
+		rawMessages.assertIsVersion(info, rawMessage, BEGINSTRING_FIX44, null);
+		return (SELF) this;
+	}
+
+	/**
+	 * Verifies that the actual message's FIX version number is {@link FixVersions#BEGINSTRING_FIXT11} with
+	 * ApplVerID {@link quickfix.field.ApplVerID#FIX50}.
+	 *
+	 * @return {@code this} assertion object.
+	 */
+	public SELF isVersion50() {
+		rawMessages.assertIsVersion(info, rawMessage, BEGINSTRING_FIXT11, FIX50);
+		return (SELF) this;
+	}
+
+	/**
+	 * Verifies that the actual message's FIX version number is {@link FixVersions#BEGINSTRING_FIXT11} with
+	 * ApplVerID {@link quickfix.field.ApplVerID#FIX50SP1}.
+	 *
+	 * @return {@code this} assertion object.
+	 */
+	public SELF isVersion50sp1() {
+		rawMessages.assertIsVersion(info, rawMessage, BEGINSTRING_FIXT11, FIX50SP1);
+		return (SELF) this;
+	}
+
+	/**
+	 * Verifies that the actual message's FIX version number is {@link FixVersions#BEGINSTRING_FIXT11} with
+	 * ApplVerID {@link quickfix.field.ApplVerID#FIX50SP2}.
+	 *
+	 * @return {@code this} assertion object.
+	 */
+	public SELF isVersion50sp2() {
+		rawMessages.assertIsVersion(info, rawMessage, BEGINSTRING_FIXT11, FIX50SP2);
+		return (SELF) this;
+	}
+}
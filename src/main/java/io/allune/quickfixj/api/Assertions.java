@@ -12,8 +12,16 @@
  */
 package io.allune.quickfixj.api;
 
+import io.allune.quickfixj.internal.RawMessage;
 import quickfix.Message;
 
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 /**
  * Entry point for all QuickFIX/J assertions.
  *
@@ -34,4 +42,83 @@ public final class Assertions {
 	public static MessageAssert assertThat(Message message) {
 		return new MessageAssert(message);
 	}
+
+	/**
+	 * Creates a new instance of {@link MessageListAssert}.
+	 *
+	 * @param messages The {@link quickfix.Message}s to assert on.
+	 * @return The created assertion object.
+	 */
+	public static MessageListAssert assertThatMessages(Iterable<? extends Message> messages) {
+		if (messages == null) {
+			return new MessageListAssert(null);
+		}
+		List<Message> list = new ArrayList<>();
+		for (Message message : messages) {
+			list.add(message);
+		}
+		return new MessageListAssert(list);
+	}
+
+	/**
+	 * Creates a new instance of {@link MessageListAssert}, consuming the stream.
+	 *
+	 * @param messages The {@link quickfix.Message}s to assert on.
+	 * @return The created assertion object.
+	 */
+	public static MessageListAssert assertThatMessages(Stream<? extends Message> messages) {
+		return new MessageListAssert(messages == null ? null : messages.collect(Collectors.<Message>toList()));
+	}
+
+	/**
+	 * Creates a new instance of {@link MessageLogAssert} over a QuickFIX/J message log file.
+	 *
+	 * @param messageLog The message log to assert on.
+	 * @return The created assertion object.
+	 */
+	public static MessageLogAssert assertThatMessageLog(Path messageLog) {
+		return new MessageLogAssert(messageLog);
+	}
+
+	/**
+	 * Creates a new instance of {@link RawMessageAssert} over a message in wire format, ISO-8859-1 encoded.
+	 *
+	 * @param message The raw message to assert on.
+	 * @return The created assertion object.
+	 */
+	public static RawMessageAssert assertThatRaw(byte[] message) {
+		return new RawMessageAssert(message == null ? null : RawMessage.of(message));
+	}
+
+	/**
+	 * Creates a new instance of {@link RawMessageAssert} over a message in wire format, between the position and the
+	 * limit of the buffer.
+	 *
+	 * @param message The raw message to assert on.
+	 * @return The created assertion object.
+	 */
+	public static RawMessageAssert assertThatRaw(ByteBuffer message) {
+		return new RawMessageAssert(message == null ? null : RawMessage.of(message));
+	}
+
+	/**
+	 * Creates a new instance of {@link RawMessageAssert} over a message in wire format.
+	 *
+	 * @param message The raw message to assert on.
+	 * @return The created assertion object.
+	 */
+	public static RawMessageAssert assertThatRaw(CharSequence message) {
+		return new RawMessageAssert(message == null ? null : RawMessage.of(message));
+	}
+
+	/**
+	 * Creates a new instance of {@link LazyMessageAssert}, which indexes the fields of a message in wire format
+	 * and decodes only those asserted on.
+	 *
+	 * @param message The message in wire format to assert on.
+	 * @return The created assertion object.
+	 */
+	public static LazyMessageAssert assertThatLazily(CharSequence message) {
+		return new LazyMessageAssert(message);
+	}
 }
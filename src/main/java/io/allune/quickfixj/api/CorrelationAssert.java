@@ -0,0 +1,123 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.api;
+
+import io.allune.quickfixj.internal.Correlation;
+import io.allune.quickfixj.internal.Correlations;
+import org.assertj.core.api.AbstractAssert;
+
+/**
+ * Assertions on how the requests of a batch of Messages or a message log were answered: matched with a response
+ * within a window of Messages, answered after it, or orphans never answered.
+ * <p>
+ * The requests and responses are correlated in one pass when the assertion object is created, and the window can
+ * be changed without correlating them again. Example:
+ * <pre>
+ * 	<code class='java'>
+ * 		assertThatMessages(sessionMessages)
+ * 				.correlate(MsgType.ORDER_CANCEL_REQUEST, ClOrdID.FIELD, MsgType.EXECUTION_REPORT, MsgType.ORDER_CANCEL_REJECT)
+ * 				.within(10)
+ * 				.allAnswered();
+ * 	</code>
+ * </pre>
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+public class CorrelationAssert extends AbstractAssert<CorrelationAssert, CorrelationIndex> {
+
+	Correlations correlations = Correlations.instance();
+
+	private final Correlation correlation;
+
+	private long window = Correlation.UNLIMITED;
+
+	/**
+	 * Creates a new {@link CorrelationAssert}.
+	 *
+	 * @param correlation the correlation to verify.
+	 */
+	CorrelationAssert(Correlation correlation) {
+		super(correlation == null ? null : new CorrelationIndex(correlation), CorrelationAssert.class);
+		this.correlation = correlation;
+	}
+
+	/**
+	 * Sets the largest number of Messages between a request and its response for the following assertions; a
+	 * request answered later times out. There is no limit by default.
+	 *
+	 * @param messageCount the window, in Messages.
+	 * @return {@code this} assertion object.
+	 */
+	public CorrelationAssert within(int messageCount) {
+		if (messageCount < 1) {
+			throw new IllegalArgumentException("'messageCount' must be positive.");
+		}
+		window = messageCount;
+		return this;
+	}
+
+	/**
+	 * Verifies that every request was answered within the window.
+	 *
+	 * @return {@code this} assertion object.
+	 * @throws AssertionError listing the first unanswered and late requests.
+	 */
+	public CorrelationAssert allAnswered() {
+		correlations.assertAllAnswered(info, correlation, window);
+		return this;
+	}
+
+	/**
+	 * Verifies the number of requests, answered or not.
+	 *
+	 * @param expectedRequestCount the expected number of requests.
+	 * @return {@code this} assertion object.
+	 */
+	public CorrelationAssert hasRequestCount(long expectedRequestCount) {
+		correlations.assertRequestCount(info, correlation, expectedRequestCount);
+		return this;
+	}
+
+	/**
+	 * Verifies the number of requests answered within the window.
+	 *
+	 * @param expectedMatchedCount the expected number of requests answered within the window.
+	 * @return {@code this} assertion object.
+	 */
+	public CorrelationAssert hasMatchedCount(long expectedMatchedCount) {
+		correlations.assertMatchedCount(info, correlation, window, expectedMatchedCount);
+		return this;
+	}
+
+	/**
+	 * Verifies the number of requests never answered, whatever the window.
+	 *
+	 * @param expectedOrphanCount the expected number of requests never answered.
+	 * @return {@code this} assertion object.
+	 */
+	public CorrelationAssert hasOrphanCount(long expectedOrphanCount) {
+		correlations.assertOrphanCount(info, correlation, expectedOrphanCount);
+		return this;
+	}
+
+	/**
+	 * Verifies the number of requests answered, but only after the window.
+	 *
+	 * @param expectedTimeoutCount the expected number of requests answered after the window.
+	 * @return {@code this} assertion object.
+	 */
+	public CorrelationAssert hasTimeoutCount(long expectedTimeoutCount) {
+		correlations.assertTimeoutCount(info, correlation, window, expectedTimeoutCount);
+		return this;
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.api;
+
+import io.allune.quickfixj.internal.Correlation;
+
+import java.util.List;
+
+/**
+ * The requests of a batch of Messages or a message log and how they were answered, verified by a
+ * {@link CorrelationAssert}: each request is either matched with a response, some number of Messages later, or an
+ * orphan that was never answered.
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+public final class CorrelationIndex {
+
+	private final Correlation correlation;
+
+	CorrelationIndex(Correlation correlation) {
+		this.correlation = correlation;
+	}
+
+	public long getRequestCount() {
+		return correlation.getRequestCount();
+	}
+
+	/**
+	 * @return the number of requests answered.
+	 */
+	public long getMatchedCount() {
+		return correlation.getMatchedCount(Correlation.UNLIMITED);
+	}
+
+	/**
+	 * @param messageCount the largest number of Messages between a request and its response.
+	 * @return the number of requests answered within the window.
+	 */
+	public long getMatchedCount(int messageCount) {
+		return correlation.getMatchedCount(messageCount);
+	}
+
+	/**
+	 * @param messageCount the largest number of Messages between a request and its response.
+	 * @return the number of requests answered after the window.
+	 */
+	public long getTimeoutCount(int messageCount) {
+		return correlation.getTimeoutCount(messageCount);
+	}
+
+	/**
+	 * @param messageCount the largest number of Messages between a request and its response.
+	 * @return the indexes of the first requests answered after the window.
+	 */
+	public List<Long> getTimeoutIndexes(int messageCount) {
+		return correlation.getTimeoutIndexes(messageCount);
+	}
+
+	/**
+	 * @return the number of requests never answered.
+	 */
+	public long getOrphanCount() {
+		return correlation.getOrphanCount();
+	}
+
+	/**
+	 * @return the indexes of the first requests never answered.
+	 */
+	public List<Long> getOrphanIndexes() {
+		return correlation.getOrphanIndexes();
+	}
+
+	@Override
+	public String toString() {
+		return "requests=" + getRequestCount() + ", matched=" + getMatchedCount() + ", orphans=" + getOrphanCount();
+	}
+}
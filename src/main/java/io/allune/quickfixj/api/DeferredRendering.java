@@ -0,0 +1,106 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.api;
+
+import org.assertj.core.presentation.Representation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Defers the rendering of the values of error messages, such as the Messages themselves, until an error is read.
+ * <p>
+ * Assertions using a {@link #deferring(Representation) deferring representation} format their error messages with a
+ * placeholder per value, which {@link #render(AssertionError)} replaces with the value rendered by the original
+ * representation the first time the message of the error is read.
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+final class DeferredRendering {
+
+	private static final char START = '\uE000';
+
+	private static final char END = '\uE001';
+
+	private final List<Supplier<String>> values = new ArrayList<>();
+
+	/**
+	 * @param representation the representation rendering the values once an error is read.
+	 * @return a representation rendering every value as a placeholder.
+	 */
+	Representation deferring(Representation representation) {
+		return new Representation() {
+
+			@Override
+			public String toStringOf(Object object) {
+				return defer(() -> representation.toStringOf(object));
+			}
+
+			@Override
+			public String unambiguousToStringOf(Object object) {
+				return defer(() -> representation.unambiguousToStringOf(object));
+			}
+		};
+	}
+
+	/**
+	 * @param error the error raised by an assertion.
+	 * @return the error, whose message is rendered when it is first read if it has deferred values.
+	 */
+	AssertionError render(AssertionError error) {
+		String message = error.getMessage();
+		if (message == null || message.indexOf(START) < 0) {
+			return error;
+		}
+		return new RenderedAssertionError(message, error);
+	}
+
+	private String defer(Supplier<String> value) {
+		values.add(value);
+		return START + Integer.toString(values.size() - 1) + END;
+	}
+
+	private String resolve(String template) {
+		StringBuilder message = new StringBuilder(template.length());
+		int from = 0;
+		for (int start = template.indexOf(START); start >= 0; start = template.indexOf(START, from)) {
+			int end = template.indexOf(END, start);
+			message.append(template, from, start)
+					.append(values.get(Integer.parseInt(template.substring(start + 1, end))).get());
+			from = end + 1;
+		}
+		return message.append(template, from, template.length()).toString();
+	}
+
+	private final class RenderedAssertionError extends AssertionError {
+
+		private final String template;
+
+		private String message;
+
+		private RenderedAssertionError(String template, AssertionError error) {
+			super(null, error.getCause());
+			this.template = template;
+			setStackTrace(error.getStackTrace());
+		}
+
+		@Override
+		public synchronized String getMessage() {
+			if (message == null) {
+				message = resolve(template);
+			}
+			return message;
+		}
+	}
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.api;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Outcome of {@link DictionaryWarmUp#preload(String...)}: how long each dictionary took to load, which ones were
+ * already loaded and which ones failed.
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+public final class DictionaryLoadReport {
+
+	private final io.allune.quickfixj.internal.DictionaryLoadReport report;
+
+	DictionaryLoadReport(io.allune.quickfixj.internal.DictionaryLoadReport report) {
+		this.report = report;
+	}
+
+	/**
+	 * @return the load time of each dictionary loaded by the preload, keyed by BeginString.
+	 */
+	public Map<String, Duration> getLoadTimes() {
+		return report.getLoadTimes();
+	}
+
+	/**
+	 * @return the BeginStrings whose dictionaries were already loaded before the preload.
+	 */
+	public Set<String> getAlreadyLoaded() {
+		return report.getAlreadyLoaded();
+	}
+
+	/**
+	 * @return the cause of each failed load, keyed by BeginString.
+	 */
+	public Map<String, Throwable> getFailures() {
+		return report.getFailures();
+	}
+
+	public boolean hasFailures() {
+		return report.hasFailures();
+	}
+
+	/**
+	 * @return the wall-clock time of the whole preload.
+	 */
+	public Duration getTotalTime() {
+		return report.getTotalTime();
+	}
+
+	@Override
+	public String toString() {
+		return report.toString();
+	}
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.api;
+
+import io.allune.quickfixj.internal.Dictionaries;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Loads the QuickFIX/J dictionaries used by the assertions ahead of the first assertion.
+ * <p>
+ * Loading a large dictionary (FIX50SP2 especially) takes seconds, which the first assertion for each BeginString
+ * otherwise pays on the test thread. Preloading the versions a suite uses loads them in parallel on a background
+ * pool, typically once at suite start from a {@code @BeforeClass} method. Example:
+ * <pre>
+ * 	<code class='java'>
+ * 		DictionaryLoadReport report = DictionaryWarmUp.preload(FixVersions.BEGINSTRING_FIX44, FixVersions.FIX50SP2);
+ * 	</code>
+ * </pre>
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+public final class DictionaryWarmUp {
+
+	private DictionaryWarmUp() {
+		// empty
+	}
+
+	/**
+	 * Loads the dictionaries for the given BeginStrings in parallel on a background pool and waits for them.
+	 *
+	 * @param beginStrings the BeginStrings, e.g. {@code FIX.4.4} or {@code FIX.5.0SP2}.
+	 * @return the load times of the dictionaries.
+	 */
+	public static DictionaryLoadReport preload(String... beginStrings) {
+		return preloadAsync(beginStrings).join();
+	}
+
+	/**
+	 * Loads the dictionaries for the given BeginStrings in parallel on a background pool without waiting for them.
+	 *
+	 * @param beginStrings the BeginStrings, e.g. {@code FIX.4.4} or {@code FIX.5.0SP2}.
+	 * @return a future completed with the load times of the dictionaries once all of them are loaded or failed.
+	 */
+	public static CompletableFuture<DictionaryLoadReport> preloadAsync(String... beginStrings) {
+		if (beginStrings == null) {
+			throw new IllegalArgumentException("'beginStrings' must not be null.");
+		}
+		return Dictionaries.instance().preloadAsync(beginStrings).thenApply(DictionaryLoadReport::new);
+	}
+}
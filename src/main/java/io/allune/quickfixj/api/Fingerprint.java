@@ -0,0 +1,104 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.api;
+
+import io.allune.quickfixj.internal.TagSet;
+import quickfix.Message;
+
+/**
+ * A 128-bit fingerprint of a QuickFix/J {@link Message}, for bucketing identical messages across large corpora.
+ * <p>
+ * The fingerprint is computed in a single pass over the header, body, trailer and repeating groups, hashing each tag
+ * with its raw value. It ignores the order of the fields within a header, body, trailer or group entry, whereas the
+ * order of the entries of a repeating group is significant; two structurally equal messages therefore have the same
+ * fingerprint. Example:
+ * <pre>
+ * 	<code class='java'>
+ * 		Map&lt;Fingerprint, List&lt;Message&gt;&gt; buckets = messages.stream()
+ * 				.collect(groupingBy(message -&gt; Fingerprint.of(message, MsgSeqNum.FIELD, SendingTime.FIELD)));
+ * 	</code>
+ * </pre>
+ * <p>
+ * Use {@link #getLow()} alone where 64 bits are enough.
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+public final class Fingerprint {
+
+	private final long high;
+
+	private final long low;
+
+	private Fingerprint(long high, long low) {
+		this.high = high;
+		this.low = low;
+	}
+
+	/**
+	 * @param message the message.
+	 * @return the fingerprint of the message.
+	 */
+	public static Fingerprint of(Message message) {
+		return of(message, TagSet.EMPTY);
+	}
+
+	/**
+	 * @param message     the message.
+	 * @param ignoredTags the tags left out of the fingerprint, at every level.
+	 * @return the fingerprint of the message.
+	 */
+	public static Fingerprint of(Message message, int... ignoredTags) {
+		return of(message, TagSet.of(ignoredTags));
+	}
+
+	private static Fingerprint of(Message message, TagSet ignoredTags) {
+		if (message == null) {
+			throw new IllegalArgumentException("'message' must not be null.");
+		}
+		io.allune.quickfixj.internal.Fingerprint fingerprint = io.allune.quickfixj.internal.Fingerprint.of(message, ignoredTags);
+		return new Fingerprint(fingerprint.getHigh(), fingerprint.getLow());
+	}
+
+	public long getHigh() {
+		return high;
+	}
+
+	public long getLow() {
+		return low;
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		if (this == other) {
+			return true;
+		}
+		if (!(other instanceof Fingerprint)) {
+			return false;
+		}
+		Fingerprint fingerprint = (Fingerprint) other;
+		return high == fingerprint.high && low == fingerprint.low;
+	}
+
+	@Override
+	public int hashCode() {
+		return (int) (low ^ (low >>> 32));
+	}
+
+	/**
+	 * @return the fingerprint as 32 hexadecimal digits, as shown in error messages.
+	 */
+	@Override
+	public String toString() {
+		return String.format("%016x%016x", high, low);
+	}
+}
@@ -0,0 +1,41 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.api;
+
+import quickfix.Group;
+
+/**
+ * Assertions for an entry of a QuickFix/J repeating {@link Group}.
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+public class GroupAssert extends AbstractFieldMapAssert<GroupAssert, Group> {
+
+	private final String beginString;
+
+	/**
+	 * Creates a new <code>{@link GroupAssert}</code>.
+	 *
+	 * @param group       the actual value to verify
+	 * @param beginString the BeginString of the message holding the group
+	 */
+	GroupAssert(Group group, String beginString) {
+		super(group, GroupAssert.class);
+		this.beginString = beginString;
+	}
+
+	@Override
+	public String getBeginString() {
+		return beginString;
+	}
+}
@@ -0,0 +1,185 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.api;
+
+import io.allune.quickfixj.internal.GroupEntryView;
+import io.allune.quickfixj.internal.Groups;
+import org.assertj.core.api.AbstractAssert;
+import quickfix.Message;
+
+import java.util.function.Predicate;
+
+/**
+ * Streaming assertions over the entries of a repeating group of a QuickFix/J {@link Message}, e.g. the NoMDEntries
+ * of a MarketDataIncrementalRefresh or the NoRelatedSym of a SecurityList.
+ * <p>
+ * Each assertion is a single pass over the entries, which are visited in place through one reusable
+ * {@link GroupEntry} view rather than a copied {@link quickfix.Group} per entry. Example:
+ * <pre>
+ * 	<code class='java'>
+ * 		assertThat(incrementalRefresh)
+ * 				.groupCursor(NoMDEntries.FIELD)
+ * 				.hasEntryCount(20000)
+ * 				.allMatch(entry -&gt; entry.getDouble(MDEntrySize.FIELD) &gt; 0)
+ * 				.hasEntryCount(entry -&gt; entry.isChar(MDEntryType.FIELD, MDEntryType.BID), 10000)
+ * 				.hasMinValue(MDEntryPx.FIELD, 1.0998, 0.00001)
+ * 				.hasSum(MDEntrySize.FIELD, 25000000, 0);
+ * 	</code>
+ * </pre>
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+public class GroupCursorAssert extends AbstractAssert<GroupCursorAssert, Message> {
+
+	Groups groups = Groups.instance();
+
+	private final int groupTag;
+
+	private final MessageAssert messageAssert;
+
+	/**
+	 * Creates a new <code>{@link GroupCursorAssert}</code>.
+	 *
+	 * @param message       the actual value to verify
+	 * @param groupTag      the tag number of the repeating group
+	 * @param messageAssert the assertion object returned by {@link #and()}
+	 */
+	GroupCursorAssert(Message message, int groupTag, MessageAssert messageAssert) {
+		super(message, GroupCursorAssert.class);
+		this.groupTag = groupTag;
+		this.messageAssert = messageAssert;
+	}
+
+	/**
+	 * Verifies that the repeating group has the expected number of entries.
+	 *
+	 * @param expectedCount the expected number of entries.
+	 * @return {@code this} assertion object.
+	 */
+	public GroupCursorAssert hasEntryCount(int expectedCount) {
+		isNotNull();
+		groups.assertGroupCount(info, actual, groupTag, expectedCount);
+		return this;
+	}
+
+	/**
+	 * Verifies that the expected number of entries of the repeating group match the predicate.
+	 *
+	 * @param predicate     the predicate, given a view of each entry that must not be retained.
+	 * @param expectedCount the expected number of matching entries.
+	 * @return {@code this} assertion object.
+	 */
+	public GroupCursorAssert hasEntryCount(Predicate<GroupEntry> predicate, int expectedCount) {
+		isNotNull();
+		groups.assertMatchingCount(info, actual, groupTag, matching(predicate), expectedCount);
+		return this;
+	}
+
+	/**
+	 * Verifies that every entry of the repeating group matches the predicate.
+	 *
+	 * @param predicate the predicate, given a view of each entry that must not be retained.
+	 * @return {@code this} assertion object.
+	 * @throws AssertionError listing the entries that do not match the predicate.
+	 */
+	public GroupCursorAssert allMatch(Predicate<GroupEntry> predicate) {
+		isNotNull();
+		groups.assertAllMatch(info, actual, groupTag, matching(predicate));
+		return this;
+	}
+
+	/**
+	 * Verifies that at least one entry of the repeating group matches the predicate, stopping at the first one.
+	 *
+	 * @param predicate the predicate, given a view of each entry that must not be retained.
+	 * @return {@code this} assertion object.
+	 */
+	public GroupCursorAssert anyMatch(Predicate<GroupEntry> predicate) {
+		isNotNull();
+		groups.assertAnyMatch(info, actual, groupTag, matching(predicate));
+		return this;
+	}
+
+	/**
+	 * Verifies that no entry of the repeating group matches the predicate.
+	 *
+	 * @param predicate the predicate, given a view of each entry that must not be retained.
+	 * @return {@code this} assertion object.
+	 * @throws AssertionError listing the entries that match the predicate.
+	 */
+	public GroupCursorAssert noneMatch(Predicate<GroupEntry> predicate) {
+		isNotNull();
+		groups.assertNoneMatch(info, actual, groupTag, matching(predicate));
+		return this;
+	}
+
+	/**
+	 * Verifies the minimum value of a numeric field, e.g. MDEntryPx, over the entries that have it.
+	 *
+	 * @param fieldTag      the tag number of the field.
+	 * @param expectedValue the expected minimum.
+	 * @param tolerance     the maximum allowed absolute difference between the actual and expected values.
+	 * @return {@code this} assertion object.
+	 */
+	public GroupCursorAssert hasMinValue(int fieldTag, double expectedValue, double tolerance) {
+		isNotNull();
+		checkTolerance(tolerance);
+		groups.assertMinValue(info, actual, groupTag, fieldTag, expectedValue, tolerance);
+		return this;
+	}
+
+	/**
+	 * Verifies the maximum value of a numeric field, e.g. MDEntryPx, over the entries that have it.
+	 *
+	 * @param fieldTag      the tag number of the field.
+	 * @param expectedValue the expected maximum.
+	 * @param tolerance     the maximum allowed absolute difference between the actual and expected values.
+	 * @return {@code this} assertion object.
+	 */
+	public GroupCursorAssert hasMaxValue(int fieldTag, double expectedValue, double tolerance) {
+		isNotNull();
+		checkTolerance(tolerance);
+		groups.assertMaxValue(info, actual, groupTag, fieldTag, expectedValue, tolerance);
+		return this;
+	}
+
+	/**
+	 * Verifies the sum of a numeric field, e.g. MDEntrySize, over the entries that have it.
+	 *
+	 * @param fieldTag      the tag number of the field.
+	 * @param expectedValue the expected sum.
+	 * @param tolerance     the maximum allowed absolute difference between the actual and expected values.
+	 * @return {@code this} assertion object.
+	 */
+	public GroupCursorAssert hasSum(int fieldTag, double expectedValue, double tolerance) {
+		isNotNull();
+		checkTolerance(tolerance);
+		groups.assertSum(info, actual, groupTag, fieldTag, expectedValue, tolerance);
+		return this;
+	}
+
+	public MessageAssert and() {
+		return messageAssert;
+	}
+
+	private static void checkTolerance(double tolerance) {
+		if (tolerance < 0) {
+			throw new IllegalArgumentException("'tolerance' must not be negative");
+		}
+	}
+
+	private static Predicate<GroupEntryView> matching(Predicate<GroupEntry> predicate) {
+		GroupEntry entry = new GroupEntry();
+		return view -> predicate.test(entry.moveTo(view));
+	}
+}
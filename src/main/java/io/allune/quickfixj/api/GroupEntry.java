@@ -0,0 +1,101 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.api;
+
+import io.allune.quickfixj.internal.GroupEntryView;
+
+/**
+ * The current entry of a repeating group, handed to the predicates of a {@link GroupCursorAssert}.
+ * <p>
+ * The same entry is moved from one entry of the group to the next, so it is only valid while the predicate runs and
+ * must not be retained. Numeric values are parsed from the raw field values without creating {@link quickfix.Field}
+ * objects or boxing them.
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+public final class GroupEntry {
+
+	private GroupEntryView view;
+
+	GroupEntry() {
+	}
+
+	GroupEntry moveTo(GroupEntryView view) {
+		this.view = view;
+		return this;
+	}
+
+	/**
+	 * @return the number of the current entry, from 1.
+	 */
+	public int getIndex() {
+		return view.getIndex();
+	}
+
+	/**
+	 * @param tag the tag number of the field.
+	 * @return {@code true} if the current entry has the field.
+	 */
+	public boolean hasField(int tag) {
+		return view.hasField(tag);
+	}
+
+	/**
+	 * @param tag the tag number of the field.
+	 * @return the raw value of the field or {@code null} if the current entry does not have it.
+	 */
+	public String getString(int tag) {
+		return view.getString(tag);
+	}
+
+	/**
+	 * @param tag          the tag number of the field.
+	 * @param defaultValue the value returned when the field is missing or not a valid FIX int.
+	 * @return the int value of the field.
+	 */
+	public int getInt(int tag, int defaultValue) {
+		return view.getInt(tag, defaultValue);
+	}
+
+	/**
+	 * @param tag the tag number of the field.
+	 * @return the value of the field, e.g. a PRICE or QTY, or {@link Double#NaN} if the field is missing or not a
+	 * valid FIX float.
+	 */
+	public double getDouble(int tag) {
+		return view.getDouble(tag);
+	}
+
+	/**
+	 * @param tag      the tag number of the field.
+	 * @param expected the expected char.
+	 * @return {@code true} if the current entry has the field and its value is the expected char.
+	 */
+	public boolean isChar(int tag, char expected) {
+		return view.isChar(tag, expected);
+	}
+
+	/**
+	 * @param tag      the tag number of the field.
+	 * @param expected the expected value.
+	 * @return {@code true} if the current entry has the field and its raw value is the expected one.
+	 */
+	public boolean isString(int tag, String expected) {
+		return view.isString(tag, expected);
+	}
+
+	@Override
+	public String toString() {
+		return view.toString();
+	}
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.api;
+
+import io.allune.quickfixj.internal.Latencies;
+import io.allune.quickfixj.internal.LatencyHistogram;
+import org.assertj.core.api.AbstractAssert;
+
+import java.time.Duration;
+
+/**
+ * Assertions on the distribution of the latencies between requests and their responses, measured over a batch of
+ * Messages or a message log.
+ * <p>
+ * The latencies are recorded in a histogram of fixed size; percentiles are precise to within 1.6% and rounded up,
+ * so a bound is never passed by rounding. Example:
+ * <pre>
+ * 	<code class='java'>
+ * 		assertThatMessages(capturedFlow)
+ * 				.latencyBetween(MsgType.ORDER_SINGLE, MsgType.EXECUTION_REPORT, ClOrdID.FIELD)
+ * 				.hasSampleCount(100000)
+ * 				.hasPercentileBelow(99.9, Duration.ofMillis(2))
+ * 				.hasMaxBelow(Duration.ofMillis(10));
+ * 	</code>
+ * </pre>
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+public class LatencyAssert extends AbstractAssert<LatencyAssert, LatencyDistribution> {
+
+	Latencies latencies = Latencies.instance();
+
+	private final LatencyHistogram histogram;
+
+	/**
+	 * Creates a new {@link LatencyAssert}.
+	 *
+	 * @param histogram the latencies to verify.
+	 */
+	LatencyAssert(LatencyHistogram histogram) {
+		super(histogram == null ? null : new LatencyDistribution(histogram), LatencyAssert.class);
+		this.histogram = histogram;
+	}
+
+	/**
+	 * Verifies that the latency at the given percentile is below the limit.
+	 *
+	 * @param percentile the percentile, between 0 and 100, e.g. {@code 99.9}.
+	 * @param limit      the exclusive upper bound.
+	 * @return {@code this} assertion object.
+	 * @throws AssertionError if no request was paired with a response.
+	 */
+	public LatencyAssert hasPercentileBelow(double percentile, Duration limit) {
+		if (percentile < 0 || percentile > 100) {
+			throw new IllegalArgumentException("'percentile' must be between 0 and 100.");
+		}
+		checkLimit(limit);
+		latencies.assertPercentileBelow(info, histogram, percentile, limit);
+		return this;
+	}
+
+	/**
+	 * Verifies that every latency is below the limit.
+	 *
+	 * @param limit the exclusive upper bound.
+	 * @return {@code this} assertion object.
+	 * @throws AssertionError if no request was paired with a response.
+	 */
+	public LatencyAssert hasMaxBelow(Duration limit) {
+		checkLimit(limit);
+		latencies.assertMaxBelow(info, histogram, limit);
+		return this;
+	}
+
+	/**
+	 * Verifies the number of requests paired with a response, i.e. of latencies measured.
+	 *
+	 * @param expectedSampleCount the expected number of latencies.
+	 * @return {@code this} assertion object.
+	 */
+	public LatencyAssert hasSampleCount(long expectedSampleCount) {
+		latencies.assertSampleCount(info, histogram, expectedSampleCount);
+		return this;
+	}
+
+	private static void checkLimit(Duration limit) {
+		if (limit == null) {
+			throw new IllegalArgumentException("'limit' must not be null.");
+		}
+	}
+}
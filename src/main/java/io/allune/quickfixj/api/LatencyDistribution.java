@@ -0,0 +1,72 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.api;
+
+import io.allune.quickfixj.internal.LatencyHistogram;
+
+import java.time.Duration;
+
+/**
+ * The distribution of the latencies between requests and their responses, verified by a {@link LatencyAssert}.
+ * <p>
+ * Percentiles are precise to within 1.6% and rounded up, never above the maximum, so a percentile is never
+ * under-estimated; the minimum and maximum are exact.
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+public final class LatencyDistribution {
+
+	private final LatencyHistogram histogram;
+
+	LatencyDistribution(LatencyHistogram histogram) {
+		this.histogram = histogram;
+	}
+
+	/**
+	 * @return the number of requests paired with a response.
+	 */
+	public long getCount() {
+		return histogram.getCount();
+	}
+
+	/**
+	 * @return the lowest latency, exact.
+	 */
+	public Duration getMin() {
+		return histogram.getMin();
+	}
+
+	/**
+	 * @return the highest latency, exact.
+	 */
+	public Duration getMax() {
+		return histogram.getMax();
+	}
+
+	public Duration getMean() {
+		return histogram.getMean();
+	}
+
+	/**
+	 * @param percentile the percentile, between 0 and 100, e.g. {@code 99.9}.
+	 * @return the latency at or below which the given percentage of the latencies are.
+	 */
+	public Duration getValueAtPercentile(double percentile) {
+		return histogram.getValueAtPercentile(percentile);
+	}
+
+	@Override
+	public String toString() {
+		return "count=" + getCount() + ", min=" + getMin() + ", mean=" + getMean() + ", max=" + getMax();
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.api;
+
+import io.allune.quickfixj.internal.Dictionaries;
+import io.allune.quickfixj.internal.Messages;
+import io.allune.quickfixj.internal.RawMessage;
+import quickfix.Message;
+
+/**
+ * Lazy assertions on a FIX message in wire format.
+ * <p>
+ * The offsets of all fields are indexed in a single pass over the message when the assertion object is created,
+ * and only the values actually asserted on are decoded. Assertions needing the structure of the message, such as
+ * repeating groups or validation against a dictionary, are made on a {@link MessageAssert} obtained from
+ * {@link #asMessage()}, which parses the full {@link Message} once. Example:
+ * <pre>
+ * 	<code class='java'>
+ * 		assertThatLazily(wireMessage)
+ * 				.hasMsgTypeName(&quot;MarketDataSnapshotFullRefresh&quot;)
+ * 				.hasFieldValue(Symbol.FIELD, &quot;EUR/USD&quot;)
+ * 				.asMessage()
+ * 				.isValid();
+ * 	</code>
+ * </pre>
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+public class LazyMessageAssert extends AbstractRawMessageAssert<LazyMessageAssert> {
+
+	Dictionaries dictionaries = Dictionaries.instance();
+
+	private Message message;
+
+	/**
+	 * Creates a new {@link LazyMessageAssert}.
+	 *
+	 * @param message the message in wire format to verify.
+	 */
+	public LazyMessageAssert(CharSequence message) {
+		super(message == null ? null : RawMessage.of(message).index(), LazyMessageAssert.class);
+	}
+
+	/**
+	 * Verifies that the actual message is of the given type, resolving its name with the dictionary of the
+	 * message's version.
+	 *
+	 * @param expectedMsgTypeName the name of the message, e.g. {@code NewOrderSingle}.
+	 * @return {@code this} assertion object.
+	 */
+	public LazyMessageAssert hasMsgTypeName(String expectedMsgTypeName) {
+		isNotNull();
+		String beginString = getBeginString();
+		String expectedMsgType = beginString == null ? null : dictionaries.getMsgType(beginString, expectedMsgTypeName);
+		rawMessages.assertIsOfType(info, rawMessage, expectedMsgType);
+		return this;
+	}
+
+	/**
+	 * Parses the full {@link Message}, once, for assertions needing its structure.
+	 *
+	 * @return a {@link MessageAssert} over the parsed message.
+	 * @throws io.allune.quickfixj.exception.InvalidMessageException if the message cannot be parsed.
+	 */
+	public MessageAssert asMessage() {
+		isNotNull();
+		if (message == null) {
+			message = rawMessages.toMessage(rawMessage);
+		}
+		return new MessageAssert(message, getBeginString());
+	}
+
+	/**
+	 * @return the BeginString of the dictionary describing the actual message, read from the indexed fields.
+	 */
+	private String getBeginString() {
+		return Messages.determineBeginString(rawMessage::getValue);
+	}
+}
@@ -12,9 +12,14 @@
  */
 package io.allune.quickfixj.api;
 
+import io.allune.quickfixj.internal.MessageEquality;
+import io.allune.quickfixj.internal.Snapshots;
+import io.allune.quickfixj.internal.TagSet;
 import quickfix.DataDictionary;
 import quickfix.FixVersions;
 import quickfix.Message;
+import quickfix.Message.Header;
+import quickfix.Message.Trailer;
 import quickfix.field.BodyLength;
 
 import static io.allune.quickfixj.error.ShouldBeAdminMessage.shouldBeAdminMessage;
@@ -107,6 +112,14 @@ public class MessageAssert extends AbstractFieldMapAssert<MessageAssert, Message
 
 	private final String beginString;
 
+	SoftMessageAssertions softAssertions;
+
+	MessageEquality messageEquality = MessageEquality.instance();
+
+	Snapshots snapshots = Snapshots.instance();
+
+	private TagSet ignoredTags = TagSet.EMPTY;
+
 	/**
 	 * Creates a new {@link MessageAssert}.
 	 *
@@ -117,6 +130,17 @@ public class MessageAssert extends AbstractFieldMapAssert<MessageAssert, Message
 		this.beginString = messages.determineBeginString(info, actual);
 	}
 
+	/**
+	 * Creates a new {@link MessageAssert} for a Message whose version is already resolved.
+	 *
+	 * @param message     the {@link Message} to verify.
+	 * @param beginString the BeginString of the message, or the one matching its ApplVerID under FIXT.1.1.
+	 */
+	MessageAssert(Message message, String beginString) {
+		super(message, MessageAssert.class);
+		this.beginString = beginString;
+	}
+
 	@Override
 	public String getBeginString() {
 		return beginString;
@@ -278,29 +302,227 @@ public class MessageAssert extends AbstractFieldMapAssert<MessageAssert, Message
 		return this;
 	}
 
+	/**
+	 * Leaves the fields with the given tags out of {@link #isEqualTo(Object)}, the fingerprint and the snapshot
+	 * assertions, in the header, body, trailer and repeating groups alike.
+	 *
+	 * @param tags the tag numbers of the fields to ignore.
+	 * @return {@code this} assertion object.
+	 */
+	public MessageAssert ignoringFields(int... tags) {
+		ignoredTags = ignoredTags.with(tags);
+		return this;
+	}
+
+	/**
+	 * Leaves the fields that differ between two sends of the same message, i.e. BodyLength, MsgSeqNum, SendingTime
+	 * and CheckSum, out of {@link #isEqualTo(Object)}, the fingerprint and the snapshot assertions.
+	 *
+	 * @return {@code this} assertion object.
+	 */
+	public MessageAssert ignoringVolatileFields() {
+		ignoredTags = ignoredTags.with(TagSet.VOLATILE);
+		return this;
+	}
+
+	/**
+	 * Verifies that the actual {@link Message} has the given {@link Fingerprint}, computed without the ignored fields.
+	 *
+	 * @param expectedFingerprint the expected fingerprint.
+	 * @return {@code this} assertion object.
+	 */
+	public MessageAssert hasFingerprint(Fingerprint expectedFingerprint) {
+		if (expectedFingerprint == null) {
+			throw new IllegalArgumentException("'expectedFingerprint' must not be null.");
+		}
+		isNotNull();
+		messageEquality.assertHasFingerprint(info, actual, expectedFingerprint.getHigh(), expectedFingerprint.getLow(), ignoredTags);
+		return this;
+	}
+
+	/**
+	 * Verifies that the actual {@link Message} has the same {@link Fingerprint} as the other one, both computed
+	 * without the ignored fields. Structurally equal messages have the same fingerprint.
+	 * Example:
+	 * <pre>
+	 * 	<code class='java'>
+	 * 		assertThat(replayed).ignoringVolatileFields().hasSameFingerprintAs(recorded);
+	 * 	</code>
+	 * </pre>
+	 *
+	 * @param other the other message.
+	 * @return {@code this} assertion object.
+	 */
+	public MessageAssert hasSameFingerprintAs(Message other) {
+		if (other == null) {
+			throw new IllegalArgumentException("'other' must not be null.");
+		}
+		isNotNull();
+		messageEquality.assertSameFingerprint(info, actual, other, ignoredTags);
+		return this;
+	}
+
+	/**
+	 * Verifies that the actual {@link Message} is structurally equal to the snapshot recorded under the given name
+	 * for the calling test class, except for the ignored fields. Snapshots are recorded, or replaced, by running the
+	 * tests with {@code -D}{@value Snapshots#UPDATE_SNAPSHOTS_PROPERTY}{@code =true}.
+	 * Example:
+	 * <pre>
+	 * 	<code class='java'>
+	 * 		assertThat(executionReport).ignoringVolatileFields().matchesSnapshot("partial fill");
+	 * 	</code>
+	 * </pre>
+	 *
+	 * @param name the name of the snapshot, unique within the test class.
+	 * @return {@code this} assertion object.
+	 * @throws IllegalStateException if the test class cannot be found in the call stack.
+	 */
+	public MessageAssert matchesSnapshot(String name) {
+		return matchesSnapshot(snapshots.findTestClassName(), name);
+	}
+
+	/**
+	 * Verifies that the actual {@link Message} is structurally equal to the snapshot recorded under the given name
+	 * for the given test class, except for the ignored fields.
+	 *
+	 * @param testClass the class the snapshots are kept for.
+	 * @param name      the name of the snapshot, unique within the test class.
+	 * @return {@code this} assertion object.
+	 */
+	public MessageAssert matchesSnapshot(Class<?> testClass, String name) {
+		if (testClass == null) {
+			throw new IllegalArgumentException("'testClass' must not be null.");
+		}
+		return matchesSnapshot(testClass.getName(), name);
+	}
+
+	private MessageAssert matchesSnapshot(String testClassName, String name) {
+		if (name == null) {
+			throw new IllegalArgumentException("'name' must not be null.");
+		}
+		isNotNull();
+		snapshots.assertMatchesSnapshot(info, actual, testClassName, name, ignoredTags);
+		return this;
+	}
+
+	/**
+	 * Verifies that the actual {@link Message} is structurally equal to the expected one: the header, body, trailer
+	 * and repeating groups have the same fields with the same raw values, except for the ignored ones. Neither
+	 * message is serialised and the comparison stops at the first difference, which is reported field by field.
+	 * Example:
+	 * <pre>
+	 * 	<code class='java'>
+	 * 		assertThat(replayed).ignoringVolatileFields().isEqualTo(recorded);
+	 * 	</code>
+	 * </pre>
+	 * Any other expected value is compared with {@link Object#equals(Object)}, and every value with the comparator
+	 * given to {@link #usingComparator(java.util.Comparator)} if any.
+	 *
+	 * @param expected the expected message.
+	 * @return {@code this} assertion object.
+	 */
 	@Override
 	public MessageAssert isEqualTo(Object expected) {
-		throw new UnsupportedOperationException("");
+		if (!(expected instanceof Message) || usesComparator()) {
+			return super.isEqualTo(expected);
+		}
+		isNotNull();
+		messageEquality.assertEqual(info, actual, (Message) expected, ignoredTags);
+		return this;
 	}
 
 	/**
-	 * @return a {@link MessageHeaderAssert} assertion object.
+	 * Verifies that the actual {@link Message} is not structurally equal to the other one, i.e. that
+	 * {@link #isEqualTo(Object)} would fail for it. Example:
+	 * <pre>
+	 * 	<code class='java'>
+	 * 		assertThat(amended).ignoringVolatileFields().isNotEqualTo(original);
+	 * 	</code>
+	 * </pre>
+	 * Any other value is compared with {@link Object#equals(Object)}, and every value with the comparator given to
+	 * {@link #usingComparator(java.util.Comparator)} if any.
+	 *
+	 * @param other the message to compare with.
+	 * @return {@code this} assertion object.
 	 */
-	public MessageHeaderAssert header() {
+	@Override
+	public MessageAssert isNotEqualTo(Object other) {
+		if (!(other instanceof Message) || usesComparator()) {
+			return super.isNotEqualTo(other);
+		}
 		isNotNull();
-		if (actual.getHeader() == null)
-			throw failures.failure(info, shouldHaveHeader(actual));
-		return new MessageHeaderAssert(actual.getHeader(), this, beginString);
+		messageEquality.assertNotEqual(info, actual, (Message) other, ignoredTags);
+		return this;
+	}
+
+	private boolean usesComparator() {
+		return objects.getComparator() != null;
 	}
 
 	/**
+	 * Navigates to the header of the actual {@link Message}. On a soft assertion object the header assertion
+	 * object is always returned, its checks failing softly if the Message or its header is missing.
+	 *
+	 * @return a {@link MessageHeaderAssert} assertion object.
+	 */
+	public MessageHeaderAssert header() {
+		MessageHeaderAssert headerAssert;
+		if (softAssertions == null) {
+			isNotNull();
+			if (actual.getHeader() == null)
+				throw failures.failure(info, shouldHaveHeader(actual));
+			headerAssert = new MessageHeaderAssert(actual.getHeader(), this, beginString);
+		} else {
+			headerAssert = softAssertions.header(this);
+		}
+		headerAssert.copySettingsFrom(this);
+		return headerAssert;
+	}
+
+	/**
+	 * Navigates to the trailer of the actual {@link Message}. On a soft assertion object the trailer assertion
+	 * object is always returned, its checks failing softly if the Message or its trailer is missing.
+	 *
 	 * @return a {@link MessageTrailerAssert} assertion object.
 	 */
 	public MessageTrailerAssert trailer() {
+		MessageTrailerAssert trailerAssert;
+		if (softAssertions == null) {
+			isNotNull();
+			if (actual.getTrailer() == null)
+				throw failures.failure(info, shouldHaveTrailer(actual));
+			trailerAssert = new MessageTrailerAssert(actual.getTrailer(), this, beginString);
+		} else {
+			trailerAssert = softAssertions.trailer(this);
+		}
+		trailerAssert.copySettingsFrom(this);
+		return trailerAssert;
+	}
+
+	/**
+	 * @return the header of the actual {@link Message}, or <code>null</code> if there is no Message.
+	 */
+	Header actualHeader() {
+		return actual == null ? null : actual.getHeader();
+	}
+
+	/**
+	 * @return the trailer of the actual {@link Message}, or <code>null</code> if there is no Message.
+	 */
+	Trailer actualTrailer() {
+		return actual == null ? null : actual.getTrailer();
+	}
+
+	/**
+	 * Opens a streaming cursor over the entries of a repeating group of the actual {@link Message}, for per-entry
+	 * predicates and aggregates over very large groups.
+	 *
+	 * @param groupTag the tag number of the repeating group, e.g. NoMDEntries.
+	 * @return a {@link GroupCursorAssert} assertion object.
+	 */
+	public GroupCursorAssert groupCursor(int groupTag) {
 		isNotNull();
-		if (actual.getTrailer() == null)
-			throw failures.failure(info, shouldHaveTrailer(actual));
-		return new MessageTrailerAssert(actual.getTrailer(), this, beginString);
+		return new GroupCursorAssert(actual, groupTag, this);
 	}
 
 	/**
@@ -875,7 +1097,22 @@ public class MessageAssert extends AbstractFieldMapAssert<MessageAssert, Message
 	 * @return {@code this} assertion object.
 	 */
 	public MessageAssert hasMsgTypeName(String expectedMsgTypeName) {
-		messages.assertMessageIsOfTypeName(info, actual, beginString, expectedMsgTypeName);
+		messages.assertMessageIsOfType(info, actual, dictionaries.getMsgType(beginString, expectedMsgTypeName));
+		return this;
+	}
+
+	/**
+	 * Verifies that the actual {@link Message} is valid according to the dictionary of its version, including any
+	 * dictionary set with {@link #usingDataDictionary(String, DataDictionary)}. Required fields, field values,
+	 * data formats and repeating groups of the body are checked; the header and trailer, mostly set by the session
+	 * when the message is sent, are not.
+	 *
+	 * @return {@code this} assertion object.
+	 * @throws AssertionError if the actual {@code Message} is {@code null}.
+	 * @throws AssertionError if the actual {@code Message} is not valid, with the reason reported by the dictionary.
+	 */
+	public MessageAssert isValid() {
+		messages.assertIsValid(info, actual, dictionaries);
 		return this;
 	}
 
@@ -892,14 +1129,17 @@ public class MessageAssert extends AbstractFieldMapAssert<MessageAssert, Message
 	}
 
 	/**
-	 * @param beginString
-	 * @param dataDictionary
+	 * Uses the given {@link DataDictionary} for the BeginString in this assertion and the header and trailer
+	 * assertions created from it. Other assertions, including those running concurrently, are not affected.
+	 *
+	 * @param beginString    the BeginString the dictionary is used for.
+	 * @param dataDictionary the dictionary.
 	 * @return {@code this} assertion object.
 	 */
 	public MessageAssert usingDataDictionary(String beginString, DataDictionary dataDictionary) {
 		checkArgument(dataDictionary != null, "'dataDictionary' must not be null");
 
-		dictionaries.addDataDictionary(beginString, dataDictionary);
+		useDictionaries(dictionaries.withDataDictionary(beginString, dataDictionary));
 		return this;
 	}
 }
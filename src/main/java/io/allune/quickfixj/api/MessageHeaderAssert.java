@@ -72,15 +72,21 @@ public class MessageHeaderAssert extends AbstractFieldMapAssert<MessageHeaderAss
 		this.beginString = beginString;
 	}
 
+	/**
+	 * Creates a new <code>{@link MessageHeaderAssert}</code> navigated from the given message assertion object, the soft
+	 * assertion proxies being created through this constructor.
+	 *
+	 * @param messageAssert the message assertion object returned by {@link #and()}
+	 */
+	MessageHeaderAssert(MessageAssert messageAssert) {
+		this(messageAssert.actualHeader(), messageAssert, messageAssert.getBeginString());
+	}
+
 	@Override
 	public String getBeginString() {
 		return beginString;
 	}
 
-	public MessageHeaderAssert hasGroup(int expectedGroupTag) {
-		return this;
-	}
-
 	public MessageHeaderAssert hasBeginString(String expectedBeginString) {
 		isNotNull();
 		try {
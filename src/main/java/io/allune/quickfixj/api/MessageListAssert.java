@@ -0,0 +1,378 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.api;
+
+import io.allune.quickfixj.internal.Correlations;
+import io.allune.quickfixj.internal.Dictionaries;
+import io.allune.quickfixj.internal.Latencies;
+import io.allune.quickfixj.internal.MessageLists;
+import io.allune.quickfixj.internal.OrderLifecycles;
+import io.allune.quickfixj.internal.TagSet;
+import org.assertj.core.api.AbstractAssert;
+import org.assertj.core.internal.Failures;
+import quickfix.DataDictionary;
+import quickfix.Message;
+import quickfix.field.SendingTime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+import static org.assertj.core.error.ShouldHaveSize.shouldHaveSize;
+
+/**
+ * Assertions over a batch of QuickFix/J {@link Message}s.
+ * <p>
+ * Every Message is evaluated, and a failure reports the index of each failing Message, relative to the batch
+ * originally passed to {@link Assertions#assertThatMessages(Iterable)}, in a single error. Example:
+ * <pre>
+ * 	<code class='java'>
+ * 		assertThatMessages(sentMessages)
+ * 				.filteredOn(MsgType.ORDER_SINGLE)
+ * 				.inParallel()
+ * 				.allSatisfy(message -&gt; message.hasFieldValue(Side.FIELD, Side.BUY));
+ * 	</code>
+ * </pre>
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+public class MessageListAssert extends AbstractAssert<MessageListAssert, List<Message>> {
+
+	Failures failures = Failures.instance();
+
+	MessageLists messageLists = MessageLists.instance();
+
+	Dictionaries dictionaries = Dictionaries.instance();
+
+	Latencies latencies = Latencies.instance();
+
+	OrderLifecycles orderLifecycles = OrderLifecycles.instance();
+
+	Correlations correlations = Correlations.instance();
+
+	private final int[] indexes;
+
+	private ForkJoinPool pool;
+
+	private TagSet ignoredTags = TagSet.EMPTY;
+
+	/**
+	 * Creates a new {@link MessageListAssert}.
+	 *
+	 * @param messages the {@link Message}s to verify.
+	 */
+	public MessageListAssert(List<Message> messages) {
+		this(messages, messages == null ? new int[0] : identityIndexes(messages.size()), null);
+	}
+
+	private MessageListAssert(List<Message> messages, int[] indexes, ForkJoinPool pool) {
+		super(messages, MessageListAssert.class);
+		this.indexes = indexes;
+		this.pool = pool;
+	}
+
+	/**
+	 * Evaluates the requirements of the following assertions in parallel on the common {@link ForkJoinPool}.
+	 *
+	 * @return {@code this} assertion object.
+	 */
+	public MessageListAssert inParallel() {
+		return inParallel(ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Evaluates the requirements of the following assertions in parallel on the given {@link ForkJoinPool}.
+	 * The requirements must then be safe to run concurrently.
+	 *
+	 * @param pool the pool.
+	 * @return {@code this} assertion object.
+	 */
+	public MessageListAssert inParallel(ForkJoinPool pool) {
+		if (pool == null) {
+			throw new IllegalArgumentException("'pool' must not be null.");
+		}
+		this.pool = pool;
+		return this;
+	}
+
+	/**
+	 * Verifies that the number of Messages is the expected one.
+	 *
+	 * @param expectedSize the expected number of Messages.
+	 * @return {@code this} assertion object.
+	 */
+	public MessageListAssert hasSize(int expectedSize) {
+		isNotNull();
+		if (actual.size() != expectedSize)
+			throw failures.failure(info, shouldHaveSize(actual, actual.size(), expectedSize));
+		return this;
+	}
+
+	/**
+	 * Verifies that every Message satisfies the requirements, expressed as assertions on a {@link MessageAssert}.
+	 *
+	 * @param requirements the requirements.
+	 * @return {@code this} assertion object.
+	 * @throws AssertionError listing every Message that does not satisfy the requirements.
+	 */
+	public MessageListAssert allSatisfy(Consumer<MessageAssert> requirements) {
+		isNotNull();
+		messageLists.assertAllSatisfy(info, actual, indexes, MessageRequirements.of(requirements, dictionaries), pool);
+		return this;
+	}
+
+	/**
+	 * Verifies that at least one Message satisfies the requirements, expressed as assertions on a
+	 * {@link MessageAssert}.
+	 *
+	 * @param requirements the requirements.
+	 * @return {@code this} assertion object.
+	 * @throws AssertionError listing why each Message does not satisfy the requirements if none does.
+	 */
+	public MessageListAssert anySatisfy(Consumer<MessageAssert> requirements) {
+		isNotNull();
+		messageLists.assertAnySatisfy(info, actual, indexes, MessageRequirements.of(requirements, dictionaries), pool);
+		return this;
+	}
+
+	/**
+	 * Verifies that no Message satisfies the requirements, expressed as assertions on a {@link MessageAssert}.
+	 *
+	 * @param requirements the requirements.
+	 * @return {@code this} assertion object.
+	 * @throws AssertionError listing the index of every Message that satisfies the requirements.
+	 */
+	public MessageListAssert noneSatisfy(Consumer<MessageAssert> requirements) {
+		isNotNull();
+		messageLists.assertNoneSatisfy(info, actual, indexes, MessageRequirements.of(requirements, dictionaries), pool);
+		return this;
+	}
+
+	/**
+	 * Verifies that every Message is valid according to the dictionary of its version. Large batches are split
+	 * across cores when evaluated {@link #inParallel() in parallel}.
+	 *
+	 * @return {@code this} assertion object.
+	 * @throws AssertionError with the invalid Messages aggregated per MsgType and reason.
+	 */
+	public MessageListAssert allValid() {
+		isNotNull();
+		messageLists.assertAllValid(info, actual, indexes, dictionaries, pool);
+		return this;
+	}
+
+	/**
+	 * Verifies that the MsgSeqNums of every session are continuous in the order of the batch: no gaps, no duplicates
+	 * and no number lower than one already seen, except for resends with PossDupFlag set. SequenceReset and Logon
+	 * with ResetSeqNumFlag are followed.
+	 *
+	 * @return {@code this} assertion object.
+	 * @throws AssertionError listing the gaps, duplicates and out of order runs per session.
+	 */
+	public MessageListAssert hasContinuousMsgSeqNums() {
+		isNotNull();
+		messageLists.assertContinuousMsgSeqNums(info, actual, indexes);
+		return this;
+	}
+
+	/**
+	 * Verifies that the lifecycle of every order of the batch is valid, following its NewOrderSingle, cancel and
+	 * replace requests and ExecutionReports in the order of the batch: no ExecutionReport after the order is done,
+	 * no New after a fill, and CumQty never decreasing nor exceeding OrderQty.
+	 * Example:
+	 * <pre>
+	 * 	<code class='java'>
+	 * 		assertThatMessages(sessionMessages).hasValidOrderLifecycles();
+	 * 	</code>
+	 * </pre>
+	 *
+	 * @return {@code this} assertion object.
+	 * @throws AssertionError listing the invalid transitions and quantities per order.
+	 */
+	public MessageListAssert hasValidOrderLifecycles() {
+		isNotNull();
+		orderLifecycles.assertValidLifecycles(info, actual, indexes);
+		return this;
+	}
+
+	/**
+	 * Correlates the requests of the batch with their responses: each request is answered by the first following
+	 * response of one of the given MsgTypes with the same value of the key field.
+	 *
+	 * @param requestMsgType   the MsgType of the requests, e.g. {@link quickfix.field.MsgType#ORDER_CANCEL_REQUEST}.
+	 * @param keyTag           the tag of the key field, e.g. {@link quickfix.field.ClOrdID#FIELD}.
+	 * @param responseMsgTypes the MsgTypes of the responses, e.g. {@link quickfix.field.MsgType#EXECUTION_REPORT}.
+	 * @return a new assertion object over the correlation.
+	 */
+	public CorrelationAssert correlate(String requestMsgType, int keyTag, String... responseMsgTypes) {
+		isNotNull();
+		if (requestMsgType == null || responseMsgTypes == null || responseMsgTypes.length == 0) {
+			throw new IllegalArgumentException("'requestMsgType' and 'responseMsgTypes' must not be null or empty.");
+		}
+		return new CorrelationAssert(correlations.correlate(actual, indexes, requestMsgType, keyTag, responseMsgTypes));
+	}
+
+	/**
+	 * Measures the SendingTime latencies between requests and responses of the batch, pairing each request with the
+	 * first following response with the same value of the key field.
+	 *
+	 * @param requestMsgType  the MsgType of the requests, e.g. {@link quickfix.field.MsgType#ORDER_SINGLE}.
+	 * @param responseMsgType the MsgType of the responses, e.g. {@link quickfix.field.MsgType#EXECUTION_REPORT}.
+	 * @param keyTag          the tag of the field pairing them, e.g. {@link quickfix.field.ClOrdID#FIELD}.
+	 * @return a new assertion object over the latencies.
+	 */
+	public LatencyAssert latencyBetween(String requestMsgType, String responseMsgType, int keyTag) {
+		return latencyBetween(requestMsgType, responseMsgType, keyTag, SendingTime.FIELD);
+	}
+
+	/**
+	 * Measures the latencies between requests and responses of the batch on the given UTCTimestamp field, e.g.
+	 * TransactTime, looked up in the header then the body.
+	 *
+	 * @param requestMsgType  the MsgType of the requests.
+	 * @param responseMsgType the MsgType of the responses.
+	 * @param keyTag          the tag of the field pairing them.
+	 * @param timestampTag    the tag of the timestamp field.
+	 * @return a new assertion object over the latencies.
+	 * @see #latencyBetween(String, String, int)
+	 */
+	public LatencyAssert latencyBetween(String requestMsgType, String responseMsgType, int keyTag, int timestampTag) {
+		isNotNull();
+		checkMsgTypes(requestMsgType, responseMsgType);
+		return new LatencyAssert(latencies.measure(actual, indexes, requestMsgType, responseMsgType, keyTag, timestampTag));
+	}
+
+	/**
+	 * Verifies that the Messages have the same fingerprints as the expected ones, in any order: every Message must
+	 * match a distinct expected Message and the other way round. Fingerprints are computed without the ignored fields,
+	 * in parallel when the assertions are evaluated {@link #inParallel() in parallel}.
+	 * Example:
+	 * <pre>
+	 * 	<code class='java'>
+	 * 		assertThatMessages(messagesFromNewEngine)
+	 * 				.ignoringVolatileFields()
+	 * 				.hasSameFingerprintsAs(messagesFromOldEngine);
+	 * 	</code>
+	 * </pre>
+	 *
+	 * @param expected the expected Messages.
+	 * @return {@code this} assertion object.
+	 * @throws AssertionError listing the unmatched Messages on both sides.
+	 */
+	public MessageListAssert hasSameFingerprintsAs(Iterable<? extends Message> expected) {
+		isNotNull();
+		messageLists.assertSameFingerprints(info, actual, indexes, toList(expected), ignoredTags, pool);
+		return this;
+	}
+
+	/**
+	 * Verifies that every expected Message has the fingerprint of a distinct Message, in any order; the Messages may
+	 * have others. Fingerprints are computed without the ignored fields.
+	 *
+	 * @param expected the expected Messages.
+	 * @return {@code this} assertion object.
+	 * @throws AssertionError listing the expected Messages that match no Message.
+	 */
+	public MessageListAssert containsFingerprintsOf(Iterable<? extends Message> expected) {
+		isNotNull();
+		messageLists.assertContainsFingerprints(info, actual, indexes, toList(expected), ignoredTags, pool);
+		return this;
+	}
+
+	/**
+	 * Leaves the fields with the given tags out of the fingerprints.
+	 *
+	 * @param tags the tag numbers of the fields to ignore.
+	 * @return {@code this} assertion object.
+	 */
+	public MessageListAssert ignoringFields(int... tags) {
+		ignoredTags = ignoredTags.with(tags);
+		return this;
+	}
+
+	/**
+	 * Leaves BodyLength, MsgSeqNum, SendingTime and CheckSum out of the fingerprints.
+	 *
+	 * @return {@code this} assertion object.
+	 */
+	public MessageListAssert ignoringVolatileFields() {
+		ignoredTags = ignoredTags.with(TagSet.VOLATILE);
+		return this;
+	}
+
+	/**
+	 * Uses the given {@link DataDictionary} for the BeginString when validating the Messages and in the requirements
+	 * of {@link #allSatisfy(Consumer)}, {@link #anySatisfy(Consumer)} and {@link #noneSatisfy(Consumer)}. Other
+	 * assertions are not affected.
+	 *
+	 * @param beginString    the BeginString the dictionary is used for.
+	 * @param dataDictionary the dictionary.
+	 * @return {@code this} assertion object.
+	 */
+	public MessageListAssert usingDataDictionary(String beginString, DataDictionary dataDictionary) {
+		dictionaries = dictionaries.withDataDictionary(beginString, dataDictionary);
+		return this;
+	}
+
+	/**
+	 * Narrows the following assertions to the Messages of the given MsgType. Failures still report the index of
+	 * each Message in the original batch.
+	 *
+	 * @param msgType the MsgType, e.g. {@link quickfix.field.MsgType#ORDER_SINGLE}.
+	 * @return a new assertion object over the matching Messages.
+	 */
+	public MessageListAssert filteredOn(String msgType) {
+		isNotNull();
+		if (msgType == null) {
+			throw new IllegalArgumentException("'msgType' must not be null.");
+		}
+
+		int[] positions = messageLists.indexesOfMsgType(actual, msgType);
+		List<Message> filtered = new ArrayList<>(positions.length);
+		int[] filteredIndexes = new int[positions.length];
+		for (int i = 0; i < positions.length; i++) {
+			filtered.add(actual.get(positions[i]));
+			filteredIndexes[i] = indexes[positions[i]];
+		}
+		MessageListAssert filteredAssert = new MessageListAssert(filtered, filteredIndexes, pool);
+		filteredAssert.dictionaries = dictionaries;
+		filteredAssert.ignoredTags = ignoredTags;
+		return filteredAssert;
+	}
+
+	static void checkMsgTypes(String requestMsgType, String responseMsgType) {
+		if (requestMsgType == null || responseMsgType == null) {
+			throw new IllegalArgumentException("'requestMsgType' and 'responseMsgType' must not be null.");
+		}
+	}
+
+	private static List<Message> toList(Iterable<? extends Message> messages) {
+		if (messages == null) {
+			throw new IllegalArgumentException("'expected' must not be null.");
+		}
+		List<Message> list = new ArrayList<>();
+		for (Message message : messages) {
+			list.add(message);
+		}
+		return list;
+	}
+
+	private static int[] identityIndexes(int size) {
+		int[] indexes = new int[size];
+		for (int i = 0; i < size; i++) {
+			indexes[i] = i;
+		}
+		return indexes;
+	}
+}
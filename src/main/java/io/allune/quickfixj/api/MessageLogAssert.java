@@ -0,0 +1,220 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.api;
+
+import io.allune.quickfixj.internal.Correlations;
+import io.allune.quickfixj.internal.Dictionaries;
+import io.allune.quickfixj.internal.Latencies;
+import io.allune.quickfixj.internal.MessageLogs;
+import io.allune.quickfixj.internal.OrderLifecycles;
+import org.assertj.core.api.AbstractAssert;
+import quickfix.field.SendingTime;
+
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+/**
+ * Assertions over the Messages of a QuickFIX/J message log, such as one written by a {@code FileLog}.
+ * <p>
+ * The log is memory-mapped and its Messages are streamed through the requirements one at a time, so logs of any
+ * size can be asserted on in constant memory. Each assertion reads the log once.
+ * <p>
+ * Messages are parsed without a dictionary, so the fields of their repeating groups are read as flat body fields:
+ * group assertions such as {@link MessageAssert#hasGroupCount(int, int)} do not see the entries of a logged Message.
+ * Example:
+ * <pre>
+ * 	<code class='java'>
+ * 		assertThatMessageLog(Paths.get(&quot;logs/FIX.4.4-EXEC-BANZAI.messages.log&quot;))
+ * 				.filteredOn(MsgType.EXECUTION_REPORT)
+ * 				.allSatisfy(message -&gt; message.hasField(OrdStatus.FIELD));
+ * 	</code>
+ * </pre>
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+public class MessageLogAssert extends AbstractAssert<MessageLogAssert, Path> {
+
+	MessageLogs messageLogs = MessageLogs.instance();
+
+	Latencies latencies = Latencies.instance();
+
+	OrderLifecycles orderLifecycles = OrderLifecycles.instance();
+
+	Correlations correlations = Correlations.instance();
+
+	private final String msgType;
+
+	/**
+	 * Creates a new {@link MessageLogAssert}.
+	 *
+	 * @param messageLog the message log to verify.
+	 */
+	public MessageLogAssert(Path messageLog) {
+		this(messageLog, null);
+	}
+
+	private MessageLogAssert(Path messageLog, String msgType) {
+		super(messageLog, MessageLogAssert.class);
+		this.msgType = msgType;
+	}
+
+	/**
+	 * Narrows the following assertions to the Messages of the given MsgType. MsgType is read from the raw Message,
+	 * so other Messages are never parsed. Failures still report the index of each Message in the whole log.
+	 *
+	 * @param msgType the MsgType, e.g. {@link quickfix.field.MsgType#EXECUTION_REPORT}.
+	 * @return a new assertion object over the matching Messages.
+	 */
+	public MessageLogAssert filteredOn(String msgType) {
+		if (msgType == null) {
+			throw new IllegalArgumentException("'msgType' must not be null.");
+		}
+		return new MessageLogAssert(actual, msgType);
+	}
+
+	/**
+	 * Verifies that the log contains the expected number of Messages.
+	 *
+	 * @param expectedMessageCount the expected number of Messages.
+	 * @return {@code this} assertion object.
+	 */
+	public MessageLogAssert hasMessageCount(long expectedMessageCount) {
+		isNotNull();
+		messageLogs.assertHasMessageCount(info, actual, msgType, expectedMessageCount);
+		return this;
+	}
+
+	/**
+	 * Verifies that every Message satisfies the requirements, expressed as assertions on a {@link MessageAssert}.
+	 * Incomplete or unparsable Messages do not satisfy them.
+	 *
+	 * @param requirements the requirements.
+	 * @return {@code this} assertion object.
+	 * @throws AssertionError listing the Messages that do not satisfy the requirements.
+	 */
+	public MessageLogAssert allSatisfy(Consumer<MessageAssert> requirements) {
+		isNotNull();
+		messageLogs.assertAllSatisfy(info, actual, msgType, MessageRequirements.of(requirements, Dictionaries.instance()));
+		return this;
+	}
+
+	/**
+	 * Verifies that at least one Message satisfies the requirements, expressed as assertions on a
+	 * {@link MessageAssert}. The log is read only up to the first such Message.
+	 *
+	 * @param requirements the requirements.
+	 * @return {@code this} assertion object.
+	 * @throws AssertionError listing why Messages do not satisfy the requirements if none does.
+	 */
+	public MessageLogAssert anySatisfy(Consumer<MessageAssert> requirements) {
+		isNotNull();
+		messageLogs.assertAnySatisfy(info, actual, msgType, MessageRequirements.of(requirements, Dictionaries.instance()));
+		return this;
+	}
+
+	/**
+	 * Verifies that no Message satisfies the requirements, expressed as assertions on a {@link MessageAssert}.
+	 *
+	 * @param requirements the requirements.
+	 * @return {@code this} assertion object.
+	 * @throws AssertionError listing the Messages that satisfy the requirements.
+	 */
+	public MessageLogAssert noneSatisfy(Consumer<MessageAssert> requirements) {
+		isNotNull();
+		messageLogs.assertNoneSatisfy(info, actual, msgType, MessageRequirements.of(requirements, Dictionaries.instance()));
+		return this;
+	}
+
+	/**
+	 * Verifies that the MsgSeqNums of every session in the log are continuous: no gaps, no duplicates and no number
+	 * lower than one already seen, except for resends with PossDupFlag set. SequenceReset and Logon with
+	 * ResetSeqNumFlag are followed. Messages are read in place, never parsed, and the log is read once.
+	 * Example:
+	 * <pre>
+	 * 	<code class='java'>
+	 * 		assertThatMessageLog(Paths.get(&quot;logs/FIX.4.4-EXEC-BANZAI.messages.log&quot;)).hasContinuousMsgSeqNums();
+	 * 	</code>
+	 * </pre>
+	 *
+	 * @return {@code this} assertion object.
+	 * @throws AssertionError listing the gaps, duplicates and out of order runs per session.
+	 */
+	public MessageLogAssert hasContinuousMsgSeqNums() {
+		isNotNull();
+		messageLogs.assertContinuousMsgSeqNums(info, actual, msgType);
+		return this;
+	}
+
+	/**
+	 * Verifies that the lifecycle of every order in the log is valid, following its NewOrderSingle, cancel and
+	 * replace requests and ExecutionReports: no ExecutionReport after the order is done, no New after a fill, and
+	 * CumQty never decreasing nor exceeding OrderQty. The log is read once, in place, and a MsgType filter does not
+	 * apply.
+	 *
+	 * @return {@code this} assertion object.
+	 * @throws AssertionError listing the invalid transitions and quantities per order.
+	 */
+	public MessageLogAssert hasValidOrderLifecycles() {
+		isNotNull();
+		orderLifecycles.assertValidLifecycles(info, actual);
+		return this;
+	}
+
+	/**
+	 * Correlates the requests of the log with their responses: each request is answered by the first following
+	 * response of one of the given MsgTypes with the same value of the key field. The log is read once, in place, and a MsgType filter does not apply.
+	 *
+	 * @param requestMsgType   the MsgType of the requests, e.g. {@link quickfix.field.MsgType#ORDER_CANCEL_REQUEST}.
+	 * @param keyTag           the tag of the key field, e.g. {@link quickfix.field.ClOrdID#FIELD}.
+	 * @param responseMsgTypes the MsgTypes of the responses, e.g. {@link quickfix.field.MsgType#EXECUTION_REPORT}.
+	 * @return a new assertion object over the correlation.
+	 */
+	public CorrelationAssert correlate(String requestMsgType, int keyTag, String... responseMsgTypes) {
+		isNotNull();
+		if (requestMsgType == null || responseMsgTypes == null || responseMsgTypes.length == 0) {
+			throw new IllegalArgumentException("'requestMsgType' and 'responseMsgTypes' must not be null or empty.");
+		}
+		return new CorrelationAssert(correlations.correlate(actual, requestMsgType, keyTag, responseMsgTypes));
+	}
+
+	/**
+	 * Measures the SendingTime latencies between requests and responses in the log, pairing each request with the
+	 * first following response with the same value of the key field. The log is read once, in place, and a MsgType
+	 * filter does not apply.
+	 *
+	 * @param requestMsgType  the MsgType of the requests, e.g. {@link quickfix.field.MsgType#ORDER_SINGLE}.
+	 * @param responseMsgType the MsgType of the responses, e.g. {@link quickfix.field.MsgType#EXECUTION_REPORT}.
+	 * @param keyTag          the tag of the field pairing them, e.g. {@link quickfix.field.ClOrdID#FIELD}.
+	 * @return a new assertion object over the latencies.
+	 */
+	public LatencyAssert latencyBetween(String requestMsgType, String responseMsgType, int keyTag) {
+		return latencyBetween(requestMsgType, responseMsgType, keyTag, SendingTime.FIELD);
+	}
+
+	/**
+	 * Measures the latencies between requests and responses in the log on the given UTCTimestamp field, e.g.
+	 * TransactTime.
+	 *
+	 * @param requestMsgType  the MsgType of the requests.
+	 * @param responseMsgType the MsgType of the responses.
+	 * @param keyTag          the tag of the field pairing them.
+	 * @param timestampTag    the tag of the timestamp field.
+	 * @return a new assertion object over the latencies.
+	 * @see #latencyBetween(String, String, int)
+	 */
+	public LatencyAssert latencyBetween(String requestMsgType, String responseMsgType, int keyTag, int timestampTag) {
+		isNotNull();
+		MessageListAssert.checkMsgTypes(requestMsgType, responseMsgType);
+		return new LatencyAssert(latencies.measure(actual, requestMsgType, responseMsgType, keyTag, timestampTag));
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.api;
+
+import io.allune.quickfixj.internal.Dictionaries;
+import io.allune.quickfixj.internal.Messages;
+import quickfix.FieldMap;
+import quickfix.FieldNotFound;
+import quickfix.Message;
+import quickfix.field.ApplVerID;
+import quickfix.field.BeginString;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+
+import static quickfix.FixVersions.BEGINSTRING_FIXT11;
+
+/**
+ * Requirements on a {@link MessageAssert} applied to every Message of a batch.
+ * <p>
+ * The version of a Message is resolved once per distinct BeginString, and ApplVerID under FIXT.1.1, of the batch
+ * rather than once per Message, and every {@link MessageAssert} uses the dictionaries of the batch assertion.
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+final class MessageRequirements implements Consumer<Message> {
+
+	private final Consumer<MessageAssert> requirements;
+
+	private final Dictionaries dictionaries;
+
+	private final ConcurrentMap<String, String> beginStrings = new ConcurrentHashMap<>();
+
+	private MessageRequirements(Consumer<MessageAssert> requirements, Dictionaries dictionaries) {
+		this.requirements = requirements;
+		this.dictionaries = dictionaries;
+	}
+
+	static MessageRequirements of(Consumer<MessageAssert> requirements, Dictionaries dictionaries) {
+		if (requirements == null) {
+			throw new IllegalArgumentException("'requirements' must not be null.");
+		}
+		return new MessageRequirements(requirements, dictionaries);
+	}
+
+	@Override
+	public void accept(Message message) {
+		MessageAssert messageAssert = new MessageAssert(message, message == null ? null : beginStringOf(message));
+		messageAssert.useDictionaries(dictionaries);
+		requirements.accept(messageAssert);
+	}
+
+	private String beginStringOf(Message message) {
+		String rawBeginString = getString(message.getHeader(), BeginString.FIELD);
+		if (rawBeginString == null) {
+			return null;
+		}
+		String key = rawBeginString;
+		if (rawBeginString.equals(BEGINSTRING_FIXT11)) {
+			String applVerId = getString(message.getHeader(), ApplVerID.FIELD);
+			if (applVerId == null) {
+				return null;
+			}
+			key = rawBeginString + '/' + applVerId;
+		}
+		return beginStrings.computeIfAbsent(key, ignored -> Messages.determineBeginString(message));
+	}
+
+	private static String getString(FieldMap fieldMap, int tag) {
+		try {
+			return fieldMap.getString(tag);
+		} catch (FieldNotFound fieldNotFound) {
+			return null;
+		}
+	}
+}
@@ -39,6 +39,16 @@ public class MessageTrailerAssert extends AbstractFieldMapAssert<MessageTrailerA
 		this.beginString = beginString;
 	}
 
+	/**
+	 * Creates a new <code>{@link MessageTrailerAssert}</code> navigated from the given message assertion object, the soft
+	 * assertion proxies being created through this constructor.
+	 *
+	 * @param messageAssert the message assertion object returned by {@link #and()}
+	 */
+	MessageTrailerAssert(MessageAssert messageAssert) {
+		this(messageAssert.actualTrailer(), messageAssert, messageAssert.getBeginString());
+	}
+
 	@Override
 	public String getBeginString() {
 		return beginString;
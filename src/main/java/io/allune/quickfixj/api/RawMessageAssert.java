@@ -0,0 +1,44 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.api;
+
+import io.allune.quickfixj.internal.RawMessage;
+
+/**
+ * Assertions on a FIX message in wire format that never construct a {@link quickfix.Message}.
+ * <p>
+ * Each assertion scans the raw bytes or characters for the fields it checks, so asserting on a few fields of a
+ * large message costs a scan rather than a full parse. Failures are reported with the same error messages as
+ * {@link MessageAssert}. Example:
+ * <pre>
+ * 	<code class='java'>
+ * 		assertThatRaw(&quot;8=FIX.4.4\u00019=65\u000135=A\u000134=1\u000149=BANZAI\u000152=20200408-06:49:07\u000156=EXEC\u000198=0\u0001108=30\u000110=015\u0001&quot;)
+ * 				.isVersion44()
+ * 				.hasMsgType(MsgType.LOGON)
+ * 				.hasIntFieldValue(HeartBtInt.FIELD, 30);
+ * 	</code>
+ * </pre>
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+public class RawMessageAssert extends AbstractRawMessageAssert<RawMessageAssert> {
+
+	/**
+	 * Creates a new {@link RawMessageAssert}.
+	 *
+	 * @param message the {@link RawMessage} to verify.
+	 */
+	RawMessageAssert(RawMessage message) {
+		super(message, RawMessageAssert.class);
+	}
+}
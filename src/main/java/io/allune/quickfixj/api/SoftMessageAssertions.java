@@ -0,0 +1,90 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.api;
+
+import org.assertj.core.api.SoftAssertions;
+import quickfix.Message;
+
+/**
+ * Soft assertions for QuickFix/J {@link Message}s.
+ * <p>
+ * Every chained check of a {@link MessageAssert}, and of the {@link MessageHeaderAssert} and
+ * {@link MessageTrailerAssert} navigated from it, is evaluated even after a previous one has failed. The failures
+ * are collected and reported together by {@link #assertAll()}, so a single run surfaces every mismatch of a message.
+ * The standard AssertJ soft assertions are available on the same object.
+ * Example:
+ * <pre>
+ * 	<code class='java'>
+ * 		SoftMessageAssertions softly = new SoftMessageAssertions();
+ * 		softly.assertThat(message)
+ * 				.hasFieldValue(Symbol.FIELD, &quot;EUR/USD&quot;)
+ * 				.hasFieldValue(Side.FIELD, '1')
+ * 				.header()
+ * 					.hasSenderCompID(&quot;BANZAI&quot;)
+ * 				.and()
+ * 				.trailer()
+ * 					.hasChecksum(&quot;074&quot;);
+ * 		softly.assertAll();
+ * 	</code>
+ * </pre>
+ * <p>
+ * A failing check only records its error: the values of its message, such as the Message itself, are rendered when
+ * the errors are read by {@link #assertAll()} or {@link #errorsCollected()}, so collecting many failures of large
+ * Messages stays cheap.
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+public class SoftMessageAssertions extends SoftAssertions {
+
+	private final DeferredRendering rendering = new DeferredRendering();
+
+	/**
+	 * Creates a new soft {@link MessageAssert}.
+	 *
+	 * @param actual the {@link Message} to verify.
+	 * @return the created soft assertion object.
+	 */
+	public MessageAssert assertThat(Message actual) {
+		MessageAssert messageAssert = proxy(MessageAssert.class, Message.class, actual);
+		messageAssert.softAssertions = this;
+		messageAssert.deferRendering(rendering);
+		return messageAssert;
+	}
+
+	/**
+	 * Creates a soft {@link MessageHeaderAssert} navigated from a soft {@link MessageAssert}, through the
+	 * {@link MessageHeaderAssert#MessageHeaderAssert(MessageAssert)} constructor.
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	MessageHeaderAssert header(MessageAssert messageAssert) {
+		MessageHeaderAssert headerAssert = (MessageHeaderAssert) proxy((Class) MessageHeaderAssert.class, MessageAssert.class, messageAssert);
+		headerAssert.deferRendering(rendering);
+		return headerAssert;
+	}
+
+	/**
+	 * Creates a soft {@link MessageTrailerAssert} navigated from a soft {@link MessageAssert}, through the
+	 * {@link MessageTrailerAssert#MessageTrailerAssert(MessageAssert)} constructor.
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	MessageTrailerAssert trailer(MessageAssert messageAssert) {
+		MessageTrailerAssert trailerAssert = (MessageTrailerAssert) proxy((Class) MessageTrailerAssert.class, MessageAssert.class, messageAssert);
+		trailerAssert.deferRendering(rendering);
+		return trailerAssert;
+	}
+
+	@Override
+	public void collectAssertionError(AssertionError error) {
+		super.collectAssertionError(rendering.render(error));
+	}
+}
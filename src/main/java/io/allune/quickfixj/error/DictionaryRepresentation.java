@@ -0,0 +1,53 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.error;
+
+import io.allune.quickfixj.internal.Dictionaries;
+import org.assertj.core.presentation.Representation;
+
+/**
+ * Renders the Messages of error messages with the dictionaries of the assertion raising them, e.g. one set with
+ * {@code usingDataDictionary}, so that the field names of an excerpt come from the same dictionary as the assertion.
+ * Every value is then rendered by the wrapped representation.
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+public final class DictionaryRepresentation implements Representation {
+
+	private final Representation representation;
+
+	private final Dictionaries dictionaries;
+
+	/**
+	 * @param representation the representation rendering the values.
+	 * @param dictionaries   the dictionaries of the assertion.
+	 */
+	public DictionaryRepresentation(Representation representation, Dictionaries dictionaries) {
+		this.representation = representation;
+		this.dictionaries = dictionaries;
+	}
+
+	@Override
+	public String toStringOf(Object object) {
+		return representation.toStringOf(bind(object));
+	}
+
+	@Override
+	public String unambiguousToStringOf(Object object) {
+		return representation.unambiguousToStringOf(bind(object));
+	}
+
+	private Object bind(Object object) {
+		return object instanceof MessageExcerpt ? ((MessageExcerpt) object).withDictionaries(dictionaries) : object;
+	}
+}
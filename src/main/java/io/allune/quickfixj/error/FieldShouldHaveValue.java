@@ -45,10 +45,10 @@ public class FieldShouldHaveValue extends BasicErrorMessageFactory {
 	}
 
 	public static ErrorMessageFactory fieldShouldHaveValue(Object message, Object fieldClass, Object fieldTag, Object actualValue, Object expectedValue) {
-		return new FieldShouldHaveValue(message, fieldClass, fieldTag, actualValue, expectedValue);
+		return new FieldShouldHaveValue(MessageExcerpt.of(message, fieldTag), fieldClass, fieldTag, actualValue, expectedValue);
 	}
 
 	public static ErrorMessageFactory fieldShouldHaveValue(Object message, Object fieldTag, Object actual, Object expected) {
-		return new FieldShouldHaveValue(message, fieldTag, actual, expected);
+		return new FieldShouldHaveValue(MessageExcerpt.of(message, fieldTag), fieldTag, actual, expected);
 	}
 }
@@ -0,0 +1,226 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.error;
+
+import io.allune.quickfixj.internal.Dictionaries;
+import io.allune.quickfixj.internal.Messages;
+import io.allune.quickfixj.internal.RawMessage;
+import quickfix.Field;
+import quickfix.FieldMap;
+import quickfix.Group;
+import quickfix.Message;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Renders a {@link Message} in an error message, in full when it is small and as a bounded excerpt otherwise.
+ * <p>
+ * The excerpt shows the header, the body fields around the tag the assertion is about, marked and named after the
+ * dictionary, the trailer and a summary of what was left out; repeating groups are only counted. Nothing is
+ * rendered until the error message is built, and a large message is never serialised as a whole unless the
+ * {@value #FULL_MESSAGE_PROPERTY} system property is {@code true}. Messages with more fields than the
+ * {@value #MAX_FIELDS_PROPERTY} system property, 100 by default, are excerpted. A repeating group entry is rendered
+ * as its own fields, its nested groups only counted. The focus tag is named after the dictionaries of the assertion
+ * when a {@link DictionaryRepresentation} binds them, after the global ones otherwise.
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+final class MessageExcerpt {
+
+	static final String FULL_MESSAGE_PROPERTY = "assertj.quickfixj.fullMessage";
+
+	static final String MAX_FIELDS_PROPERTY = "assertj.quickfixj.maxRenderedFields";
+
+	private static final int DEFAULT_MAX_FIELDS = 100;
+
+	private static final int NEIGHBOURS = 5;
+
+	private static final int NO_FOCUS = -1;
+
+	private static final char SOH = '\u0001';
+
+	private final FieldMap message;
+
+	private final int focusTag;
+
+	private final Dictionaries dictionaries;
+
+	private MessageExcerpt(FieldMap message, int focusTag, Dictionaries dictionaries) {
+		this.message = message;
+		this.focusTag = focusTag;
+		this.dictionaries = dictionaries;
+	}
+
+	/**
+	 * @param message  the value shown as the message in an error message.
+	 * @param focusTag the tag the assertion is about.
+	 * @return the value to show, excerpted around the tag if it is a large {@link Message}.
+	 */
+	static Object of(Object message, Object focusTag) {
+		if (message instanceof RawMessage) {
+			return new WireMessage((RawMessage) message);
+		}
+		if (!(message instanceof Message) && !(message instanceof Group)) {
+			return message;
+		}
+		return new MessageExcerpt((FieldMap) message, focusTag instanceof Integer ? (Integer) focusTag : NO_FOCUS, null);
+	}
+
+	/**
+	 * @param message the value shown as the message in an error message.
+	 * @return the value to show, excerpted if it is a large {@link Message}.
+	 */
+	static Object of(Object message) {
+		return of(message, null);
+	}
+
+	/**
+	 * @param dictionaries the dictionaries of the assertion.
+	 * @return this excerpt naming its focus tag after the given dictionaries, unless it is already bound to others.
+	 */
+	MessageExcerpt withDictionaries(Dictionaries dictionaries) {
+		return this.dictionaries != null ? this : new MessageExcerpt(message, focusTag, dictionaries);
+	}
+
+	@Override
+	public String toString() {
+		if (!(message instanceof Message)) {
+			StringBuilder entry = new StringBuilder();
+			appendFields(entry, message);
+			return entry.toString();
+		}
+
+		Message message = (Message) this.message;
+		int maxFields = Integer.getInteger(MAX_FIELDS_PROPERTY, DEFAULT_MAX_FIELDS);
+		if (Boolean.getBoolean(FULL_MESSAGE_PROPERTY) || countAllFields(message, maxFields + 1) <= maxFields) {
+			return message.toString();
+		}
+
+		StringBuilder excerpt = new StringBuilder();
+		appendFields(excerpt, message.getHeader());
+		appendBody(excerpt);
+		appendFields(excerpt, message.getTrailer());
+		excerpt.append(" [excerpt of a Message with ").append(countAllFields(message, Integer.MAX_VALUE)).append(" fields");
+		if (focusTag != NO_FOCUS) {
+			excerpt.append(" around tag ").append(focusTag);
+			String name = fieldName(focusTag);
+			if (name != null) {
+				excerpt.append(" (").append(name).append(')');
+			}
+		}
+		return excerpt.append(", set -D").append(FULL_MESSAGE_PROPERTY).append("=true for the full Message]").toString();
+	}
+
+	private void appendBody(StringBuilder excerpt) {
+		List<Field<?>> fields = new ArrayList<>();
+		int focusIndex = NO_FOCUS;
+		for (Iterator<Field<?>> iterator = message.iterator(); iterator.hasNext(); ) {
+			Field<?> field = iterator.next();
+			if (field.getTag() == focusTag) {
+				focusIndex = fields.size();
+			}
+			fields.add(field);
+		}
+
+		int from = focusIndex == NO_FOCUS ? 0 : Math.max(0, focusIndex - NEIGHBOURS);
+		int to = Math.min(fields.size(), focusIndex == NO_FOCUS ? 2 * NEIGHBOURS : focusIndex + NEIGHBOURS + 1);
+		if (from > 0) {
+			excerpt.append("...<").append(from).append(" fields>...").append(SOH);
+		}
+		for (int i = from; i < to; i++) {
+			appendField(excerpt, message, fields.get(i));
+		}
+		if (to < fields.size()) {
+			excerpt.append("...<").append(fields.size() - to).append(" fields>...").append(SOH);
+		}
+	}
+
+	private void appendFields(StringBuilder excerpt, FieldMap fieldMap) {
+		for (Iterator<Field<?>> iterator = fieldMap.iterator(); iterator.hasNext(); ) {
+			appendField(excerpt, fieldMap, iterator.next());
+		}
+	}
+
+	private void appendField(StringBuilder excerpt, FieldMap fieldMap, Field<?> field) {
+		boolean focus = field.getTag() == focusTag;
+		if (focus) {
+			excerpt.append(">>");
+		}
+		excerpt.append(field.getTag()).append('=').append(field.getObject());
+		if (focus) {
+			excerpt.append("<<");
+		}
+		if (fieldMap.hasGroup(field.getTag())) {
+			excerpt.append(" <").append(fieldMap.getGroupCount(field.getTag())).append(" groups not shown>");
+		}
+		excerpt.append(SOH);
+	}
+
+	private String fieldName(int tag) {
+		String beginString = Messages.determineBeginString((Message) message);
+		if (beginString == null) {
+			return null;
+		}
+		try {
+			Dictionaries dictionaries = this.dictionaries != null ? this.dictionaries : Dictionaries.instance();
+			return dictionaries.getSessionDataDictionary(beginString).getFieldName(tag);
+		} catch (RuntimeException e) {
+			// the name is a courtesy, the excerpt is rendered without it
+			return null;
+		}
+	}
+
+	private static int countAllFields(Message message, int limit) {
+		int count = countFields(message.getHeader(), limit);
+		count += countFields(message, limit - count);
+		return count + countFields(message.getTrailer(), limit - count);
+	}
+
+	/**
+	 * Counts the fields of the map, groups included, stopping once the limit is reached.
+	 */
+	private static int countFields(FieldMap fieldMap, int limit) {
+		int count = 0;
+		for (Iterator<Field<?>> iterator = fieldMap.iterator(); iterator.hasNext() && count < limit; iterator.next()) {
+			count++;
+		}
+		for (Iterator<Integer> groupTags = fieldMap.groupKeyIterator(); groupTags.hasNext() && count < limit; ) {
+			for (Group group : fieldMap.getGroups(groupTags.next())) {
+				count += countFields(group, limit - count);
+				if (count >= limit) {
+					return count;
+				}
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * A message in wire format, shown as written rather than as a quoted {@link CharSequence}.
+	 */
+	private static final class WireMessage {
+
+		private final RawMessage message;
+
+		private WireMessage(RawMessage message) {
+			this.message = message;
+		}
+
+		@Override
+		public String toString() {
+			return message.toString();
+		}
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.error;
+
+import java.util.Map;
+
+/**
+ * Renders the failures of a batch of Messages or repeating group entries, one entry per failing index, for the error
+ * message factories.
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+final class MessageFailures {
+
+	private MessageFailures() {
+	}
+
+	static String describe(Map<? extends Number, String> failuresByIndex) {
+		StringBuilder description = new StringBuilder();
+		for (Map.Entry<? extends Number, String> failure : failuresByIndex.entrySet()) {
+			description.append("%n")
+					.append("index <").append(failure.getKey()).append(">:%n")
+					.append(escapePercent(failure.getValue().trim())).append("%n");
+		}
+		return description.toString();
+	}
+
+	/**
+	 * @return one line per entry whose fields are rendered in place of a {@code %s} placeholder, for
+	 * {@link #entryArguments(Map)}.
+	 */
+	static String describeEntries(Map<Integer, ?> entriesByIndex) {
+		StringBuilder description = new StringBuilder();
+		for (Integer index : entriesByIndex.keySet()) {
+			description.append("%n").append("entry <").append(index).append(">:%n").append(" <%s>%n");
+		}
+		return description.toString();
+	}
+
+	/**
+	 * @return the entries, rendered only when the error message is built.
+	 */
+	static Object[] entryArguments(Map<Integer, ?> entriesByIndex) {
+		Object[] arguments = new Object[entriesByIndex.size()];
+		int i = 0;
+		for (Object entry : entriesByIndex.values()) {
+			arguments[i++] = MessageExcerpt.of(entry);
+		}
+		return arguments;
+	}
+
+	/**
+	 * @return a note on how many failures are listed when only the first ones are kept, empty otherwise.
+	 */
+	static String describeShown(long failureCount, Map<?, ?> failuresByIndex) {
+		return failureCount > failuresByIndex.size() ? ", showing the first <" + failuresByIndex.size() + ">" : "";
+	}
+
+	private static String escapePercent(String value) {
+		return value.replace("%", "%%");
+	}
+}
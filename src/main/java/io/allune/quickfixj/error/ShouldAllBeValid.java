@@ -0,0 +1,60 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author Eduardo Sanchez-Ros
+ */
+public class ShouldAllBeValid extends BasicErrorMessageFactory {
+
+	/**
+	 * Indexes listed per MsgType and reason; the others are only counted.
+	 */
+	private static final int MAX_LISTED_INDEXES = 10;
+
+	private ShouldAllBeValid(int messageCount, int invalidCount, Map<String, Map<String, List<Integer>>> invalidIndexes) {
+		super("Expecting all <" + messageCount + "> Messages to be valid%n"
+				+ "but <" + invalidCount + "> were not:%n"
+				+ describe(invalidIndexes));
+	}
+
+	public static ErrorMessageFactory shouldAllBeValid(int messageCount, int invalidCount, Map<String, Map<String, List<Integer>>> invalidIndexesByMsgTypeAndReason) {
+		return new ShouldAllBeValid(messageCount, invalidCount, invalidIndexesByMsgTypeAndReason);
+	}
+
+	private static String describe(Map<String, Map<String, List<Integer>>> invalidIndexes) {
+		StringBuilder description = new StringBuilder();
+		for (Map.Entry<String, Map<String, List<Integer>>> msgType : invalidIndexes.entrySet()) {
+			description.append("%n").append("MsgType <").append(escapePercent(msgType.getKey())).append(">:%n");
+			for (Map.Entry<String, List<Integer>> reason : msgType.getValue().entrySet()) {
+				List<Integer> indexes = reason.getValue();
+				description.append(" <").append(indexes.size()).append("> x ")
+						.append(escapePercent(reason.getKey()))
+						.append(" at indexes ").append(indexes.subList(0, Math.min(indexes.size(), MAX_LISTED_INDEXES)))
+						.append(indexes.size() > MAX_LISTED_INDEXES ? " ..." : "")
+						.append("%n");
+			}
+		}
+		return description.toString();
+	}
+
+	private static String escapePercent(String value) {
+		return value.replace("%", "%%");
+	}
+}
@@ -36,7 +36,7 @@ public class ShouldBeAdminMessage extends BasicErrorMessageFactory {
 	 * @return @return the created {@code ErrorMessageFactory}.
 	 */
 	public static ErrorMessageFactory shouldBeAdminMessage(Object message) {
-		return new ShouldBeAdminMessage(message);
+		return new ShouldBeAdminMessage(MessageExcerpt.of(message));
 	}
 
 }
@@ -36,7 +36,7 @@ public class ShouldBeAppMessage extends BasicErrorMessageFactory {
 	 * @return @return the created {@code ErrorMessageFactory}.
 	 */
 	public static ErrorMessageFactory shouldBeAppMessage(Object message) {
-		return new ShouldBeAppMessage(message);
+		return new ShouldBeAppMessage(MessageExcerpt.of(message));
 	}
 
 }
@@ -36,7 +36,7 @@ public class ShouldBeEmptyMessage extends BasicErrorMessageFactory {
 	 * @return @return the created {@code ErrorMessageFactory}.
 	 */
 	public static ErrorMessageFactory shouldBeEmptyMessage(Object message) {
-		return new ShouldBeEmptyMessage(message);
+		return new ShouldBeEmptyMessage(MessageExcerpt.of(message));
 	}
 
 }
@@ -43,7 +43,7 @@ public class ShouldBeEqual extends BasicErrorMessageFactory {
 	 * @return @return the created {@code ErrorMessageFactory}.
 	 */
 	public static ErrorMessageFactory shouldBeEqual(Object message, Object fieldClass, Object fieldTag, Object actualValue, Object expectedValue) {
-		return new ShouldBeEqual(message, fieldClass, fieldTag, actualValue, expectedValue);
+		return new ShouldBeEqual(MessageExcerpt.of(message, fieldTag), fieldClass, fieldTag, actualValue, expectedValue);
 	}
 
 }
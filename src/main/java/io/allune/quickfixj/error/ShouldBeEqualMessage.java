@@ -0,0 +1,55 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.error;
+
+import io.allune.quickfixj.internal.MessageEquality.Difference;
+import io.allune.quickfixj.internal.TagSet;
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * @author Eduardo Sanchez-Ros
+ */
+public class ShouldBeEqualMessage extends BasicErrorMessageFactory {
+
+	private ShouldBeEqualMessage(Object actual, Object expected, Difference difference, TagSet ignoredTags) {
+		super("Expecting Message:%n"
+				+ " <%s>%n"
+				+ "to be equal to:%n"
+				+ " <%s>%n"
+				+ (ignoredTags.isEmpty() ? "" : "ignoring tags " + ignoredTags + "%n")
+				+ "but " + difference.getLocation() + " differs at tag <%s>:%n"
+				+ "expected:%n"
+				+ " <%s>%n"
+				+ "but was:%n"
+				+ " <%s>", actual, expected, difference.getTag(),
+				valueOrMissing(difference.getExpectedValue()), valueOrMissing(difference.getActualValue()));
+	}
+
+	static Object valueOrMissing(String value) {
+		return value == null ? new Missing() : value;
+	}
+
+	public static ErrorMessageFactory shouldBeEqualMessage(Object actual, Object expected, Difference difference, TagSet ignoredTags) {
+		return new ShouldBeEqualMessage(MessageExcerpt.of(actual, difference.getTag()), MessageExcerpt.of(expected, difference.getTag()),
+				difference, ignoredTags);
+	}
+
+	private static final class Missing {
+
+		@Override
+		public String toString() {
+			return "no such field";
+		}
+	}
+}
@@ -14,6 +14,7 @@ package io.allune.quickfixj.error;
 
 import org.assertj.core.error.BasicErrorMessageFactory;
 import org.assertj.core.error.ErrorMessageFactory;
+import quickfix.field.MsgType;
 
 /**
  * @author Eduardo Sanchez-Ros
@@ -29,6 +30,6 @@ public class ShouldBeOfType extends BasicErrorMessageFactory {
 	}
 
 	public static ErrorMessageFactory shouldBeOfType(Object message, Object actualMessageType, Object expectedMessageType) {
-		return new ShouldBeOfType(message, actualMessageType, expectedMessageType);
+		return new ShouldBeOfType(MessageExcerpt.of(message, MsgType.FIELD), actualMessageType, expectedMessageType);
 	}
 }
@@ -22,13 +22,13 @@ public class ShouldBeValidMessage extends BasicErrorMessageFactory {
 
 	private ShouldBeValidMessage(Object actual, Object error) {
 		super("Expecting Message:%n"
-				+ " <%s>"
+				+ " <%s>%n"
 				+ "to be a valid message but was not.%n"
 				+ "Error:%n"
 				+ " <%s>", actual, error);
 	}
 
 	public static ErrorMessageFactory shouldBeValidMessage(Object actual, Object error) {
-		return new ShouldBeValidMessage(actual, error);
+		return new ShouldBeValidMessage(MessageExcerpt.of(actual), error);
 	}
 }
@@ -0,0 +1,49 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.error;
+
+import io.allune.quickfixj.internal.MsgSeqNumTracker;
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+import java.util.List;
+
+/**
+ * @author Eduardo Sanchez-Ros
+ */
+public class ShouldHaveContinuousMsgSeqNums extends BasicErrorMessageFactory {
+
+	private ShouldHaveContinuousMsgSeqNums(MsgSeqNumTracker tracker) {
+		super("Expecting the MsgSeqNums of all <" + tracker.getMessageCount() + "> Messages to be continuous per session%n"
+				+ "but found <" + tracker.getMissingCount() + "> missing in <" + tracker.getGapCount() + "> gaps, <"
+				+ tracker.getDuplicateCount() + "> duplicates and <" + tracker.getOutOfOrderCount() + "> out of order"
+				+ describeShown(tracker.getAnomalyCount(), tracker.getAnomalies().size()) + ":%n"
+				+ describe(tracker.getAnomalies()));
+	}
+
+	public static ErrorMessageFactory shouldHaveContinuousMsgSeqNums(MsgSeqNumTracker tracker) {
+		return new ShouldHaveContinuousMsgSeqNums(tracker);
+	}
+
+	private static String describeShown(long anomalyCount, int shownCount) {
+		return anomalyCount > shownCount ? ", showing the first <" + shownCount + "> of <" + anomalyCount + "> anomalies" : "";
+	}
+
+	private static String describe(List<String> anomalies) {
+		StringBuilder description = new StringBuilder();
+		for (String anomaly : anomalies) {
+			description.append(" ").append(anomaly.replace("%", "%%")).append("%n");
+		}
+		return description.toString();
+	}
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.error;
+
+import io.allune.quickfixj.internal.Correlation;
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * @author Eduardo Sanchez-Ros
+ */
+public class ShouldHaveCorrelations extends BasicErrorMessageFactory {
+
+	private ShouldHaveCorrelations(String message) {
+		super(message);
+	}
+
+	public static ErrorMessageFactory shouldHaveRequestCount(Correlation actual, long expectedRequestCount) {
+		return new ShouldHaveCorrelations("Expecting <" + expectedRequestCount + "> requests%n"
+				+ "but were:%n"
+				+ " <" + actual.getRequestCount() + ">");
+	}
+
+	public static ErrorMessageFactory shouldHaveMatchedCount(Correlation actual, long window, long expectedMatchedCount) {
+		return new ShouldHaveCorrelations("Expecting <" + expectedMatchedCount + "> of the <" + actual.getRequestCount()
+				+ "> requests to be answered" + describeWindow(window) + "%n"
+				+ "but were:%n"
+				+ " <" + actual.getMatchedCount(window) + ">");
+	}
+
+	public static ErrorMessageFactory shouldHaveOrphanCount(Correlation actual, long expectedOrphanCount) {
+		return new ShouldHaveCorrelations("Expecting <" + expectedOrphanCount + "> of the <" + actual.getRequestCount()
+				+ "> requests never to be answered%n"
+				+ "but were:%n"
+				+ " <" + actual.getOrphanCount() + ">" + describeOrphans(actual));
+	}
+
+	public static ErrorMessageFactory shouldHaveTimeoutCount(Correlation actual, long window, long expectedTimeoutCount) {
+		return new ShouldHaveCorrelations("Expecting <" + expectedTimeoutCount + "> of the <" + actual.getRequestCount()
+				+ "> requests to be answered after more than <" + window + "> Messages%n"
+				+ "but were:%n"
+				+ " <" + actual.getTimeoutCount(window) + ">" + describeTimeouts(actual, window));
+	}
+
+	public static ErrorMessageFactory shouldAllBeAnswered(Correlation actual, long window) {
+		return new ShouldHaveCorrelations("Expecting all <" + actual.getRequestCount() + "> requests to be answered"
+				+ describeWindow(window) + "%n"
+				+ "but <" + actual.getOrphanCount() + "> were never answered and <" + actual.getTimeoutCount(window)
+				+ "> were answered later" + describeOrphans(actual) + describeTimeouts(actual, window));
+	}
+
+	private static String describeWindow(long window) {
+		return window == Correlation.UNLIMITED ? "" : " within <" + window + "> Messages";
+	}
+
+	private static String describeOrphans(Correlation actual) {
+		return actual.getOrphanCount() == 0 ? "" : "%nunanswered requests at indexes " + actual.getOrphanIndexes()
+				+ (actual.getOrphanCount() > actual.getOrphanIndexes().size() ? " ..." : "");
+	}
+
+	private static String describeTimeouts(Correlation actual, long window) {
+		long timeoutCount = actual.getTimeoutCount(window);
+		return timeoutCount == 0 ? "" : "%nlate requests at indexes " + actual.getTimeoutIndexes(window)
+				+ (timeoutCount > actual.getTimeoutIndexes(window).size() ? " ..." : "");
+	}
+}
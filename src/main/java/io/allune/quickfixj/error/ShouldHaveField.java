@@ -28,6 +28,6 @@ public class ShouldHaveField extends BasicErrorMessageFactory {
 	}
 
 	public static ErrorMessageFactory shouldHaveField(Object message, Object field) {
-		return new ShouldHaveField(message, field);
+		return new ShouldHaveField(MessageExcerpt.of(message, field), field);
 	}
 }
@@ -0,0 +1,37 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.error;
+
+import io.allune.quickfixj.internal.TagSet;
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * @author Eduardo Sanchez-Ros
+ */
+public class ShouldHaveFingerprint extends BasicErrorMessageFactory {
+
+	private ShouldHaveFingerprint(Object actual, Object actualFingerprint, Object expectedFingerprint, TagSet ignoredTags) {
+		super("Expecting Message:%n"
+				+ " <%s>%n"
+				+ "to have fingerprint:%n"
+				+ " <%s>%n"
+				+ (ignoredTags.isEmpty() ? "" : "ignoring tags " + ignoredTags + "%n")
+				+ "but was:%n"
+				+ " <%s>", actual, expectedFingerprint, actualFingerprint);
+	}
+
+	public static ErrorMessageFactory shouldHaveFingerprint(Object message, Object actualFingerprint, Object expectedFingerprint, TagSet ignoredTags) {
+		return new ShouldHaveFingerprint(MessageExcerpt.of(message), actualFingerprint, expectedFingerprint, ignoredTags);
+	}
+}
@@ -0,0 +1,35 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * @author Eduardo Sanchez-Ros
+ */
+public class ShouldHaveGroupAggregate extends BasicErrorMessageFactory {
+
+	private ShouldHaveGroupAggregate(Object actual, String aggregate, Object groupTag, Object fieldTag, Object actualValue, Object expectedValue) {
+		super("Expecting the " + aggregate + " of field <%s> over the entries of repeating group with tag <%s> in Message:%n"
+				+ " <%s>%n"
+				+ "to be:%n"
+				+ " <%s>%n"
+				+ "but was:%n"
+				+ " <%s>", fieldTag, groupTag, actual, expectedValue, actualValue);
+	}
+
+	public static ErrorMessageFactory shouldHaveGroupAggregate(Object message, String aggregate, Object groupTag, Object fieldTag, Object actualValue, Object expectedValue) {
+		return new ShouldHaveGroupAggregate(MessageExcerpt.of(message, groupTag), aggregate, groupTag, fieldTag, actualValue, expectedValue);
+	}
+}
@@ -0,0 +1,33 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * @author Eduardo Sanchez-Ros
+ */
+public class ShouldHaveGroupEntry extends BasicErrorMessageFactory {
+
+	private ShouldHaveGroupEntry(Object actual, Object groupTag, Object index, Object entryCount) {
+		super("Expecting Message:%n"
+				+ " <%s>%n"
+				+ "to have entry <%s> in repeating group with tag <%s>%n"
+				+ "but the group has <%s> entries.", actual, index, groupTag, entryCount);
+	}
+
+	public static ErrorMessageFactory shouldHaveGroupEntry(Object message, Object groupTag, int index, int entryCount) {
+		return new ShouldHaveGroupEntry(MessageExcerpt.of(message, groupTag), groupTag, index, entryCount);
+	}
+}
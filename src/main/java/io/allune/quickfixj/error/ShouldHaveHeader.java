@@ -28,6 +28,6 @@ public class ShouldHaveHeader extends BasicErrorMessageFactory {
 	}
 
 	public static ErrorMessageFactory shouldHaveHeader(Object message) {
-		return new ShouldHaveHeader(message);
+		return new ShouldHaveHeader(MessageExcerpt.of(message));
 	}
 }
@@ -0,0 +1,58 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.error;
+
+import io.allune.quickfixj.internal.LatencyHistogram;
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * @author Eduardo Sanchez-Ros
+ */
+public class ShouldHaveLatency extends BasicErrorMessageFactory {
+
+	private ShouldHaveLatency(String message) {
+		super(message);
+	}
+
+	public static ErrorMessageFactory shouldHavePercentileLatencyBelow(LatencyHistogram actual, double percentile, Object latency, Object limit) {
+		return new ShouldHaveLatency("Expecting the p<" + percentile + "> latency of <" + actual.getCount() + "> paired Messages to be below:%n"
+				+ " <" + limit + ">%n"
+				+ "but was:%n"
+				+ " <" + latency + ">%n"
+				+ describeDistribution(actual));
+	}
+
+	public static ErrorMessageFactory shouldHaveMaxLatencyBelow(LatencyHistogram actual, Object limit) {
+		return new ShouldHaveLatency("Expecting the maximum latency of <" + actual.getCount() + "> paired Messages to be below:%n"
+				+ " <" + limit + ">%n"
+				+ "but was:%n"
+				+ " <" + actual.getMax() + ">%n"
+				+ describeDistribution(actual));
+	}
+
+	public static ErrorMessageFactory shouldHaveLatencySampleCount(LatencyHistogram actual, long expectedSampleCount) {
+		return new ShouldHaveLatency("Expecting <" + expectedSampleCount + "> requests to be paired with a response%n"
+				+ "but were:%n"
+				+ " <" + actual.getCount() + ">");
+	}
+
+	public static ErrorMessageFactory shouldHaveLatencySamples() {
+		return new ShouldHaveLatency("Expecting requests paired with a response to measure latencies on%n"
+				+ "but there were none");
+	}
+
+	private static String describeDistribution(LatencyHistogram actual) {
+		return "(min <" + actual.getMin() + ">, mean <" + actual.getMean() + ">, max <" + actual.getMax() + ">)";
+	}
+}
@@ -0,0 +1,34 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * @author Eduardo Sanchez-Ros
+ */
+public class ShouldHaveMessageCount extends BasicErrorMessageFactory {
+
+	private ShouldHaveMessageCount(Object actual, long actualMessageCount, long expectedMessageCount) {
+		super("Expecting message log:%n"
+				+ " <%s>%n"
+				+ "to contain <" + expectedMessageCount + "> Messages%n"
+				+ "but contained:%n"
+				+ " <" + actualMessageCount + ">", actual);
+	}
+
+	public static ErrorMessageFactory shouldHaveMessageCount(Object messageLog, long actualMessageCount, long expectedMessageCount) {
+		return new ShouldHaveMessageCount(messageLog, actualMessageCount, expectedMessageCount);
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.error;
+
+import io.allune.quickfixj.internal.TagSet;
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+import java.util.Map;
+
+/**
+ * @author Eduardo Sanchez-Ros
+ */
+public class ShouldHaveSameFingerprints extends BasicErrorMessageFactory {
+
+	private ShouldHaveSameFingerprints(String expectation, TagSet ignoredTags, String unmatched) {
+		super(expectation + "%n"
+				+ (ignoredTags.isEmpty() ? "" : "ignoring tags " + ignoredTags + "%n")
+				+ unmatched);
+	}
+
+	public static ErrorMessageFactory shouldHaveSameFingerprints(int messageCount, int expectedCount, TagSet ignoredTags,
+			int unexpectedCount, Map<Integer, ?> unexpected, int missingCount, Map<Integer, ?> missing) {
+		String unmatched = "";
+		if (unexpectedCount > 0) {
+			unmatched += "but <" + unexpectedCount + "> Messages matched no expected Message" + MessageFailures.describeShown(unexpectedCount, unexpected)
+					+ ":%n" + describe("index", unexpected);
+		}
+		if (missingCount > 0) {
+			unmatched += (unexpectedCount > 0 ? "and" : "but") + " <" + missingCount + "> expected Messages matched no Message"
+					+ MessageFailures.describeShown(missingCount, missing) + ":%n" + describe("expected index", missing);
+		}
+		return new ShouldHaveSameFingerprints("Expecting the fingerprints of the <" + messageCount + "> Messages to be the same as those of the <"
+				+ expectedCount + "> expected Messages", ignoredTags, unmatched);
+	}
+
+	public static ErrorMessageFactory shouldContainFingerprints(int messageCount, int expectedCount, TagSet ignoredTags, int missingCount,
+			Map<Integer, ?> missing) {
+		return new ShouldHaveSameFingerprints("Expecting the fingerprints of the <" + messageCount + "> Messages to contain those of the <"
+				+ expectedCount + "> expected Messages", ignoredTags,
+				"but <" + missingCount + "> expected Messages matched no Message" + MessageFailures.describeShown(missingCount, missing)
+						+ ":%n" + describe("expected index", missing));
+	}
+
+	private static String describe(String label, Map<Integer, ?> fingerprintsByIndex) {
+		StringBuilder description = new StringBuilder();
+		for (Map.Entry<Integer, ?> fingerprint : fingerprintsByIndex.entrySet()) {
+			description.append("  ").append(label).append(" <").append(fingerprint.getKey()).append(">: ")
+					.append(fingerprint.getValue()).append("%n");
+		}
+		return description.toString();
+	}
+}
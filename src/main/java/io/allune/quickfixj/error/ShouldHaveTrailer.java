@@ -28,6 +28,6 @@ public class ShouldHaveTrailer extends BasicErrorMessageFactory {
 	}
 
 	public static ErrorMessageFactory shouldHaveTrailer(Object message) {
-		return new ShouldHaveTrailer(message);
+		return new ShouldHaveTrailer(MessageExcerpt.of(message));
 	}
 }
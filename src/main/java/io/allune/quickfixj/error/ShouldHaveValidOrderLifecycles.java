@@ -0,0 +1,44 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.error;
+
+import io.allune.quickfixj.internal.OrderLifecycleTracker;
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * @author Eduardo Sanchez-Ros
+ */
+public class ShouldHaveValidOrderLifecycles extends BasicErrorMessageFactory {
+
+	private ShouldHaveValidOrderLifecycles(OrderLifecycleTracker tracker) {
+		super("Expecting the lifecycles of all <" + tracker.getOrderCount() + "> orders to be valid over <"
+				+ tracker.getExecutionReportCount() + "> ExecutionReports%n"
+				+ "but found <" + tracker.getAnomalyCount() + "> anomalies"
+				+ (tracker.getAnomalyCount() > tracker.getAnomalies().size() ? ", showing the first <" + tracker.getAnomalies().size() + ">" : "")
+				+ ":%n"
+				+ describe(tracker));
+	}
+
+	public static ErrorMessageFactory shouldHaveValidOrderLifecycles(OrderLifecycleTracker tracker) {
+		return new ShouldHaveValidOrderLifecycles(tracker);
+	}
+
+	private static String describe(OrderLifecycleTracker tracker) {
+		StringBuilder description = new StringBuilder();
+		for (String anomaly : tracker.getAnomalies()) {
+			description.append(" ").append(anomaly.replace("%", "%%")).append("%n");
+		}
+		return description.toString();
+	}
+}
@@ -14,6 +14,7 @@ package io.allune.quickfixj.error;
 
 import org.assertj.core.error.BasicErrorMessageFactory;
 import org.assertj.core.error.ErrorMessageFactory;
+import quickfix.field.BeginString;
 
 /**
  * @author Eduardo Sanchez-Ros
@@ -30,6 +31,6 @@ public class ShouldHaveVersionEqualTo extends BasicErrorMessageFactory {
 	}
 
 	public static ErrorMessageFactory shouldHaveVersionEqualTo(Object message, Object actualVersion, Object expectedVersion) {
-		return new ShouldHaveVersionEqualTo(message, actualVersion, expectedVersion);
+		return new ShouldHaveVersionEqualTo(MessageExcerpt.of(message, BeginString.FIELD), actualVersion, expectedVersion);
 	}
 }
@@ -0,0 +1,57 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.error;
+
+import io.allune.quickfixj.internal.MessageEquality.Difference;
+import io.allune.quickfixj.internal.TagSet;
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+import static io.allune.quickfixj.error.ShouldBeEqualMessage.valueOrMissing;
+
+/**
+ * @author Eduardo Sanchez-Ros
+ */
+public class ShouldMatchSnapshot extends BasicErrorMessageFactory {
+
+	private ShouldMatchSnapshot(Object actual, String name, Object file, String updateProperty) {
+		super("Expecting Message:%n"
+				+ " <%s>%n"
+				+ "to match snapshot <%s> in:%n"
+				+ " <%s>%n"
+				+ "but there is no such snapshot, run with -D" + updateProperty + "=true to record it.", actual, name, file);
+	}
+
+	private ShouldMatchSnapshot(Object actual, Object expected, String name, Difference difference, TagSet ignoredTags) {
+		super("Expecting Message:%n"
+				+ " <%s>%n"
+				+ "to match snapshot <%s>:%n"
+				+ " <%s>%n"
+				+ (ignoredTags.isEmpty() ? "" : "ignoring tags " + ignoredTags + "%n")
+				+ "but " + difference.getLocation() + " differs at tag <%s>:%n"
+				+ "expected:%n"
+				+ " <%s>%n"
+				+ "but was:%n"
+				+ " <%s>", actual, name, expected, difference.getTag(),
+				valueOrMissing(difference.getExpectedValue()), valueOrMissing(difference.getActualValue()));
+	}
+
+	public static ErrorMessageFactory shouldHaveSnapshot(Object actual, String name, Object file, String updateProperty) {
+		return new ShouldMatchSnapshot(MessageExcerpt.of(actual), name, file, updateProperty);
+	}
+
+	public static ErrorMessageFactory shouldMatchSnapshot(Object actual, Object snapshot, String name, Difference difference, TagSet ignoredTags) {
+		return new ShouldMatchSnapshot(MessageExcerpt.of(actual, difference.getTag()), MessageExcerpt.of(snapshot, difference.getTag()),
+				name, difference, ignoredTags);
+	}
+}
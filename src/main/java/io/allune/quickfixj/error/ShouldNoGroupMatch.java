@@ -0,0 +1,34 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+import java.util.Map;
+
+/**
+ * @author Eduardo Sanchez-Ros
+ */
+public class ShouldNoGroupMatch extends BasicErrorMessageFactory {
+
+	private ShouldNoGroupMatch(int groupTag, int entryCount, int matchCount, Map<Integer, ?> matchingEntries) {
+		super("Expecting none of the <" + entryCount + "> entries of repeating group with tag <" + groupTag + "> to match the predicate%n"
+				+ "but <" + matchCount + "> did" + MessageFailures.describeShown(matchCount, matchingEntries) + ":%n"
+				+ MessageFailures.describeEntries(matchingEntries), MessageFailures.entryArguments(matchingEntries));
+	}
+
+	public static ErrorMessageFactory shouldNoGroupMatch(int groupTag, int entryCount, int matchCount, Map<Integer, ?> matchingEntries) {
+		return new ShouldNoGroupMatch(groupTag, entryCount, matchCount, matchingEntries);
+	}
+}
@@ -0,0 +1,48 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+import java.util.List;
+
+/**
+ * @author Eduardo Sanchez-Ros
+ */
+public class ShouldNoneSatisfy extends BasicErrorMessageFactory {
+
+	private ShouldNoneSatisfy(long messageCount, List<? extends Number> satisfyingIndexes) {
+		super("Expecting none of the <" + messageCount + "> Messages to satisfy the requirements%n"
+				+ "but the Messages at indexes <" + satisfyingIndexes + "> did.");
+	}
+
+	private ShouldNoneSatisfy(long messageCount, long satisfyingCount, List<? extends Number> satisfyingIndexes) {
+		super("Expecting none of the <" + messageCount + "> Messages to satisfy the requirements%n"
+				+ "but <" + satisfyingCount + "> did, the first ones at indexes <" + satisfyingIndexes + ">.");
+	}
+
+	public static ErrorMessageFactory shouldNoneSatisfy(int messageCount, int satisfyingCount, List<Integer> satisfyingIndexes) {
+		if (satisfyingCount == satisfyingIndexes.size()) {
+			return new ShouldNoneSatisfy(messageCount, satisfyingIndexes);
+		}
+		return new ShouldNoneSatisfy(messageCount, satisfyingCount, satisfyingIndexes);
+	}
+
+	public static ErrorMessageFactory shouldNoneSatisfy(long messageCount, long satisfyingCount, List<Long> satisfyingIndexes) {
+		if (satisfyingCount == satisfyingIndexes.size()) {
+			return new ShouldNoneSatisfy(messageCount, satisfyingIndexes);
+		}
+		return new ShouldNoneSatisfy(messageCount, satisfyingCount, satisfyingIndexes);
+	}
+}
@@ -0,0 +1,35 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.error;
+
+import io.allune.quickfixj.internal.TagSet;
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * @author Eduardo Sanchez-Ros
+ */
+public class ShouldNotBeEqualMessage extends BasicErrorMessageFactory {
+
+	private ShouldNotBeEqualMessage(Object actual, Object other, TagSet ignoredTags) {
+		super("Expecting Message:%n"
+				+ " <%s>%n"
+				+ "not to be equal to:%n"
+				+ " <%s>"
+				+ (ignoredTags.isEmpty() ? "" : "%nignoring tags " + ignoredTags), actual, other);
+	}
+
+	public static ErrorMessageFactory shouldNotBeEqualMessage(Object actual, Object other, TagSet ignoredTags) {
+		return new ShouldNotBeEqualMessage(actual, other, ignoredTags);
+	}
+}
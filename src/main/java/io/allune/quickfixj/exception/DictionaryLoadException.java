@@ -13,11 +13,13 @@
 package io.allune.quickfixj.exception;
 
 /**
+ * Thrown when a QuickFIX/J dictionary cannot be loaded, e.g. because it is not on the classpath or is malformed.
+ *
  * @author Eduardo Sanchez-Ros
  */
-public final class ThrownByLambdaException extends RuntimeException {
+public class DictionaryLoadException extends RuntimeException {
 
-	public ThrownByLambdaException(final Throwable cause) {
-		super(cause);
+	public DictionaryLoadException(String message, Throwable throwable) {
+		super(message, throwable);
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,151 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The requests of a stream of Messages and the positions of their responses: each request is either matched, with
+ * the number of Messages between it and its response, or an orphan that was never answered.
+ * <p>
+ * A matched request times out when more Messages than the given window separate it from its response; the
+ * distances are kept so that any window can be asked for without reading the stream again.
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+public final class Correlation {
+
+	/**
+	 * No limit on the distance between a request and its response.
+	 */
+	public static final long UNLIMITED = Long.MAX_VALUE;
+
+	static final int MAX_REPORTED_INDEXES = 20;
+
+	private static final int INITIAL_CAPACITY = 64;
+
+	private long requestCount;
+
+	private long[] matchedRequestIndexes = new long[INITIAL_CAPACITY];
+
+	private long[] distances = new long[INITIAL_CAPACITY];
+
+	private int matchedCount;
+
+	private long[] orphanRequestIndexes = new long[INITIAL_CAPACITY];
+
+	private int orphanCount;
+
+	private List<Long> orphanIndexes = Collections.emptyList();
+
+	Correlation() {
+	}
+
+	void addRequest() {
+		requestCount++;
+	}
+
+	void addMatch(long requestIndex, long responseIndex) {
+		if (matchedCount == distances.length) {
+			matchedRequestIndexes = Arrays.copyOf(matchedRequestIndexes, matchedCount * 2);
+			distances = Arrays.copyOf(distances, matchedCount * 2);
+		}
+		matchedRequestIndexes[matchedCount] = requestIndex;
+		distances[matchedCount] = responseIndex - requestIndex;
+		matchedCount++;
+	}
+
+	/**
+	 * @param requestIndex the index of a request that will never be answered, its key having been reused.
+	 */
+	void addOrphan(long requestIndex) {
+		if (orphanCount == orphanRequestIndexes.length) {
+			orphanRequestIndexes = Arrays.copyOf(orphanRequestIndexes, orphanCount * 2);
+		}
+		orphanRequestIndexes[orphanCount++] = requestIndex;
+	}
+
+	/**
+	 * Adds the requests left unanswered at the end of the stream and keeps the first orphans by index, those whose
+	 * key was reused being found out of order.
+	 *
+	 * @param pendingRequests the index of each request left unanswered at the end of the stream, by key.
+	 */
+	void addOrphans(StringLongMap pendingRequests) {
+		pendingRequests.forEach((key, index) -> addOrphan(index));
+		Arrays.sort(orphanRequestIndexes, 0, orphanCount);
+		List<Long> firstIndexes = new ArrayList<>();
+		for (int i = 0; i < orphanCount && i < MAX_REPORTED_INDEXES; i++) {
+			firstIndexes.add(orphanRequestIndexes[i]);
+		}
+		orphanIndexes = Collections.unmodifiableList(firstIndexes);
+	}
+
+	public long getRequestCount() {
+		return requestCount;
+	}
+
+	/**
+	 * @param window the largest number of Messages between a request and its response.
+	 * @return the number of requests answered within the window.
+	 */
+	public long getMatchedCount(long window) {
+		long count = 0;
+		for (int i = 0; i < matchedCount; i++) {
+			if (distances[i] <= window) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * @param window the largest number of Messages between a request and its response.
+	 * @return the number of requests answered after the window.
+	 */
+	public long getTimeoutCount(long window) {
+		return matchedCount - getMatchedCount(window);
+	}
+
+	/**
+	 * @param window the largest number of Messages between a request and its response.
+	 * @return the indexes of the first requests answered after the window.
+	 */
+	public List<Long> getTimeoutIndexes(long window) {
+		List<Long> indexes = new ArrayList<>();
+		for (int i = 0; i < matchedCount && indexes.size() < MAX_REPORTED_INDEXES; i++) {
+			if (distances[i] > window) {
+				indexes.add(matchedRequestIndexes[i]);
+			}
+		}
+		Collections.sort(indexes);
+		return indexes;
+	}
+
+	/**
+	 * @return the number of requests never answered.
+	 */
+	public long getOrphanCount() {
+		return orphanCount;
+	}
+
+	/**
+	 * @return the indexes of the first requests never answered.
+	 */
+	public List<Long> getOrphanIndexes() {
+		return orphanIndexes;
+	}
+}
@@ -0,0 +1,163 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.internal;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.Failures;
+import org.assertj.core.internal.Objects;
+import quickfix.Message;
+import quickfix.field.MsgType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static io.allune.quickfixj.error.ShouldHaveCorrelations.shouldAllBeAnswered;
+import static io.allune.quickfixj.error.ShouldHaveCorrelations.shouldHaveMatchedCount;
+import static io.allune.quickfixj.error.ShouldHaveCorrelations.shouldHaveOrphanCount;
+import static io.allune.quickfixj.error.ShouldHaveCorrelations.shouldHaveRequestCount;
+import static io.allune.quickfixj.error.ShouldHaveCorrelations.shouldHaveTimeoutCount;
+import static io.allune.quickfixj.internal.RawFieldValues.isString;
+
+/**
+ * Correlates requests with their responses in a stream of Messages and asserts on the outcome.
+ * <p>
+ * As the stream is read, the index of each pending request is kept in a {@link StringLongMap} by the value of the
+ * key field, e.g. ClOrdID, QuoteReqID, MDReqID or TestReqID, and the first following response of one of the
+ * response MsgTypes with the same value answers it. Each Message is looked up once, so the stream is read in linear
+ * time whatever the number of pending requests. A request whose key is reused before it is answered is an orphan.
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+public class Correlations {
+
+	private static final Correlations INSTANCE = new Correlations();
+
+	private static final long NO_REQUEST = -1;
+
+	private final Failures failures = Failures.instance();
+
+	private final Objects objects = Objects.instance();
+
+	Correlations() {
+	}
+
+	public static Correlations instance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * @param actual           the Messages.
+	 * @param indexes          the index of each Message in the original batch, the distances being counted in it.
+	 * @param requestMsgType   the MsgType of the requests.
+	 * @param keyTag           the tag of the field correlating a response with its request.
+	 * @param responseMsgTypes the MsgTypes of the responses.
+	 * @return the correlation.
+	 */
+	public Correlation correlate(List<Message> actual, int[] indexes, String requestMsgType, int keyTag, String... responseMsgTypes) {
+		return correlate(MessageCursor.of(actual, indexes), requestMsgType, keyTag, responseMsgTypes);
+	}
+
+	/**
+	 * @param actual the message log.
+	 * @see #correlate(List, int[], String, int, String...)
+	 */
+	public Correlation correlate(Path actual, String requestMsgType, int keyTag, String... responseMsgTypes) {
+		try (MessageCursor cursor = MessageCursor.open(actual, null)) {
+			return correlate(cursor, requestMsgType, keyTag, responseMsgTypes);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	public void assertRequestCount(AssertionInfo info, Correlation actual, long expectedRequestCount) {
+		objects.assertNotNull(info, actual);
+		if (actual.getRequestCount() != expectedRequestCount) {
+			throw failures.failure(info, shouldHaveRequestCount(actual, expectedRequestCount));
+		}
+	}
+
+	public void assertMatchedCount(AssertionInfo info, Correlation actual, long window, long expectedMatchedCount) {
+		objects.assertNotNull(info, actual);
+		if (actual.getMatchedCount(window) != expectedMatchedCount) {
+			throw failures.failure(info, shouldHaveMatchedCount(actual, window, expectedMatchedCount));
+		}
+	}
+
+	public void assertOrphanCount(AssertionInfo info, Correlation actual, long expectedOrphanCount) {
+		objects.assertNotNull(info, actual);
+		if (actual.getOrphanCount() != expectedOrphanCount) {
+			throw failures.failure(info, shouldHaveOrphanCount(actual, expectedOrphanCount));
+		}
+	}
+
+	public void assertTimeoutCount(AssertionInfo info, Correlation actual, long window, long expectedTimeoutCount) {
+		objects.assertNotNull(info, actual);
+		if (actual.getTimeoutCount(window) != expectedTimeoutCount) {
+			throw failures.failure(info, shouldHaveTimeoutCount(actual, window, expectedTimeoutCount));
+		}
+	}
+
+	public void assertAllAnswered(AssertionInfo info, Correlation actual, long window) {
+		objects.assertNotNull(info, actual);
+		if (actual.getOrphanCount() > 0 || actual.getTimeoutCount(window) > 0) {
+			throw failures.failure(info, shouldAllBeAnswered(actual, window));
+		}
+	}
+
+	private static Correlation correlate(MessageCursor cursor, String requestMsgType, int keyTag, String[] responseMsgTypes) {
+		Correlation correlation = new Correlation();
+		StringLongMap pendingRequests = new StringLongMap();
+		while (cursor.next()) {
+			CharSequence msgType = cursor.getValue(MsgType.FIELD);
+			boolean request = isString(msgType, requestMsgType);
+			if (!request && !isAnyOf(responseMsgTypes, msgType)) {
+				continue;
+			}
+			CharSequence key = cursor.getValue(keyTag);
+			if (key == null) {
+				if (request) {
+					correlation.addRequest();
+					correlation.addOrphan(cursor.getIndex());
+				}
+				continue;
+			}
+
+			if (request) {
+				correlation.addRequest();
+				long previousRequest = pendingRequests.get(key, NO_REQUEST);
+				if (previousRequest != NO_REQUEST) {
+					correlation.addOrphan(previousRequest);
+				}
+				pendingRequests.put(key, cursor.getIndex());
+			} else {
+				long requestIndex = pendingRequests.remove(key, NO_REQUEST);
+				if (requestIndex != NO_REQUEST) {
+					correlation.addMatch(requestIndex, cursor.getIndex());
+				}
+			}
+		}
+		correlation.addOrphans(pendingRequests);
+		return correlation;
+	}
+
+	private static boolean isAnyOf(String[] msgTypes, CharSequence msgType) {
+		for (String candidate : msgTypes) {
+			if (isString(msgType, candidate)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
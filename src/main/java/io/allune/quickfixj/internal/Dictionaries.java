@@ -12,20 +12,71 @@
  */
 package io.allune.quickfixj.internal;
 
+import io.allune.quickfixj.exception.DictionaryLoadException;
+import quickfix.ConfigError;
 import quickfix.DataDictionary;
-import quickfix.DefaultDataDictionaryProvider;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.lang.String.format;
 
 /**
+ * Resolves the {@link DataDictionary} used for a BeginString.
+ * <p>
+ * The global instance loads the QuickFIX/J dictionaries on first use and caches them in a {@link DictionaryRegistry}.
+ * Loading a large dictionary (FIX50SP2 especially) takes seconds, so {@link #preload(String...)} can load a set of
+ * versions in parallel at suite start rather than on the thread of the first assertion.
+ * <p>
+ * Scoped instances created with {@link #withDataDictionary(String, DataDictionary)} override dictionaries for a
+ * single assertion without affecting the global instance, so tests using different custom dictionaries can run in
+ * parallel.
+ * <p>
+ * Setting the {@value #SNAPSHOT_DIRECTORY_PROPERTY} system property makes the global instance read the dictionaries
+ * from binary {@link DictionarySnapshot}s, avoiding the XML parse on every cold JVM start.
+ *
  * @author Eduardo Sanchez-Ros
  */
 public class Dictionaries {
 
-	private static final Dictionaries INSTANCE = new Dictionaries();
+	/**
+	 * System property naming a directory where snapshots of the QuickFIX/J dictionaries are kept between runs.
+	 */
+	public static final String SNAPSHOT_DIRECTORY_PROPERTY = "assertj.quickfixj.dictionarySnapshotDir";
+
+	private static final Dictionaries INSTANCE = new Dictionaries(null);
 
-	private static final DefaultDataDictionaryProvider dataDictionaryProvider = new DefaultDataDictionaryProvider();
+	private final Dictionaries parent;
 
-	private Dictionaries() {
-		//
+	private final DictionaryRegistry registry = new DictionaryRegistry();
+
+	/**
+	 * The loads of QuickFIX/J dictionaries started by the global instance, so that threads using a dictionary for the
+	 * first time concurrently wait for a single load. Failed loads are removed so that they can be retried.
+	 */
+	private final ConcurrentMap<String, CompletableFuture<DictionaryRegistry.Entry>> loads = new ConcurrentHashMap<>();
+
+	private Dictionaries(Dictionaries parent) {
+		this.parent = parent;
 	}
 
 	public static Dictionaries instance() {
@@ -33,10 +84,311 @@ public class Dictionaries {
 	}
 
 	public DataDictionary getSessionDataDictionary(String beginString) {
-		return dataDictionaryProvider.getSessionDataDictionary(beginString);
+		return getEntry(beginString).getDataDictionary();
+	}
+
+	/**
+	 * Returns the {@link FieldValueTable} of the session dictionary for the given BeginString, compiling it the first
+	 * time the dictionary is used.
+	 *
+	 * @param beginString the BeginString.
+	 * @return the compiled {@link FieldValueTable}.
+	 */
+	public FieldValueTable getFieldValueTable(String beginString) {
+		return getEntry(beginString).getFieldValueTable();
 	}
 
+	/**
+	 * Registers the dictionary for the BeginString in this instance. On the global instance this affects every
+	 * assertion in the JVM; prefer {@link #withDataDictionary(String, DataDictionary)} to scope it.
+	 *
+	 * @param beginString    the BeginString.
+	 * @param dataDictionary the dictionary.
+	 */
 	public void addDataDictionary(String beginString, DataDictionary dataDictionary) {
-		dataDictionaryProvider.addTransportDictionary(beginString, dataDictionary);
+		registry.register(beginString, dataDictionary);
+	}
+
+	/**
+	 * Creates a scoped instance that resolves the BeginString to the given dictionary and delegates any other
+	 * BeginString to this instance.
+	 *
+	 * @param beginString    the BeginString.
+	 * @param dataDictionary the dictionary.
+	 * @return the scoped instance.
+	 */
+	public Dictionaries withDataDictionary(String beginString, DataDictionary dataDictionary) {
+		Dictionaries scoped = new Dictionaries(this);
+		scoped.registry.register(beginString, dataDictionary);
+		return scoped;
+	}
+
+	private DictionaryRegistry.Entry getEntry(String beginString) {
+		DictionaryRegistry.Entry entry = registry.get(beginString);
+		if (entry != null) {
+			return entry;
+		}
+		if (parent != null) {
+			return parent.getEntry(beginString);
+		}
+		CompletableFuture<DictionaryRegistry.Entry> load = new CompletableFuture<>();
+		CompletableFuture<DictionaryRegistry.Entry> existing = loads.putIfAbsent(beginString, load);
+		return existing != null ? await(existing) : completeLoad(beginString, load);
+	}
+
+	private DictionaryRegistry.Entry completeLoad(String beginString, CompletableFuture<DictionaryRegistry.Entry> load) {
+		try {
+			DictionaryRegistry.Entry entry = registry.registerIfAbsent(createEntry(beginString));
+			load.complete(entry);
+			return entry;
+		} catch (RuntimeException e) {
+			loads.remove(beginString, load);
+			load.completeExceptionally(e);
+			throw e;
+		}
+	}
+
+	private static DictionaryRegistry.Entry await(CompletableFuture<DictionaryRegistry.Entry> load) {
+		try {
+			return load.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Returns the MsgType of a message name, e.g. {@code D} for {@code NewOrderSingle}, without loading the full
+	 * dictionary when a snapshot is registered for the BeginString.
+	 *
+	 * @param beginString the BeginString.
+	 * @param msgTypeName the message name.
+	 * @return the MsgType or {@code null} if the message is not defined.
+	 */
+	public String getMsgType(String beginString, String msgTypeName) {
+		return getEntry(beginString).getMsgType(msgTypeName);
+	}
+
+	/**
+	 * Writes a binary snapshot of the QuickFIX/J dictionary for the BeginString, which
+	 * {@link #loadSnapshot(Path)} opens much faster than the dictionary XML can be parsed.
+	 *
+	 * @param beginString the BeginString.
+	 * @param file        the snapshot file; parent directories are created if needed.
+	 * @throws IOException if the snapshot cannot be written.
+	 */
+	public void saveSnapshot(String beginString, Path file) throws IOException {
+		String location = dictionaryLocation(beginString);
+		DataDictionary dataDictionary = getSessionDataDictionary(beginString);
+		try (InputStream dictionaryXml = openDictionaryXml(location)) {
+			DictionarySnapshotWriter.write(beginString, dataDictionary, dictionaryXml, file);
+		}
+	}
+
+	/**
+	 * Registers the dictionary of a snapshot written by {@link #saveSnapshot(String, Path)} in this instance. Field
+	 * types and message names are then read from the snapshot; the full dictionary is only loaded when an assertion
+	 * needs it, e.g. to validate a message.
+	 *
+	 * @param file the snapshot file.
+	 * @return the snapshot.
+	 * @throws IOException              if the snapshot cannot be read.
+	 * @throws IllegalArgumentException if the snapshot was written with another QuickFIX/J version or from another
+	 *                                  version of the dictionary on the classpath.
+	 */
+	public DictionarySnapshot loadSnapshot(Path file) throws IOException {
+		DictionarySnapshot snapshot = DictionarySnapshot.open(file);
+		snapshot.checkCurrent(dictionaryDigest(snapshot.getBeginString()));
+		registry.register(new DictionaryRegistry.Entry(snapshot, () -> loadDataDictionary(snapshot.getBeginString())));
+		return snapshot;
+	}
+
+	/**
+	 * Creates the entry of a QuickFIX/J dictionary. When the {@value #SNAPSHOT_DIRECTORY_PROPERTY} system property is
+	 * set, the dictionary is read from its snapshot in that directory, which is written the first time it is missing.
+	 */
+	private static DictionaryRegistry.Entry createEntry(String beginString) {
+		String snapshotDirectory = System.getProperty(SNAPSHOT_DIRECTORY_PROPERTY);
+		if (snapshotDirectory == null) {
+			return new DictionaryRegistry.Entry(beginString, loadDataDictionary(beginString));
+		}
+
+		Path file = Paths.get(snapshotDirectory, beginString.replace(".", "") + ".snapshot");
+		if (Files.isRegularFile(file)) {
+			try {
+				DictionarySnapshot snapshot = DictionarySnapshot.open(file);
+				snapshot.checkCurrent(dictionaryDigest(beginString));
+				if (beginString.equals(snapshot.getBeginString())) {
+					return new DictionaryRegistry.Entry(snapshot, () -> loadDataDictionary(beginString));
+				}
+			} catch (IOException | RuntimeException e) {
+				// unreadable or stale snapshot, rewritten below
+			}
+		}
+
+		DataDictionary dataDictionary = loadDataDictionary(beginString);
+		try (InputStream dictionaryXml = openDictionaryXml(dictionaryLocation(beginString))) {
+			DictionarySnapshotWriter.write(beginString, dataDictionary, dictionaryXml, file);
+		} catch (IOException e) {
+			// the snapshot is only a cache, the loaded dictionary is used regardless
+		}
+		return new DictionaryRegistry.Entry(beginString, dataDictionary);
+	}
+
+	/**
+	 * @param beginString the BeginString.
+	 * @return {@code true} if the dictionary for the BeginString is resolved without loading it.
+	 */
+	public boolean isLoaded(String beginString) {
+		return registry.contains(beginString) || (parent != null && parent.isLoaded(beginString));
+	}
+
+	/**
+	 * Loads the dictionaries for the given BeginStrings in parallel on a background pool and waits for them.
+	 * <p>
+	 * Typically called once at suite start, e.g. from a {@code @BeforeClass} method:
+	 * <pre>
+	 * 	<code class='java'>
+	 * 		DictionaryWarmUp.preload(FixVersions.BEGINSTRING_FIX44, FixVersions.FIX50SP2);
+	 * 	</code>
+	 * </pre>
+	 *
+	 * @param beginStrings the BeginStrings, e.g. {@code FIX.4.4} or {@code FIX.5.0SP2}.
+	 * @return the load times of the dictionaries.
+	 */
+	public DictionaryLoadReport preload(String... beginStrings) {
+		return preloadAsync(beginStrings).join();
+	}
+
+	/**
+	 * Loads the dictionaries for the given BeginStrings in parallel on a background pool without waiting for them.
+	 *
+	 * @param beginStrings the BeginStrings, e.g. {@code FIX.4.4} or {@code FIX.5.0SP2}.
+	 * @return a future completed with the load times of the dictionaries once all of them are loaded or failed.
+	 */
+	public CompletableFuture<DictionaryLoadReport> preloadAsync(String... beginStrings) {
+		long start = System.nanoTime();
+		ExecutorService executor = newLoaderPool(beginStrings.length);
+
+		List<CompletableFuture<LoadResult>> loads = new ArrayList<>();
+		for (String beginString : new LinkedHashSet<>(Arrays.asList(beginStrings))) {
+			loads.add(CompletableFuture.supplyAsync(() -> load(beginString), executor)
+					.handle((result, failure) -> result != null ? result : LoadResult.failed(beginString, failure)));
+		}
+
+		return CompletableFuture.allOf(loads.toArray(new CompletableFuture<?>[0]))
+				.thenApply(ignored -> toReport(loads, Duration.ofNanos(System.nanoTime() - start)))
+				.whenComplete((report, failure) -> executor.shutdown());
+	}
+
+	/**
+	 * Loads the dictionary unless it is registered or another thread is loading it, in which case the dictionary is
+	 * reported as already loaded once that load completes.
+	 */
+	private LoadResult load(String beginString) {
+		if (registry.contains(beginString)) {
+			return LoadResult.alreadyLoaded(beginString);
+		}
+		if (parent != null) {
+			return parent.load(beginString);
+		}
+		CompletableFuture<DictionaryRegistry.Entry> load = new CompletableFuture<>();
+		CompletableFuture<DictionaryRegistry.Entry> existing = loads.putIfAbsent(beginString, load);
+		if (existing != null) {
+			await(existing);
+			return LoadResult.alreadyLoaded(beginString);
+		}
+		long start = System.nanoTime();
+		completeLoad(beginString, load);
+		return LoadResult.loaded(beginString, Duration.ofNanos(System.nanoTime() - start));
+	}
+
+	private static DictionaryLoadReport toReport(List<CompletableFuture<LoadResult>> loads, Duration totalTime) {
+		Map<String, Duration> loadTimes = new LinkedHashMap<>();
+		Set<String> alreadyLoaded = new LinkedHashSet<>();
+		Map<String, Throwable> failures = new LinkedHashMap<>();
+		for (CompletableFuture<LoadResult> load : loads) {
+			LoadResult result = load.join();
+			if (result.failure != null) {
+				failures.put(result.beginString, result.failure);
+			} else if (result.loadTime == null) {
+				alreadyLoaded.add(result.beginString);
+			} else {
+				loadTimes.put(result.beginString, result.loadTime);
+			}
+		}
+		return new DictionaryLoadReport(loadTimes, alreadyLoaded, failures, totalTime);
+	}
+
+	private static ExecutorService newLoaderPool(int dictionaryCount) {
+		int threads = Math.max(1, Math.min(dictionaryCount, Runtime.getRuntime().availableProcessors()));
+		AtomicInteger threadNumber = new AtomicInteger();
+		return Executors.newFixedThreadPool(threads, runnable -> {
+			Thread thread = new Thread(runnable, "assertj-quickfixj-dictionary-loader-" + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Loads the QuickFIX/J dictionary for the BeginString from the classpath, e.g. {@code FIX44.xml} for
+	 * {@code FIX.4.4}. Dictionaries are loaded directly rather than through a {@code DefaultDataDictionaryProvider}
+	 * so that several of them can be loaded in parallel.
+	 */
+	private static DataDictionary loadDataDictionary(String beginString) {
+		String location = dictionaryLocation(beginString);
+		try {
+			return new DataDictionary(location);
+		} catch (ConfigError configError) {
+			throw new DictionaryLoadException(format("Could not load dictionary %s for %s", location, beginString), configError);
+		}
+	}
+
+	private static String dictionaryLocation(String beginString) {
+		return beginString.replace(".", "") + ".xml";
+	}
+
+	private static String dictionaryDigest(String beginString) throws IOException {
+		try (InputStream dictionaryXml = openDictionaryXml(dictionaryLocation(beginString))) {
+			return DictionarySnapshot.digest(dictionaryXml);
+		}
+	}
+
+	private static InputStream openDictionaryXml(String location) throws IOException {
+		InputStream dictionaryXml = Dictionaries.class.getClassLoader().getResourceAsStream(location);
+		if (dictionaryXml == null) {
+			throw new FileNotFoundException(location + " not found on the classpath");
+		}
+		return dictionaryXml;
+	}
+
+	private static final class LoadResult {
+
+		private final String beginString;
+
+		private final Duration loadTime;
+
+		private final Throwable failure;
+
+		private LoadResult(String beginString, Duration loadTime, Throwable failure) {
+			this.beginString = beginString;
+			this.loadTime = loadTime;
+			this.failure = failure;
+		}
+
+		static LoadResult loaded(String beginString, Duration loadTime) {
+			return new LoadResult(beginString, loadTime, null);
+		}
+
+		static LoadResult alreadyLoaded(String beginString) {
+			return new LoadResult(beginString, null, null);
+		}
+
+		static LoadResult failed(String beginString, Throwable failure) {
+			Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+			return new LoadResult(beginString, null, cause);
+		}
 	}
 }
@@ -0,0 +1,86 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.internal;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Outcome of {@link Dictionaries#preload(String...)}: how long each dictionary took to load, which ones were already
+ * loaded and which ones failed.
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+public final class DictionaryLoadReport {
+
+	private final Map<String, Duration> loadTimes;
+
+	private final Set<String> alreadyLoaded;
+
+	private final Map<String, Throwable> failures;
+
+	private final Duration totalTime;
+
+	DictionaryLoadReport(Map<String, Duration> loadTimes, Set<String> alreadyLoaded, Map<String, Throwable> failures, Duration totalTime) {
+		this.loadTimes = Collections.unmodifiableMap(loadTimes);
+		this.alreadyLoaded = Collections.unmodifiableSet(alreadyLoaded);
+		this.failures = Collections.unmodifiableMap(failures);
+		this.totalTime = totalTime;
+	}
+
+	/**
+	 * @return the load time of each dictionary loaded by the preload, keyed by BeginString.
+	 */
+	public Map<String, Duration> getLoadTimes() {
+		return loadTimes;
+	}
+
+	/**
+	 * @return the BeginStrings whose dictionaries were already loaded before the preload.
+	 */
+	public Set<String> getAlreadyLoaded() {
+		return alreadyLoaded;
+	}
+
+	/**
+	 * @return the cause of each failed load, keyed by BeginString.
+	 */
+	public Map<String, Throwable> getFailures() {
+		return failures;
+	}
+
+	public boolean hasFailures() {
+		return !failures.isEmpty();
+	}
+
+	/**
+	 * @return the wall-clock time of the whole preload.
+	 */
+	public Duration getTotalTime() {
+		return totalTime;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder("Loaded dictionaries in ").append(totalTime.toMillis()).append(" ms");
+		loadTimes.forEach((beginString, loadTime) ->
+				builder.append(String.format("%n  %s: %d ms", beginString, loadTime.toMillis())));
+		alreadyLoaded.forEach(beginString ->
+				builder.append(String.format("%n  %s: already loaded", beginString)));
+		failures.forEach((beginString, failure) ->
+				builder.append(String.format("%n  %s: failed (%s)", beginString, failure.getMessage())));
+		return builder.toString();
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.internal;
+
+import quickfix.DataDictionary;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Copy-on-write registry of {@link DataDictionary}s keyed by BeginString.
+ * <p>
+ * Lookups read an immutable snapshot and never lock; registrations copy the snapshot and publish it atomically, so
+ * dictionaries can be registered and looked up concurrently, e.g. by test classes running in parallel.
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+public final class DictionaryRegistry {
+
+	private final AtomicReference<Map<String, Entry>> entries = new AtomicReference<>(Collections.emptyMap());
+
+	/**
+	 * @param beginString the BeginString.
+	 * @return the registered entry or {@code null} if there is none.
+	 */
+	Entry get(String beginString) {
+		return entries.get().get(beginString);
+	}
+
+	/**
+	 * Registers the dictionary, replacing any dictionary already registered for the BeginString.
+	 *
+	 * @param beginString    the BeginString.
+	 * @param dataDictionary the dictionary.
+	 */
+	public void register(String beginString, DataDictionary dataDictionary) {
+		register(new Entry(beginString, dataDictionary));
+	}
+
+	/**
+	 * Registers the dictionary unless a dictionary is already registered for the BeginString.
+	 *
+	 * @param beginString    the BeginString.
+	 * @param dataDictionary the dictionary.
+	 * @return the entry registered for the BeginString once this call returns.
+	 */
+	Entry registerIfAbsent(String beginString, DataDictionary dataDictionary) {
+		return registerIfAbsent(new Entry(beginString, dataDictionary));
+	}
+
+	/**
+	 * Registers the entry unless an entry is already registered for its BeginString.
+	 *
+	 * @param entry the entry.
+	 * @return the entry registered for the BeginString once this call returns.
+	 */
+	Entry registerIfAbsent(Entry entry) {
+		Map<String, Entry> current;
+		do {
+			current = entries.get();
+			Entry existing = current.get(entry.beginString);
+			if (existing != null) {
+				return existing;
+			}
+		} while (!entries.compareAndSet(current, copyWith(current, entry)));
+		return entry;
+	}
+
+	/**
+	 * Registers the entry, replacing any entry already registered for its BeginString.
+	 *
+	 * @param entry the entry.
+	 */
+	void register(Entry entry) {
+		Map<String, Entry> current;
+		do {
+			current = entries.get();
+		} while (!entries.compareAndSet(current, copyWith(current, entry)));
+	}
+
+	/**
+	 * @param beginString the BeginString.
+	 * @return {@code true} if a dictionary is registered for the BeginString.
+	 */
+	public boolean contains(String beginString) {
+		return entries.get().containsKey(beginString);
+	}
+
+	private static Map<String, Entry> copyWith(Map<String, Entry> current, Entry entry) {
+		Map<String, Entry> updated = new HashMap<>(current);
+		updated.put(entry.beginString, entry);
+		return Collections.unmodifiableMap(updated);
+	}
+
+	/**
+	 * A registered dictionary together with its {@link FieldValueTable}, resolved on first use. The table of a
+	 * {@link DataDictionary} is shared with every other entry of the same dictionary instance.
+	 * <p>
+	 * An entry created from a {@link DictionarySnapshot} answers field types and message names from the snapshot and
+	 * only loads the full {@link DataDictionary} when it is asked for, e.g. to validate a message.
+	 */
+	static final class Entry {
+
+		private final String beginString;
+
+		private final DictionarySnapshot snapshot;
+
+		private final Supplier<DataDictionary> dataDictionaryLoader;
+
+		private volatile DataDictionary dataDictionary;
+
+		private volatile FieldValueTable fieldValueTable;
+
+		Entry(String beginString, DataDictionary dataDictionary) {
+			this.beginString = beginString;
+			this.snapshot = null;
+			this.dataDictionaryLoader = null;
+			this.dataDictionary = dataDictionary;
+		}
+
+		Entry(DictionarySnapshot snapshot, Supplier<DataDictionary> dataDictionaryLoader) {
+			this.beginString = snapshot.getBeginString();
+			this.snapshot = snapshot;
+			this.dataDictionaryLoader = dataDictionaryLoader;
+		}
+
+		DataDictionary getDataDictionary() {
+			DataDictionary loaded = dataDictionary;
+			if (loaded == null) {
+				synchronized (this) {
+					loaded = dataDictionary;
+					if (loaded == null) {
+						loaded = dataDictionaryLoader.get();
+						dataDictionary = loaded;
+					}
+				}
+			}
+			return loaded;
+		}
+
+		String getMsgType(String msgTypeName) {
+			return snapshot != null ? snapshot.getMsgType(msgTypeName) : getDataDictionary().getMsgType(msgTypeName);
+		}
+
+		FieldValueTable getFieldValueTable() {
+			FieldValueTable table = fieldValueTable;
+			if (table == null) {
+				// compiling twice on a race is harmless, both tables are identical
+				table = snapshot != null
+						? FieldValueTable.compile(snapshot.getFieldTypes(), beginString)
+						: FieldValueTable.of(dataDictionary, beginString);
+				fieldValueTable = table;
+			}
+			return table;
+		}
+	}
+}
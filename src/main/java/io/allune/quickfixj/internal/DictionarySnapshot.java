@@ -0,0 +1,432 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.internal;
+
+import quickfix.DataDictionary;
+import quickfix.FieldType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Compact binary snapshot of the parts of a {@link quickfix.DataDictionary} used by the assertions: field types and
+ * names, message types and names, required fields and group layouts.
+ * <p>
+ * The snapshot is memory-mapped when opened and decoded lazily: the field section is decoded the first time a field
+ * is looked up, the message index the first time a message is looked up, and the required fields and groups of a
+ * message only when they are asked for. Opening a snapshot is therefore much cheaper than parsing the dictionary XML,
+ * which matters when every surefire fork starts with a cold JVM. Snapshots are written by
+ * {@link Dictionaries#saveSnapshot(String, Path)}.
+ * <p>
+ * The header records the QuickFIX/J version and a digest of the dictionary XML the snapshot was written from, so
+ * that a snapshot left over from another QuickFIX/J version or an edited dictionary is rejected by
+ * {@link #checkCurrent(String)} rather than silently used.
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+public final class DictionarySnapshot {
+
+	static final int MAGIC = 0x41514644;
+
+	static final short FORMAT_VERSION = 2;
+
+	/**
+	 * The version of QuickFIX/J on the classpath, or {@code unknown} if its jar does not declare one.
+	 */
+	static final String QUICKFIXJ_VERSION = quickFixJVersion();
+
+	private static final String DIGEST_ALGORITHM = "SHA-256";
+
+	private final ByteBuffer buffer;
+
+	private final String beginString;
+
+	private final String quickFixJVersion;
+
+	private final String dictionaryDigest;
+
+	private final int fieldsOffset;
+
+	private final int messagesOffset;
+
+	private volatile Fields fields;
+
+	private volatile MessageIndex messageIndex;
+
+	private final ConcurrentMap<String, MessageLayout> messageLayouts = new ConcurrentHashMap<>();
+
+	private DictionarySnapshot(ByteBuffer buffer) {
+		this.buffer = buffer;
+		ByteBuffer in = buffer.duplicate();
+		if (in.getInt() != MAGIC) {
+			throw new IllegalArgumentException("Not a dictionary snapshot");
+		}
+		short version = in.getShort();
+		if (version != FORMAT_VERSION) {
+			throw new IllegalArgumentException("Unsupported dictionary snapshot version " + version);
+		}
+		this.beginString = readUtf(in);
+		this.quickFixJVersion = readUtf(in);
+		this.dictionaryDigest = readUtf(in);
+		int fieldsLength = in.getInt();
+		this.fieldsOffset = in.position();
+		in.position(fieldsOffset + fieldsLength);
+		in.getInt();
+		this.messagesOffset = in.position();
+	}
+
+	/**
+	 * Memory-maps the snapshot file. Only the snapshot header is decoded.
+	 *
+	 * @param file the snapshot file.
+	 * @return the snapshot.
+	 * @throws IOException if the file cannot be mapped.
+	 */
+	public static DictionarySnapshot open(Path file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			return new DictionarySnapshot(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+		}
+	}
+
+	public String getBeginString() {
+		return beginString;
+	}
+
+	/**
+	 * @return the version of QuickFIX/J the snapshot was written with.
+	 */
+	public String getQuickFixJVersion() {
+		return quickFixJVersion;
+	}
+
+	/**
+	 * @return the hex-encoded SHA-256 digest of the dictionary XML the snapshot was written from.
+	 */
+	public String getDictionaryDigest() {
+		return dictionaryDigest;
+	}
+
+	/**
+	 * Verifies that the snapshot was written with the QuickFIX/J version on the classpath from the given dictionary.
+	 *
+	 * @param dictionaryDigest the digest of the dictionary XML on the classpath, see {@link #digest(InputStream)}.
+	 * @throws IllegalArgumentException if the snapshot was written with another QuickFIX/J version or dictionary.
+	 */
+	public void checkCurrent(String dictionaryDigest) {
+		if (!QUICKFIXJ_VERSION.equals(quickFixJVersion)) {
+			throw new IllegalArgumentException("Dictionary snapshot of " + beginString + " was written with QuickFIX/J "
+					+ quickFixJVersion + " but " + QUICKFIXJ_VERSION + " is used");
+		}
+		if (!dictionaryDigest.equals(this.dictionaryDigest)) {
+			throw new IllegalArgumentException("Dictionary snapshot of " + beginString
+					+ " was written from another version of the dictionary");
+		}
+	}
+
+	/**
+	 * @param dictionaryXml the dictionary XML, read to its end but not closed.
+	 * @return the hex-encoded SHA-256 digest of the dictionary XML.
+	 * @throws IOException if the dictionary XML cannot be read.
+	 */
+	static String digest(InputStream dictionaryXml) throws IOException {
+		MessageDigest digest = newMessageDigest();
+		byte[] buffer = new byte[8192];
+		for (int read = dictionaryXml.read(buffer); read != -1; read = dictionaryXml.read(buffer)) {
+			digest.update(buffer, 0, read);
+		}
+		StringBuilder hex = new StringBuilder();
+		for (byte b : digest.digest()) {
+			hex.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+		}
+		return hex.toString();
+	}
+
+	private static MessageDigest newMessageDigest() {
+		try {
+			return MessageDigest.getInstance(DIGEST_ALGORITHM);
+		} catch (NoSuchAlgorithmException e) {
+			// every Java platform is required to support SHA-256
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static String quickFixJVersion() {
+		String version = DataDictionary.class.getPackage().getImplementationVersion();
+		return version == null ? "unknown" : version;
+	}
+
+	/**
+	 * @param tag the tag number.
+	 * @return the type of the field or {@code null} if it is not defined.
+	 */
+	public FieldType getFieldType(int tag) {
+		FieldType[] fieldTypes = fields().fieldTypes;
+		return tag >= 0 && tag < fieldTypes.length ? fieldTypes[tag] : null;
+	}
+
+	/**
+	 * @param tag the tag number.
+	 * @return the name of the field or {@code null} if it is not defined.
+	 */
+	public String getFieldName(int tag) {
+		String[] names = fields().names;
+		return tag >= 0 && tag < names.length ? names[tag] : null;
+	}
+
+	/**
+	 * @param msgTypeName the message name, e.g. {@code NewOrderSingle}.
+	 * @return the MsgType of the message or {@code null} if it is not defined.
+	 */
+	public String getMsgType(String msgTypeName) {
+		return messageIndex().msgTypeByName.get(msgTypeName);
+	}
+
+	/**
+	 * @param msgType the MsgType.
+	 * @return the name of the message or {@code null} if it is not defined.
+	 */
+	public String getMsgTypeName(String msgType) {
+		return messageIndex().nameByMsgType.get(msgType);
+	}
+
+	public boolean isAdminMessage(String msgType) {
+		return messageIndex().adminMsgTypes.contains(msgType);
+	}
+
+	/**
+	 * @param msgType the MsgType.
+	 * @return the tags of the fields required in the body of the message, empty if the message is not defined.
+	 */
+	public int[] getRequiredFields(String msgType) {
+		MessageLayout layout = messageLayout(msgType);
+		return layout == null ? new int[0] : layout.requiredFields.clone();
+	}
+
+	/**
+	 * @param msgType    the MsgType.
+	 * @param counterTag the NumInGroup tag of the group.
+	 * @return the layout of the group or {@code null} if the message has no such group.
+	 */
+	public GroupLayout getGroupLayout(String msgType, int counterTag) {
+		MessageLayout layout = messageLayout(msgType);
+		if (layout == null) {
+			return null;
+		}
+		for (GroupLayout group : layout.groups) {
+			if (group.getCounterTag() == counterTag) {
+				return group;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * @return the field types indexed by tag number; the array is shared and must not be modified.
+	 */
+	FieldType[] getFieldTypes() {
+		return fields().fieldTypes;
+	}
+
+	private Fields fields() {
+		Fields decoded = fields;
+		if (decoded == null) {
+			decoded = decodeFields();
+			fields = decoded;
+		}
+		return decoded;
+	}
+
+	private MessageIndex messageIndex() {
+		MessageIndex decoded = messageIndex;
+		if (decoded == null) {
+			decoded = decodeMessageIndex();
+			messageIndex = decoded;
+		}
+		return decoded;
+	}
+
+	private MessageLayout messageLayout(String msgType) {
+		Integer offset = messageIndex().bodyOffsets.get(msgType);
+		if (offset == null) {
+			return null;
+		}
+		return messageLayouts.computeIfAbsent(msgType, ignored -> decodeMessageLayout(offset));
+	}
+
+	private Fields decodeFields() {
+		ByteBuffer in = at(fieldsOffset);
+		FieldType[] types = new FieldType[in.getShort()];
+		for (int i = 0; i < types.length; i++) {
+			types[i] = toFieldType(readUtf(in));
+		}
+
+		int count = in.getInt();
+		int[] tags = new int[count];
+		short[] typeIndexes = new short[count];
+		String[] names = new String[count];
+		int maxTag = 0;
+		for (int i = 0; i < count; i++) {
+			tags[i] = in.getInt();
+			typeIndexes[i] = in.getShort();
+			names[i] = readUtf(in);
+			maxTag = Math.max(maxTag, tags[i]);
+		}
+
+		FieldType[] fieldTypesByTag = new FieldType[maxTag + 1];
+		String[] namesByTag = new String[maxTag + 1];
+		for (int i = 0; i < count; i++) {
+			if (tags[i] >= 0) {
+				fieldTypesByTag[tags[i]] = typeIndexes[i] < 0 ? null : types[typeIndexes[i]];
+				namesByTag[tags[i]] = names[i].isEmpty() ? null : names[i];
+			}
+		}
+		return new Fields(fieldTypesByTag, namesByTag);
+	}
+
+	private MessageIndex decodeMessageIndex() {
+		ByteBuffer in = at(messagesOffset);
+		int count = in.getInt();
+		Map<String, Integer> bodyOffsets = new HashMap<>();
+		Map<String, String> msgTypeByName = new HashMap<>();
+		Map<String, String> nameByMsgType = new HashMap<>();
+		Set<String> adminMsgTypes = new HashSet<>();
+		for (int i = 0; i < count; i++) {
+			String msgType = readUtf(in);
+			String name = readUtf(in);
+			boolean admin = in.get() != 0;
+			int bodyLength = in.getInt();
+			bodyOffsets.put(msgType, in.position());
+			in.position(in.position() + bodyLength);
+
+			if (!name.isEmpty()) {
+				msgTypeByName.put(name, msgType);
+				nameByMsgType.put(msgType, name);
+			}
+			if (admin) {
+				adminMsgTypes.add(msgType);
+			}
+		}
+		return new MessageIndex(bodyOffsets, msgTypeByName, nameByMsgType, adminMsgTypes);
+	}
+
+	private MessageLayout decodeMessageLayout(int offset) {
+		ByteBuffer in = at(offset);
+		int[] requiredFields = readInts(in);
+		int groupCount = in.getInt();
+		List<GroupLayout> groups = new ArrayList<>(groupCount);
+		for (int i = 0; i < groupCount; i++) {
+			groups.add(decodeGroup(in));
+		}
+		return new MessageLayout(requiredFields, groups);
+	}
+
+	private static GroupLayout decodeGroup(ByteBuffer in) {
+		int counterTag = in.getInt();
+		int delimiterTag = in.getInt();
+		int[] fieldTags = readInts(in);
+		int nestedCount = in.getInt();
+		List<GroupLayout> nestedGroups = new ArrayList<>(nestedCount);
+		for (int i = 0; i < nestedCount; i++) {
+			nestedGroups.add(decodeGroup(in));
+		}
+		return new GroupLayout(counterTag, delimiterTag, fieldTags, nestedGroups);
+	}
+
+	private ByteBuffer at(int offset) {
+		ByteBuffer in = buffer.duplicate();
+		in.position(offset);
+		return in;
+	}
+
+	private static int[] readInts(ByteBuffer in) {
+		int[] values = new int[in.getInt()];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = in.getInt();
+		}
+		return values;
+	}
+
+	private static String readUtf(ByteBuffer in) {
+		// names and MsgTypes are ASCII, for which the modified UTF-8 of DataOutput#writeUTF is plain UTF-8
+		byte[] bytes = new byte[in.getShort() & 0xFFFF];
+		in.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static FieldType toFieldType(String name) {
+		try {
+			return FieldType.valueOf(name);
+		} catch (IllegalArgumentException e) {
+			// written by a QuickFIX/J version with a type unknown to this one
+			return null;
+		}
+	}
+
+	private static final class Fields {
+
+		private final FieldType[] fieldTypes;
+
+		private final String[] names;
+
+		private Fields(FieldType[] fieldTypes, String[] names) {
+			this.fieldTypes = fieldTypes;
+			this.names = names;
+		}
+	}
+
+	private static final class MessageIndex {
+
+		private final Map<String, Integer> bodyOffsets;
+
+		private final Map<String, String> msgTypeByName;
+
+		private final Map<String, String> nameByMsgType;
+
+		private final Set<String> adminMsgTypes;
+
+		private MessageIndex(Map<String, Integer> bodyOffsets, Map<String, String> msgTypeByName, Map<String, String> nameByMsgType, Set<String> adminMsgTypes) {
+			this.bodyOffsets = bodyOffsets;
+			this.msgTypeByName = msgTypeByName;
+			this.nameByMsgType = nameByMsgType;
+			this.adminMsgTypes = Collections.unmodifiableSet(adminMsgTypes);
+		}
+	}
+
+	private static final class MessageLayout {
+
+		private final int[] requiredFields;
+
+		private final List<GroupLayout> groups;
+
+		private MessageLayout(int[] requiredFields, List<GroupLayout> groups) {
+			this.requiredFields = requiredFields;
+			this.groups = groups;
+		}
+	}
+}
@@ -0,0 +1,255 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.internal;
+
+import quickfix.DataDictionary;
+import quickfix.FieldType;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.allune.quickfixj.internal.DictionarySnapshot.FORMAT_VERSION;
+import static io.allune.quickfixj.internal.DictionarySnapshot.MAGIC;
+import static io.allune.quickfixj.internal.DictionarySnapshot.QUICKFIXJ_VERSION;
+
+/**
+ * Writes the binary snapshot of a {@link DataDictionary} read by {@link DictionarySnapshot}.
+ * <p>
+ * Field types, names, required fields and group layouts are taken from the {@link DataDictionary} itself. The
+ * message names and categories, which the {@link DataDictionary} does not expose, are read from the dictionary XML.
+ * The format is:
+ * <pre>
+ * int magic, short version, UTF beginString, UTF quickFixJVersion, UTF dictionaryDigest
+ * int fieldsLength, fields: short typeCount, UTF[] typeNames, int fieldCount, (int tag, short typeIndex, UTF name)[]
+ * int messagesLength, messages: int messageCount, (UTF msgType, UTF name, boolean admin, int bodyLength, body)[]
+ * body: int requiredCount, int[] requiredTags, int groupCount, group[]
+ * group: int counterTag, int delimiterTag, int fieldCount, int[] fieldTags, int nestedCount, group[]
+ * </pre>
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+final class DictionarySnapshotWriter {
+
+	private static final String MESSAGE_ELEMENT = "message";
+
+	private DictionarySnapshotWriter() {
+	}
+
+	/**
+	 * Writes the snapshot to a temporary file which is then moved to the target, so concurrent writers (e.g. several
+	 * surefire forks) never expose a partially written snapshot.
+	 *
+	 * @param beginString    the BeginString the dictionary is used for.
+	 * @param dataDictionary the dictionary.
+	 * @param dictionaryXml  the XML the dictionary was loaded from.
+	 * @param file           the snapshot file.
+	 * @throws IOException if the snapshot cannot be written.
+	 */
+	static void write(String beginString, DataDictionary dataDictionary, InputStream dictionaryXml, Path file) throws IOException {
+		byte[] xml = readFully(dictionaryXml);
+		String dictionaryDigest = DictionarySnapshot.digest(new ByteArrayInputStream(xml));
+		Map<String, MessageDefinition> messages = readMessageDefinitions(new ByteArrayInputStream(xml));
+		Path directory = file.toAbsolutePath().getParent();
+		Files.createDirectories(directory);
+		Path temporaryFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+		try {
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+				out.writeInt(MAGIC);
+				out.writeShort(FORMAT_VERSION);
+				out.writeUTF(beginString);
+				out.writeUTF(QUICKFIXJ_VERSION);
+				out.writeUTF(dictionaryDigest);
+				writeSection(out, encodeFields(dataDictionary));
+				writeSection(out, encodeMessages(dataDictionary, messages));
+			}
+			try {
+				Files.move(temporaryFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} finally {
+			Files.deleteIfExists(temporaryFile);
+		}
+	}
+
+	private static byte[] readFully(InputStream in) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		byte[] buffer = new byte[8192];
+		for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+			bytes.write(buffer, 0, read);
+		}
+		return bytes.toByteArray();
+	}
+
+	private static void writeSection(DataOutputStream out, ByteArrayDataOutput section) throws IOException {
+		out.writeInt(section.size());
+		section.writeTo(out);
+	}
+
+	private static ByteArrayDataOutput encodeFields(DataDictionary dataDictionary) throws IOException {
+		int[] tags = dataDictionary.getOrderedFields();
+		Map<FieldType, Integer> typeIndexes = new LinkedHashMap<>();
+		for (int tag : tags) {
+			FieldType fieldType = dataDictionary.getFieldType(tag);
+			if (fieldType != null && !typeIndexes.containsKey(fieldType)) {
+				typeIndexes.put(fieldType, typeIndexes.size());
+			}
+		}
+
+		ByteArrayDataOutput out = new ByteArrayDataOutput();
+		out.writeShort(typeIndexes.size());
+		for (FieldType fieldType : typeIndexes.keySet()) {
+			out.writeUTF(fieldType.name());
+		}
+		out.writeInt(tags.length);
+		for (int tag : tags) {
+			FieldType fieldType = dataDictionary.getFieldType(tag);
+			String name = dataDictionary.getFieldName(tag);
+			out.writeInt(tag);
+			out.writeShort(fieldType == null ? -1 : typeIndexes.get(fieldType));
+			out.writeUTF(name == null ? "" : name);
+		}
+		return out;
+	}
+
+	private static ByteArrayDataOutput encodeMessages(DataDictionary dataDictionary, Map<String, MessageDefinition> messages) throws IOException {
+		int[] tags = dataDictionary.getOrderedFields();
+		ByteArrayDataOutput out = new ByteArrayDataOutput();
+		out.writeInt(messages.size());
+		for (MessageDefinition message : messages.values()) {
+			ByteArrayDataOutput body = new ByteArrayDataOutput();
+			List<Integer> requiredTags = new ArrayList<>();
+			List<Integer> groupTags = new ArrayList<>();
+			for (int tag : tags) {
+				if (dataDictionary.isRequiredField(message.msgType, tag)) {
+					requiredTags.add(tag);
+				}
+				if (dataDictionary.isGroup(message.msgType, tag)) {
+					groupTags.add(tag);
+				}
+			}
+			writeInts(body, requiredTags);
+			body.writeInt(groupTags.size());
+			for (int groupTag : groupTags) {
+				writeGroup(body, dataDictionary, message.msgType, groupTag);
+			}
+
+			out.writeUTF(message.msgType);
+			out.writeUTF(message.name);
+			out.writeBoolean(message.admin);
+			out.writeInt(body.size());
+			body.writeTo(out);
+		}
+		return out;
+	}
+
+	private static void writeGroup(ByteArrayDataOutput out, DataDictionary dataDictionary, String msgType, int counterTag) throws IOException {
+		DataDictionary.GroupInfo groupInfo = dataDictionary.getGroup(msgType, counterTag);
+		DataDictionary groupDictionary = groupInfo.getDataDictionary();
+		int[] fieldTags = groupDictionary.getOrderedFields();
+		List<Integer> nestedGroupTags = new ArrayList<>();
+		for (int fieldTag : fieldTags) {
+			if (groupDictionary.isGroup(msgType, fieldTag)) {
+				nestedGroupTags.add(fieldTag);
+			}
+		}
+
+		out.writeInt(counterTag);
+		out.writeInt(groupInfo.getDelimiterField());
+		out.writeInt(fieldTags.length);
+		for (int fieldTag : fieldTags) {
+			out.writeInt(fieldTag);
+		}
+		out.writeInt(nestedGroupTags.size());
+		for (int nestedGroupTag : nestedGroupTags) {
+			writeGroup(out, groupDictionary, msgType, nestedGroupTag);
+		}
+	}
+
+	private static void writeInts(DataOutputStream out, List<Integer> values) throws IOException {
+		out.writeInt(values.size());
+		for (int value : values) {
+			out.writeInt(value);
+		}
+	}
+
+	private static Map<String, MessageDefinition> readMessageDefinitions(InputStream dictionaryXml) throws IOException {
+		Map<String, MessageDefinition> messages = new LinkedHashMap<>();
+		try {
+			XMLStreamReader reader = XMLInputFactory.newInstance().createXMLStreamReader(dictionaryXml);
+			try {
+				while (reader.hasNext()) {
+					if (reader.next() == XMLStreamReader.START_ELEMENT && MESSAGE_ELEMENT.equals(reader.getLocalName())) {
+						String msgType = reader.getAttributeValue(null, "msgtype");
+						String name = reader.getAttributeValue(null, "name");
+						boolean admin = "admin".equals(reader.getAttributeValue(null, "msgcat"));
+						if (msgType != null) {
+							messages.put(msgType, new MessageDefinition(msgType, name == null ? "" : name, admin));
+						}
+					}
+				}
+			} finally {
+				reader.close();
+			}
+		} catch (XMLStreamException e) {
+			throw new IOException("Could not read the message definitions of the dictionary", e);
+		}
+		return messages;
+	}
+
+	private static final class MessageDefinition {
+
+		private final String msgType;
+
+		private final String name;
+
+		private final boolean admin;
+
+		private MessageDefinition(String msgType, String name, boolean admin) {
+			this.msgType = msgType;
+			this.name = name;
+			this.admin = admin;
+		}
+	}
+
+	/**
+	 * A {@link DataOutputStream} over a growable in-memory buffer, used to prefix sections with their length.
+	 */
+	private static final class ByteArrayDataOutput extends DataOutputStream {
+
+		ByteArrayDataOutput() {
+			super(new ByteArrayOutputStream());
+		}
+
+		void writeTo(OutputStream target) throws IOException {
+			flush();
+			((ByteArrayOutputStream) out).writeTo(target);
+		}
+	}
+}
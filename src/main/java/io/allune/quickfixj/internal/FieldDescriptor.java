@@ -0,0 +1,93 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.internal;
+
+import java.lang.reflect.Modifier;
+
+/**
+ * Metadata of a QuickFIX/J field class: its tag number, its {@link FieldKind} and the extractor used to read its
+ * value.
+ * <p>
+ * Descriptors are resolved reflectively once per class and cached in a {@link ClassValue}, so the typed header and
+ * trailer assertions do not pay for reflection on every call.
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+public final class FieldDescriptor {
+
+	static final int UNRESOLVED_TAG = -1;
+
+	private static final String FIELD_TAG_FIELD_NAME = "FIELD";
+
+	private static final ClassValue<FieldDescriptor> DESCRIPTORS = new ClassValue<FieldDescriptor>() {
+		@Override
+		protected FieldDescriptor computeValue(Class<?> fieldClass) {
+			return new FieldDescriptor(fieldClass, resolveTag(fieldClass), FieldKind.of(fieldClass));
+		}
+	};
+
+	private final Class<?> fieldClass;
+
+	private final int tag;
+
+	private final FieldKind kind;
+
+	private FieldDescriptor(Class<?> fieldClass, int tag, FieldKind kind) {
+		this.fieldClass = fieldClass;
+		this.tag = tag;
+		this.kind = kind;
+	}
+
+	/**
+	 * @param fieldClass the field class.
+	 * @return the cached {@link FieldDescriptor} of the field class.
+	 */
+	public static FieldDescriptor of(Class<?> fieldClass) {
+		return DESCRIPTORS.get(fieldClass);
+	}
+
+	private static int resolveTag(Class<?> fieldClass) {
+		try {
+			java.lang.reflect.Field tagField = fieldClass.getField(FIELD_TAG_FIELD_NAME);
+			if (!Modifier.isStatic(tagField.getModifiers()) || tagField.getType() != int.class) {
+				return UNRESOLVED_TAG;
+			}
+			return tagField.getInt(null);
+		} catch (IllegalAccessException | NoSuchFieldException e) {
+			return UNRESOLVED_TAG;
+		}
+	}
+
+	public Class<?> getFieldClass() {
+		return fieldClass;
+	}
+
+	public int getTag() {
+		return tag;
+	}
+
+	public FieldKind getKind() {
+		return kind;
+	}
+
+	public FieldValueExtractor getExtractor() {
+		return kind.getExtractor();
+	}
+
+	/**
+	 * @return {@code true} if the field class declares its tag number and extends a supported base field class.
+	 */
+	public boolean isResolved() {
+		return tag != UNRESOLVED_TAG && kind != FieldKind.UNSUPPORTED;
+	}
+}
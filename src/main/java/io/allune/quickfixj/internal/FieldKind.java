@@ -0,0 +1,75 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.internal;
+
+import quickfix.BooleanField;
+import quickfix.CharField;
+import quickfix.DecimalField;
+import quickfix.DoubleField;
+import quickfix.FieldMap;
+import quickfix.IntField;
+import quickfix.StringField;
+import quickfix.UtcDateOnlyField;
+import quickfix.UtcTimeOnlyField;
+import quickfix.UtcTimeStampField;
+
+/**
+ * The QuickFIX/J base field classes supported by the typed assertions, together with the {@link FieldMap} accessor
+ * used to read each of them.
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+public enum FieldKind {
+
+	STRING(StringField.class, FieldMap::getString),
+	BOOLEAN(BooleanField.class, FieldMap::getBoolean),
+	CHAR(CharField.class, FieldMap::getChar),
+	INT(IntField.class, FieldMap::getInt),
+	DOUBLE(DoubleField.class, FieldMap::getDouble),
+	DECIMAL(DecimalField.class, FieldMap::getDecimal),
+	UTC_TIMESTAMP(UtcTimeStampField.class, FieldMap::getUtcTimeStamp),
+	UTC_TIME_ONLY(UtcTimeOnlyField.class, FieldMap::getUtcTimeOnly),
+	UTC_DATE_ONLY(UtcDateOnlyField.class, FieldMap::getUtcDateOnly),
+	UNSUPPORTED(null, null);
+
+	private final Class<?> baseClass;
+
+	private final FieldValueExtractor extractor;
+
+	FieldKind(Class<?> baseClass, FieldValueExtractor extractor) {
+		this.baseClass = baseClass;
+		this.extractor = extractor;
+	}
+
+	public FieldValueExtractor getExtractor() {
+		return extractor;
+	}
+
+	/**
+	 * Resolves the kind of the given field class by walking up its class hierarchy until one of the QuickFIX/J base
+	 * field classes is found, so user-defined subclasses of generated fields are supported too.
+	 *
+	 * @param fieldClass the field class.
+	 * @return the {@link FieldKind} of the field class or {@link #UNSUPPORTED} if none matches.
+	 */
+	static FieldKind of(Class<?> fieldClass) {
+		for (Class<?> type = fieldClass; type != null; type = type.getSuperclass()) {
+			for (FieldKind kind : values()) {
+				if (type.equals(kind.baseClass)) {
+					return kind;
+				}
+			}
+		}
+		return UNSUPPORTED;
+	}
+}
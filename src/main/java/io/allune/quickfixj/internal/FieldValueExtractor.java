@@ -12,30 +12,18 @@
  */
 package io.allune.quickfixj.internal;
 
-import io.allune.quickfixj.exception.ThrownByLambdaException;
-
-import java.util.function.BiFunction;
+import quickfix.FieldMap;
+import quickfix.FieldNotFound;
 
 /**
- * A throwing {@link BiFunction}
+ * Reads the value of a field from a {@link FieldMap} given its tag number.
+ * <p>
+ * The tag is passed as a primitive int, so looking a value up never boxes the tag.
  *
- * @param <T> parameter type of the first argument of this bifunction
- * @param <U> parameter type of the second argument of this bifunction
- * @param <R> parameter type of the return value of this bifunction
+ * @author Eduardo Sanchez-Ros
  */
 @FunctionalInterface
-public interface ThrowingBiFunction<T, U, R> extends BiFunction<T, U, R> {
-
-	R doApply(T t, U u) throws Throwable;
+public interface FieldValueExtractor {
 
-	@Override
-	default R apply(T t, U u) {
-		try {
-			return doApply(t, u);
-		} catch (Error | RuntimeException e) {
-			throw e;
-		} catch (Throwable throwable) {
-			throw new ThrownByLambdaException(throwable);
-		}
-	}
-}
\ No newline at end of file
+	Object extract(FieldMap fieldMap, int tag) throws FieldNotFound;
+}
@@ -0,0 +1,249 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.internal;
+
+import quickfix.DataDictionary;
+import quickfix.FieldMap;
+import quickfix.FieldType;
+import quickfix.FixVersions;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Immutable table of {@link FieldValueExtractor}s compiled from a {@link DataDictionary}, indexed by tag number.
+ * <p>
+ * The table is built once per dictionary, so reading the value of a field by tag costs one array load plus the
+ * extraction itself instead of a dictionary lookup and a {@link FieldType} switch on every call. Tables compiled with
+ * {@link #of(DataDictionary, String)} are shared by every assertion using the same dictionary instance, including
+ * scoped ones, and released with it.
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+public final class FieldValueTable {
+
+	private static final FieldValueExtractor UNSUPPORTED = (fieldMap, tag) -> {
+		throw new RuntimeException("Unsupported");
+	};
+
+	/**
+	 * The tables compiled per dictionary instance, one per way of reading CHAR fields. Looking a table up takes no
+	 * lock; the entries of released dictionaries are removed when a table is added.
+	 */
+	private static final ConcurrentMap<DictionaryKey, AtomicReferenceArray<FieldValueTable>> COMPILED = new ConcurrentHashMap<>();
+
+	private static final ReferenceQueue<DataDictionary> RELEASED = new ReferenceQueue<>();
+
+	private final FieldType[] fieldTypes;
+
+	private final FieldValueExtractor[] extractors;
+
+	private FieldValueTable(FieldType[] fieldTypes, FieldValueExtractor[] extractors) {
+		this.fieldTypes = fieldTypes;
+		this.extractors = extractors;
+	}
+
+	/**
+	 * Returns the table for the given dictionary, compiling it the first time the dictionary instance is used for a
+	 * BeginString reading CHAR fields the same way.
+	 *
+	 * @param dataDictionary the dictionary.
+	 * @param beginString    the BeginString the dictionary is used for; CHAR fields are read as Strings up to FIX.4.1.
+	 * @return the compiled table.
+	 */
+	public static FieldValueTable of(DataDictionary dataDictionary, String beginString) {
+		AtomicReferenceArray<FieldValueTable> tables = COMPILED.get(new DictionaryKey(dataDictionary, null));
+		if (tables == null) {
+			expungeReleased();
+			AtomicReferenceArray<FieldValueTable> created = new AtomicReferenceArray<>(2);
+			tables = COMPILED.putIfAbsent(new DictionaryKey(dataDictionary, RELEASED), created);
+			if (tables == null) {
+				tables = created;
+			}
+		}
+		int variant = isCharAsString(beginString) ? 1 : 0;
+		FieldValueTable table = tables.get(variant);
+		if (table == null) {
+			// compiling twice on a race is harmless, both tables are identical
+			table = compile(dataDictionary, beginString);
+			tables.set(variant, table);
+		}
+		return table;
+	}
+
+	private static void expungeReleased() {
+		for (Reference<? extends DataDictionary> released; (released = RELEASED.poll()) != null; ) {
+			COMPILED.remove(released);
+		}
+	}
+
+	/**
+	 * Compiles the table for the given dictionary.
+	 *
+	 * @param dataDictionary the dictionary to compile.
+	 * @param beginString    the BeginString the dictionary is used for; CHAR fields are read as Strings up to FIX.4.1.
+	 * @return the compiled table.
+	 */
+	public static FieldValueTable compile(DataDictionary dataDictionary, String beginString) {
+		int[] tags = dataDictionary.getOrderedFields();
+		int maxTag = 0;
+		for (int tag : tags) {
+			maxTag = Math.max(maxTag, tag);
+		}
+
+		FieldType[] fieldTypes = new FieldType[maxTag + 1];
+		for (int tag : tags) {
+			if (tag >= 0) {
+				fieldTypes[tag] = dataDictionary.getFieldType(tag);
+			}
+		}
+		return compile(fieldTypes, beginString);
+	}
+
+	/**
+	 * Compiles the table for the given field types, e.g. those of a {@link DictionarySnapshot}.
+	 *
+	 * @param fieldTypesByTag the field types indexed by tag number, {@code null} for undefined tags.
+	 * @param beginString     the BeginString the dictionary is used for; CHAR fields are read as Strings up to FIX.4.1.
+	 * @return the compiled table.
+	 */
+	static FieldValueTable compile(FieldType[] fieldTypesByTag, String beginString) {
+		boolean charAsString = isCharAsString(beginString);
+		FieldType[] fieldTypes = fieldTypesByTag.clone();
+		FieldValueExtractor[] extractors = new FieldValueExtractor[fieldTypes.length];
+		for (int tag = 0; tag < fieldTypes.length; tag++) {
+			if (fieldTypes[tag] != null) {
+				extractors[tag] = extractorFor(fieldTypes[tag], charAsString);
+			}
+		}
+		return new FieldValueTable(fieldTypes, extractors);
+	}
+
+	private static boolean isCharAsString(String beginString) {
+		return beginString == null || beginString.compareTo(FixVersions.BEGINSTRING_FIX41) <= 0;
+	}
+
+	private static FieldValueExtractor extractorFor(FieldType fieldType, boolean charAsString) {
+		switch (fieldType) {
+			case STRING:
+			case MULTIPLEVALUESTRING:
+			case MULTIPLESTRINGVALUE:
+			case EXCHANGE:
+			case LOCALMKTDATE:
+			case DATA:
+			case MONTHYEAR:
+			case DAYOFMONTH:
+			case CURRENCY:
+			case COUNTRY:
+				return FieldMap::getString;
+			case INT:
+			case NUMINGROUP:
+			case SEQNUM:
+			case LENGTH:
+				return FieldMap::getInt;
+			case PRICE:
+			case AMT:
+			case QTY:
+			case FLOAT:
+			case PRICEOFFSET:
+			case PERCENTAGE:
+				return FieldMap::getDouble;
+			case BOOLEAN:
+				return FieldMap::getBoolean;
+			case UTCDATE:
+				return FieldMap::getUtcDateOnly;
+			case UTCTIMEONLY:
+				return FieldMap::getUtcTimeOnly;
+			case UTCTIMESTAMP:
+			case TIME:
+				return FieldMap::getUtcTimeStamp;
+			case CHAR:
+				// CHAR fields are Strings for older FIX versions
+				return charAsString ? FieldMap::getString : FieldMap::getChar;
+			default:
+				return UNSUPPORTED;
+		}
+	}
+
+	/**
+	 * @param tag the tag number.
+	 * @return the extractor for the tag or {@code null} if the tag is not defined in the dictionary.
+	 */
+	public FieldValueExtractor getExtractor(int tag) {
+		return tag >= 0 && tag < extractors.length ? extractors[tag] : null;
+	}
+
+	/**
+	 * @param tag the tag number.
+	 * @return the type of the field or {@code null} if the tag is not defined in the dictionary.
+	 */
+	public FieldType getFieldType(int tag) {
+		return tag >= 0 && tag < fieldTypes.length ? fieldTypes[tag] : null;
+	}
+
+	/**
+	 * @param tag the tag number.
+	 * @return {@code true} if the field is a decimal type, i.e. PRICE, AMT, QTY, FLOAT, PRICEOFFSET or PERCENTAGE.
+	 */
+	public boolean isDecimal(int tag) {
+		FieldType fieldType = getFieldType(tag);
+		if (fieldType == null) {
+			return false;
+		}
+		switch (fieldType) {
+			case PRICE:
+			case AMT:
+			case QTY:
+			case FLOAT:
+			case PRICEOFFSET:
+			case PERCENTAGE:
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * Weak key matching a dictionary by identity, {@link DataDictionary} not defining equality.
+	 */
+	private static final class DictionaryKey extends WeakReference<DataDictionary> {
+
+		private final int hash;
+
+		private DictionaryKey(DataDictionary dataDictionary, ReferenceQueue<DataDictionary> queue) {
+			super(dataDictionary, queue);
+			this.hash = System.identityHashCode(dataDictionary);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if (this == other) {
+				return true;
+			}
+			if (!(other instanceof DictionaryKey)) {
+				return false;
+			}
+			DataDictionary dataDictionary = get();
+			return dataDictionary != null && dataDictionary == ((DictionaryKey) other).get();
+		}
+	}
+}
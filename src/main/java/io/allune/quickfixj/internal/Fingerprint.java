@@ -0,0 +1,199 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.internal;
+
+import quickfix.Field;
+import quickfix.FieldMap;
+import quickfix.Group;
+import quickfix.Message;
+
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * A 128-bit fingerprint of a {@link Message}, for bucketing identical messages across large corpora.
+ * <p>
+ * The fingerprint is computed in a single pass over the header, body, trailer and repeating groups, hashing each
+ * tag with its raw value and never serialising the message. Like {@link MessageEquality}, it ignores the order of
+ * the fields within a header, body, trailer or group entry, whereas the order of the entries of a repeating group is
+ * significant; two structurally equal messages therefore have the same fingerprint. Ignored tags, e.g.
+ * {@link TagSet#VOLATILE}, are left out at every level.
+ * <p>
+ * Use {@link #getLow()} alone where 64 bits are enough.
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+public final class Fingerprint {
+
+	private static final long SEED_HIGH = 0x9E3779B97F4A7C15L;
+
+	private static final long SEED_LOW = 0xC2B2AE3D27D4EB4FL;
+
+	private static final long HEADER = 1;
+
+	private static final long BODY = 2;
+
+	private static final long TRAILER = 3;
+
+	private final long high;
+
+	private final long low;
+
+	private Fingerprint(long high, long low) {
+		this.high = high;
+		this.low = low;
+	}
+
+	/**
+	 * @param message the message.
+	 * @return the fingerprint of the message.
+	 */
+	public static Fingerprint of(Message message) {
+		return of(message, TagSet.EMPTY);
+	}
+
+	/**
+	 * @param message     the message.
+	 * @param ignoredTags the tags left out of the fingerprint.
+	 * @return the fingerprint of the message.
+	 */
+	public static Fingerprint of(Message message, TagSet ignoredTags) {
+		Hasher hasher = new Hasher(ignoredTags);
+		long high = 0;
+		long low = 0;
+		hasher.hash(message.getHeader(), HEADER);
+		high += hasher.high;
+		low += hasher.low;
+		hasher.hash(message, BODY);
+		high += hasher.high;
+		low += hasher.low;
+		hasher.hash(message.getTrailer(), TRAILER);
+		high += hasher.high;
+		low += hasher.low;
+		return new Fingerprint(mix(high), mix(low));
+	}
+
+	/**
+	 * @param high the high 64 bits.
+	 * @param low  the low 64 bits.
+	 * @return the fingerprint with the given bits.
+	 */
+	static Fingerprint of(long high, long low) {
+		return new Fingerprint(high, low);
+	}
+
+	public long getHigh() {
+		return high;
+	}
+
+	public long getLow() {
+		return low;
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		if (this == other) {
+			return true;
+		}
+		if (!(other instanceof Fingerprint)) {
+			return false;
+		}
+		Fingerprint fingerprint = (Fingerprint) other;
+		return high == fingerprint.high && low == fingerprint.low;
+	}
+
+	@Override
+	public int hashCode() {
+		return (int) (low ^ (low >>> 32));
+	}
+
+	/**
+	 * @return the fingerprint as 32 hexadecimal digits.
+	 */
+	@Override
+	public String toString() {
+		return String.format("%016x%016x", high, low);
+	}
+
+	/**
+	 * The finalisation step of MurmurHash3, spreading every input bit over the whole output.
+	 */
+	private static long mix(long value) {
+		value ^= value >>> 33;
+		value *= 0xFF51AFD7ED558CCDL;
+		value ^= value >>> 33;
+		value *= 0xC4CEB9FE1A85EC53L;
+		value ^= value >>> 33;
+		return value;
+	}
+
+	/**
+	 * Hashes a field map into two independent 64-bit lanes. The fields are combined by addition, so their order does
+	 * not matter, and the entries of a group by multiplication and addition, so theirs does.
+	 */
+	private static final class Hasher {
+
+		private final TagSet ignoredTags;
+
+		private long high;
+
+		private long low;
+
+		Hasher(TagSet ignoredTags) {
+			this.ignoredTags = ignoredTags;
+		}
+
+		void hash(FieldMap fieldMap, long section) {
+			long mapHigh = 0;
+			long mapLow = 0;
+			for (Iterator<Field<?>> fields = fieldMap.iterator(); fields.hasNext(); ) {
+				Field<?> field = fields.next();
+				int tag = field.getTag();
+				if (ignoredTags.contains(tag)) {
+					continue;
+				}
+				Object value = field.getObject();
+				CharSequence rawValue = value instanceof CharSequence ? (CharSequence) value : String.valueOf(value);
+				long valueHigh = SEED_HIGH ^ section;
+				long valueLow = SEED_LOW ^ section;
+				for (int i = 0; i < rawValue.length(); i++) {
+					char c = rawValue.charAt(i);
+					valueHigh = (valueHigh ^ c) * 0x100000001B3L;
+					valueLow = (valueLow ^ c) * 0x9E3779B97F4A7C15L;
+				}
+				mapHigh += mix(valueHigh ^ ((long) tag << 32));
+				mapLow += mix(valueLow + tag);
+			}
+
+			for (Iterator<Integer> groupTags = fieldMap.groupKeyIterator(); groupTags.hasNext(); ) {
+				int groupTag = groupTags.next();
+				if (ignoredTags.contains(groupTag)) {
+					continue;
+				}
+				List<Group> entries = fieldMap.getGroups(groupTag);
+				long groupHigh = SEED_HIGH + groupTag;
+				long groupLow = SEED_LOW + groupTag;
+				for (Group entry : entries) {
+					hash(entry, groupTag);
+					groupHigh = groupHigh * 0xBF58476D1CE4E5B9L + high;
+					groupLow = groupLow * 0x100000001B3L + low;
+				}
+				mapHigh += mix(groupHigh);
+				mapLow += mix(groupLow);
+			}
+
+			high = mapHigh;
+			low = mapLow;
+		}
+	}
+}
@@ -0,0 +1,272 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.internal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Frames the FIX messages of a QuickFIX/J message log, e.g. one written by a {@code FileLog}, without loading the
+ * file into the heap.
+ * <p>
+ * The file is memory-mapped one window at a time and messages are framed from a {@code 8=} that starts a line or
+ * follows a separator up to the {@code 10=} checksum field. Any prefix on the line, such as a timestamp, is
+ * skipped. Only the current window and the current message are ever held, so memory stays constant whatever the
+ * size of the log. A message without a checksum before the end of its line is reported as incomplete.
+ * <p>
+ * Not thread safe.
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+public final class FixLogReader implements Closeable {
+
+	static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+	private static final int MAX_WINDOW_SIZE = Integer.MAX_VALUE;
+
+	/**
+	 * Bytes kept from the previous window when remapping, so the byte preceding a {@code 8=} is always available.
+	 */
+	private static final int OVERLAP = 2;
+
+	private static final int NOT_FOUND = -1;
+
+	private static final byte SOH = '\u0001';
+
+	private final FileChannel channel;
+
+	private final long size;
+
+	private int windowSize;
+
+	private MappedByteBuffer window;
+
+	private RawMessage.ByteBufferRawMessage rawMessage;
+
+	private long windowStart;
+
+	private int position;
+
+	private int messageStart;
+
+	private int messageEnd;
+
+	private boolean complete;
+
+	private long messageCount;
+
+	FixLogReader(FileChannel channel, int windowSize) throws IOException {
+		this.channel = channel;
+		this.size = channel.size();
+		this.windowSize = windowSize;
+		map(0);
+	}
+
+	/**
+	 * Opens the message log.
+	 *
+	 * @param file the message log.
+	 * @return the reader, positioned before the first message.
+	 * @throws IOException if the file cannot be opened.
+	 */
+	public static FixLogReader open(Path file) throws IOException {
+		return open(file, DEFAULT_WINDOW_SIZE);
+	}
+
+	static FixLogReader open(Path file, int windowSize) throws IOException {
+		FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+		try {
+			return new FixLogReader(channel, windowSize);
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Advances to the next message.
+	 *
+	 * @return {@code false} once the end of the log is reached.
+	 * @throws IOException if the file cannot be mapped.
+	 */
+	public boolean next() throws IOException {
+		while (true) {
+			int start = findStart();
+			if (start == NOT_FOUND) {
+				if (isLastWindow()) {
+					return false;
+				}
+				map(windowStart + window.limit());
+				continue;
+			}
+
+			int end = findEnd(start);
+			if (end == NOT_FOUND) {
+				if (!isLastWindow()) {
+					if (start <= OVERLAP) {
+						// the message does not fit in a whole window
+						windowSize = (int) Math.min((long) windowSize * 2, MAX_WINDOW_SIZE);
+					}
+					map(windowStart + start);
+					continue;
+				}
+				complete = false;
+				end = window.limit();
+			}
+
+			messageStart = start;
+			messageEnd = end;
+			position = end;
+			messageCount++;
+			return true;
+		}
+	}
+
+	/**
+	 * @return the position of the current message in the log, starting at 0.
+	 */
+	public long getIndex() {
+		return messageCount - 1;
+	}
+
+	/**
+	 * @return the byte offset of the current message in the file.
+	 */
+	public long getOffset() {
+		return windowStart + messageStart;
+	}
+
+	/**
+	 * @return {@code true} if the current message ends with a checksum field.
+	 */
+	public boolean isComplete() {
+		return complete;
+	}
+
+	/**
+	 * Reads the MsgType of the current message without decoding the rest of it.
+	 *
+	 * @return the MsgType or {@code null} if the message has none.
+	 */
+	public String getMsgType() {
+		for (int i = messageStart; i + 4 < messageEnd; i++) {
+			if (window.get(i) == SOH && window.get(i + 1) == '3' && window.get(i + 2) == '5' && window.get(i + 3) == '=') {
+				int valueStart = i + 4;
+				int valueEnd = valueStart;
+				while (valueEnd < messageEnd && window.get(valueEnd) != SOH) {
+					valueEnd++;
+				}
+				return decode(valueStart, valueEnd);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * @return the current message.
+	 */
+	public String getMessage() {
+		return decode(messageStart, messageEnd);
+	}
+
+	/**
+	 * @return a view over the current message, valid until the reader advances: the same view is moved from one
+	 * message to the next.
+	 */
+	public RawMessage getRawMessage() {
+		if (rawMessage == null) {
+			ByteBuffer message = window.duplicate();
+			message.limit(messageEnd);
+			message.position(messageStart);
+			rawMessage = new RawMessage.ByteBufferRawMessage(message);
+		} else {
+			rawMessage.moveTo(window, messageStart, messageEnd);
+		}
+		return rawMessage;
+	}
+
+	@Override
+	public void close() throws IOException {
+		window = null;
+		channel.close();
+	}
+
+	private int findStart() {
+		int limit = window.limit();
+		for (int i = position; i + 1 < limit; i++) {
+			if (window.get(i) == '8' && window.get(i + 1) == '=' && isMessageBoundary(i)) {
+				return i;
+			}
+		}
+		return NOT_FOUND;
+	}
+
+	private boolean isMessageBoundary(int index) {
+		if (index == 0) {
+			return windowStart == 0;
+		}
+		byte previous = window.get(index - 1);
+		return previous == SOH || previous == '\n' || previous == '\r' || previous == ' ' || previous == '\t' || previous == ':';
+	}
+
+	private int findEnd(int start) {
+		int limit = window.limit();
+		for (int i = start; i < limit; i++) {
+			byte b = window.get(i);
+			if (b == '\n' || b == '\r') {
+				complete = false;
+				return i;
+			}
+			if (b == SOH && i + 3 < limit && window.get(i + 1) == '1' && window.get(i + 2) == '0' && window.get(i + 3) == '=') {
+				for (int j = i + 4; j < limit; j++) {
+					byte c = window.get(j);
+					if (c == SOH) {
+						complete = true;
+						return j + 1;
+					}
+					if (c == '\n' || c == '\r') {
+						complete = false;
+						return j;
+					}
+				}
+				return NOT_FOUND;
+			}
+		}
+		return NOT_FOUND;
+	}
+
+	private boolean isLastWindow() {
+		return windowStart + window.limit() >= size;
+	}
+
+	private void map(long absolutePosition) throws IOException {
+		long start = Math.max(0, absolutePosition - OVERLAP);
+		window = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(windowSize, size - start));
+		windowStart = start;
+		position = (int) (absolutePosition - start);
+	}
+
+	private String decode(int from, int to) {
+		byte[] bytes = new byte[to - from];
+		for (int i = 0; i < bytes.length; i++) {
+			bytes[i] = window.get(from + i);
+		}
+		return new String(bytes, StandardCharsets.ISO_8859_1);
+	}
+}
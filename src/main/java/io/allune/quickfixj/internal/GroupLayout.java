@@ -0,0 +1,56 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.internal;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Layout of a repeating group as defined in a dictionary: its NumInGroup counter tag, its delimiter tag, its member
+ * fields in dictionary order and its nested groups.
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+public final class GroupLayout {
+
+	private final int counterTag;
+
+	private final int delimiterTag;
+
+	private final int[] fieldTags;
+
+	private final List<GroupLayout> nestedGroups;
+
+	GroupLayout(int counterTag, int delimiterTag, int[] fieldTags, List<GroupLayout> nestedGroups) {
+		this.counterTag = counterTag;
+		this.delimiterTag = delimiterTag;
+		this.fieldTags = fieldTags;
+		this.nestedGroups = Collections.unmodifiableList(nestedGroups);
+	}
+
+	public int getCounterTag() {
+		return counterTag;
+	}
+
+	public int getDelimiterTag() {
+		return delimiterTag;
+	}
+
+	public int[] getFieldTags() {
+		return fieldTags.clone();
+	}
+
+	public List<GroupLayout> getNestedGroups() {
+		return nestedGroups;
+	}
+}
@@ -0,0 +1,236 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.internal;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.Failures;
+import org.assertj.core.internal.Objects;
+import quickfix.FieldMap;
+import quickfix.Group;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.Predicate;
+
+import static io.allune.quickfixj.error.ShouldAllGroupsMatch.shouldAllGroupsMatch;
+import static io.allune.quickfixj.error.ShouldAllGroupsSatisfy.shouldAllGroupsSatisfy;
+import static io.allune.quickfixj.error.ShouldAnyGroupMatch.shouldAnyGroupMatch;
+import static io.allune.quickfixj.error.ShouldHaveGroup.shouldHaveGroup;
+import static io.allune.quickfixj.error.ShouldHaveGroupAggregate.shouldHaveGroupAggregate;
+import static io.allune.quickfixj.error.ShouldHaveGroupCount.shouldHaveGroupCount;
+import static io.allune.quickfixj.error.ShouldHaveGroupCount.shouldHaveMatchingGroupCount;
+import static io.allune.quickfixj.error.ShouldHaveGroupEntry.shouldHaveGroupEntry;
+import static io.allune.quickfixj.error.ShouldNoGroupMatch.shouldNoGroupMatch;
+
+/**
+ * Assertions on the repeating groups of a {@link FieldMap}.
+ * <p>
+ * The entries are walked in place through {@link FieldMap#getGroups(int)}, whereas
+ * {@link FieldMap#getGroup(int, Group)} copies every entry it returns, so checks over thousands of entries stay
+ * linear. Entries are numbered from 1, as in QuickFIX/J.
+ * <p>
+ * The predicates and aggregates of a group cursor visit the entries through a single reusable {@link GroupEntryView}
+ * and read the raw field values, so a pass over tens of thousands of entries creates no object per entry.
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+public class Groups {
+
+	private static final Groups INSTANCE = new Groups();
+
+	/**
+	 * Failing entries listed in the error message; the others are counted.
+	 */
+	static final int MAX_REPORTED_FAILURES = 20;
+
+	private final Failures failures = Failures.instance();
+
+	private final Objects objects = Objects.instance();
+
+	Groups() {
+	}
+
+	public static Groups instance() {
+		return INSTANCE;
+	}
+
+	public void assertHasGroup(AssertionInfo info, FieldMap actual, int groupTag) {
+		objects.assertNotNull(info, actual);
+
+		if (!actual.hasGroup(groupTag)) {
+			throw failures.failure(info, shouldHaveGroup(actual, groupTag));
+		}
+	}
+
+	public void assertGroupCount(AssertionInfo info, FieldMap actual, int groupTag, int expectedCount) {
+		objects.assertNotNull(info, actual);
+
+		int actualCount = actual.getGroupCount(groupTag);
+		if (actualCount != expectedCount) {
+			throw failures.failure(info, shouldHaveGroupCount(actual, groupTag, actualCount, expectedCount));
+		}
+	}
+
+	/**
+	 * @param info     the assertion info.
+	 * @param actual   the FieldMap holding the repeating group.
+	 * @param groupTag the tag of the repeating group, e.g. NoMDEntries.
+	 * @param index    the number of the entry, from 1.
+	 * @return the entry itself, not a copy.
+	 */
+	public Group getGroup(AssertionInfo info, FieldMap actual, int groupTag, int index) {
+		objects.assertNotNull(info, actual);
+
+		List<Group> entries = actual.getGroups(groupTag);
+		if (index < 1 || index > entries.size()) {
+			throw failures.failure(info, shouldHaveGroupEntry(actual, groupTag, index, entries.size()));
+		}
+		return entries.get(index - 1);
+	}
+
+	/**
+	 * Verifies that the repeating group is present and that every entry satisfies the requirements. Every entry is
+	 * evaluated, so a failure reports all the failing entries at once.
+	 *
+	 * @param info         the assertion info.
+	 * @param actual       the FieldMap holding the repeating group.
+	 * @param groupTag     the tag of the repeating group, e.g. NoMDEntries.
+	 * @param requirements the requirements, throwing an {@link AssertionError} when not satisfied.
+	 */
+	public void assertAllGroupsSatisfy(AssertionInfo info, FieldMap actual, int groupTag, Consumer<Group> requirements) {
+		assertHasGroup(info, actual, groupTag);
+
+		List<Group> entries = actual.getGroups(groupTag);
+		Map<Integer, String> failuresByIndex = new LinkedHashMap<>();
+		int failureCount = 0;
+		for (int i = 0; i < entries.size(); i++) {
+			try {
+				requirements.accept(entries.get(i));
+			} catch (AssertionError e) {
+				if (failureCount++ < MAX_REPORTED_FAILURES) {
+					failuresByIndex.put(i + 1, e.getMessage());
+				}
+			}
+		}
+		if (failureCount > 0) {
+			throw failures.failure(info, shouldAllGroupsSatisfy(groupTag, entries.size(), failureCount, failuresByIndex));
+		}
+	}
+
+	public void assertAllMatch(AssertionInfo info, FieldMap actual, int groupTag, Predicate<GroupEntryView> predicate) {
+		assertHasGroup(info, actual, groupTag);
+
+		List<Group> entries = actual.getGroups(groupTag);
+		Map<Integer, Group> failingEntries = new LinkedHashMap<>();
+		int failureCount = 0;
+		GroupEntryView view = new GroupEntryView();
+		for (int i = 0; i < entries.size(); i++) {
+			if (!predicate.test(view.moveTo(entries.get(i), i + 1)) && failureCount++ < MAX_REPORTED_FAILURES) {
+				failingEntries.put(i + 1, entries.get(i));
+			}
+		}
+		if (failureCount > 0) {
+			throw failures.failure(info, shouldAllGroupsMatch(groupTag, entries.size(), failureCount, failingEntries));
+		}
+	}
+
+	public void assertAnyMatch(AssertionInfo info, FieldMap actual, int groupTag, Predicate<GroupEntryView> predicate) {
+		assertHasGroup(info, actual, groupTag);
+
+		List<Group> entries = actual.getGroups(groupTag);
+		GroupEntryView view = new GroupEntryView();
+		for (int i = 0; i < entries.size(); i++) {
+			if (predicate.test(view.moveTo(entries.get(i), i + 1))) {
+				return;
+			}
+		}
+		throw failures.failure(info, shouldAnyGroupMatch(groupTag, entries.size()));
+	}
+
+	public void assertNoneMatch(AssertionInfo info, FieldMap actual, int groupTag, Predicate<GroupEntryView> predicate) {
+		assertHasGroup(info, actual, groupTag);
+
+		List<Group> entries = actual.getGroups(groupTag);
+		Map<Integer, Group> matchingEntries = new LinkedHashMap<>();
+		int matchCount = 0;
+		GroupEntryView view = new GroupEntryView();
+		for (int i = 0; i < entries.size(); i++) {
+			if (predicate.test(view.moveTo(entries.get(i), i + 1)) && matchCount++ < MAX_REPORTED_FAILURES) {
+				matchingEntries.put(i + 1, entries.get(i));
+			}
+		}
+		if (matchCount > 0) {
+			throw failures.failure(info, shouldNoGroupMatch(groupTag, entries.size(), matchCount, matchingEntries));
+		}
+	}
+
+	public void assertMatchingCount(AssertionInfo info, FieldMap actual, int groupTag, Predicate<GroupEntryView> predicate, int expectedCount) {
+		assertHasGroup(info, actual, groupTag);
+
+		List<Group> entries = actual.getGroups(groupTag);
+		int matchCount = 0;
+		GroupEntryView view = new GroupEntryView();
+		for (int i = 0; i < entries.size(); i++) {
+			if (predicate.test(view.moveTo(entries.get(i), i + 1))) {
+				matchCount++;
+			}
+		}
+		if (matchCount != expectedCount) {
+			throw failures.failure(info, shouldHaveMatchingGroupCount(actual, groupTag, matchCount, expectedCount));
+		}
+	}
+
+	/**
+	 * Verifies the minimum value of a numeric field over the entries having it.
+	 */
+	public void assertMinValue(AssertionInfo info, FieldMap actual, int groupTag, int fieldTag, double expectedValue, double tolerance) {
+		assertAggregate(info, actual, groupTag, fieldTag, "minimum", Math::min, expectedValue, tolerance);
+	}
+
+	/**
+	 * Verifies the maximum value of a numeric field over the entries having it.
+	 */
+	public void assertMaxValue(AssertionInfo info, FieldMap actual, int groupTag, int fieldTag, double expectedValue, double tolerance) {
+		assertAggregate(info, actual, groupTag, fieldTag, "maximum", Math::max, expectedValue, tolerance);
+	}
+
+	/**
+	 * Verifies the sum of a numeric field over the entries having it.
+	 */
+	public void assertSum(AssertionInfo info, FieldMap actual, int groupTag, int fieldTag, double expectedValue, double tolerance) {
+		assertAggregate(info, actual, groupTag, fieldTag, "sum", Double::sum, expectedValue, tolerance);
+	}
+
+	private void assertAggregate(AssertionInfo info, FieldMap actual, int groupTag, int fieldTag, String aggregate,
+			DoubleBinaryOperator operator, double expectedValue, double tolerance) {
+		assertHasGroup(info, actual, groupTag);
+
+		double result = 0;
+		int valueCount = 0;
+		for (Group entry : actual.getGroups(groupTag)) {
+			String raw = RawFieldLookup.getString(entry, fieldTag);
+			if (raw != null) {
+				// an invalid value is NaN, which the operators propagate
+				double value = RawFieldValues.parseDouble(raw);
+				result = valueCount++ == 0 ? value : operator.applyAsDouble(result, value);
+			}
+		}
+		if (valueCount == 0 || Double.isNaN(result) || Math.abs(result - expectedValue) > tolerance) {
+			Object actualValue = valueCount == 0 ? null : (Object) result;
+			throw failures.failure(info, shouldHaveGroupAggregate(actual, aggregate, groupTag, fieldTag, actualValue, expectedValue));
+		}
+	}
+}
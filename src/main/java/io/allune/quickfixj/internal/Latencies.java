@@ -0,0 +1,145 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.internal;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.Failures;
+import org.assertj.core.internal.Objects;
+import quickfix.Message;
+import quickfix.field.MsgType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static io.allune.quickfixj.error.ShouldHaveLatency.shouldHaveLatencySampleCount;
+import static io.allune.quickfixj.error.ShouldHaveLatency.shouldHaveLatencySamples;
+import static io.allune.quickfixj.error.ShouldHaveLatency.shouldHaveMaxLatencyBelow;
+import static io.allune.quickfixj.error.ShouldHaveLatency.shouldHavePercentileLatencyBelow;
+import static io.allune.quickfixj.internal.RawFieldValues.INVALID_TIMESTAMP;
+import static io.allune.quickfixj.internal.RawFieldValues.isString;
+import static io.allune.quickfixj.internal.RawFieldValues.parseUtcTimestamp;
+
+/**
+ * Measures the latencies between requests and their responses in a stream of Messages, and asserts on their
+ * distribution.
+ * <p>
+ * A request is paired with the first response that follows it with the same value of the key field, e.g. a
+ * NewOrderSingle with the first ExecutionReport for its ClOrdID, and the difference of their timestamps is recorded
+ * in a {@link LatencyHistogram}. Pending requests are kept in a {@link StringLongMap} of key to timestamp and
+ * timestamps are parsed in place, so the stream is read once and only the keys of pending requests are copied.
+ * Requests or responses without a key or a valid timestamp are left out.
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+public class Latencies {
+
+	private static final Latencies INSTANCE = new Latencies();
+
+	private final Failures failures = Failures.instance();
+
+	private final Objects objects = Objects.instance();
+
+	Latencies() {
+	}
+
+	public static Latencies instance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * @param actual          the Messages.
+	 * @param indexes         the index of each Message in the original batch.
+	 * @param requestMsgType  the MsgType of the requests.
+	 * @param responseMsgType the MsgType of the responses.
+	 * @param keyTag          the tag of the field pairing a response with its request.
+	 * @param timestampTag    the tag of the UTCTimestamp field the latency is measured on.
+	 * @return the latencies.
+	 */
+	public LatencyHistogram measure(List<Message> actual, int[] indexes, String requestMsgType, String responseMsgType,
+			int keyTag, int timestampTag) {
+		return measure(MessageCursor.of(actual, indexes), requestMsgType, responseMsgType, keyTag, timestampTag);
+	}
+
+	/**
+	 * @param actual the message log.
+	 * @see #measure(List, int[], String, String, int, int)
+	 */
+	public LatencyHistogram measure(Path actual, String requestMsgType, String responseMsgType, int keyTag, int timestampTag) {
+		try (MessageCursor cursor = MessageCursor.open(actual, null)) {
+			return measure(cursor, requestMsgType, responseMsgType, keyTag, timestampTag);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	public void assertPercentileBelow(AssertionInfo info, LatencyHistogram actual, double percentile, Duration limit) {
+		assertHasSamples(info, actual);
+		Duration latency = actual.getValueAtPercentile(percentile);
+		if (latency.compareTo(limit) >= 0) {
+			throw failures.failure(info, shouldHavePercentileLatencyBelow(actual, percentile, latency, limit));
+		}
+	}
+
+	public void assertMaxBelow(AssertionInfo info, LatencyHistogram actual, Duration limit) {
+		assertHasSamples(info, actual);
+		if (actual.getMax().compareTo(limit) >= 0) {
+			throw failures.failure(info, shouldHaveMaxLatencyBelow(actual, limit));
+		}
+	}
+
+	public void assertSampleCount(AssertionInfo info, LatencyHistogram actual, long expectedSampleCount) {
+		objects.assertNotNull(info, actual);
+		if (actual.getCount() != expectedSampleCount) {
+			throw failures.failure(info, shouldHaveLatencySampleCount(actual, expectedSampleCount));
+		}
+	}
+
+	private void assertHasSamples(AssertionInfo info, LatencyHistogram actual) {
+		objects.assertNotNull(info, actual);
+		if (actual.getCount() == 0) {
+			throw failures.failure(info, shouldHaveLatencySamples());
+		}
+	}
+
+	private static LatencyHistogram measure(MessageCursor cursor, String requestMsgType, String responseMsgType, int keyTag,
+			int timestampTag) {
+		LatencyHistogram histogram = new LatencyHistogram();
+		StringLongMap pendingRequests = new StringLongMap();
+		while (cursor.next()) {
+			CharSequence msgType = cursor.getValue(MsgType.FIELD);
+			boolean request = isString(msgType, requestMsgType);
+			if (!request && !isString(msgType, responseMsgType)) {
+				continue;
+			}
+			CharSequence rawTimestamp = cursor.getValue(timestampTag);
+			long timestamp = rawTimestamp == null ? INVALID_TIMESTAMP : parseUtcTimestamp(rawTimestamp);
+			CharSequence key = cursor.getValue(keyTag);
+			if (timestamp == INVALID_TIMESTAMP || key == null) {
+				continue;
+			}
+
+			if (request) {
+				pendingRequests.put(key, timestamp);
+			} else {
+				long requestTimestamp = pendingRequests.remove(key, INVALID_TIMESTAMP);
+				if (requestTimestamp != INVALID_TIMESTAMP) {
+					histogram.record(timestamp - requestTimestamp);
+				}
+			}
+		}
+		return histogram;
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.internal;
+
+import java.time.Duration;
+
+/**
+ * A histogram of latencies in nanoseconds with log-linear buckets: each power of two is split into
+ * {@value #SUB_BUCKETS_PER_POWER} linear sub-buckets, so a value is recorded with a relative error below 1.6% in a
+ * fixed array of counts, whatever the number and range of the values, and recording never allocates.
+ * <p>
+ * Percentiles are reported as the highest value of their bucket, never above the maximum recorded, so a percentile
+ * is never under-estimated.
+ * <p>
+ * Not thread safe.
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+public final class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 6;
+
+	static final int SUB_BUCKETS_PER_POWER = 1 << SUB_BUCKET_BITS;
+
+	/**
+	 * Values below this are recorded exactly, one bucket each.
+	 */
+	private static final int LINEAR_LIMIT = 2 * SUB_BUCKETS_PER_POWER;
+
+	private static final int BUCKET_COUNT = indexOf(Long.MAX_VALUE) + 1;
+
+	private final long[] counts = new long[BUCKET_COUNT];
+
+	private long count;
+
+	private long min = Long.MAX_VALUE;
+
+	private long max;
+
+	private double sum;
+
+	/**
+	 * Records a latency; negative ones, e.g. from clocks out of step, are recorded as zero.
+	 *
+	 * @param nanos the latency in nanoseconds.
+	 */
+	public void record(long nanos) {
+		long value = Math.max(0, nanos);
+		counts[indexOf(value)]++;
+		count++;
+		min = Math.min(min, value);
+		max = Math.max(max, value);
+		sum += value;
+	}
+
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * @return the lowest latency recorded, exact.
+	 */
+	public Duration getMin() {
+		return Duration.ofNanos(count == 0 ? 0 : min);
+	}
+
+	/**
+	 * @return the highest latency recorded, exact.
+	 */
+	public Duration getMax() {
+		return Duration.ofNanos(max);
+	}
+
+	public Duration getMean() {
+		return Duration.ofNanos(count == 0 ? 0 : Math.round(sum / count));
+	}
+
+	/**
+	 * @param percentile the percentile, between 0 and 100, e.g. {@code 99.9}.
+	 * @return the latency at or below which the given percentage of the latencies are.
+	 */
+	public Duration getValueAtPercentile(double percentile) {
+		if (percentile < 0 || percentile > 100) {
+			throw new IllegalArgumentException("'percentile' must be between 0 and 100.");
+		}
+		if (count == 0) {
+			return Duration.ZERO;
+		}
+		long rank = Math.max(1, (long) Math.ceil(percentile * count / 100));
+		long seen = 0;
+		for (int index = 0; index < counts.length; index++) {
+			seen += counts[index];
+			if (seen >= rank) {
+				return Duration.ofNanos(Math.min(highestValueOf(index), max));
+			}
+		}
+		return getMax();
+	}
+
+	/**
+	 * @return the bucket of the value: the value itself below {@link #LINEAR_LIMIT}, then
+	 * {@value #SUB_BUCKETS_PER_POWER} buckets per power of two.
+	 */
+	static int indexOf(long value) {
+		int shift = Math.max(0, 64 - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS + 1));
+		return (shift << SUB_BUCKET_BITS) + (int) (value >>> shift);
+	}
+
+	static long highestValueOf(int index) {
+		if (index < LINEAR_LIMIT) {
+			return index;
+		}
+		int shift = (index >>> SUB_BUCKET_BITS) - 1;
+		long subBucket = index - ((long) shift << SUB_BUCKET_BITS);
+		long highest = ((subBucket + 1) << shift) - 1;
+		return highest < 0 ? Long.MAX_VALUE : highest;
+	}
+}
@@ -0,0 +1,169 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.internal;
+
+import quickfix.FieldMap;
+import quickfix.FieldNotFound;
+import quickfix.Message;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Reads the fields of a stream of Messages one Message at a time, whether they are parsed Messages of a batch or
+ * the raw Messages of a message log, which are then read in place and never parsed.
+ * <p>
+ * Not thread safe.
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+abstract class MessageCursor implements Closeable {
+
+	MessageCursor() {
+	}
+
+	/**
+	 * @param messages the Messages, {@code null} ones being skipped.
+	 * @param indexes  the index of each Message in the original batch.
+	 * @return a cursor positioned before the first Message.
+	 */
+	static MessageCursor of(List<Message> messages, int[] indexes) {
+		return new MessageListCursor(messages, indexes);
+	}
+
+	/**
+	 * @param messageLog the message log.
+	 * @param msgType    the MsgType of the Messages to read or {@code null} to read all of them.
+	 * @return a cursor positioned before the first Message.
+	 * @throws IOException if the log cannot be opened.
+	 */
+	static MessageCursor open(Path messageLog, String msgType) throws IOException {
+		return new MessageLogCursor(FixLogReader.open(messageLog), msgType);
+	}
+
+	/**
+	 * Advances to the next Message.
+	 *
+	 * @return {@code false} once the end of the stream is reached.
+	 * @throws UncheckedIOException if the log cannot be read.
+	 */
+	abstract boolean next();
+
+	/**
+	 * @return the index of the current Message, as reported.
+	 */
+	abstract long getIndex();
+
+	/**
+	 * Returns the value of a field of the current Message, looked up in the header, then the body, then the trailer.
+	 * The value may be a view that is only valid until the next lookup.
+	 *
+	 * @param tag the tag number.
+	 * @return the value or {@code null} if the Message has no field with the tag.
+	 */
+	abstract CharSequence getValue(int tag);
+
+	@Override
+	public void close() throws IOException {
+	}
+
+	private static final class MessageListCursor extends MessageCursor {
+
+		private final List<Message> messages;
+
+		private final int[] indexes;
+
+		private int position = -1;
+
+		private Message message;
+
+		private MessageListCursor(List<Message> messages, int[] indexes) {
+			this.messages = messages;
+			this.indexes = indexes;
+		}
+
+		@Override
+		boolean next() {
+			while (++position < messages.size()) {
+				message = messages.get(position);
+				if (message != null) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		@Override
+		long getIndex() {
+			return indexes[position];
+		}
+
+		@Override
+		CharSequence getValue(int tag) {
+			FieldMap fieldMap = message.getHeader().isSetField(tag) ? message.getHeader()
+					: message.isSetField(tag) ? message : message.getTrailer();
+			try {
+				return fieldMap.isSetField(tag) ? fieldMap.getString(tag) : null;
+			} catch (FieldNotFound fieldNotFound) {
+				return null;
+			}
+		}
+	}
+
+	private static final class MessageLogCursor extends MessageCursor {
+
+		private final FixLogReader reader;
+
+		private final String msgType;
+
+		private RawMessage message;
+
+		private MessageLogCursor(FixLogReader reader, String msgType) {
+			this.reader = reader;
+			this.msgType = msgType;
+		}
+
+		@Override
+		boolean next() {
+			try {
+				while (reader.next()) {
+					if (msgType == null || msgType.equals(reader.getMsgType())) {
+						message = reader.getRawMessage().index();
+						return true;
+					}
+				}
+				return false;
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+
+		@Override
+		long getIndex() {
+			return reader.getIndex();
+		}
+
+		@Override
+		CharSequence getValue(int tag) {
+			return message.getValue(tag);
+		}
+
+		@Override
+		public void close() throws IOException {
+			reader.close();
+		}
+	}
+}
@@ -0,0 +1,238 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.internal;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.Failures;
+import org.assertj.core.internal.Objects;
+import quickfix.Field;
+import quickfix.FieldMap;
+import quickfix.FieldNotFound;
+import quickfix.Group;
+import quickfix.Message;
+
+import java.util.Iterator;
+import java.util.List;
+
+import static io.allune.quickfixj.error.ShouldBeEqualMessage.shouldBeEqualMessage;
+import static io.allune.quickfixj.error.ShouldHaveFingerprint.shouldHaveFingerprint;
+import static io.allune.quickfixj.error.ShouldNotBeEqualMessage.shouldNotBeEqualMessage;
+
+/**
+ * Structural equality of {@link Message}s: the header, body, trailer and repeating groups are compared tag by tag on
+ * their raw values, without serialising either message, and the comparison stops at the first difference.
+ * <p>
+ * Fields are looked up by tag rather than compared in iteration order, so two messages holding the same fields are
+ * equal even when their field orders differ, e.g. a parsed message and one built in a test.
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+public class MessageEquality {
+
+	private static final MessageEquality INSTANCE = new MessageEquality();
+
+	private final Failures failures = Failures.instance();
+
+	private final Objects objects = Objects.instance();
+
+	MessageEquality() {
+	}
+
+	public static MessageEquality instance() {
+		return INSTANCE;
+	}
+
+	public void assertEqual(AssertionInfo info, Message actual, Message expected, TagSet ignoredTags) {
+		objects.assertNotNull(info, actual);
+
+		Difference difference = findFirstDifference(actual, expected, ignoredTags);
+		if (difference != null) {
+			throw failures.failure(info, shouldBeEqualMessage(actual, expected, difference, ignoredTags));
+		}
+	}
+
+	public void assertNotEqual(AssertionInfo info, Message actual, Message other, TagSet ignoredTags) {
+		objects.assertNotNull(info, actual);
+
+		if (findFirstDifference(actual, other, ignoredTags) == null) {
+			throw failures.failure(info, shouldNotBeEqualMessage(actual, other, ignoredTags));
+		}
+	}
+
+	public void assertHasFingerprint(AssertionInfo info, Message actual, long expectedHigh, long expectedLow, TagSet ignoredTags) {
+		assertHasFingerprint(info, actual, Fingerprint.of(expectedHigh, expectedLow), ignoredTags);
+	}
+
+	public void assertSameFingerprint(AssertionInfo info, Message actual, Message other, TagSet ignoredTags) {
+		assertHasFingerprint(info, actual, Fingerprint.of(other, ignoredTags), ignoredTags);
+	}
+
+	private void assertHasFingerprint(AssertionInfo info, Message actual, Fingerprint expected, TagSet ignoredTags) {
+		objects.assertNotNull(info, actual);
+
+		Fingerprint fingerprint = Fingerprint.of(actual, ignoredTags);
+		if (!fingerprint.equals(expected)) {
+			throw failures.failure(info, shouldHaveFingerprint(actual, fingerprint, expected, ignoredTags));
+		}
+	}
+
+	/**
+	 * @param actual      the actual message.
+	 * @param expected    the expected message, not {@code null}.
+	 * @param ignoredTags the tags left out of the comparison, at every level.
+	 * @return the first difference or {@code null} if the messages are structurally equal.
+	 */
+	public Difference findFirstDifference(Message actual, Message expected, TagSet ignoredTags) {
+		Difference difference = compare(actual.getHeader(), expected.getHeader(), ignoredTags);
+		if (difference != null) {
+			return difference.within("header");
+		}
+		difference = compare(actual, expected, ignoredTags);
+		if (difference != null) {
+			return difference.within("body");
+		}
+		difference = compare(actual.getTrailer(), expected.getTrailer(), ignoredTags);
+		return difference == null ? null : difference.within("trailer");
+	}
+
+	/**
+	 * @return the first difference, located relative to the given maps, or {@code null}.
+	 */
+	private Difference compare(FieldMap actual, FieldMap expected, TagSet ignoredTags) {
+		int comparedFields = 0;
+		for (Iterator<Field<?>> fields = actual.iterator(); fields.hasNext(); ) {
+			int tag = fields.next().getTag();
+			if (ignoredTags.contains(tag)) {
+				continue;
+			}
+			String actualValue = getRawValue(actual, tag);
+			String expectedValue = getRawValue(expected, tag);
+			if (!actualValue.equals(expectedValue)) {
+				return new Difference(tag, actualValue, expectedValue);
+			}
+			comparedFields++;
+		}
+		if (comparedFields != countFields(expected, ignoredTags)) {
+			// a field of the expected map is missing from the actual one
+			for (Iterator<Field<?>> fields = expected.iterator(); fields.hasNext(); ) {
+				int tag = fields.next().getTag();
+				if (!ignoredTags.contains(tag) && !actual.isSetField(tag)) {
+					return new Difference(tag, null, getRawValue(expected, tag));
+				}
+			}
+		}
+
+		for (Iterator<Integer> groupTags = actual.groupKeyIterator(); groupTags.hasNext(); ) {
+			int groupTag = groupTags.next();
+			if (ignoredTags.contains(groupTag)) {
+				continue;
+			}
+			List<Group> actualEntries = actual.getGroups(groupTag);
+			List<Group> expectedEntries = expected.getGroups(groupTag);
+			int entryCount = Math.min(actualEntries.size(), expectedEntries.size());
+			for (int i = 0; i < entryCount; i++) {
+				Difference difference = compare(actualEntries.get(i), expectedEntries.get(i), ignoredTags);
+				if (difference != null) {
+					return difference.within("entry <" + (i + 1) + "> of group <" + groupTag + ">");
+				}
+			}
+			if (actualEntries.size() != expectedEntries.size()) {
+				return new Difference(groupTag, actualEntries.size() + " entries", expectedEntries.size() + " entries");
+			}
+		}
+		for (Iterator<Integer> groupTags = expected.groupKeyIterator(); groupTags.hasNext(); ) {
+			int groupTag = groupTags.next();
+			if (!ignoredTags.contains(groupTag) && !actual.hasGroup(groupTag) && !expected.getGroups(groupTag).isEmpty()) {
+				return new Difference(groupTag, "0 entries", expected.getGroups(groupTag).size() + " entries");
+			}
+		}
+		return null;
+	}
+
+	private static int countFields(FieldMap fieldMap, TagSet ignoredTags) {
+		int count = 0;
+		for (Iterator<Field<?>> fields = fieldMap.iterator(); fields.hasNext(); ) {
+			if (!ignoredTags.contains(fields.next().getTag())) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private static String getRawValue(FieldMap fieldMap, int tag) {
+		try {
+			return fieldMap.getString(tag);
+		} catch (FieldNotFound fieldNotFound) {
+			return null;
+		}
+	}
+
+	/**
+	 * The first field found to differ between two messages.
+	 */
+	public static final class Difference {
+
+		private final String location;
+
+		private final int tag;
+
+		private final String actualValue;
+
+		private final String expectedValue;
+
+		Difference(int tag, String actualValue, String expectedValue) {
+			this("", tag, actualValue, expectedValue);
+		}
+
+		private Difference(String location, int tag, String actualValue, String expectedValue) {
+			this.location = location;
+			this.tag = tag;
+			this.actualValue = actualValue;
+			this.expectedValue = expectedValue;
+		}
+
+		Difference within(String parent) {
+			return new Difference(location.isEmpty() ? parent : parent + ", " + location, tag, actualValue, expectedValue);
+		}
+
+		/**
+		 * @return where the field is, e.g. {@code header} or {@code body, entry <2> of group <268>}.
+		 */
+		public String getLocation() {
+			return location;
+		}
+
+		public int getTag() {
+			return tag;
+		}
+
+		/**
+		 * @return the actual raw value or {@code null} if the actual message does not have the field.
+		 */
+		public String getActualValue() {
+			return actualValue;
+		}
+
+		/**
+		 * @return the expected raw value or {@code null} if the expected message does not have the field.
+		 */
+		public String getExpectedValue() {
+			return expectedValue;
+		}
+
+		@Override
+		public String toString() {
+			return location + ", tag <" + tag + ">: expected <" + expectedValue + "> but was <" + actualValue + ">";
+		}
+	}
+}
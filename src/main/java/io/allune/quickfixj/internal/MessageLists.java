@@ -0,0 +1,388 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.internal;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.Failures;
+import org.assertj.core.internal.Objects;
+import quickfix.FieldNotFound;
+import quickfix.Message;
+import quickfix.field.MsgType;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static io.allune.quickfixj.error.ShouldAllBeValid.shouldAllBeValid;
+import static io.allune.quickfixj.error.ShouldAllSatisfy.shouldAllSatisfy;
+import static io.allune.quickfixj.error.ShouldAnySatisfy.shouldAnySatisfy;
+import static io.allune.quickfixj.error.ShouldHaveContinuousMsgSeqNums.shouldHaveContinuousMsgSeqNums;
+import static io.allune.quickfixj.error.ShouldHaveSameFingerprints.shouldContainFingerprints;
+import static io.allune.quickfixj.error.ShouldHaveSameFingerprints.shouldHaveSameFingerprints;
+import static io.allune.quickfixj.error.ShouldNoneSatisfy.shouldNoneSatisfy;
+
+/**
+ * Evaluates requirements over batches of {@link Message}s, sequentially or in parallel on a {@link ForkJoinPool},
+ * which splits large batches across cores.
+ * <p>
+ * Every Message of the batch is evaluated, so a failure reports the failing indexes at once rather than the first
+ * one only. The requirement failures of the first {@value #MAX_REPORTED_FAILURES} failing Messages are kept for the
+ * error message; the others are counted.
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+public class MessageLists {
+
+	private static final MessageLists INSTANCE = new MessageLists();
+
+	/**
+	 * Messages evaluated per fork/join task; below this the cost of forking exceeds that of the assertions.
+	 */
+	private static final int PARALLEL_THRESHOLD = 64;
+
+	/**
+	 * Requirement failures listed in the error message; the others are counted.
+	 */
+	static final int MAX_REPORTED_FAILURES = 20;
+
+	/**
+	 * Unmatched fingerprints listed per side in the error message; the others are counted.
+	 */
+	static final int MAX_REPORTED_FINGERPRINTS = 20;
+
+	private final Failures failures = Failures.instance();
+
+	private final Objects objects = Objects.instance();
+
+	private final Messages messages = Messages.instance();
+
+	MessageLists() {
+	}
+
+	public static MessageLists instance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Verifies that every Message satisfies the requirements.
+	 *
+	 * @param info         the assertion info.
+	 * @param actual       the Messages.
+	 * @param indexes      the index of each Message in the batch originally asserted on.
+	 * @param requirements the requirements, throwing an {@link AssertionError} when not satisfied.
+	 * @param pool         the pool to evaluate the requirements on or {@code null} to evaluate them sequentially.
+	 */
+	public void assertAllSatisfy(AssertionInfo info, List<Message> actual, int[] indexes, Consumer<Message> requirements, ForkJoinPool pool) {
+		objects.assertNotNull(info, actual);
+
+		String[] errors = evaluate(actual, toCheck(requirements), pool);
+		Map<Integer, String> failuresByIndex = new LinkedHashMap<>();
+		int failureCount = 0;
+		for (int i = 0; i < errors.length; i++) {
+			if (errors[i] != null && failureCount++ < MAX_REPORTED_FAILURES) {
+				failuresByIndex.put(indexes[i], errors[i]);
+			}
+		}
+		if (failureCount > 0) {
+			throw failures.failure(info, shouldAllSatisfy(actual.size(), failureCount, failuresByIndex));
+		}
+	}
+
+	/**
+	 * Verifies that at least one Message satisfies the requirements.
+	 *
+	 * @see #assertAllSatisfy(AssertionInfo, List, int[], Consumer, ForkJoinPool)
+	 */
+	public void assertAnySatisfy(AssertionInfo info, List<Message> actual, int[] indexes, Consumer<Message> requirements, ForkJoinPool pool) {
+		objects.assertNotNull(info, actual);
+
+		Function<Message, String> check = toCheck(requirements);
+		Map<Integer, String> failuresByIndex = new LinkedHashMap<>();
+		if (pool == null) {
+			// stops at the first satisfying Message, the remaining ones are not evaluated
+			for (int i = 0; i < actual.size(); i++) {
+				String error = check.apply(actual.get(i));
+				if (error == null) {
+					return;
+				}
+				if (failuresByIndex.size() < MAX_REPORTED_FAILURES) {
+					failuresByIndex.put(indexes[i], error);
+				}
+			}
+			throw failures.failure(info, shouldAnySatisfy(actual.size(), failuresByIndex));
+		}
+		String[] errors = evaluate(actual, check, pool);
+		for (int i = 0; i < errors.length; i++) {
+			if (errors[i] == null) {
+				return;
+			}
+			if (failuresByIndex.size() < MAX_REPORTED_FAILURES) {
+				failuresByIndex.put(indexes[i], errors[i]);
+			}
+		}
+		throw failures.failure(info, shouldAnySatisfy(actual.size(), failuresByIndex));
+	}
+
+	/**
+	 * Verifies that no Message satisfies the requirements.
+	 *
+	 * @see #assertAllSatisfy(AssertionInfo, List, int[], Consumer, ForkJoinPool)
+	 */
+	public void assertNoneSatisfy(AssertionInfo info, List<Message> actual, int[] indexes, Consumer<Message> requirements, ForkJoinPool pool) {
+		objects.assertNotNull(info, actual);
+
+		String[] errors = evaluate(actual, toCheck(requirements), pool);
+		List<Integer> satisfyingIndexes = new ArrayList<>();
+		int satisfyingCount = 0;
+		for (int i = 0; i < errors.length; i++) {
+			if (errors[i] == null && satisfyingCount++ < MAX_REPORTED_FAILURES) {
+				satisfyingIndexes.add(indexes[i]);
+			}
+		}
+		if (satisfyingCount > 0) {
+			throw failures.failure(info, shouldNoneSatisfy(actual.size(), satisfyingCount, satisfyingIndexes));
+		}
+	}
+
+	/**
+	 * Returns the positions, within the given Messages, of those of the given MsgType. MsgType is read from the
+	 * header without serialising the Messages.
+	 *
+	 * @param actual  the Messages.
+	 * @param msgType the MsgType.
+	 * @return the positions of the matching Messages.
+	 */
+	public int[] indexesOfMsgType(List<Message> actual, String msgType) {
+		int[] positions = new int[actual.size()];
+		int count = 0;
+		for (int i = 0; i < actual.size(); i++) {
+			Message message = actual.get(i);
+			if (message != null && msgType.equals(getMsgType(message))) {
+				positions[count++] = i;
+			}
+		}
+		int[] matching = new int[count];
+		System.arraycopy(positions, 0, matching, 0, count);
+		return matching;
+	}
+
+	/**
+	 * Verifies that the MsgSeqNums of every session are continuous, in the order of the batch.
+	 *
+	 * @param info    the assertion info.
+	 * @param actual  the Messages.
+	 * @param indexes the index of each Message in the original batch, for the error message.
+	 * @see MsgSeqNumTracker
+	 */
+	public void assertContinuousMsgSeqNums(AssertionInfo info, List<Message> actual, int[] indexes) {
+		objects.assertNotNull(info, actual);
+
+		MsgSeqNumTracker tracker = new MsgSeqNumTracker();
+		MessageCursor cursor = MessageCursor.of(actual, indexes);
+		while (cursor.next()) {
+			tracker.accept(cursor.getIndex(), cursor::getValue);
+		}
+		tracker.finish();
+		if (tracker.hasAnomalies()) {
+			throw failures.failure(info, shouldHaveContinuousMsgSeqNums(tracker));
+		}
+	}
+
+	private static String getMsgType(Message message) {
+		try {
+			return message.getHeader().getString(MsgType.FIELD);
+		} catch (FieldNotFound fieldNotFound) {
+			return null;
+		}
+	}
+
+	/**
+	 * Verifies that every Message is valid according to the dictionary of its version. Failures are aggregated per
+	 * MsgType and reason.
+	 *
+	 * @param info         the assertion info.
+	 * @param actual       the Messages.
+	 * @param indexes      the index of each Message in the batch originally asserted on.
+	 * @param dictionaries the dictionaries to validate against.
+	 * @param pool         the pool to validate the Messages on or {@code null} to validate them sequentially.
+	 */
+	public void assertAllValid(AssertionInfo info, List<Message> actual, int[] indexes, Dictionaries dictionaries, ForkJoinPool pool) {
+		objects.assertNotNull(info, actual);
+
+		String[] reasons = evaluate(actual, message -> message == null ? "Message is null" : messages.validate(message, dictionaries), pool);
+		Map<String, Map<String, List<Integer>>> invalidIndexes = new TreeMap<>();
+		int invalidCount = 0;
+		for (int i = 0; i < reasons.length; i++) {
+			if (reasons[i] != null) {
+				String msgType = actual.get(i) == null ? null : getMsgType(actual.get(i));
+				invalidIndexes.computeIfAbsent(String.valueOf(msgType), ignored -> new TreeMap<>())
+						.computeIfAbsent(reasons[i], ignored -> new ArrayList<>())
+						.add(indexes[i]);
+				invalidCount++;
+			}
+		}
+		if (invalidCount > 0) {
+			throw failures.failure(info, shouldAllBeValid(actual.size(), invalidCount, invalidIndexes));
+		}
+	}
+
+	/**
+	 * Verifies that the Messages and the expected ones have the same fingerprints, as multisets: every Message must
+	 * match a distinct expected Message and the other way round, in any order.
+	 *
+	 * @param info        the assertion info.
+	 * @param actual      the Messages.
+	 * @param indexes     the index of each Message in the batch originally asserted on.
+	 * @param expected    the expected Messages.
+	 * @param ignoredTags the tags left out of the fingerprints.
+	 * @param pool        the pool to compute the fingerprints on or {@code null} to compute them sequentially.
+	 */
+	public void assertSameFingerprints(AssertionInfo info, List<Message> actual, int[] indexes, List<Message> expected, TagSet ignoredTags,
+			ForkJoinPool pool) {
+		assertFingerprints(info, actual, indexes, expected, ignoredTags, pool, true);
+	}
+
+	/**
+	 * Verifies that every expected Message has the fingerprint of a distinct Message, which may have others.
+	 *
+	 * @param info        the assertion info.
+	 * @param actual      the Messages.
+	 * @param indexes     the index of each Message in the batch originally asserted on.
+	 * @param expected    the expected Messages.
+	 * @param ignoredTags the tags left out of the fingerprints.
+	 * @param pool        the pool to compute the fingerprints on or {@code null} to compute them sequentially.
+	 */
+	public void assertContainsFingerprints(AssertionInfo info, List<Message> actual, int[] indexes, List<Message> expected, TagSet ignoredTags,
+			ForkJoinPool pool) {
+		assertFingerprints(info, actual, indexes, expected, ignoredTags, pool, false);
+	}
+
+	private void assertFingerprints(AssertionInfo info, List<Message> actual, int[] indexes, List<Message> expected, TagSet ignoredTags,
+			ForkJoinPool pool, boolean same) {
+		objects.assertNotNull(info, actual);
+		if (expected == null) {
+			throw new IllegalArgumentException("'expected' must not be null.");
+		}
+
+		Function<Message, Fingerprint> fingerprint = message -> message == null ? null : Fingerprint.of(message, ignoredTags);
+		Fingerprint[] actualFingerprints = evaluate(actual, fingerprint, new Fingerprint[actual.size()], pool);
+		Fingerprint[] expectedFingerprints = evaluate(expected, fingerprint, new Fingerprint[expected.size()], pool);
+
+		Map<Fingerprint, Integer> unmatched = new HashMap<>();
+		for (Fingerprint expectedFingerprint : expectedFingerprints) {
+			unmatched.merge(expectedFingerprint, 1, Integer::sum);
+		}
+		Map<Integer, Fingerprint> unexpected = new LinkedHashMap<>();
+		int unexpectedCount = 0;
+		for (int i = 0; i < actualFingerprints.length; i++) {
+			Integer count = unmatched.get(actualFingerprints[i]);
+			if (count != null && count > 0) {
+				unmatched.put(actualFingerprints[i], count - 1);
+			} else if (unexpectedCount++ < MAX_REPORTED_FINGERPRINTS) {
+				unexpected.put(indexes[i], actualFingerprints[i]);
+			}
+		}
+		Map<Integer, Fingerprint> missing = new LinkedHashMap<>();
+		int missingCount = 0;
+		for (int i = 0; i < expectedFingerprints.length; i++) {
+			Integer count = unmatched.get(expectedFingerprints[i]);
+			if (count > 0) {
+				unmatched.put(expectedFingerprints[i], count - 1);
+				if (missingCount++ < MAX_REPORTED_FINGERPRINTS) {
+					missing.put(i, expectedFingerprints[i]);
+				}
+			}
+		}
+
+		if (same && (unexpectedCount > 0 || missingCount > 0)) {
+			throw failures.failure(info, shouldHaveSameFingerprints(actual.size(), expected.size(), ignoredTags,
+					unexpectedCount, unexpected, missingCount, missing));
+		}
+		if (!same && missingCount > 0) {
+			throw failures.failure(info, shouldContainFingerprints(actual.size(), expected.size(), ignoredTags, missingCount, missing));
+		}
+	}
+
+	private static Function<Message, String> toCheck(Consumer<Message> requirements) {
+		return message -> {
+			try {
+				requirements.accept(message);
+				return null;
+			} catch (AssertionError error) {
+				return String.valueOf(error.getMessage());
+			}
+		};
+	}
+
+	/**
+	 * @return the result of the check for each Message, {@code null} for those passing it.
+	 */
+	private static String[] evaluate(List<Message> actual, Function<Message, String> check, ForkJoinPool pool) {
+		return evaluate(actual, check, new String[actual.size()], pool);
+	}
+
+	private static <T> T[] evaluate(List<Message> actual, Function<Message, ? extends T> function, T[] results, ForkJoinPool pool) {
+		Evaluation<T> evaluation = new Evaluation<>(actual, function, results, 0, results.length);
+		if (pool == null) {
+			evaluation.evaluateSequentially();
+		} else {
+			pool.invoke(evaluation);
+		}
+		return results;
+	}
+
+	private static final class Evaluation<T> extends RecursiveAction {
+
+		private final List<Message> actual;
+
+		private final Function<Message, ? extends T> function;
+
+		private final T[] results;
+
+		private final int from;
+
+		private final int to;
+
+		private Evaluation(List<Message> actual, Function<Message, ? extends T> function, T[] results, int from, int to) {
+			this.actual = actual;
+			this.function = function;
+			this.results = results;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= PARALLEL_THRESHOLD) {
+				evaluateSequentially();
+				return;
+			}
+			int middle = (from + to) >>> 1;
+			invokeAll(new Evaluation<>(actual, function, results, from, middle),
+					new Evaluation<>(actual, function, results, middle, to));
+		}
+
+		private void evaluateSequentially() {
+			for (int i = from; i < to; i++) {
+				results[i] = function.apply(actual.get(i));
+			}
+		}
+	}
+}
@@ -0,0 +1,243 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.internal;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.Failures;
+import org.assertj.core.internal.Objects;
+import quickfix.InvalidMessage;
+import quickfix.Message;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static io.allune.quickfixj.error.ShouldAllSatisfy.shouldAllSatisfy;
+import static io.allune.quickfixj.error.ShouldAnySatisfy.shouldAnySatisfy;
+import static io.allune.quickfixj.error.ShouldHaveContinuousMsgSeqNums.shouldHaveContinuousMsgSeqNums;
+import static io.allune.quickfixj.error.ShouldHaveMessageCount.shouldHaveMessageCount;
+import static io.allune.quickfixj.error.ShouldNoneSatisfy.shouldNoneSatisfy;
+import static java.lang.String.format;
+
+/**
+ * Evaluates requirements over the Messages of a QuickFIX/J message log, streaming them through a
+ * {@link FixLogReader} so that only one Message is in the heap at a time.
+ * <p>
+ * Only the first {@value #MAX_REPORTED_FAILURES} failures are kept for the error message; the others are counted.
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+public class MessageLogs {
+
+	private static final MessageLogs INSTANCE = new MessageLogs();
+
+	static final int MAX_REPORTED_FAILURES = 20;
+
+	private final Failures failures = Failures.instance();
+
+	private final Objects objects = Objects.instance();
+
+	MessageLogs() {
+	}
+
+	public static MessageLogs instance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Verifies that the log contains the expected number of Messages of the given MsgType.
+	 *
+	 * @param info                 the assertion info.
+	 * @param actual               the message log.
+	 * @param msgType              the MsgType of the Messages to count or {@code null} to count all of them.
+	 * @param expectedMessageCount the expected number of Messages.
+	 */
+	public void assertHasMessageCount(AssertionInfo info, Path actual, String msgType, long expectedMessageCount) {
+		objects.assertNotNull(info, actual);
+
+		long messageCount = 0;
+		try (FixLogReader reader = FixLogReader.open(actual)) {
+			while (reader.next()) {
+				if (matches(reader, msgType)) {
+					messageCount++;
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		if (messageCount != expectedMessageCount) {
+			throw failures.failure(info, shouldHaveMessageCount(actual, messageCount, expectedMessageCount));
+		}
+	}
+
+	/**
+	 * Verifies that every Message of the given MsgType satisfies the requirements. Messages that cannot be parsed
+	 * fail the requirements.
+	 *
+	 * @param info         the assertion info.
+	 * @param actual       the message log.
+	 * @param msgType      the MsgType of the Messages to verify or {@code null} to verify all of them.
+	 * @param requirements the requirements, throwing an {@link AssertionError} when not satisfied.
+	 */
+	public void assertAllSatisfy(AssertionInfo info, Path actual, String msgType, Consumer<Message> requirements) {
+		objects.assertNotNull(info, actual);
+
+		long messageCount = 0;
+		long failureCount = 0;
+		Map<Long, String> failuresByIndex = new LinkedHashMap<>();
+		try (FixLogReader reader = FixLogReader.open(actual)) {
+			while (reader.next()) {
+				if (!matches(reader, msgType)) {
+					continue;
+				}
+				String error = evaluate(reader, requirements);
+				if (error != null) {
+					if (failuresByIndex.size() < MAX_REPORTED_FAILURES) {
+						failuresByIndex.put(reader.getIndex(), error);
+					}
+					failureCount++;
+				}
+				messageCount++;
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		if (failureCount > 0) {
+			throw failures.failure(info, shouldAllSatisfy(messageCount, failureCount, failuresByIndex));
+		}
+	}
+
+	/**
+	 * Verifies that at least one Message of the given MsgType satisfies the requirements, reading the log only up
+	 * to that Message.
+	 *
+	 * @see #assertAllSatisfy(AssertionInfo, Path, String, Consumer)
+	 */
+	public void assertAnySatisfy(AssertionInfo info, Path actual, String msgType, Consumer<Message> requirements) {
+		objects.assertNotNull(info, actual);
+
+		long messageCount = 0;
+		Map<Long, String> failuresByIndex = new LinkedHashMap<>();
+		try (FixLogReader reader = FixLogReader.open(actual)) {
+			while (reader.next()) {
+				if (!matches(reader, msgType)) {
+					continue;
+				}
+				String error = evaluate(reader, requirements);
+				if (error == null) {
+					return;
+				}
+				if (failuresByIndex.size() < MAX_REPORTED_FAILURES) {
+					failuresByIndex.put(reader.getIndex(), error);
+				}
+				messageCount++;
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		throw failures.failure(info, shouldAnySatisfy(messageCount, failuresByIndex));
+	}
+
+	/**
+	 * Verifies that no Message of the given MsgType satisfies the requirements.
+	 *
+	 * @see #assertAllSatisfy(AssertionInfo, Path, String, Consumer)
+	 */
+	public void assertNoneSatisfy(AssertionInfo info, Path actual, String msgType, Consumer<Message> requirements) {
+		objects.assertNotNull(info, actual);
+
+		long messageCount = 0;
+		long satisfyingCount = 0;
+		List<Long> satisfyingIndexes = new ArrayList<>();
+		try (FixLogReader reader = FixLogReader.open(actual)) {
+			while (reader.next()) {
+				if (!matches(reader, msgType)) {
+					continue;
+				}
+				if (evaluate(reader, requirements) == null) {
+					if (satisfyingIndexes.size() < MAX_REPORTED_FAILURES) {
+						satisfyingIndexes.add(reader.getIndex());
+					}
+					satisfyingCount++;
+				}
+				messageCount++;
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		if (satisfyingCount > 0) {
+			throw failures.failure(info, shouldNoneSatisfy(messageCount, satisfyingCount, satisfyingIndexes));
+		}
+	}
+
+	/**
+	 * Verifies that the MsgSeqNums of every session are continuous, reading the fields of each Message in place
+	 * without parsing it. A MsgType filter leaves the other Messages out, and so their MsgSeqNums.
+	 *
+	 * @param info    the assertion info.
+	 * @param actual  the message log.
+	 * @param msgType the MsgType of the Messages to verify or {@code null} to verify all of them.
+	 * @see MsgSeqNumTracker
+	 */
+	public void assertContinuousMsgSeqNums(AssertionInfo info, Path actual, String msgType) {
+		objects.assertNotNull(info, actual);
+
+		MsgSeqNumTracker tracker = new MsgSeqNumTracker();
+		try (MessageCursor cursor = MessageCursor.open(actual, msgType)) {
+			while (cursor.next()) {
+				tracker.accept(cursor.getIndex(), cursor::getValue);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		tracker.finish();
+		if (tracker.hasAnomalies()) {
+			throw failures.failure(info, shouldHaveContinuousMsgSeqNums(tracker));
+		}
+	}
+
+	private static boolean matches(FixLogReader reader, String msgType) {
+		return msgType == null || msgType.equals(reader.getMsgType());
+	}
+
+	/**
+	 * @return the error message if the current Message fails the requirements, {@code null} otherwise.
+	 */
+	private static String evaluate(FixLogReader reader, Consumer<Message> requirements) {
+		String rawMessage = reader.getMessage();
+		if (!reader.isComplete()) {
+			return format("Message at offset <%d> is incomplete:%n <%s>", reader.getOffset(), rawMessage);
+		}
+
+		Message message;
+		try {
+			// checksums are not verified, a log is asserted on for its content rather than its transport; without a
+			// dictionary repeating groups are left as flat body fields
+			message = new Message(rawMessage, false);
+		} catch (InvalidMessage invalidMessage) {
+			return format("Message at offset <%d> could not be parsed: %s%n <%s>", reader.getOffset(), invalidMessage.getMessage(), rawMessage);
+		}
+
+		try {
+			requirements.accept(message);
+			return null;
+		} catch (AssertionError error) {
+			return format("Message at offset <%d>:%n%s", reader.getOffset(), error.getMessage());
+		}
+	}
+}
@@ -13,41 +13,30 @@
 package io.allune.quickfixj.internal;
 
 import io.allune.quickfixj.exception.FieldNotFoundException;
-import io.allune.quickfixj.exception.ThrownByLambdaException;
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.internal.Failures;
 import org.assertj.core.internal.Objects;
-import quickfix.BooleanField;
-import quickfix.CharField;
 import quickfix.DataDictionary;
-import quickfix.DecimalField;
-import quickfix.DoubleField;
 import quickfix.Field;
+import quickfix.FieldException;
 import quickfix.FieldMap;
 import quickfix.FieldNotFound;
-import quickfix.FieldType;
-import quickfix.FixVersions;
 import quickfix.IncorrectDataFormat;
-import quickfix.IntField;
-import quickfix.InvalidMessage;
+import quickfix.IncorrectTagValue;
 import quickfix.Message;
-import quickfix.StringField;
-import quickfix.UtcDateOnlyField;
-import quickfix.UtcTimeOnlyField;
-import quickfix.UtcTimeStampField;
 import quickfix.field.ApplVerID;
 import quickfix.field.BeginString;
 import quickfix.field.MsgType;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.math.BigDecimal;
+import java.util.function.IntFunction;
 
 import static io.allune.quickfixj.error.FieldShouldHaveTag.fieldShouldHaveTag;
 import static io.allune.quickfixj.error.FieldShouldHaveValue.fieldShouldHaveValue;
 import static io.allune.quickfixj.error.ShouldBeOfType.shouldBeOfType;
+import static io.allune.quickfixj.error.ShouldBeValidMessage.shouldBeValidMessage;
 import static io.allune.quickfixj.error.ShouldHaveField.shouldHaveField;
 import static quickfix.FixVersions.BEGINSTRING_FIXT11;
-import static quickfix.MessageUtils.getMessageType;
 import static quickfix.MessageUtils.toBeginString;
 
 /**
@@ -57,21 +46,6 @@ public class Messages {
 
 	private static final Messages INSTANCE = new Messages();
 
-	private static final String FIELD_TAG_FIELD_NAME = "FIELD";
-
-	private static final Map<Class<? extends Field<?>>, ThrowingBiFunction<FieldMap, Integer, Object>> quickfixClassToObject =
-			new HashMap<Class<? extends Field<?>>, ThrowingBiFunction<FieldMap, Integer, Object>>() {{
-
-				put(StringField.class, FieldMap::getString);
-				put(BooleanField.class, FieldMap::getBoolean);
-				put(CharField.class, FieldMap::getChar);
-				put(IntField.class, FieldMap::getInt);
-				put(DoubleField.class, FieldMap::getDouble);
-				put(DecimalField.class, FieldMap::getDecimal);
-				put(UtcTimeStampField.class, FieldMap::getUtcTimeStamp);
-				put(UtcTimeOnlyField.class, FieldMap::getUtcTimeOnly);
-				put(UtcDateOnlyField.class, FieldMap::getUtcDateOnly);
-			}};
 	Objects objects = Objects.instance();
 	Failures failures = Failures.instance();
 	Dictionaries dictionaries = Dictionaries.instance();
@@ -92,79 +66,253 @@ public class Messages {
 	public void assertMessageIsOfTypeName(AssertionInfo info, Message actual, String beginString, String expectedMessageTypeName) {
 		objects.assertNotNull(info, actual);
 
-		String expectedMessageType = dictionaries.getSessionDataDictionary(beginString).getMsgType(expectedMessageTypeName);
+		assertSameMsgType(info, actual, dictionaries.getMsgType(beginString, expectedMessageTypeName));
+	}
+
+	public void assertMessageIsOfTypeName(AssertionInfo info, Message actual, DataDictionary dataDictionary, String expectedMessageTypeName) {
+		objects.assertNotNull(info, actual);
+
+		String expectedMessageType = dataDictionary.getMsgType(expectedMessageTypeName);
 		assertSameMsgType(info, actual, expectedMessageType);
 	}
 
+	/**
+	 * Verifies that the message is valid according to the dictionary of its version, as resolved by the given
+	 * {@link Dictionaries}.
+	 *
+	 * @param info         the assertion info.
+	 * @param actual       the message.
+	 * @param dictionaries the dictionaries.
+	 */
+	public void assertIsValid(AssertionInfo info, Message actual, Dictionaries dictionaries) {
+		objects.assertNotNull(info, actual);
+
+		String reason = validate(actual, dictionaries);
+		if (reason != null) {
+			throw failures.failure(info, shouldBeValidMessage(actual, reason));
+		}
+	}
+
+	/**
+	 * Validates the body of the message against the dictionary of its version, i.e. the dictionary of the ApplVerID
+	 * for FIXT.1.1 messages. The header and trailer are not validated since the session sets most of their fields,
+	 * BodyLength and CheckSum included, when the message is sent.
+	 *
+	 * @param message      the message.
+	 * @param dictionaries the dictionaries.
+	 * @return the reason the message is invalid or {@code null} if it is valid.
+	 */
+	public String validate(Message message, Dictionaries dictionaries) {
+		String beginString = determineBeginString(message);
+		if (beginString == null) {
+			return "Missing BeginString or ApplVerID";
+		}
+		try {
+			DataDictionary dataDictionary = dictionaries.getSessionDataDictionary(beginString);
+			dataDictionary.validate(message, true);
+			return null;
+		} catch (FieldNotFound | IncorrectTagValue | IncorrectDataFormat | FieldException e) {
+			return e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+		}
+	}
+
 	private void assertSameMsgType(AssertionInfo info, Message actual, String expectedMessageType) {
+		// read MsgType straight from the header instead of re-serialising the whole message
+		String actualMessageType;
 		try {
-			String actualMessageType = getMessageType(actual.toString());
-			if (!actualMessageType.equals(expectedMessageType)) {
-				throw failures.failure(info, shouldBeOfType(actual, actualMessageType, expectedMessageType));
-			}
-		} catch (InvalidMessage invalidMessage) {
+			actualMessageType = actual.getHeader().getString(MsgType.FIELD);
+		} catch (FieldNotFound fieldNotFound) {
 			throw failures.failure(info, shouldHaveField(actual, MsgType.FIELD));
 		}
+
+		if (!actualMessageType.equals(expectedMessageType)) {
+			throw failures.failure(info, shouldBeOfType(actual, actualMessageType, expectedMessageType));
+		}
 	}
 
 	public <T> void assertFieldHasValue(AssertionInfo info, FieldMap actual, Class<? extends Field<T>> actualFieldClass, T expectedFieldValue) {
 		objects.assertNotNull(info, actual);
 
-		int actualFieldTag = getFieldTagFromFieldClass(info, actualFieldClass);
-		Object actualFieldValue = getActualValue(info, actual, actualFieldClass, actualFieldTag);
+		FieldDescriptor descriptor = getFieldDescriptor(info, actualFieldClass);
+		int actualFieldTag = descriptor.getTag();
+		Object actualFieldValue = getActualValue(info, actual, descriptor);
 		if (!actualFieldValue.equals(expectedFieldValue)) {
 			throw failures.failure(info, fieldShouldHaveValue(actual, actualFieldClass, actualFieldTag, actualFieldValue, expectedFieldValue));
 		}
 	}
 
-	public <T> void assertFieldHasValue(AssertionInfo info, Message actual, Field<T> actualField, Object expectedFieldValue) {
+	public void assertFieldHasValue(AssertionInfo info, FieldMap actual, Class<? extends Field<Integer>> actualFieldClass, int expectedFieldValue) {
 		objects.assertNotNull(info, actual);
 
-		if (!actualField.getObject().equals(expectedFieldValue))
-			throw failures.failure(info, fieldShouldHaveValue(actual, actualField.getTag(), actualField.getObject(), expectedFieldValue));
+		FieldDescriptor descriptor = getFieldDescriptor(info, actualFieldClass);
+		String rawValue = getRawValue(actual, descriptor.getTag());
+		if (rawValue == null || RawFieldValues.parseInt(rawValue) != expectedFieldValue) {
+			Object actualFieldValue = getActualValue(info, actual, descriptor);
+			throw failures.failure(info, fieldShouldHaveValue(actual, actualFieldClass, descriptor.getTag(), actualFieldValue, expectedFieldValue));
+		}
+	}
+
+	public void assertFieldHasValue(AssertionInfo info, FieldMap actual, Class<? extends Field<Boolean>> actualFieldClass, boolean expectedFieldValue) {
+		objects.assertNotNull(info, actual);
+
+		FieldDescriptor descriptor = getFieldDescriptor(info, actualFieldClass);
+		String rawValue = getRawValue(actual, descriptor.getTag());
+		if (rawValue == null || !RawFieldValues.isBoolean(rawValue, expectedFieldValue)) {
+			Object actualFieldValue = getActualValue(info, actual, descriptor);
+			throw failures.failure(info, fieldShouldHaveValue(actual, actualFieldClass, descriptor.getTag(), actualFieldValue, expectedFieldValue));
+		}
+	}
+
+	public void assertIntFieldHasValue(AssertionInfo info, FieldMap actual, int fieldTag, int expectedFieldValue) {
+		objects.assertNotNull(info, actual);
+
+		String rawValue = getRequiredRawValue(info, actual, fieldTag);
+		if (RawFieldValues.parseInt(rawValue) != expectedFieldValue) {
+			throw failures.failure(info, fieldShouldHaveValue(actual, fieldTag, RawFieldValues.intOrRaw(rawValue), expectedFieldValue));
+		}
+	}
+
+	public void assertDoubleFieldHasValue(AssertionInfo info, FieldMap actual, int fieldTag, double expectedFieldValue, double tolerance) {
+		objects.assertNotNull(info, actual);
+
+		String rawValue = getRequiredRawValue(info, actual, fieldTag);
+		double actualFieldValue = RawFieldValues.parseDouble(rawValue);
+		if (Double.isNaN(actualFieldValue) || Math.abs(actualFieldValue - expectedFieldValue) > tolerance) {
+			throw failures.failure(info, fieldShouldHaveValue(actual, fieldTag, RawFieldValues.doubleOrRaw(rawValue), expectedFieldValue));
+		}
+	}
+
+	public void assertCharFieldHasValue(AssertionInfo info, FieldMap actual, int fieldTag, char expectedFieldValue) {
+		objects.assertNotNull(info, actual);
+
+		String rawValue = getRequiredRawValue(info, actual, fieldTag);
+		if (!RawFieldValues.isChar(rawValue, expectedFieldValue)) {
+			throw failures.failure(info, fieldShouldHaveValue(actual, fieldTag, rawValue, expectedFieldValue));
+		}
 	}
 
-	private int getFieldTagFromFieldClass(AssertionInfo info, Class<? extends Field<?>> actualFieldClass) {
+	public void assertBooleanFieldHasValue(AssertionInfo info, FieldMap actual, int fieldTag, boolean expectedFieldValue) {
+		objects.assertNotNull(info, actual);
+
+		String rawValue = getRequiredRawValue(info, actual, fieldTag);
+		if (!RawFieldValues.isBoolean(rawValue, expectedFieldValue)) {
+			throw failures.failure(info, fieldShouldHaveValue(actual, fieldTag, rawValue, expectedFieldValue));
+		}
+	}
+
+	public void assertDecimalFieldHasValue(AssertionInfo info, FieldMap actual, int fieldTag, long expectedUnscaledValue, int expectedScale) {
+		objects.assertNotNull(info, actual);
+
+		String rawValue = getRequiredRawValue(info, actual, fieldTag);
+		if (!RawFieldValues.decimalEquals(rawValue, expectedUnscaledValue, expectedScale)) {
+			throw failures.failure(info, fieldShouldHaveValue(actual, fieldTag, rawValue, BigDecimal.valueOf(expectedUnscaledValue, expectedScale)));
+		}
+	}
+
+	public void assertDecimalFieldHasValue(AssertionInfo info, FieldMap actual, int fieldTag, Object expectedFieldValue) {
+		objects.assertNotNull(info, actual);
+
+		String rawValue = getRequiredRawValue(info, actual, fieldTag);
+		BigDecimal expectedDecimal = toBigDecimal(expectedFieldValue);
+		boolean equal;
 		try {
-			return actualFieldClass.getField(FIELD_TAG_FIELD_NAME).getInt(null);
-		} catch (IllegalAccessException | NoSuchFieldException e) {
-			throw failures.failure(info, fieldShouldHaveTag(actualFieldClass));
+			equal = RawFieldValues.decimalEquals(rawValue, expectedDecimal.unscaledValue().longValueExact(), expectedDecimal.scale());
+		} catch (ArithmeticException tooManyDigits) {
+			equal = RawFieldValues.decimalEquals(rawValue, expectedDecimal);
+		}
+		if (!equal) {
+			throw failures.failure(info, fieldShouldHaveValue(actual, fieldTag, rawValue, expectedFieldValue));
+		}
+	}
+
+	private static BigDecimal toBigDecimal(Object value) {
+		if (value instanceof BigDecimal) {
+			return (BigDecimal) value;
+		} else if (value instanceof Double || value instanceof Float) {
+			// the shortest representation of the double, e.g. 0.1 rather than 0.1000000000000000055511151231257827
+			return BigDecimal.valueOf(((Number) value).doubleValue());
+		} else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+			return BigDecimal.valueOf(((Number) value).longValue());
+		}
+		// BigInteger, other Numbers and Strings, from their exact text
+		try {
+			return new BigDecimal(value.toString());
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("'expectedFieldValue' must be a decimal number but was <" + value + ">.", e);
 		}
 	}
 
-	private Object getActualValue(AssertionInfo info, FieldMap actual, Class<? extends Field<?>> actualFieldClass, int actualFieldTag) {
-		ThrowingBiFunction<FieldMap, Integer, Object> fieldValueFunction = quickfixClassToObject.get(actualFieldClass.getSuperclass());
-		if (fieldValueFunction == null) {
+	private String getRawValue(FieldMap actual, int fieldTag) {
+		return RawFieldLookup.getString(actual, fieldTag);
+	}
+
+	private String getRequiredRawValue(AssertionInfo info, FieldMap actual, int fieldTag) {
+		String rawValue = getRawValue(actual, fieldTag);
+		if (rawValue == null) {
+			throw failures.failure(info, shouldHaveField(actual, fieldTag));
+		}
+		return rawValue;
+	}
+
+	public <T> void assertFieldHasValue(AssertionInfo info, Message actual, Field<T> actualField, Object expectedFieldValue) {
+		objects.assertNotNull(info, actual);
+
+		if (!actualField.getObject().equals(expectedFieldValue))
+			throw failures.failure(info, fieldShouldHaveValue(actual, actualField.getTag(), actualField.getObject(), expectedFieldValue));
+	}
+
+	private FieldDescriptor getFieldDescriptor(AssertionInfo info, Class<? extends Field<?>> actualFieldClass) {
+		FieldDescriptor descriptor = FieldDescriptor.of(actualFieldClass);
+		if (!descriptor.isResolved()) {
 			// TODO: Field type not supported
 			throw failures.failure(info, fieldShouldHaveTag(actualFieldClass));
 		}
+		return descriptor;
+	}
 
+	private Object getActualValue(AssertionInfo info, FieldMap actual, FieldDescriptor descriptor) {
 		try {
-			return fieldValueFunction.apply(actual, actualFieldTag);
-		} catch (ThrownByLambdaException e) {
-			if (e.getCause().getClass().equals(FieldNotFound.class)) {
-				throw failures.failure(info, shouldHaveField(actualFieldClass, actualFieldTag));
-			} else {
-				// TODO: other exception throw failure
-				throw failures.failure(info, shouldHaveField(actualFieldClass, actualFieldTag));
-			}
+			return descriptor.getExtractor().extract(actual, descriptor.getTag());
+		} catch (FieldNotFound fieldNotFound) {
+			throw failures.failure(info, shouldHaveField(descriptor.getFieldClass(), descriptor.getTag()));
 		}
 	}
 
 	public String determineBeginString(AssertionInfo info, Message message) {
 		objects.assertNotNull(info, message); // TODO: might need to remove
 
-		try {
-			String beginString = getBeginString(info, message);
-			if (beginString.equals(BEGINSTRING_FIXT11)) {
-				String applVerId = getApplVerId(info, message);
-				return toBeginString(new ApplVerID(applVerId));
-			} else {
-				return beginString;
-			}
-		} catch (FieldNotFoundException ex) {
+		return determineBeginString(message);
+	}
+
+	/**
+	 * Returns the BeginString of the dictionary describing the message, i.e. the version of the ApplVerID for
+	 * FIXT.1.1 messages.
+	 *
+	 * @param message the message.
+	 * @return the BeginString or {@code null} if the message has none, or has no ApplVerID under FIXT.1.1.
+	 */
+	public static String determineBeginString(Message message) {
+		FieldMap header = message.getHeader();
+		return determineBeginString(tag -> RawFieldLookup.getString(header, tag));
+	}
+
+	/**
+	 * Returns the BeginString of the dictionary describing a message given the raw values of its header fields, so
+	 * that {@link Message}s, {@link RawMessage}s and error messages resolve versions the same way.
+	 *
+	 * @param headerValues the raw value of a header field by tag, {@code null} if the field is missing.
+	 * @return the BeginString or {@code null} if the message has none, or has no ApplVerID under FIXT.1.1.
+	 */
+	public static String determineBeginString(IntFunction<? extends CharSequence> headerValues) {
+		CharSequence beginString = headerValues.apply(BeginString.FIELD);
+		if (beginString == null) {
 			return null;
 		}
+		if (BEGINSTRING_FIXT11.contentEquals(beginString)) {
+			CharSequence applVerId = headerValues.apply(ApplVerID.FIELD);
+			return applVerId == null ? null : toBeginString(new ApplVerID(applVerId.toString()));
+		}
+		return beginString.toString();
 	}
 
 	public String getBeginString(AssertionInfo info, Message message) {
@@ -185,55 +333,17 @@ public class Messages {
 	}
 
 	public Object getFieldValue(int fieldTag, String beginString, FieldMap actual) throws IncorrectDataFormat {
-		DataDictionary dataDictionary = dictionaries.getSessionDataDictionary(beginString);
-		FieldType fieldType = dataDictionary.getFieldType(fieldTag);
-		if (fieldType == null) {
+		return getFieldValue(fieldTag, dictionaries.getFieldValueTable(beginString), actual);
+	}
+
+	public Object getFieldValue(int fieldTag, FieldValueTable fieldValueTable, FieldMap actual) throws IncorrectDataFormat {
+		FieldValueExtractor extractor = fieldValueTable.getExtractor(fieldTag);
+		if (extractor == null) {
 			return null;
 		}
 
 		try {
-			switch (fieldType) {
-				case STRING:
-				case MULTIPLEVALUESTRING:
-				case MULTIPLESTRINGVALUE:
-				case EXCHANGE:
-				case LOCALMKTDATE:
-				case DATA:
-				case MONTHYEAR:
-				case DAYOFMONTH:
-				case CURRENCY:
-				case COUNTRY:
-					// String
-					return actual.getString(fieldTag);
-				case INT:
-				case NUMINGROUP:
-				case SEQNUM:
-				case LENGTH:
-					return actual.getInt(fieldTag);
-				case PRICE:
-				case AMT:
-				case QTY:
-				case FLOAT:
-				case PRICEOFFSET:
-				case PERCENTAGE:
-					return actual.getDouble(fieldTag);
-				case BOOLEAN:
-					return actual.getBoolean(fieldTag);
-				case UTCDATE:
-					return actual.getUtcDateOnly(fieldTag);
-				case UTCTIMEONLY:
-					return actual.getUtcTimeOnly(fieldTag);
-				case UTCTIMESTAMP:
-				case TIME:
-					return actual.getUtcTimeStamp(fieldTag);
-				case CHAR:
-					if (beginString.compareTo(FixVersions.BEGINSTRING_FIX41) > 0) {
-						return actual.getChar(fieldTag);
-					} // otherwise it's a String, for older FIX versions
-					return actual.getString(fieldTag);
-				default:
-					throw new RuntimeException("Unsupported");
-			}
+			return extractor.extract(actual, fieldTag);
 		} catch (FieldNotFound e) {
 			throw new IncorrectDataFormat(fieldTag, "");
 		}
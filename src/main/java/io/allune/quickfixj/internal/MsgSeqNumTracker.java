@@ -0,0 +1,379 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.internal;
+
+import quickfix.field.BeginString;
+import quickfix.field.GapFillFlag;
+import quickfix.field.MsgSeqNum;
+import quickfix.field.MsgType;
+import quickfix.field.NewSeqNo;
+import quickfix.field.PossDupFlag;
+import quickfix.field.ResetSeqNumFlag;
+import quickfix.field.SenderCompID;
+import quickfix.field.TargetCompID;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import static io.allune.quickfixj.internal.RawFieldValues.INVALID_INT;
+import static io.allune.quickfixj.internal.RawFieldValues.isBoolean;
+import static io.allune.quickfixj.internal.RawFieldValues.parseInt;
+
+/**
+ * Tracks the MsgSeqNums of a stream of Messages, per session, in a single pass.
+ * <p>
+ * A session is identified by the BeginString, SenderCompID and TargetCompID of its Messages, so both directions of
+ * a log are tracked separately. The MsgSeqNums seen since the last reset are kept in a {@link BitSet}, one bit per
+ * number, and the gaps are found once the stream ends. Messages with PossDupFlag set may repeat or fill in earlier
+ * numbers, SequenceReset-GapFill covers the numbers up to its NewSeqNo, SequenceReset-Reset moves the sequence
+ * forward, and Logon with ResetSeqNumFlag set starts it over. Consecutive duplicates, or out of order numbers, are
+ * reported as one run.
+ * <p>
+ * Only the first {@value #MAX_REPORTED_ANOMALIES} anomalies are described; the others are counted. Not thread safe.
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+public final class MsgSeqNumTracker {
+
+	static final int MAX_REPORTED_ANOMALIES = 20;
+
+	/**
+	 * Largest forward jump tracked in the bitset; a larger one is reported straight away and starts the sequence over,
+	 * so a corrupt MsgSeqNum cannot blow up the memory held.
+	 */
+	static final int MAX_SEQUENCE_JUMP = 1 << 24;
+
+	private static final int NO_RUN = 0;
+
+	private static final int DUPLICATE_RUN = 1;
+
+	private static final int OUT_OF_ORDER_RUN = 2;
+
+	private final Map<String, Sequence> sequences = new HashMap<>();
+
+	private final StringBuilder sessionKey = new StringBuilder(64);
+
+	private final List<String> anomalies = new ArrayList<>();
+
+	private Sequence lastSequence;
+
+	private long messageCount;
+
+	private long anomalyCount;
+
+	private long missingCount;
+
+	private long gapCount;
+
+	private long duplicateCount;
+
+	private long outOfOrderCount;
+
+	private boolean finished;
+
+	/**
+	 * Tracks the next Message of the stream.
+	 *
+	 * @param index  the position of the Message in the stream, as reported.
+	 * @param fields the fields of the Message by tag, header and body alike; each value is read before the next lookup.
+	 */
+	void accept(long index, IntFunction<CharSequence> fields) {
+		messageCount++;
+		Sequence sequence = sequenceOf(fields);
+
+		CharSequence rawMsgSeqNum = fields.apply(MsgSeqNum.FIELD);
+		long msgSeqNum = rawMsgSeqNum == null ? INVALID_INT : parseInt(rawMsgSeqNum);
+		if (msgSeqNum < 1) {
+			sequence.closeRun(this);
+			report(sequence, "no valid MsgSeqNum at index <" + index + ">");
+			return;
+		}
+		int seqNum = (int) msgSeqNum;
+		boolean possDup = isSet(fields, PossDupFlag.FIELD);
+
+		CharSequence msgType = fields.apply(MsgType.FIELD);
+		if (isSequenceReset(msgType)) {
+			boolean gapFill = isSet(fields, GapFillFlag.FIELD);
+			CharSequence rawNewSeqNo = fields.apply(NewSeqNo.FIELD);
+			long newSeqNo = rawNewSeqNo == null ? INVALID_INT : parseInt(rawNewSeqNo);
+			if (gapFill) {
+				sequence.accept(this, index, seqNum, possDup);
+				if (newSeqNo > seqNum) {
+					sequence.cover(this, index, seqNum + 1, (int) newSeqNo - 1);
+				}
+			} else if (newSeqNo > 0) {
+				// the MsgSeqNum of a SequenceReset-Reset is ignored
+				sequence.reset(this, index, (int) newSeqNo);
+			}
+			return;
+		}
+		if (isLogon(msgType) && isSet(fields, ResetSeqNumFlag.FIELD)) {
+			sequence.restart(this, seqNum);
+		}
+		sequence.accept(this, index, seqNum, possDup);
+	}
+
+	/**
+	 * Reports the gaps left once the stream has ended.
+	 */
+	void finish() {
+		if (finished) {
+			return;
+		}
+		finished = true;
+		for (Sequence sequence : sequences.values()) {
+			sequence.closeRun(this);
+			sequence.reportGaps(this);
+		}
+	}
+
+	public boolean hasAnomalies() {
+		return anomalyCount > 0;
+	}
+
+	public long getMessageCount() {
+		return messageCount;
+	}
+
+	public long getAnomalyCount() {
+		return anomalyCount;
+	}
+
+	/**
+	 * @return the number of MsgSeqNums never seen nor covered by a SequenceReset.
+	 */
+	public long getMissingCount() {
+		return missingCount;
+	}
+
+	public long getGapCount() {
+		return gapCount;
+	}
+
+	/**
+	 * @return the number of Messages repeating a MsgSeqNum without PossDupFlag.
+	 */
+	public long getDuplicateCount() {
+		return duplicateCount;
+	}
+
+	/**
+	 * @return the number of Messages with a MsgSeqNum lower than one already seen, without PossDupFlag.
+	 */
+	public long getOutOfOrderCount() {
+		return outOfOrderCount;
+	}
+
+	/**
+	 * @return the descriptions of the first anomalies, in the order they were found.
+	 */
+	public List<String> getAnomalies() {
+		return Collections.unmodifiableList(anomalies);
+	}
+
+	private Sequence sequenceOf(IntFunction<CharSequence> fields) {
+		sessionKey.setLength(0);
+		appendValue(sessionKey, fields.apply(BeginString.FIELD)).append(':');
+		appendValue(sessionKey, fields.apply(SenderCompID.FIELD)).append("->");
+		appendValue(sessionKey, fields.apply(TargetCompID.FIELD));
+		if (lastSequence == null || !lastSequence.session.contentEquals(sessionKey)) {
+			String session = sessionKey.toString();
+			lastSequence = sequences.computeIfAbsent(session, Sequence::new);
+		}
+		return lastSequence;
+	}
+
+	private void report(Sequence sequence, String anomaly) {
+		anomalyCount++;
+		if (anomalies.size() < MAX_REPORTED_ANOMALIES) {
+			anomalies.add("session <" + sequence.session + ">: " + anomaly);
+		}
+	}
+
+	private static StringBuilder appendValue(StringBuilder key, CharSequence value) {
+		return value == null ? key : key.append(value);
+	}
+
+	private static boolean isSet(IntFunction<CharSequence> fields, int tag) {
+		CharSequence raw = fields.apply(tag);
+		return raw != null && isBoolean(raw, true);
+	}
+
+	private static boolean isSequenceReset(CharSequence msgType) {
+		return msgType != null && msgType.length() == 1 && msgType.charAt(0) == MsgType.SEQUENCE_RESET.charAt(0);
+	}
+
+	private static boolean isLogon(CharSequence msgType) {
+		return msgType != null && msgType.length() == 1 && msgType.charAt(0) == MsgType.LOGON.charAt(0);
+	}
+
+	/**
+	 * The MsgSeqNums of one session since it was last started over, as bits relative to the first one.
+	 */
+	private static final class Sequence {
+
+		private final String session;
+
+		private final BitSet seen = new BitSet();
+
+		private boolean started;
+
+		private int base;
+
+		private int highest;
+
+		private int runKind = NO_RUN;
+
+		private long runIndex;
+
+		private int runFirst;
+
+		private int runLast;
+
+		private int runAfter;
+
+		private Sequence(String session) {
+			this.session = session;
+		}
+
+		void accept(MsgSeqNumTracker tracker, long index, int seqNum, boolean possDup) {
+			if (!started) {
+				restart(tracker, seqNum);
+			}
+			if (seqNum > highest) {
+				closeRun(tracker);
+				if ((long) seqNum - highest > MAX_SEQUENCE_JUMP) {
+					tracker.report(this, "MsgSeqNum jumped from <" + highest + "> to <" + seqNum + "> at index <" + index + ">");
+					tracker.missingCount += (long) seqNum - highest - 1;
+					tracker.gapCount++;
+					restart(tracker, seqNum);
+				}
+				mark(seqNum);
+				highest = seqNum;
+				return;
+			}
+			if (possDup) {
+				// a resend, which may fill in a gap
+				closeRun(tracker);
+				if (seqNum >= base) {
+					mark(seqNum);
+				}
+				return;
+			}
+
+			boolean duplicate = seqNum >= base && seen.get(seqNum - base);
+			if (duplicate) {
+				tracker.duplicateCount++;
+			} else {
+				tracker.outOfOrderCount++;
+				if (seqNum >= base) {
+					mark(seqNum);
+				}
+			}
+			int kind = duplicate ? DUPLICATE_RUN : OUT_OF_ORDER_RUN;
+			if (runKind == kind && seqNum == runLast + 1) {
+				runLast = seqNum;
+				return;
+			}
+			closeRun(tracker);
+			runKind = kind;
+			runIndex = index;
+			runFirst = seqNum;
+			runLast = seqNum;
+			runAfter = highest;
+		}
+
+		/**
+		 * Marks the MsgSeqNums skipped by a SequenceReset-GapFill as seen.
+		 */
+		void cover(MsgSeqNumTracker tracker, long index, int from, int to) {
+			if ((long) to - highest > MAX_SEQUENCE_JUMP) {
+				tracker.report(this, "GapFill to <" + (to + 1) + "> at index <" + index + "> skips more than <"
+						+ MAX_SEQUENCE_JUMP + "> MsgSeqNums");
+				restart(tracker, to + 1);
+				return;
+			}
+			if (to < base) {
+				return;
+			}
+			seen.set(Math.max(from, base) - base, to - base + 1);
+			highest = Math.max(highest, to);
+		}
+
+		/**
+		 * Moves the sequence forward to the NewSeqNo of a SequenceReset-Reset.
+		 */
+		void reset(MsgSeqNumTracker tracker, long index, int newSeqNo) {
+			closeRun(tracker);
+			if (!started || newSeqNo <= highest) {
+				if (started) {
+					tracker.report(this, "SequenceReset to <" + newSeqNo + "> at index <" + index
+							+ "> below the next expected <" + (highest + 1) + ">");
+				}
+				restart(tracker, newSeqNo);
+				return;
+			}
+			cover(tracker, index, highest + 1, newSeqNo - 1);
+		}
+
+		/**
+		 * Reports the gaps so far and starts the sequence over at the given MsgSeqNum.
+		 */
+		void restart(MsgSeqNumTracker tracker, int first) {
+			closeRun(tracker);
+			reportGaps(tracker);
+			seen.clear();
+			started = true;
+			base = first;
+			highest = first - 1;
+		}
+
+		void reportGaps(MsgSeqNumTracker tracker) {
+			if (!started) {
+				return;
+			}
+			int limit = highest - base + 1;
+			for (int from = seen.nextClearBit(0); from < limit; ) {
+				int nextSeen = seen.nextSetBit(from);
+				int to = nextSeen < 0 ? limit : Math.min(nextSeen, limit);
+				tracker.missingCount += to - from;
+				tracker.gapCount++;
+				tracker.report(this, to - from == 1
+						? "missing MsgSeqNum <" + (base + from) + ">"
+						: "missing MsgSeqNums <" + (base + from) + "> to <" + (base + to - 1) + ">");
+				from = seen.nextClearBit(to);
+			}
+		}
+
+		void closeRun(MsgSeqNumTracker tracker) {
+			if (runKind == NO_RUN) {
+				return;
+			}
+			String numbers = runFirst == runLast
+					? "MsgSeqNum <" + runFirst + ">"
+					: "<" + (runLast - runFirst + 1) + "> MsgSeqNums <" + runFirst + "> to <" + runLast + ">";
+			tracker.report(this, (runKind == DUPLICATE_RUN ? "duplicate " : "out of order ") + numbers
+					+ " at index <" + runIndex + ">, after <" + runAfter + ">, without PossDupFlag");
+			runKind = NO_RUN;
+		}
+
+		private void mark(int seqNum) {
+			seen.set(seqNum - base);
+		}
+	}
+}
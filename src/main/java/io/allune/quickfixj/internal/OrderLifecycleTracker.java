@@ -0,0 +1,289 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.internal;
+
+import quickfix.field.ClOrdID;
+import quickfix.field.CumQty;
+import quickfix.field.LeavesQty;
+import quickfix.field.MsgType;
+import quickfix.field.OrdStatus;
+import quickfix.field.OrderQty;
+import quickfix.field.OrigClOrdID;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static io.allune.quickfixj.internal.RawFieldValues.parseDouble;
+
+/**
+ * Follows the lifecycle of every order in a stream of NewOrderSingle, OrderCancelRequest,
+ * OrderCancelReplaceRequest and ExecutionReport Messages, in a single pass.
+ * <p>
+ * An order is identified by the chain of ClOrdIDs from its NewOrderSingle through its cancel and replace requests,
+ * each ClOrdID of the chain being mapped to the order in a {@link StringLongMap}; an ExecutionReport is matched on
+ * its ClOrdID, then its OrigClOrdID. The state of the orders is kept in primitive arrays indexed by order, so only
+ * the ClOrdIDs are held per order. Each ExecutionReport is checked against the state of its order:
+ * <ul>
+ * <li>no ExecutionReport changes an order once Filled, Canceled, Rejected or Expired;</li>
+ * <li>an order is not New or PendingNew again once partially filled;</li>
+ * <li>CumQty never decreases nor exceeds OrderQty, is below OrderQty when PartiallyFilled and equal when Filled;</li>
+ * <li>LeavesQty is zero once the order is done.</li>
+ * </ul>
+ * ExecutionReports and cancel or replace requests for unknown ClOrdIDs, and reused ClOrdIDs, are reported too.
+ * <p>
+ * Only the first {@value #MAX_REPORTED_ANOMALIES} anomalies are described; the others are counted. Not thread safe.
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+public final class OrderLifecycleTracker {
+
+	static final int MAX_REPORTED_ANOMALIES = 20;
+
+	private static final long UNKNOWN = -1;
+
+	private static final char NO_STATUS = 0;
+
+	private static final int INITIAL_CAPACITY = 1024;
+
+	/**
+	 * Tolerance on quantities, which are compared as parsed doubles.
+	 */
+	private static final double QUANTITY_TOLERANCE = 1e-9;
+
+	private final StringLongMap ordersByClOrdId = new StringLongMap(INITIAL_CAPACITY);
+
+	private final List<String> anomalies = new ArrayList<>();
+
+	private String[] firstClOrdIds = new String[INITIAL_CAPACITY];
+
+	private char[] statuses = new char[INITIAL_CAPACITY];
+
+	private double[] orderQtys = new double[INITIAL_CAPACITY];
+
+	private double[] cumQtys = new double[INITIAL_CAPACITY];
+
+	private int orderCount;
+
+	private long executionReportCount;
+
+	private long anomalyCount;
+
+	/**
+	 * Follows the next Message of the stream; Messages of other MsgTypes are ignored.
+	 *
+	 * @param cursor the cursor positioned on the Message.
+	 */
+	void accept(MessageCursor cursor) {
+		CharSequence msgType = cursor.getValue(MsgType.FIELD);
+		if (msgType == null || msgType.length() != 1) {
+			return;
+		}
+		switch (msgType.charAt(0)) {
+			case 'D':
+				acceptNewOrder(cursor);
+				break;
+			case 'F':
+			case 'G':
+				acceptCancelOrReplaceRequest(cursor);
+				break;
+			case '8':
+				acceptExecutionReport(cursor);
+				break;
+			default:
+				break;
+		}
+	}
+
+	public boolean hasAnomalies() {
+		return anomalyCount > 0;
+	}
+
+	public int getOrderCount() {
+		return orderCount;
+	}
+
+	public long getExecutionReportCount() {
+		return executionReportCount;
+	}
+
+	public long getAnomalyCount() {
+		return anomalyCount;
+	}
+
+	/**
+	 * @return the descriptions of the first anomalies, in the order they were found.
+	 */
+	public List<String> getAnomalies() {
+		return Collections.unmodifiableList(anomalies);
+	}
+
+	private void acceptNewOrder(MessageCursor cursor) {
+		CharSequence clOrdId = cursor.getValue(ClOrdID.FIELD);
+		if (clOrdId == null) {
+			report(cursor, "NewOrderSingle without ClOrdID");
+			return;
+		}
+		if (ordersByClOrdId.containsKey(clOrdId)) {
+			report(cursor, "NewOrderSingle reuses ClOrdID <" + clOrdId + ">");
+			return;
+		}
+		int order = newOrder(clOrdId.toString());
+		ordersByClOrdId.put(firstClOrdIds[order], order);
+		CharSequence orderQty = cursor.getValue(OrderQty.FIELD);
+		orderQtys[order] = orderQty == null ? Double.NaN : parseDouble(orderQty);
+	}
+
+	private void acceptCancelOrReplaceRequest(MessageCursor cursor) {
+		CharSequence origClOrdId = cursor.getValue(OrigClOrdID.FIELD);
+		long order = origClOrdId == null ? UNKNOWN : ordersByClOrdId.get(origClOrdId, UNKNOWN);
+		if (order == UNKNOWN) {
+			report(cursor, "cancel or replace request for unknown OrigClOrdID <" + origClOrdId + ">");
+			return;
+		}
+		CharSequence clOrdId = cursor.getValue(ClOrdID.FIELD);
+		if (clOrdId == null) {
+			return;
+		}
+		long existingOrder = ordersByClOrdId.get(clOrdId, UNKNOWN);
+		if (existingOrder == UNKNOWN) {
+			ordersByClOrdId.put(clOrdId, order);
+		} else if (existingOrder != order) {
+			report(cursor, "cancel or replace request reuses ClOrdID <" + clOrdId + ">");
+		}
+	}
+
+	private void acceptExecutionReport(MessageCursor cursor) {
+		executionReportCount++;
+		CharSequence clOrdId = cursor.getValue(ClOrdID.FIELD);
+		long order = clOrdId == null ? UNKNOWN : ordersByClOrdId.get(clOrdId, UNKNOWN);
+		String unknownClOrdId = order == UNKNOWN && clOrdId != null ? clOrdId.toString() : null;
+		if (order == UNKNOWN) {
+			CharSequence origClOrdId = cursor.getValue(OrigClOrdID.FIELD);
+			order = origClOrdId == null ? UNKNOWN : ordersByClOrdId.get(origClOrdId, UNKNOWN);
+			if (order == UNKNOWN) {
+				report(cursor, "ExecutionReport for unknown ClOrdID <" + unknownClOrdId + ">");
+				return;
+			}
+			if (unknownClOrdId != null) {
+				// the new ClOrdID of a replace whose request was not seen
+				ordersByClOrdId.put(unknownClOrdId, order);
+			}
+		}
+		checkExecutionReport(cursor, (int) order);
+	}
+
+	private void checkExecutionReport(MessageCursor cursor, int order) {
+		CharSequence rawStatus = cursor.getValue(OrdStatus.FIELD);
+		char status = rawStatus == null || rawStatus.length() != 1 ? NO_STATUS : rawStatus.charAt(0);
+		if (status == NO_STATUS) {
+			report(cursor, order, "ExecutionReport without a valid OrdStatus");
+			return;
+		}
+		double cumQty = parseQuantity(cursor, CumQty.FIELD);
+		double leavesQty = parseQuantity(cursor, LeavesQty.FIELD);
+		double orderQty = parseQuantity(cursor, OrderQty.FIELD);
+		if (!Double.isNaN(orderQty)) {
+			orderQtys[order] = orderQty;
+		}
+		orderQty = orderQtys[order];
+
+		char previousStatus = statuses[order];
+		double previousCumQty = cumQtys[order];
+		if (isDone(previousStatus)) {
+			if (status != previousStatus || (!Double.isNaN(cumQty) && cumQty > previousCumQty + QUANTITY_TOLERANCE)) {
+				report(cursor, order, "ExecutionReport with OrdStatus <" + status + "> after " + describe(previousStatus));
+			}
+			return;
+		}
+
+		if ((status == OrdStatus.NEW || status == OrdStatus.PENDING_NEW) && previousCumQty > QUANTITY_TOLERANCE) {
+			report(cursor, order, describe(status) + " after a fill of <" + previousCumQty + ">");
+		}
+		if (!Double.isNaN(cumQty)) {
+			if (cumQty < previousCumQty - QUANTITY_TOLERANCE) {
+				report(cursor, order, "CumQty decreased from <" + previousCumQty + "> to <" + cumQty + ">");
+			}
+			if (!Double.isNaN(orderQty) && cumQty > orderQty + QUANTITY_TOLERANCE) {
+				report(cursor, order, "CumQty <" + cumQty + "> exceeds OrderQty <" + orderQty + ">");
+			}
+			if (status == OrdStatus.FILLED && !Double.isNaN(orderQty) && cumQty < orderQty - QUANTITY_TOLERANCE) {
+				report(cursor, order, "Filled with CumQty <" + cumQty + "> below OrderQty <" + orderQty + ">");
+			}
+			if (status == OrdStatus.PARTIALLY_FILLED && (cumQty <= QUANTITY_TOLERANCE
+					|| (!Double.isNaN(orderQty) && cumQty >= orderQty - QUANTITY_TOLERANCE))) {
+				report(cursor, order, "PartiallyFilled with CumQty <" + cumQty + "> and OrderQty <" + orderQty + ">");
+			}
+			cumQtys[order] = Math.max(previousCumQty, cumQty);
+		}
+		if (isDone(status) && !Double.isNaN(leavesQty) && leavesQty > QUANTITY_TOLERANCE) {
+			report(cursor, order, describe(status) + " with LeavesQty <" + leavesQty + ">");
+		}
+		statuses[order] = status;
+	}
+
+	private int newOrder(String clOrdId) {
+		if (orderCount == firstClOrdIds.length) {
+			int capacity = orderCount * 2;
+			firstClOrdIds = Arrays.copyOf(firstClOrdIds, capacity);
+			statuses = Arrays.copyOf(statuses, capacity);
+			orderQtys = Arrays.copyOf(orderQtys, capacity);
+			cumQtys = Arrays.copyOf(cumQtys, capacity);
+		}
+		firstClOrdIds[orderCount] = clOrdId;
+		return orderCount++;
+	}
+
+	private void report(MessageCursor cursor, int order, String anomaly) {
+		report(cursor, "order <" + firstClOrdIds[order] + ">: " + anomaly);
+	}
+
+	private void report(MessageCursor cursor, String anomaly) {
+		anomalyCount++;
+		if (anomalies.size() < MAX_REPORTED_ANOMALIES) {
+			anomalies.add(anomaly + " at index <" + cursor.getIndex() + ">");
+		}
+	}
+
+	private static double parseQuantity(MessageCursor cursor, int tag) {
+		CharSequence raw = cursor.getValue(tag);
+		return raw == null ? Double.NaN : parseDouble(raw);
+	}
+
+	private static boolean isDone(char status) {
+		return status == OrdStatus.FILLED || status == OrdStatus.CANCELED || status == OrdStatus.REJECTED
+				|| status == OrdStatus.EXPIRED;
+	}
+
+	private static String describe(char status) {
+		switch (status) {
+			case OrdStatus.NEW:
+				return "New";
+			case OrdStatus.PARTIALLY_FILLED:
+				return "PartiallyFilled";
+			case OrdStatus.FILLED:
+				return "Filled";
+			case OrdStatus.CANCELED:
+				return "Canceled";
+			case OrdStatus.REJECTED:
+				return "Rejected";
+			case OrdStatus.EXPIRED:
+				return "Expired";
+			case OrdStatus.PENDING_NEW:
+				return "PendingNew";
+			default:
+				return "OrdStatus <" + status + ">";
+		}
+	}
+}
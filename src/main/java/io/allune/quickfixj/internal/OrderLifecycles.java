@@ -0,0 +1,79 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.internal;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.Failures;
+import org.assertj.core.internal.Objects;
+import quickfix.Message;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static io.allune.quickfixj.error.ShouldHaveValidOrderLifecycles.shouldHaveValidOrderLifecycles;
+
+/**
+ * Verifies the lifecycle of the orders of a stream of Messages with an {@link OrderLifecycleTracker}.
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+public class OrderLifecycles {
+
+	private static final OrderLifecycles INSTANCE = new OrderLifecycles();
+
+	private final Failures failures = Failures.instance();
+
+	private final Objects objects = Objects.instance();
+
+	OrderLifecycles() {
+	}
+
+	public static OrderLifecycles instance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * @param info    the assertion info.
+	 * @param actual  the Messages.
+	 * @param indexes the index of each Message in the original batch, for the error message.
+	 */
+	public void assertValidLifecycles(AssertionInfo info, List<Message> actual, int[] indexes) {
+		objects.assertNotNull(info, actual);
+		assertValidLifecycles(info, MessageCursor.of(actual, indexes));
+	}
+
+	/**
+	 * @param info   the assertion info.
+	 * @param actual the message log.
+	 */
+	public void assertValidLifecycles(AssertionInfo info, Path actual) {
+		objects.assertNotNull(info, actual);
+		try (MessageCursor cursor = MessageCursor.open(actual, null)) {
+			assertValidLifecycles(info, cursor);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void assertValidLifecycles(AssertionInfo info, MessageCursor cursor) {
+		OrderLifecycleTracker tracker = new OrderLifecycleTracker();
+		while (cursor.next()) {
+			tracker.accept(cursor);
+		}
+		if (tracker.hasAnomalies()) {
+			throw failures.failure(info, shouldHaveValidOrderLifecycles(tracker));
+		}
+	}
+}
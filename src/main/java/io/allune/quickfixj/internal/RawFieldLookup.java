@@ -0,0 +1,47 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.internal;
+
+import quickfix.FieldMap;
+import quickfix.FieldNotFound;
+
+/**
+ * Looks up raw field values without throwing for missing fields.
+ * <p>
+ * The presence of the field is checked first, so a missing field costs no {@link FieldNotFound}. Both lookups go
+ * through the public {@link FieldMap} API, which boxes the tag: no allocation happens for tags in the {@link Integer}
+ * cache (i.e. up to 127), and tags from 128 onwards allocate their boxed tag only.
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+final class RawFieldLookup {
+
+	private RawFieldLookup() {
+	}
+
+	/**
+	 * @param fieldMap the field map.
+	 * @param tag      the field tag.
+	 * @return the raw value of the field or {@code null} if the field map does not contain it.
+	 */
+	static String getString(FieldMap fieldMap, int tag) {
+		if (!fieldMap.isSetField(tag)) {
+			return null;
+		}
+		try {
+			return fieldMap.getString(tag);
+		} catch (FieldNotFound fieldNotFound) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,364 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.internal;
+
+import java.math.BigDecimal;
+
+/**
+ * Allocation-free parsing of raw FIX field values, as stored in a {@link quickfix.FieldMap}.
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+final class RawFieldValues {
+
+	/**
+	 * Returned by {@link #parseInt(CharSequence)} when the raw value is not a valid FIX int.
+	 */
+	static final long INVALID_INT = Long.MIN_VALUE;
+
+	/**
+	 * Returned by {@link #parseUnscaled(CharSequence)} when the raw value is not a valid FIX float or does not fit in
+	 * a long.
+	 */
+	static final long INVALID_DECIMAL = Long.MIN_VALUE;
+
+	/**
+	 * Returned by {@link #parseUtcTimestamp(CharSequence)} when the raw value is not a valid FIX UTCTimestamp.
+	 */
+	static final long INVALID_TIMESTAMP = Long.MIN_VALUE;
+
+	private static final int TIMESTAMP_SECONDS_LENGTH = 17;
+
+	private static final int MAX_FRACTION_DIGITS = 9;
+
+	private static final long SECONDS_PER_DAY = 86400;
+
+	private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+	private static final double[] POWERS_OF_TEN = {
+			1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18
+	};
+
+	private static final int MAX_LONG_DIGITS = 18;
+
+	private RawFieldValues() {
+	}
+
+	/**
+	 * @param raw the raw value.
+	 * @return the int value or {@link #INVALID_INT} if the raw value is not a valid FIX int.
+	 */
+	static long parseInt(CharSequence raw) {
+		int length = raw.length();
+		int i = 0;
+		boolean negative = length > 0 && raw.charAt(0) == '-';
+		if (negative) {
+			i++;
+		}
+		if (i == length) {
+			return INVALID_INT;
+		}
+
+		long value = 0;
+		for (; i < length; i++) {
+			char c = raw.charAt(i);
+			if (c < '0' || c > '9') {
+				return INVALID_INT;
+			}
+			value = value * 10 + (c - '0');
+			if (value > (long) Integer.MAX_VALUE + 1) {
+				return INVALID_INT;
+			}
+		}
+
+		value = negative ? -value : value;
+		return value > Integer.MAX_VALUE ? INVALID_INT : value;
+	}
+
+	/**
+	 * @param raw the raw value.
+	 * @return the double value or {@link Double#NaN} if the raw value is not a valid FIX float.
+	 */
+	static double parseDouble(CharSequence raw) {
+		long unscaled = parseUnscaled(raw);
+		int scale = scaleOf(raw);
+		if (unscaled == INVALID_DECIMAL || scale >= POWERS_OF_TEN.length) {
+			// invalid or too many digits to be represented exactly, leave it to the JDK
+			return parseDoubleSlow(raw);
+		}
+		return scale > 0 ? unscaled / POWERS_OF_TEN[scale] : unscaled;
+	}
+
+	/**
+	 * Parses the digits of a raw FIX float ignoring its decimal point, e.g. {@code 300.25} is parsed as
+	 * {@code 30025}. Use {@link #scaleOf(CharSequence)} for the number of digits after the decimal point.
+	 *
+	 * @param raw the raw value.
+	 * @return the unscaled value or {@link #INVALID_DECIMAL} if the raw value is not a valid FIX float or has more
+	 * significant digits than fit in a long.
+	 */
+	static long parseUnscaled(CharSequence raw) {
+		int length = raw.length();
+		int i = 0;
+		boolean negative = length > 0 && raw.charAt(0) == '-';
+		if (negative) {
+			i++;
+		}
+
+		long value = 0;
+		int digits = 0;
+		boolean seenDigit = false;
+		boolean seenPoint = false;
+		for (; i < length; i++) {
+			char c = raw.charAt(i);
+			if (c == '.') {
+				if (seenPoint) {
+					return INVALID_DECIMAL;
+				}
+				seenPoint = true;
+				continue;
+			}
+			if (c < '0' || c > '9') {
+				return INVALID_DECIMAL;
+			}
+			seenDigit = true;
+			if (value != 0 || c != '0') {
+				digits++;
+			}
+			if (digits > MAX_LONG_DIGITS) {
+				return INVALID_DECIMAL;
+			}
+			value = value * 10 + (c - '0');
+		}
+
+		if (!seenDigit) {
+			return INVALID_DECIMAL;
+		}
+		return negative ? -value : value;
+	}
+
+	/**
+	 * @param raw the raw value.
+	 * @return the number of digits after the decimal point of the raw value.
+	 */
+	static int scaleOf(CharSequence raw) {
+		for (int i = raw.length() - 1; i >= 0; i--) {
+			if (raw.charAt(i) == '.') {
+				return raw.length() - i - 1;
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * Compares a raw FIX float with the decimal {@code expectedUnscaled * 10^-expectedScale} exactly, so that e.g.
+	 * {@code 300.250} equals {@code (30025, 2)}, without creating {@link BigDecimal} or {@link Double} objects.
+	 *
+	 * @param raw              the raw value.
+	 * @param expectedUnscaled the unscaled expected value.
+	 * @param expectedScale    the scale of the expected value.
+	 * @return {@code true} if the values are numerically equal.
+	 */
+	static boolean decimalEquals(CharSequence raw, long expectedUnscaled, int expectedScale) {
+		long unscaled = parseUnscaled(raw);
+		if (unscaled == INVALID_DECIMAL) {
+			return decimalEqualsSlow(raw, expectedUnscaled, expectedScale);
+		}
+
+		long actualUnscaled = unscaled;
+		int actualScale = scaleOf(raw);
+		while (actualUnscaled != 0 && actualUnscaled % 10 == 0) {
+			actualUnscaled /= 10;
+			actualScale--;
+		}
+		while (expectedUnscaled != 0 && expectedUnscaled % 10 == 0) {
+			expectedUnscaled /= 10;
+			expectedScale--;
+		}
+		return actualUnscaled == expectedUnscaled && (actualUnscaled == 0 || actualScale == expectedScale);
+	}
+
+	private static boolean decimalEqualsSlow(CharSequence raw, long expectedUnscaled, int expectedScale) {
+		return decimalEquals(raw, BigDecimal.valueOf(expectedUnscaled, expectedScale));
+	}
+
+	/**
+	 * Compares a raw FIX float with a {@link BigDecimal} numerically. Used when either side has too many digits for
+	 * the allocation-free comparison.
+	 *
+	 * @param raw      the raw value.
+	 * @param expected the expected value.
+	 * @return {@code true} if the values are numerically equal.
+	 */
+	static boolean decimalEquals(CharSequence raw, BigDecimal expected) {
+		if (!isFloat(raw)) {
+			return false;
+		}
+		try {
+			return new BigDecimal(raw.toString()).compareTo(expected) == 0;
+		} catch (NumberFormatException e) {
+			return false;
+		}
+	}
+
+	private static double parseDoubleSlow(CharSequence raw) {
+		// the JDK also accepts exponents, NaN, Infinity, hex floats and padding, none of which is a FIX float
+		return isFloat(raw) ? Double.parseDouble(raw.toString()) : Double.NaN;
+	}
+
+	/**
+	 * @return {@code true} if the raw value is an optional minus sign followed by digits with at most one decimal
+	 * point, the only form of a FIX float.
+	 */
+	private static boolean isFloat(CharSequence raw) {
+		int length = raw.length();
+		boolean seenDigit = false;
+		boolean seenPoint = false;
+		for (int i = length > 0 && raw.charAt(0) == '-' ? 1 : 0; i < length; i++) {
+			char c = raw.charAt(i);
+			if (c == '.' && !seenPoint) {
+				seenPoint = true;
+			} else if (c >= '0' && c <= '9') {
+				seenDigit = true;
+			} else {
+				return false;
+			}
+		}
+		return seenDigit;
+	}
+
+	/**
+	 * @param raw      the raw value.
+	 * @param expected the expected char.
+	 * @return {@code true} if the raw value is exactly the expected char.
+	 */
+	static boolean isChar(CharSequence raw, char expected) {
+		return raw.length() == 1 && raw.charAt(0) == expected;
+	}
+
+	/**
+	 * @param raw      the raw value.
+	 * @param expected the expected boolean.
+	 * @return {@code true} if the raw value is the FIX representation ({@code Y} or {@code N}) of the expected boolean.
+	 */
+	static boolean isBoolean(CharSequence raw, boolean expected) {
+		return isChar(raw, expected ? 'Y' : 'N');
+	}
+
+	/**
+	 * @param raw      the raw value or {@code null}.
+	 * @param expected the expected value.
+	 * @return {@code true} if the raw value has the characters of the expected value.
+	 */
+	static boolean isString(CharSequence raw, String expected) {
+		if (raw == null || raw.length() != expected.length()) {
+			return false;
+		}
+		for (int i = 0; i < expected.length(); i++) {
+			if (raw.charAt(i) != expected.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Parses a raw FIX UTCTimestamp, {@code YYYYMMDD-HH:MM:SS} optionally followed by up to nine fractional digits,
+	 * without allocating.
+	 *
+	 * @param raw the raw value.
+	 * @return the nanoseconds since the epoch or {@link #INVALID_TIMESTAMP} if the raw value is not a valid FIX
+	 * UTCTimestamp.
+	 */
+	static long parseUtcTimestamp(CharSequence raw) {
+		int length = raw.length();
+		if (length < TIMESTAMP_SECONDS_LENGTH || raw.charAt(8) != '-' || raw.charAt(11) != ':' || raw.charAt(14) != ':') {
+			return INVALID_TIMESTAMP;
+		}
+		int year = parseDigits(raw, 0, 4);
+		int month = parseDigits(raw, 4, 2);
+		int day = parseDigits(raw, 6, 2);
+		int hour = parseDigits(raw, 9, 2);
+		int minute = parseDigits(raw, 12, 2);
+		int second = parseDigits(raw, 15, 2);
+		if (year < 0 || month < 1 || month > 12 || day < 1 || day > 31 || hour < 0 || hour > 23
+				|| minute < 0 || minute > 59 || second < 0 || second > 60) {
+			return INVALID_TIMESTAMP;
+		}
+
+		long nanos = 0;
+		if (length > TIMESTAMP_SECONDS_LENGTH) {
+			int fractionDigits = length - TIMESTAMP_SECONDS_LENGTH - 1;
+			if (raw.charAt(TIMESTAMP_SECONDS_LENGTH) != '.' || fractionDigits < 1 || fractionDigits > MAX_FRACTION_DIGITS) {
+				return INVALID_TIMESTAMP;
+			}
+			int fraction = parseDigits(raw, TIMESTAMP_SECONDS_LENGTH + 1, fractionDigits);
+			if (fraction < 0) {
+				return INVALID_TIMESTAMP;
+			}
+			nanos = fraction * (long) POWERS_OF_TEN[MAX_FRACTION_DIGITS - fractionDigits];
+		}
+		long seconds = daysSinceEpoch(year, month, day) * SECONDS_PER_DAY + hour * 3600L + minute * 60L + second;
+		return seconds * NANOS_PER_SECOND + nanos;
+	}
+
+	/**
+	 * @return the value of the digits or -1 if one of the characters is not a digit.
+	 */
+	private static int parseDigits(CharSequence raw, int from, int count) {
+		int value = 0;
+		for (int i = from; i < from + count; i++) {
+			char c = raw.charAt(i);
+			if (c < '0' || c > '9') {
+				return -1;
+			}
+			value = value * 10 + (c - '0');
+		}
+		return value;
+	}
+
+	/**
+	 * Days from 1970-01-01 to the date of the proleptic Gregorian calendar, computed in eras of 400 years.
+	 */
+	private static long daysSinceEpoch(int year, int month, int day) {
+		long y = month <= 2 ? year - 1 : year;
+		long era = (y >= 0 ? y : y - 399) / 400;
+		long yearOfEra = y - era * 400;
+		long dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+		long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+		return era * 146097 + dayOfEra - 719468;
+	}
+
+	/**
+	 * Boxes the parsed int value of the raw value for failure messages, or returns the raw value if it is not an int.
+	 *
+	 * @param raw the raw value.
+	 * @return the value to report.
+	 */
+	static Object intOrRaw(CharSequence raw) {
+		long value = parseInt(raw);
+		return value == INVALID_INT ? raw : (Object) (int) value;
+	}
+
+	/**
+	 * Boxes the parsed double value of the raw value for failure messages, or returns the raw value if it is not a
+	 * float.
+	 *
+	 * @param raw the raw value.
+	 * @return the value to report.
+	 */
+	static Object doubleOrRaw(CharSequence raw) {
+		double value = parseDouble(raw);
+		return Double.isNaN(value) ? raw : (Object) value;
+	}
+}
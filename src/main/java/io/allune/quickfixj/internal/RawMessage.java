@@ -0,0 +1,354 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.internal;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Flyweight view over a FIX message in wire format, as bytes or characters, that finds fields by scanning the raw
+ * buffer instead of parsing it into a {@link quickfix.Message}. The view is the {@link CharSequence} of the message.
+ * <p>
+ * The buffer is neither copied nor modified. Field values are returned as a reusable {@link CharSequence} view over
+ * the buffer which is only valid until the next lookup, so a lookup allocates nothing. Fields are read in wire
+ * order and the first occurrence of a tag wins; the SOH delimiter is assumed not to occur within values, so
+ * data fields containing it are not supported.
+ * <p>
+ * By default every lookup scans the buffer. {@link #index()} records the offsets of all fields in a single pass so
+ * that later lookups are a hash probe, which pays off when several fields of a large message are asserted on.
+ * <p>
+ * Not thread safe.
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+public abstract class RawMessage implements CharSequence {
+
+	private static final char SOH = '\u0001';
+
+	private static final int INITIAL_INDEX_CAPACITY = 32;
+
+	private final Value value = new Value();
+
+	private boolean indexed;
+
+	private int[] fieldTags;
+
+	private int[] valueStarts;
+
+	private int[] valueEnds;
+
+	/**
+	 * Open addressing table of tag to position in {@link #valueStarts} plus one, 0 marking an empty slot.
+	 */
+	private int[] slots;
+
+	private int[] slotTags;
+
+	RawMessage() {
+	}
+
+	/**
+	 * @param message the message, ISO-8859-1 encoded as QuickFIX/J does by default.
+	 * @return the view over the message.
+	 */
+	public static RawMessage of(byte[] message) {
+		return new ByteBufferRawMessage(ByteBuffer.wrap(message));
+	}
+
+	/**
+	 * @param message the message between the position and the limit of the buffer, which are left unchanged.
+	 * @return the view over the message.
+	 */
+	public static RawMessage of(ByteBuffer message) {
+		return new ByteBufferRawMessage(message);
+	}
+
+	/**
+	 * @param message the message.
+	 * @return the view over the message.
+	 */
+	public static RawMessage of(CharSequence message) {
+		return new CharSequenceRawMessage(message);
+	}
+
+	@Override
+	public CharSequence subSequence(int start, int end) {
+		return substring(start, end);
+	}
+
+	/**
+	 * @param tag the tag number.
+	 * @return {@code true} if the message has a field with the tag.
+	 */
+	public boolean hasField(int tag) {
+		return getValue(tag) != null;
+	}
+
+	/**
+	 * Returns the value of the field with the given tag as a view over the buffer, valid until the next lookup.
+	 *
+	 * @param tag the tag number.
+	 * @return the value or {@code null} if the message has no field with the tag.
+	 */
+	public CharSequence getValue(int tag) {
+		if (indexed) {
+			return getIndexedValue(tag);
+		}
+		int length = length();
+		int position = 0;
+		while (position < length) {
+			int fieldTag = 0;
+			boolean numeric = true;
+			int index = position;
+			for (char c; index < length && (c = charAt(index)) != '='; index++) {
+				if (c >= '0' && c <= '9') {
+					fieldTag = fieldTag * 10 + (c - '0');
+				} else {
+					numeric = false;
+				}
+			}
+			if (index >= length) {
+				return null;
+			}
+
+			int valueStart = index + 1;
+			int valueEnd = valueStart;
+			while (valueEnd < length && charAt(valueEnd) != SOH) {
+				valueEnd++;
+			}
+			if (numeric && fieldTag == tag && index > position) {
+				value.start = valueStart;
+				value.end = valueEnd;
+				return value;
+			}
+			position = valueEnd + 1;
+		}
+		return null;
+	}
+
+	/**
+	 * Records the offsets of every field in one pass over the buffer, after which lookups no longer scan it. A view
+	 * moved to another message reuses the arrays of its previous index.
+	 *
+	 * @return this view.
+	 */
+	public RawMessage index() {
+		if (indexed) {
+			return this;
+		}
+
+		int[] tags = fieldTags == null ? new int[INITIAL_INDEX_CAPACITY] : fieldTags;
+		int[] starts = valueStarts == null ? new int[INITIAL_INDEX_CAPACITY] : valueStarts;
+		int[] ends = valueEnds == null ? new int[INITIAL_INDEX_CAPACITY] : valueEnds;
+		int count = 0;
+		int length = length();
+		int position = 0;
+		while (position < length) {
+			int fieldTag = 0;
+			boolean numeric = true;
+			int index = position;
+			for (char c; index < length && (c = charAt(index)) != '='; index++) {
+				if (c >= '0' && c <= '9') {
+					fieldTag = fieldTag * 10 + (c - '0');
+				} else {
+					numeric = false;
+				}
+			}
+			if (index >= length) {
+				break;
+			}
+
+			int valueEnd = index + 1;
+			while (valueEnd < length && charAt(valueEnd) != SOH) {
+				valueEnd++;
+			}
+			if (numeric && index > position) {
+				if (count == tags.length) {
+					tags = Arrays.copyOf(tags, count * 2);
+					starts = Arrays.copyOf(starts, count * 2);
+					ends = Arrays.copyOf(ends, count * 2);
+				}
+				tags[count] = fieldTag;
+				starts[count] = index + 1;
+				ends[count] = valueEnd;
+				count++;
+			}
+			position = valueEnd + 1;
+		}
+
+		int capacity = Integer.highestOneBit(Math.max(count, 1) * 2) << 1;
+		int[] indexSlots = slots;
+		int[] indexSlotTags = slotTags;
+		if (indexSlots == null || indexSlots.length < capacity) {
+			indexSlots = new int[capacity];
+			indexSlotTags = new int[capacity];
+		} else {
+			Arrays.fill(indexSlots, 0);
+			capacity = indexSlots.length;
+		}
+		for (int i = 0; i < count; i++) {
+			int slot = slotOf(tags[i], capacity);
+			while (indexSlots[slot] != 0 && indexSlotTags[slot] != tags[i]) {
+				slot = (slot + 1) & (capacity - 1);
+			}
+			if (indexSlots[slot] == 0) {
+				// the first occurrence of a tag wins, as when scanning
+				indexSlots[slot] = i + 1;
+				indexSlotTags[slot] = tags[i];
+			}
+		}
+		fieldTags = tags;
+		valueStarts = starts;
+		valueEnds = ends;
+		slotTags = indexSlotTags;
+		slots = indexSlots;
+		indexed = true;
+		return this;
+	}
+
+	private CharSequence getIndexedValue(int tag) {
+		int capacity = slots.length;
+		int slot = slotOf(tag, capacity);
+		while (slots[slot] != 0) {
+			if (slotTags[slot] == tag) {
+				int position = slots[slot] - 1;
+				value.start = valueStarts[position];
+				value.end = valueEnds[position];
+				return value;
+			}
+			slot = (slot + 1) & (capacity - 1);
+		}
+		return null;
+	}
+
+	private static int slotOf(int tag, int capacity) {
+		int hash = tag * 0x9E3779B9;
+		return (hash ^ (hash >>> 16)) & (capacity - 1);
+	}
+
+	/**
+	 * @return the message as a String, as shown in error messages.
+	 */
+	@Override
+	public String toString() {
+		return substring(0, length());
+	}
+
+	String substring(int start, int end) {
+		char[] chars = new char[end - start];
+		for (int i = 0; i < chars.length; i++) {
+			chars[i] = charAt(start + i);
+		}
+		return new String(chars);
+	}
+
+	private final class Value implements CharSequence {
+
+		private int start;
+
+		private int end;
+
+		@Override
+		public int length() {
+			return end - start;
+		}
+
+		@Override
+		public char charAt(int index) {
+			return RawMessage.this.charAt(start + index);
+		}
+
+		@Override
+		public CharSequence subSequence(int from, int to) {
+			return substring(start + from, start + to);
+		}
+
+		@Override
+		public String toString() {
+			return substring(start, end);
+		}
+	}
+
+	static final class ByteBufferRawMessage extends RawMessage {
+
+		private ByteBuffer buffer;
+
+		private int offset;
+
+		private int length;
+
+		ByteBufferRawMessage(ByteBuffer buffer) {
+			this.buffer = buffer;
+			this.offset = buffer.position();
+			this.length = buffer.remaining();
+		}
+
+		/**
+		 * Moves the view to another message, which must be indexed again.
+		 *
+		 * @param buffer the buffer holding the message.
+		 * @param start  the position of the message in the buffer.
+		 * @param end    the position following the message in the buffer.
+		 */
+		void moveTo(ByteBuffer buffer, int start, int end) {
+			this.buffer = buffer;
+			this.offset = start;
+			this.length = end - start;
+			super.indexed = false;
+		}
+
+		@Override
+		public int length() {
+			return length;
+		}
+
+		@Override
+		public char charAt(int index) {
+			return (char) (buffer.get(offset + index) & 0xFF);
+		}
+
+		@Override
+		String substring(int start, int end) {
+			byte[] bytes = new byte[end - start];
+			for (int i = 0; i < bytes.length; i++) {
+				bytes[i] = buffer.get(offset + start + i);
+			}
+			return new String(bytes, StandardCharsets.ISO_8859_1);
+		}
+	}
+
+	private static final class CharSequenceRawMessage extends RawMessage {
+
+		private final CharSequence chars;
+
+		private CharSequenceRawMessage(CharSequence chars) {
+			this.chars = chars;
+		}
+
+		@Override
+		public int length() {
+			return chars.length();
+		}
+
+		@Override
+		public char charAt(int index) {
+			return chars.charAt(index);
+		}
+
+		@Override
+		String substring(int start, int end) {
+			return chars.subSequence(start, end).toString();
+		}
+	}
+}
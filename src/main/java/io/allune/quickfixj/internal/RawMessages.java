@@ -0,0 +1,182 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.internal;
+
+import io.allune.quickfixj.exception.InvalidMessageException;
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.Failures;
+import org.assertj.core.internal.Objects;
+import quickfix.DataDictionary;
+import quickfix.InvalidMessage;
+import quickfix.Message;
+import quickfix.field.ApplVerID;
+import quickfix.field.BeginString;
+import quickfix.field.MsgType;
+
+import java.math.BigDecimal;
+
+import static io.allune.quickfixj.error.FieldShouldHaveValue.fieldShouldHaveValue;
+import static io.allune.quickfixj.error.ShouldBeOfType.shouldBeOfType;
+import static io.allune.quickfixj.error.ShouldHaveField.shouldHaveField;
+import static io.allune.quickfixj.error.ShouldHaveVersionEqualTo.shouldHaveVersionEqualTo;
+import static quickfix.FixVersions.BEGINSTRING_FIXT11;
+
+/**
+ * Assertions on {@link RawMessage}s, reporting failures with the same error messages as the assertions on
+ * {@link Message}s. Values are only decoded into objects to report a failure.
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+public class RawMessages {
+
+	private static final RawMessages INSTANCE = new RawMessages();
+
+	private final Failures failures = Failures.instance();
+
+	private final Objects objects = Objects.instance();
+
+	private final Dictionaries dictionaries = Dictionaries.instance();
+
+	RawMessages() {
+	}
+
+	public static RawMessages instance() {
+		return INSTANCE;
+	}
+
+	public void assertHasField(AssertionInfo info, RawMessage actual, int fieldTag) {
+		objects.assertNotNull(info, actual);
+
+		if (!actual.hasField(fieldTag)) {
+			throw failures.failure(info, shouldHaveField(actual, fieldTag));
+		}
+	}
+
+	public void assertFieldHasValue(AssertionInfo info, RawMessage actual, int fieldTag, CharSequence expectedFieldValue) {
+		objects.assertNotNull(info, actual);
+
+		CharSequence rawValue = getRequiredValue(info, actual, fieldTag);
+		if (!contentEquals(rawValue, expectedFieldValue)) {
+			throw failures.failure(info, fieldShouldHaveValue(actual, fieldTag, rawValue.toString(), expectedFieldValue.toString()));
+		}
+	}
+
+	public void assertIntFieldHasValue(AssertionInfo info, RawMessage actual, int fieldTag, int expectedFieldValue) {
+		objects.assertNotNull(info, actual);
+
+		CharSequence rawValue = getRequiredValue(info, actual, fieldTag);
+		if (RawFieldValues.parseInt(rawValue) != expectedFieldValue) {
+			throw failures.failure(info, fieldShouldHaveValue(actual, fieldTag, RawFieldValues.intOrRaw(rawValue), expectedFieldValue));
+		}
+	}
+
+	public void assertCharFieldHasValue(AssertionInfo info, RawMessage actual, int fieldTag, char expectedFieldValue) {
+		objects.assertNotNull(info, actual);
+
+		CharSequence rawValue = getRequiredValue(info, actual, fieldTag);
+		if (!RawFieldValues.isChar(rawValue, expectedFieldValue)) {
+			throw failures.failure(info, fieldShouldHaveValue(actual, fieldTag, rawValue.toString(), expectedFieldValue));
+		}
+	}
+
+	public void assertBooleanFieldHasValue(AssertionInfo info, RawMessage actual, int fieldTag, boolean expectedFieldValue) {
+		objects.assertNotNull(info, actual);
+
+		CharSequence rawValue = getRequiredValue(info, actual, fieldTag);
+		if (!RawFieldValues.isBoolean(rawValue, expectedFieldValue)) {
+			throw failures.failure(info, fieldShouldHaveValue(actual, fieldTag, rawValue.toString(), expectedFieldValue));
+		}
+	}
+
+	public void assertDecimalFieldHasValue(AssertionInfo info, RawMessage actual, int fieldTag, long expectedUnscaledValue, int expectedScale) {
+		objects.assertNotNull(info, actual);
+
+		CharSequence rawValue = getRequiredValue(info, actual, fieldTag);
+		if (!RawFieldValues.decimalEquals(rawValue, expectedUnscaledValue, expectedScale)) {
+			throw failures.failure(info, fieldShouldHaveValue(actual, fieldTag, rawValue.toString(), BigDecimal.valueOf(expectedUnscaledValue, expectedScale)));
+		}
+	}
+
+	public void assertIsOfType(AssertionInfo info, RawMessage actual, String expectedMessageType) {
+		objects.assertNotNull(info, actual);
+
+		CharSequence actualMessageType = getRequiredValue(info, actual, MsgType.FIELD);
+		if (expectedMessageType == null || !contentEquals(actualMessageType, expectedMessageType)) {
+			throw failures.failure(info, shouldBeOfType(actual, actualMessageType.toString(), expectedMessageType));
+		}
+	}
+
+	public void assertIsVersion(AssertionInfo info, RawMessage actual, String expectedBeginString, String expectedApplVerId) {
+		objects.assertNotNull(info, actual);
+
+		CharSequence actualBeginString = getRequiredValue(info, actual, BeginString.FIELD);
+		if (!contentEquals(actualBeginString, expectedBeginString)) {
+			throw failures.failure(info, shouldHaveVersionEqualTo(actual, actualBeginString.toString(), expectedBeginString));
+		}
+
+		if (expectedApplVerId != null && expectedApplVerId.length() > 0) {
+			CharSequence actualApplVerId = getRequiredValue(info, actual, ApplVerID.FIELD);
+			if (!contentEquals(actualApplVerId, expectedApplVerId)) {
+				throw failures.failure(info, shouldHaveVersionEqualTo(actual, actualApplVerId.toString(), expectedApplVerId));
+			}
+		}
+	}
+
+	/**
+	 * Parses the message into a {@link Message}, with the dictionaries of its version so that repeating groups are
+	 * parsed as groups. The message is not validated.
+	 *
+	 * @param actual the message.
+	 * @return the parsed message.
+	 * @throws InvalidMessageException if the message cannot be parsed.
+	 */
+	public Message toMessage(RawMessage actual) {
+		String wireMessage = actual.toString();
+		String transportBeginString = actual.hasField(BeginString.FIELD) ? actual.getValue(BeginString.FIELD).toString() : null;
+		String beginString = Messages.determineBeginString(actual::getValue);
+		try {
+			if (beginString == null) {
+				return new Message(wireMessage, false);
+			}
+			Message message = new Message();
+			DataDictionary applicationDictionary = dictionaries.getSessionDataDictionary(beginString);
+			DataDictionary sessionDictionary = BEGINSTRING_FIXT11.equals(transportBeginString)
+					? dictionaries.getSessionDataDictionary(BEGINSTRING_FIXT11)
+					: applicationDictionary;
+			message.fromString(wireMessage, sessionDictionary, applicationDictionary, false);
+			return message;
+		} catch (InvalidMessage invalidMessage) {
+			throw new InvalidMessageException(invalidMessage.getMessage(), invalidMessage);
+		}
+	}
+
+	private CharSequence getRequiredValue(AssertionInfo info, RawMessage actual, int fieldTag) {
+		CharSequence rawValue = actual.getValue(fieldTag);
+		if (rawValue == null) {
+			throw failures.failure(info, shouldHaveField(actual, fieldTag));
+		}
+		return rawValue;
+	}
+
+	private static boolean contentEquals(CharSequence actual, CharSequence expected) {
+		if (actual.length() != expected.length()) {
+			return false;
+		}
+		for (int i = 0; i < actual.length(); i++) {
+			if (actual.charAt(i) != expected.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,252 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.internal;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A compact binary file of named message snapshots, one file per test class.
+ * <p>
+ * The file starts with an index of the snapshot names and the position of each message, followed by the messages
+ * in their wire format. It is memory-mapped the first time a snapshot is looked up and only the index is decoded;
+ * a message is handed out as a {@link RawMessage} view over the mapped bytes and parsed only when compared.
+ * <p>
+ * Adding a snapshot reads the file into the heap instead, so it is never mapped while it is replaced, and only
+ * updates the store in memory: every updated store is written once, when the JVM exits or on {@link #flush()}.
+ * Snapshots are written to a temporary file which is then moved to the target, so a partially written file is
+ * never exposed.
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+public final class SnapshotStore {
+
+	static final int MAGIC = 0x41514653;
+
+	static final short FORMAT_VERSION = 1;
+
+	private static final ConcurrentMap<Path, SnapshotStore> STORES = new ConcurrentHashMap<>();
+
+	private static final AtomicBoolean FLUSH_ON_EXIT = new AtomicBoolean();
+
+	private final Path file;
+
+	private Map<String, ByteBuffer> snapshots;
+
+	/**
+	 * The snapshots once the store is updated, read into the heap.
+	 */
+	private Map<String, byte[]> updated;
+
+	private boolean dirty;
+
+	SnapshotStore(Path file) {
+		this.file = file;
+	}
+
+	/**
+	 * @param file the snapshot file, which does not need to exist yet.
+	 * @return the store of the file, shared by all the callers in this JVM.
+	 */
+	public static SnapshotStore of(Path file) {
+		return STORES.computeIfAbsent(file.toAbsolutePath().normalize(), SnapshotStore::new);
+	}
+
+	public Path getFile() {
+		return file;
+	}
+
+	/**
+	 * @param name the name of the snapshot.
+	 * @return a view over the snapshot message or {@code null} if there is no such snapshot.
+	 * @throws IOException if the file cannot be mapped.
+	 */
+	public synchronized RawMessage get(String name) throws IOException {
+		if (updated != null) {
+			byte[] message = updated.get(name);
+			return message == null ? null : RawMessage.of(ByteBuffer.wrap(message));
+		}
+		ByteBuffer snapshot = snapshots().get(name);
+		return snapshot == null ? null : RawMessage.of(snapshot.duplicate());
+	}
+
+	/**
+	 * @return the names of the snapshots.
+	 * @throws IOException if the file cannot be mapped.
+	 */
+	public synchronized Set<String> getNames() throws IOException {
+		if (updated != null) {
+			return Collections.unmodifiableSet(new TreeMap<>(updated).keySet());
+		}
+		return Collections.unmodifiableSet(new TreeMap<>(snapshots()).keySet());
+	}
+
+	/**
+	 * Adds or replaces a snapshot. The file is rewritten when the JVM exits, or on {@link #flush()}.
+	 *
+	 * @param name    the name of the snapshot.
+	 * @param message the message in its wire format.
+	 * @throws IOException if the file cannot be read.
+	 */
+	public synchronized void put(String name, byte[] message) throws IOException {
+		if (updated == null) {
+			updated = Files.exists(file) ? readAll() : new TreeMap<>();
+			snapshots = null;
+		}
+		updated.put(name, message);
+		dirty = true;
+		if (FLUSH_ON_EXIT.compareAndSet(false, true)) {
+			Runtime.getRuntime().addShutdownHook(new Thread(SnapshotStore::flushAll, "snapshot-store-flush"));
+		}
+	}
+
+	/**
+	 * Writes the file if snapshots were added or replaced since it was last written.
+	 *
+	 * @throws IOException if the file cannot be written.
+	 */
+	public synchronized void flush() throws IOException {
+		if (dirty) {
+			write(updated);
+			dirty = false;
+		}
+	}
+
+	private static void flushAll() {
+		UncheckedIOException failure = null;
+		for (SnapshotStore store : STORES.values()) {
+			try {
+				store.flush();
+			} catch (IOException e) {
+				if (failure == null) {
+					failure = new UncheckedIOException("Cannot write the message snapshots", e);
+				} else {
+					failure.addSuppressed(e);
+				}
+			}
+		}
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	private Map<String, byte[]> readAll() throws IOException {
+		Map<String, byte[]> all = new TreeMap<>();
+		for (Map.Entry<String, ByteBuffer> snapshot : readIndex(ByteBuffer.wrap(Files.readAllBytes(file))).entrySet()) {
+			byte[] bytes = new byte[snapshot.getValue().remaining()];
+			snapshot.getValue().get(bytes);
+			all.put(snapshot.getKey(), bytes);
+		}
+		return all;
+	}
+
+	private Map<String, ByteBuffer> snapshots() throws IOException {
+		if (snapshots == null) {
+			snapshots = Files.exists(file) ? readIndex(map()) : new HashMap<>();
+		}
+		return snapshots;
+	}
+
+	private ByteBuffer map() throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+	}
+
+	private Map<String, ByteBuffer> readIndex(ByteBuffer buffer) {
+		ByteBuffer in = buffer.duplicate();
+		if (in.getInt() != MAGIC) {
+			throw new IllegalArgumentException("Not a message snapshot file: " + file);
+		}
+		short version = in.getShort();
+		if (version != FORMAT_VERSION) {
+			throw new IllegalArgumentException("Unsupported message snapshot version " + version + ": " + file);
+		}
+		int count = in.getInt();
+		String[] names = new String[count];
+		int[] offsets = new int[count];
+		int[] lengths = new int[count];
+		for (int i = 0; i < count; i++) {
+			byte[] name = new byte[in.getShort() & 0xFFFF];
+			in.get(name);
+			names[i] = new String(name, StandardCharsets.UTF_8);
+			offsets[i] = in.getInt();
+			lengths[i] = in.getInt();
+		}
+
+		int dataOffset = in.position();
+		Map<String, ByteBuffer> index = new HashMap<>(count * 2);
+		for (int i = 0; i < count; i++) {
+			ByteBuffer snapshot = buffer.duplicate();
+			snapshot.position(dataOffset + offsets[i]);
+			snapshot.limit(dataOffset + offsets[i] + lengths[i]);
+			index.put(names[i], snapshot.slice());
+		}
+		return index;
+	}
+
+	private void write(Map<String, byte[]> snapshots) throws IOException {
+		ByteArrayOutputStream index = new ByteArrayOutputStream();
+		DataOutputStream indexOut = new DataOutputStream(index);
+		int offset = 0;
+		for (Map.Entry<String, byte[]> snapshot : snapshots.entrySet()) {
+			byte[] name = snapshot.getKey().getBytes(StandardCharsets.UTF_8);
+			indexOut.writeShort(name.length);
+			indexOut.write(name);
+			indexOut.writeInt(offset);
+			indexOut.writeInt(snapshot.getValue().length);
+			offset += snapshot.getValue().length;
+		}
+
+		Path directory = file.toAbsolutePath().getParent();
+		Files.createDirectories(directory);
+		Path temporaryFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+		try {
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+				out.writeInt(MAGIC);
+				out.writeShort(FORMAT_VERSION);
+				out.writeInt(snapshots.size());
+				index.writeTo(out);
+				for (byte[] message : snapshots.values()) {
+					out.write(message);
+				}
+			}
+			try {
+				Files.move(temporaryFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} finally {
+			Files.deleteIfExists(temporaryFile);
+		}
+	}
+}
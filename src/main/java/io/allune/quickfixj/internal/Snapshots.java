@@ -0,0 +1,179 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.internal;
+
+import io.allune.quickfixj.internal.MessageEquality.Difference;
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.Failures;
+import org.assertj.core.internal.Objects;
+import quickfix.Field;
+import quickfix.FieldMap;
+import quickfix.FieldNotFound;
+import quickfix.Group;
+import quickfix.Message;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.CodeSource;
+import java.util.Iterator;
+
+import static io.allune.quickfixj.error.ShouldMatchSnapshot.shouldHaveSnapshot;
+import static io.allune.quickfixj.error.ShouldMatchSnapshot.shouldMatchSnapshot;
+
+/**
+ * Snapshot assertions: a {@link Message} is compared with the one recorded under the same name for the test class,
+ * using the structural equality of {@link MessageEquality}.
+ * <p>
+ * Snapshots are kept in one {@link SnapshotStore} per test class, in the directory given by the
+ * {@value #SNAPSHOT_DIRECTORY_PROPERTY} system property, {@value #DEFAULT_SNAPSHOT_DIRECTORY} by default. They are
+ * only recorded, or replaced, when the {@value #UPDATE_SNAPSHOTS_PROPERTY} system property is {@code true}; the
+ * assertion then always passes and the files are written when the JVM exits.
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+public class Snapshots {
+
+	public static final String SNAPSHOT_DIRECTORY_PROPERTY = "assertj.quickfixj.snapshotDir";
+
+	public static final String UPDATE_SNAPSHOTS_PROPERTY = "assertj.quickfixj.updateSnapshots";
+
+	static final String DEFAULT_SNAPSHOT_DIRECTORY = "src/test/snapshots";
+
+	static final String FILE_EXTENSION = ".fixsnap";
+
+	private static final char SOH = '\u0001';
+
+	private static final String[] FRAMEWORK_PACKAGES = { "java.", "javax.", "jdk.", "sun.", "org.assertj.", "net.bytebuddy." };
+
+	private static final Snapshots INSTANCE = new Snapshots();
+
+	private final Failures failures = Failures.instance();
+
+	private final Objects objects = Objects.instance();
+
+	MessageEquality messageEquality = MessageEquality.instance();
+
+	RawMessages rawMessages = RawMessages.instance();
+
+	Snapshots() {
+	}
+
+	public static Snapshots instance() {
+		return INSTANCE;
+	}
+
+	public void assertMatchesSnapshot(AssertionInfo info, Message actual, String testClassName, String name, TagSet ignoredTags) {
+		objects.assertNotNull(info, actual);
+
+		SnapshotStore store = SnapshotStore.of(snapshotFile(testClassName));
+		try {
+			if (Boolean.getBoolean(UPDATE_SNAPSHOTS_PROPERTY)) {
+				store.put(name, canonicalise(actual));
+				return;
+			}
+
+			RawMessage snapshot = store.get(name);
+			if (snapshot == null) {
+				throw failures.failure(info, shouldHaveSnapshot(actual, name, store.getFile(), UPDATE_SNAPSHOTS_PROPERTY));
+			}
+			Message expected = rawMessages.toMessage(snapshot);
+			Difference difference = messageEquality.findFirstDifference(actual, expected, ignoredTags);
+			if (difference != null) {
+				throw failures.failure(info, shouldMatchSnapshot(actual, expected, name, difference, ignoredTags));
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("Cannot access the snapshots of " + testClassName, e);
+		}
+	}
+
+	/**
+	 * Finds the test class from the call stack: the first caller that is neither part of this library, loaded from
+	 * the same location, nor of the JDK, AssertJ or its proxies.
+	 *
+	 * @return the name of the top level class of the caller.
+	 * @throws IllegalStateException if there is no such caller.
+	 */
+	public String findTestClassName() {
+		String libraryLocation = locationOf(Snapshots.class);
+		for (StackTraceElement frame : new Throwable().getStackTrace()) {
+			String className = frame.getClassName();
+			if (isFrameworkClass(className)) {
+				continue;
+			}
+			try {
+				String location = locationOf(Class.forName(className, false, Snapshots.class.getClassLoader()));
+				if (location != null && location.equals(libraryLocation)) {
+					continue;
+				}
+			} catch (ClassNotFoundException e) {
+				continue;
+			}
+			int nested = className.indexOf('$');
+			return nested < 0 ? className : className.substring(0, nested);
+		}
+		throw new IllegalStateException("Cannot find the test class in the call stack, pass it to matchesSnapshot explicitly.");
+	}
+
+	Path snapshotFile(String testClassName) {
+		return Paths.get(System.getProperty(SNAPSHOT_DIRECTORY_PROPERTY, DEFAULT_SNAPSHOT_DIRECTORY))
+				.resolve(testClassName + FILE_EXTENSION);
+	}
+
+	/**
+	 * Serialises the message as it would be sent, each repeating group entry right after its count field, without
+	 * modifying it: BodyLength and CheckSum are written as they are, or left out if not set.
+	 */
+	static byte[] canonicalise(Message message) {
+		StringBuilder wire = new StringBuilder(256);
+		appendFields(wire, message.getHeader());
+		appendFields(wire, message);
+		appendFields(wire, message.getTrailer());
+		return wire.toString().getBytes(StandardCharsets.ISO_8859_1);
+	}
+
+	private static void appendFields(StringBuilder wire, FieldMap fieldMap) {
+		for (Iterator<Field<?>> fields = fieldMap.iterator(); fields.hasNext(); ) {
+			int tag = fields.next().getTag();
+			try {
+				wire.append(tag).append('=').append(fieldMap.getString(tag)).append(SOH);
+			} catch (FieldNotFound fieldNotFound) {
+				throw new IllegalStateException(fieldNotFound);
+			}
+			if (fieldMap.hasGroup(tag)) {
+				for (Group entry : fieldMap.getGroups(tag)) {
+					appendFields(wire, entry);
+				}
+			}
+		}
+	}
+
+	private static boolean isFrameworkClass(String className) {
+		if (className.contains("$ByteBuddy$")) {
+			return true;
+		}
+		for (String frameworkPackage : FRAMEWORK_PACKAGES) {
+			if (className.startsWith(frameworkPackage)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static String locationOf(Class<?> type) {
+		CodeSource codeSource = type.getProtectionDomain().getCodeSource();
+		return codeSource == null || codeSource.getLocation() == null ? null : codeSource.getLocation().toString();
+	}
+}
@@ -0,0 +1,190 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.internal;
+
+/**
+ * An open addressing map of String keys to long values, with linear probing, looked up by {@link CharSequence} so
+ * that the raw value of a field can be used as a key without being copied. A key is only copied into a String when
+ * it is inserted.
+ * <p>
+ * Not thread safe.
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+final class StringLongMap {
+
+	private static final int MIN_CAPACITY = 16;
+
+	private String[] keys;
+
+	private int[] hashes;
+
+	private long[] values;
+
+	private int size;
+
+	StringLongMap() {
+		this(MIN_CAPACITY);
+	}
+
+	StringLongMap(int expectedSize) {
+		int capacity = Integer.highestOneBit(Math.max(expectedSize, MIN_CAPACITY / 2) * 2 - 1) << 1;
+		keys = new String[capacity];
+		hashes = new int[capacity];
+		values = new long[capacity];
+	}
+
+	int size() {
+		return size;
+	}
+
+	/**
+	 * @param key          the key.
+	 * @param defaultValue the value returned when there is no such key.
+	 * @return the value of the key or the default value.
+	 */
+	long get(CharSequence key, long defaultValue) {
+		int slot = find(key, hashOf(key));
+		return keys[slot] == null ? defaultValue : values[slot];
+	}
+
+	boolean containsKey(CharSequence key) {
+		return keys[find(key, hashOf(key))] != null;
+	}
+
+	/**
+	 * @param key   the key.
+	 * @param value the value.
+	 * @return {@code true} if the key was added, {@code false} if its value was replaced.
+	 */
+	boolean put(CharSequence key, long value) {
+		int hash = hashOf(key);
+		int slot = find(key, hash);
+		if (keys[slot] != null) {
+			values[slot] = value;
+			return false;
+		}
+		keys[slot] = key.toString();
+		hashes[slot] = hash;
+		values[slot] = value;
+		if (++size * 4 > keys.length * 3) {
+			resize();
+		}
+		return true;
+	}
+
+	/**
+	 * @param key          the key.
+	 * @param defaultValue the value returned when there is no such key.
+	 * @return the value the key had or the default value.
+	 */
+	long remove(CharSequence key, long defaultValue) {
+		int slot = find(key, hashOf(key));
+		if (keys[slot] == null) {
+			return defaultValue;
+		}
+		long value = values[slot];
+		deleteSlot(slot);
+		size--;
+		return value;
+	}
+
+	/**
+	 * Visits the remaining entries, in no particular order.
+	 *
+	 * @param visitor the visitor.
+	 */
+	void forEach(EntryVisitor visitor) {
+		for (int slot = 0; slot < keys.length; slot++) {
+			if (keys[slot] != null) {
+				visitor.visit(keys[slot], values[slot]);
+			}
+		}
+	}
+
+	private int find(CharSequence key, int hash) {
+		int mask = keys.length - 1;
+		int slot = hash & mask;
+		while (keys[slot] != null && (hashes[slot] != hash || !contentEquals(keys[slot], key))) {
+			slot = (slot + 1) & mask;
+		}
+		return slot;
+	}
+
+	/**
+	 * Empties the slot and shifts back the entries of the probe sequence that follows, so that no tombstones are
+	 * needed.
+	 */
+	private void deleteSlot(int slot) {
+		int mask = keys.length - 1;
+		int gap = slot;
+		for (int next = (gap + 1) & mask; keys[next] != null; next = (next + 1) & mask) {
+			int home = hashes[next] & mask;
+			// the entry may move into the gap if its home slot is not between the gap and itself
+			if (((next - home) & mask) >= ((next - gap) & mask)) {
+				keys[gap] = keys[next];
+				hashes[gap] = hashes[next];
+				values[gap] = values[next];
+				gap = next;
+			}
+		}
+		keys[gap] = null;
+	}
+
+	private void resize() {
+		String[] oldKeys = keys;
+		int[] oldHashes = hashes;
+		long[] oldValues = values;
+		keys = new String[oldKeys.length * 2];
+		hashes = new int[oldKeys.length * 2];
+		values = new long[oldKeys.length * 2];
+		int mask = keys.length - 1;
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldKeys[i] != null) {
+				int slot = oldHashes[i] & mask;
+				while (keys[slot] != null) {
+					slot = (slot + 1) & mask;
+				}
+				keys[slot] = oldKeys[i];
+				hashes[slot] = oldHashes[i];
+				values[slot] = oldValues[i];
+			}
+		}
+	}
+
+	private static int hashOf(CharSequence key) {
+		int hash = 0;
+		for (int i = 0; i < key.length(); i++) {
+			hash = 31 * hash + key.charAt(i);
+		}
+		hash *= 0x9E3779B9;
+		return hash ^ (hash >>> 16);
+	}
+
+	private static boolean contentEquals(String key, CharSequence other) {
+		if (key.length() != other.length()) {
+			return false;
+		}
+		for (int i = 0; i < key.length(); i++) {
+			if (key.charAt(i) != other.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	interface EntryVisitor {
+
+		void visit(String key, long value);
+	}
+}
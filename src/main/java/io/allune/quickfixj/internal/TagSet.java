@@ -0,0 +1,121 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.internal;
+
+import quickfix.field.BodyLength;
+import quickfix.field.CheckSum;
+import quickfix.field.MsgSeqNum;
+import quickfix.field.SendingTime;
+
+/**
+ * An immutable set of tag numbers backed by a bitset, so that membership is tested without boxing or hashing. Tag
+ * numbers are limited to the range FIX reserves for tags, from 1 to {@value #MAX_TAG}, which bounds the bitset to a
+ * few kilobytes.
+ *
+ * @author Eduardo Sanchez-Ros
+ */
+public final class TagSet {
+
+	/**
+	 * The largest tag number of a set.
+	 */
+	public static final int MAX_TAG = 99999;
+
+	/**
+	 * The empty set.
+	 */
+	public static final TagSet EMPTY = new TagSet(new long[0]);
+
+	/**
+	 * The fields that differ between two sends of the same message: BodyLength, MsgSeqNum, SendingTime and CheckSum.
+	 */
+	public static final TagSet VOLATILE = of(BodyLength.FIELD, MsgSeqNum.FIELD, SendingTime.FIELD, CheckSum.FIELD);
+
+	private final long[] words;
+
+	private TagSet(long[] words) {
+		this.words = words;
+	}
+
+	/**
+	 * @param tags the tag numbers.
+	 * @return a set of the tag numbers.
+	 */
+	public static TagSet of(int... tags) {
+		return EMPTY.with(tags);
+	}
+
+	/**
+	 * @param tags the tag numbers to add.
+	 * @return a set of the tag numbers of this set and the given ones.
+	 */
+	public TagSet with(int... tags) {
+		int maxTag = -1;
+		for (int tag : tags) {
+			if (tag <= 0 || tag > MAX_TAG) {
+				throw new IllegalArgumentException("Tag numbers must be between 1 and " + MAX_TAG + ", got " + tag);
+			}
+			maxTag = Math.max(maxTag, tag);
+		}
+		long[] newWords = new long[Math.max(words.length, (maxTag >> 6) + 1)];
+		System.arraycopy(words, 0, newWords, 0, words.length);
+		for (int tag : tags) {
+			newWords[tag >> 6] |= 1L << tag;
+		}
+		return new TagSet(newWords);
+	}
+
+	/**
+	 * @param other the other set.
+	 * @return a set of the tag numbers of this set and the other one.
+	 */
+	public TagSet with(TagSet other) {
+		long[] newWords = new long[Math.max(words.length, other.words.length)];
+		for (int i = 0; i < newWords.length; i++) {
+			newWords[i] = (i < words.length ? words[i] : 0) | (i < other.words.length ? other.words[i] : 0);
+		}
+		return new TagSet(newWords);
+	}
+
+	/**
+	 * @param tag the tag number.
+	 * @return {@code true} if the set contains the tag number.
+	 */
+	public boolean contains(int tag) {
+		int word = tag >> 6;
+		return tag > 0 && word < words.length && (words[word] & (1L << tag)) != 0;
+	}
+
+	public boolean isEmpty() {
+		for (long word : words) {
+			if (word != 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder tags = new StringBuilder("[");
+		for (int i = 0; i < words.length; i++) {
+			for (long word = words[i]; word != 0; word &= word - 1) {
+				if (tags.length() > 1) {
+					tags.append(", ");
+				}
+				tags.append((i << 6) + Long.numberOfTrailingZeros(word));
+			}
+		}
+		return tags.append(']').toString();
+	}
+}
@@ -0,0 +1,47 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.api;
+
+import io.allune.quickfixj.exception.DictionaryLoadException;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static quickfix.FixVersions.BEGINSTRING_FIX42;
+import static quickfix.FixVersions.BEGINSTRING_FIX44;
+
+/**
+ * @author Eduardo Sanchez-Ros
+ */
+public class DictionaryWarmUp_preload_Test {
+
+	@Test
+	public void shouldPreloadDictionaries() {
+		// When
+		DictionaryLoadReport report = DictionaryWarmUp.preloadAsync(BEGINSTRING_FIX42, BEGINSTRING_FIX44).join();
+
+		// Then
+		assertThat(report.hasFailures()).isFalse();
+		assertThat(report.getLoadTimes().size() + report.getAlreadyLoaded().size()).isEqualTo(2);
+		assertThat(DictionaryWarmUp.preload(BEGINSTRING_FIX42).getAlreadyLoaded()).containsExactly(BEGINSTRING_FIX42);
+	}
+
+	@Test
+	public void shouldReportDictionariesFailingToLoad() {
+		// When
+		DictionaryLoadReport report = DictionaryWarmUp.preload("FIX.9.9");
+
+		// Then
+		assertThat(report.getFailures().get("FIX.9.9")).isInstanceOf(DictionaryLoadException.class);
+		assertThat(report.toString()).contains("FIX.9.9: failed");
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.api;
+
+import org.junit.Test;
+import quickfix.field.MDEntryType;
+import quickfix.field.NoMDEntries;
+import quickfix.field.Symbol;
+
+import static io.allune.quickfixj.api.Assertions.assertThatLazily;
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * @author Eduardo Sanchez-Ros
+ */
+public class LazyMessageAssert_Test {
+
+	private static final String SNAPSHOT = "8=FIX.4.4\u00019=116\u000135=W\u000134=2\u000149=EXEC\u000152=20200727-12:28:02.659\u000156=BANZAI\u000155=EUR/USD\u0001268=2\u0001269=0\u0001270=1.1\u0001271=1000\u0001269=1\u0001270=1.2\u0001271=2000\u000110=000\u0001";
+
+	@Test
+	public void shouldAssertIndexedFieldsAndMsgTypeName() {
+		// When/Then
+		assertThatLazily(SNAPSHOT)
+				.isVersion44()
+				.hasMsgTypeName("MarketDataSnapshotFullRefresh")
+				.hasFieldValue(Symbol.FIELD, "EUR/USD")
+				.hasIntFieldValue(NoMDEntries.FIELD, 2)
+				.hasCharFieldValue(MDEntryType.FIELD, MDEntryType.BID);
+	}
+
+	@Test
+	public void shouldFallBackToFullMessageForGroups() throws Exception {
+		// When
+		MessageAssert messageAssert = assertThatLazily(SNAPSHOT)
+				.asMessage();
+
+		// Then
+		org.assertj.core.api.Assertions.assertThat(messageAssert.getActual().getGroupCount(NoMDEntries.FIELD)).isEqualTo(2);
+	}
+
+	@Test
+	public void shouldFailToAssertMsgTypeNameGivenDifferentType() {
+		try {
+			// When
+			assertThatLazily(SNAPSHOT)
+					.hasMsgTypeName("NewOrderSingle");
+		} // Then
+		catch (AssertionError e) {
+			org.assertj.core.api.Assertions.assertThat(e).hasMessage(format(
+					"Expecting Message:%n"
+							+ " <" + SNAPSHOT + ">%n"
+							+ "to be of type <\"D\">%n"
+							+ "but was:%n"
+							+ " <\"W\">"));
+			return;
+		}
+		fail("Should have thrown AssertionError");
+	}
+}
@@ -0,0 +1,156 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.api;
+
+import org.junit.After;
+import org.junit.Test;
+import quickfix.DataDictionary;
+import quickfix.Group;
+import quickfix.Message;
+import quickfix.field.BeginString;
+import quickfix.field.MDEntryPx;
+import quickfix.field.MDEntrySize;
+import quickfix.field.MDEntryType;
+import quickfix.field.MsgType;
+import quickfix.field.NoMDEntries;
+import quickfix.field.Symbol;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static io.allune.quickfixj.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static quickfix.FixVersions.BEGINSTRING_FIX44;
+
+/**
+ * @author Eduardo Sanchez-Ros
+ */
+public class MessageAssert_failureRendering_Test {
+
+	private static final String FULL_MESSAGE_PROPERTY = "assertj.quickfixj.fullMessage";
+
+	@After
+	public void tearDown() {
+		System.clearProperty(FULL_MESSAGE_PROPERTY);
+	}
+
+	@Test
+	public void shouldRenderBoundedExcerptGivenLargeMessage() {
+		try {
+			// Given
+			Message message = marketDataSnapshot(5000);
+
+			// When
+			assertThat(message)
+					.hasFieldValue(Symbol.FIELD, "GBP/USD");
+		} // Then
+		catch (AssertionError e) {
+			org.assertj.core.api.Assertions.assertThat(e.getMessage())
+					.contains(">>55=EUR/USD<<")
+					.contains("268=5000 <5000 groups not shown>")
+					.contains("around tag 55 (Symbol)")
+					.doesNotContain("270=1.1");
+			org.assertj.core.api.Assertions.assertThat(e.getMessage().length()).isLessThan(2000);
+			return;
+		}
+		fail("Should have thrown AssertionError");
+	}
+
+	@Test
+	public void shouldNameFocusTagAfterDictionaryOfAssertion() throws Exception {
+		// Given
+		DataDictionary renamed = fix44DictionaryRenaming("Symbol", "Ticker");
+		Message message = marketDataSnapshot(200);
+
+		try {
+			// When
+			assertThat(message)
+					.usingDataDictionary(BEGINSTRING_FIX44, renamed)
+					.hasFieldValue(Symbol.FIELD, "GBP/USD");
+		} // Then
+		catch (AssertionError e) {
+			org.assertj.core.api.Assertions.assertThat(e.getMessage())
+					.contains("around tag 55 (Ticker)");
+			return;
+		}
+		fail("Should have thrown AssertionError");
+	}
+
+	@Test
+	public void shouldRenderFullMessageGivenSystemPropertyIsSet() {
+		// Given
+		System.setProperty(FULL_MESSAGE_PROPERTY, "true");
+		Message message = marketDataSnapshot(200);
+
+		try {
+			// When
+			assertThat(message)
+					.hasFieldValue(Symbol.FIELD, "GBP/USD");
+		} // Then
+		catch (AssertionError e) {
+			org.assertj.core.api.Assertions.assertThat(e.getMessage())
+					.contains(message.toString())
+					.doesNotContain("excerpt");
+			return;
+		}
+		fail("Should have thrown AssertionError");
+	}
+
+	@Test
+	public void shouldRenderFullMessageGivenSmallMessage() {
+		// Given
+		Message message = marketDataSnapshot(2);
+
+		try {
+			// When
+			assertThat(message)
+					.hasFieldValue(Symbol.FIELD, "GBP/USD");
+		} // Then
+		catch (AssertionError e) {
+			org.assertj.core.api.Assertions.assertThat(e.getMessage())
+					.contains(message.toString());
+			return;
+		}
+		fail("Should have thrown AssertionError");
+	}
+
+	private static DataDictionary fix44DictionaryRenaming(String fieldName, String newFieldName) throws Exception {
+		ByteArrayOutputStream xml = new ByteArrayOutputStream();
+		try (InputStream dictionaryXml = MessageAssert_failureRendering_Test.class.getClassLoader().getResourceAsStream("FIX44.xml")) {
+			byte[] buffer = new byte[8192];
+			for (int read = dictionaryXml.read(buffer); read != -1; read = dictionaryXml.read(buffer)) {
+				xml.write(buffer, 0, read);
+			}
+		}
+		String renamed = new String(xml.toByteArray(), StandardCharsets.UTF_8)
+				.replace("\"" + fieldName + "\"", "\"" + newFieldName + "\"");
+		return new DataDictionary(new ByteArrayInputStream(renamed.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	private static Message marketDataSnapshot(int entries) {
+		Message message = new Message();
+		message.getHeader().setField(new BeginString(BEGINSTRING_FIX44));
+		message.getHeader().setField(new MsgType(MsgType.MARKET_DATA_SNAPSHOT_FULL_REFRESH));
+		message.setField(new Symbol("EUR/USD"));
+		for (int i = 0; i < entries; i++) {
+			Group group = new Group(NoMDEntries.FIELD, MDEntryType.FIELD);
+			group.setField(new MDEntryType(MDEntryType.BID));
+			group.setField(new MDEntryPx(1.1));
+			group.setField(new MDEntrySize(1000));
+			message.addGroup(group);
+		}
+		return message;
+	}
+}
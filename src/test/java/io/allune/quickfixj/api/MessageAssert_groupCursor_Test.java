@@ -0,0 +1,128 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.api;
+
+import org.junit.Before;
+import org.junit.Test;
+import quickfix.Group;
+import quickfix.Message;
+import quickfix.field.BeginString;
+import quickfix.field.MDEntryPx;
+import quickfix.field.MDEntrySize;
+import quickfix.field.MDEntryType;
+import quickfix.field.MsgType;
+import quickfix.field.NoMDEntries;
+import quickfix.field.SenderCompID;
+import quickfix.field.Symbol;
+import quickfix.field.TargetCompID;
+
+import static io.allune.quickfixj.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+import static quickfix.FixVersions.BEGINSTRING_FIX44;
+
+/**
+ * @author Eduardo Sanchez-Ros
+ */
+public class MessageAssert_groupCursor_Test {
+
+	private static final int ENTRIES = 10000;
+
+	private Message message;
+
+	@Before
+	public void setUp() {
+		message = new Message();
+		message.getHeader().setField(new BeginString(BEGINSTRING_FIX44));
+		message.getHeader().setField(new MsgType(MsgType.MARKET_DATA_INCREMENTAL_REFRESH));
+		message.getHeader().setField(new SenderCompID("SENDER"));
+		message.getHeader().setField(new TargetCompID("TARGET"));
+		for (int i = 0; i < ENTRIES; i++) {
+			Group group = new Group(NoMDEntries.FIELD, MDEntryType.FIELD);
+			group.setField(new MDEntryType(i % 2 == 0 ? MDEntryType.BID : MDEntryType.OFFER));
+			group.setField(new Symbol("EUR/USD"));
+			group.setField(new MDEntryPx(1.1000 + i / 100000.0));
+			group.setField(new MDEntrySize(1 + i % 10));
+			message.addGroup(group);
+		}
+	}
+
+	@Test
+	public void shouldAssertPredicatesAndAggregates() {
+		// When/Then
+		assertThat(message)
+				.groupCursor(NoMDEntries.FIELD)
+				.hasEntryCount(ENTRIES)
+				.hasEntryCount(entry -> entry.isChar(MDEntryType.FIELD, MDEntryType.BID), ENTRIES / 2)
+				.allMatch(entry -> entry.isString(Symbol.FIELD, "EUR/USD"))
+				.anyMatch(entry -> entry.getInt(MDEntrySize.FIELD, 0) == 10)
+				.noneMatch(entry -> entry.getDouble(MDEntryPx.FIELD) < 1.1)
+				.hasMinValue(MDEntryPx.FIELD, 1.1, 0.000001)
+				.hasMaxValue(MDEntryPx.FIELD, 1.1000 + (ENTRIES - 1) / 100000.0, 0.000001)
+				.hasSum(MDEntrySize.FIELD, 5.5 * ENTRIES, 0)
+				.and()
+				.isMarketDataIncrementalRefresh();
+	}
+
+	@Test
+	public void shouldListTheEntriesNotMatching() {
+		try {
+			// When
+			assertThat(message)
+					.groupCursor(NoMDEntries.FIELD)
+					.allMatch(entry -> entry.getIndex() < ENTRIES - 1);
+		} catch (AssertionError e) {
+			// Then
+			org.assertj.core.api.Assertions.assertThat(e)
+					.hasMessageContaining("Expecting all <10000> entries of repeating group with tag <268> to match the predicate")
+					.hasMessageContaining("but <2> did not")
+					.hasMessageContaining("entry <9999>")
+					.hasMessageContaining("entry <10000>")
+					.hasMessageContaining("269=0");
+			return;
+		}
+		fail("Should have thrown AssertionError");
+	}
+
+	@Test
+	public void shouldFailWhenAggregateDiffers() {
+		try {
+			// When
+			assertThat(message)
+					.groupCursor(NoMDEntries.FIELD)
+					.hasSum(MDEntrySize.FIELD, 1, 0);
+		} catch (AssertionError e) {
+			// Then
+			org.assertj.core.api.Assertions.assertThat(e)
+					.hasMessageContaining("Expecting the sum of field <271> over the entries of repeating group with tag <268>")
+					.hasMessageContaining("55000.0");
+			return;
+		}
+		fail("Should have thrown AssertionError");
+	}
+
+	@Test
+	public void shouldFailToAssertNoneMatchWhenGroupIsMissing() {
+		try {
+			// When
+			assertThat(message)
+					.groupCursor(NoMDEntries.FIELD + 1)
+					.noneMatch(entry -> true);
+		} catch (AssertionError e) {
+			// Then
+			org.assertj.core.api.Assertions.assertThat(e)
+					.hasMessageContaining("to have repeating group with tag <269>");
+			return;
+		}
+		fail("Should have thrown AssertionError");
+	}
+}
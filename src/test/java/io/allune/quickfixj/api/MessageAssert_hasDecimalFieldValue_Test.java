@@ -0,0 +1,118 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.api;
+
+import org.junit.Before;
+import org.junit.Test;
+import quickfix.Message;
+import quickfix.field.BeginString;
+import quickfix.field.MsgType;
+import quickfix.field.OrderQty;
+import quickfix.field.Price;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.allune.quickfixj.api.Assertions.assertThat;
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.fail;
+import static quickfix.FixVersions.BEGINSTRING_FIX44;
+
+/**
+ * @author Eduardo Sanchez-Ros
+ */
+public class MessageAssert_hasDecimalFieldValue_Test {
+
+	private Message message;
+
+	@Before
+	public void setUp() {
+		message = new Message();
+		message.getHeader().setField(new BeginString(BEGINSTRING_FIX44));
+		message.getHeader().setField(new MsgType(MsgType.ORDER_SINGLE));
+		message.setField(new OrderQty(1000));
+		message.setField(new Price(300.25));
+	}
+
+	@Test
+	public void shouldAssertDecimalFieldValue() {
+		assertThat(message)
+				.hasDecimalFieldValue(Price.FIELD, 30025, 2)
+				.hasDecimalFieldValue(Price.FIELD, 300250, 3)
+				.hasDecimalFieldValue(OrderQty.FIELD, 1000, 0)
+				.hasDecimalFieldValue(OrderQty.FIELD, 1, -3);
+	}
+
+	@Test
+	public void shouldAssertFieldValueUsingExactDecimalComparison() {
+		assertThat(message)
+				.usingExactDecimalComparison()
+				.hasFieldValue(Price.FIELD, new BigDecimal("300.250"))
+				.hasFieldValue(Price.FIELD, 300.25)
+				.hasFieldValue(Price.FIELD, "300.25")
+				.hasFieldValue(OrderQty.FIELD, 1000);
+	}
+
+	@Test
+	public void shouldNotTruncateLargeOrFractionalExpectedValues() {
+		// Given
+		message.setString(OrderQty.FIELD, "12345678901234567890.5");
+
+		// When/Then
+		assertThat(message)
+				.usingExactDecimalComparison()
+				.hasFieldValue(OrderQty.FIELD, new BigDecimal("12345678901234567890.50"))
+				.hasFieldValue(OrderQty.FIELD, "12345678901234567890.5");
+		try {
+			assertThat(message)
+					.usingExactDecimalComparison()
+					.hasFieldValue(OrderQty.FIELD, new BigInteger("12345678901234567890"));
+		} catch (AssertionError e) {
+			org.assertj.core.api.Assertions.assertThat(e).hasMessageContaining("12345678901234567890.5");
+			return;
+		}
+		fail("Should have thrown AssertionError");
+	}
+
+	@Test
+	public void shouldCompareOtherNumbersFromTheirText() {
+		assertThat(message)
+				.usingExactDecimalComparison()
+				.hasFieldValue(OrderQty.FIELD, new AtomicLong(1000))
+				.hasFieldValue(OrderQty.FIELD, BigInteger.valueOf(1000));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectNonNumericExpectedValue() {
+		assertThat(message)
+				.usingExactDecimalComparison()
+				.hasFieldValue(Price.FIELD, "three hundred");
+	}
+
+	@Test
+	public void shouldFailToAssertDecimalFieldValue() {
+		try {
+			assertThat(message)
+					.hasDecimalFieldValue(Price.FIELD, 30026, 2);
+		} catch (AssertionError e) {
+			org.assertj.core.api.Assertions.assertThat(e).hasMessageContaining(format(
+					"to have value:%n"
+							+ " <300.26>%n"
+							+ "but was:%n"
+							+ " <\"300.25\">"));
+			return;
+		}
+		fail("Should have thrown AssertionError");
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.api;
+
+import org.junit.Before;
+import org.junit.Test;
+import quickfix.Group;
+import quickfix.Message;
+import quickfix.field.BeginString;
+import quickfix.field.MDEntryPx;
+import quickfix.field.MDEntrySize;
+import quickfix.field.MDEntryType;
+import quickfix.field.MsgType;
+import quickfix.field.NoMDEntries;
+import quickfix.field.NoRelatedSym;
+import quickfix.field.SenderCompID;
+import quickfix.field.Symbol;
+import quickfix.field.TargetCompID;
+
+import static io.allune.quickfixj.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+import static quickfix.FixVersions.BEGINSTRING_FIX44;
+
+/**
+ * @author Eduardo Sanchez-Ros
+ */
+public class MessageAssert_hasGroup_Test {
+
+	private Message message;
+
+	@Before
+	public void setUp() {
+		message = new Message();
+		message.getHeader().setField(new BeginString(BEGINSTRING_FIX44));
+		message.getHeader().setField(new MsgType(MsgType.MARKET_DATA_SNAPSHOT_FULL_REFRESH));
+		message.getHeader().setField(new SenderCompID("SENDER"));
+		message.getHeader().setField(new TargetCompID("TARGET"));
+		message.setField(new Symbol("EUR/USD"));
+		for (int i = 0; i < 4; i++) {
+			Group group = new Group(NoMDEntries.FIELD, MDEntryType.FIELD);
+			group.setField(new MDEntryType(i % 2 == 0 ? MDEntryType.BID : MDEntryType.OFFER));
+			group.setField(new MDEntryPx(1.1000 + i / 10000.0));
+			group.setField(new MDEntrySize(1000 + i));
+			message.addGroup(group);
+		}
+	}
+
+	@Test
+	public void shouldAssertGroupCountAndEntryValues() {
+		// When/Then
+		assertThat(message)
+				.hasGroup(NoMDEntries.FIELD)
+				.hasGroupCount(NoMDEntries.FIELD, 4)
+				.hasGroupFieldValue(NoMDEntries.FIELD, 1, MDEntryType.FIELD, MDEntryType.BID)
+				.hasGroupFieldValue(NoMDEntries.FIELD, 2, MDEntryType.FIELD, MDEntryType.OFFER)
+				.allGroupsSatisfy(NoMDEntries.FIELD, entry -> entry
+						.hasFields(MDEntryType.FIELD, MDEntryPx.FIELD, MDEntrySize.FIELD));
+
+		assertThat(message)
+				.group(NoMDEntries.FIELD, 4)
+				.hasDoubleFieldValue(MDEntryPx.FIELD, 1.1003, 0.00001)
+				.hasDoubleFieldValue(MDEntrySize.FIELD, 1003, 0);
+	}
+
+	@Test
+	public void shouldFailWhenGroupIsMissing() {
+		try {
+			// When
+			assertThat(message).hasGroup(NoRelatedSym.FIELD);
+		} catch (AssertionError e) {
+			// Then
+			org.assertj.core.api.Assertions.assertThat(e)
+					.hasMessageContaining("to have repeating group with tag <146>");
+			return;
+		}
+		fail("Should have thrown AssertionError");
+	}
+
+	@Test
+	public void shouldFailWhenGroupCountDiffers() {
+		try {
+			// When
+			assertThat(message).hasGroupCount(NoMDEntries.FIELD, 3);
+		} catch (AssertionError e) {
+			// Then
+			org.assertj.core.api.Assertions.assertThat(e)
+					.hasMessageContaining("to have <3> entries in repeating group with tag <268>")
+					.hasMessageContaining("but had <4>");
+			return;
+		}
+		fail("Should have thrown AssertionError");
+	}
+
+	@Test
+	public void shouldFailWhenEntryIsOutOfRange() {
+		try {
+			// When
+			assertThat(message).hasGroupFieldValue(NoMDEntries.FIELD, 5, MDEntryType.FIELD, MDEntryType.BID);
+		} catch (AssertionError e) {
+			// Then
+			org.assertj.core.api.Assertions.assertThat(e)
+					.hasMessageContaining("to have entry <5> in repeating group with tag <268>")
+					.hasMessageContaining("but the group has <4> entries");
+			return;
+		}
+		fail("Should have thrown AssertionError");
+	}
+
+	@Test
+	public void shouldReportEveryFailingEntry() {
+		try {
+			// When
+			assertThat(message).allGroupsSatisfy(NoMDEntries.FIELD, entry -> entry
+					.hasFieldValue(MDEntryType.FIELD, MDEntryType.BID));
+		} catch (AssertionError e) {
+			// Then
+			org.assertj.core.api.Assertions.assertThat(e)
+					.hasMessageContaining("Expecting all <4> entries of repeating group with tag <268> to satisfy the requirements")
+					.hasMessageContaining("but <2> did not")
+					.hasMessageContaining("index <2>")
+					.hasMessageContaining("index <4>");
+			return;
+		}
+		fail("Should have thrown AssertionError");
+	}
+}
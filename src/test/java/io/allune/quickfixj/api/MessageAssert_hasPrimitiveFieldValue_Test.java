@@ -0,0 +1,175 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.api;
+
+import org.junit.Before;
+import org.junit.Test;
+import quickfix.Message;
+import quickfix.field.BeginString;
+import quickfix.field.LastMsgSeqNumProcessed;
+import quickfix.field.MsgSeqNum;
+import quickfix.field.MsgType;
+import quickfix.field.OrderQty;
+import quickfix.field.PossDupFlag;
+import quickfix.field.Price;
+import quickfix.field.Side;
+import quickfix.field.StrikePrice;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.IntConsumer;
+
+import static io.allune.quickfixj.api.Assertions.assertThat;
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.fail;
+import static org.junit.Assume.assumeTrue;
+import static quickfix.FixVersions.BEGINSTRING_FIX44;
+
+/**
+ * @author Eduardo Sanchez-Ros
+ */
+public class MessageAssert_hasPrimitiveFieldValue_Test {
+
+	private static final int WARM_UP_ITERATIONS = 50_000;
+
+	private static final int ITERATIONS = 100_000;
+
+	private static final long MAX_ALLOCATED_BYTES = 16 * 1024;
+
+	/**
+	 * An {@link Integer}, allowing for uncompressed class pointers.
+	 */
+	private static final long BYTES_PER_BOXED_TAG = 24;
+
+	/**
+	 * Tags from 128 onwards are boxed by the presence check and by the lookup of their value.
+	 */
+	private static final int BOXED_TAGS_PER_LOOKUP = 2;
+
+	private Message message;
+
+	@Before
+	public void setUp() {
+		message = new Message();
+		message.getHeader().setField(new BeginString(BEGINSTRING_FIX44));
+		message.getHeader().setField(new MsgType(MsgType.ORDER_SINGLE));
+		message.getHeader().setField(new MsgSeqNum(215));
+		message.getHeader().setField(new PossDupFlag(true));
+		message.getHeader().setField(new LastMsgSeqNumProcessed(1000));
+		message.setField(new OrderQty(1000));
+		message.setField(new Price(300.25));
+		message.setField(new Side(Side.BUY));
+		message.setField(new StrikePrice(1.25));
+	}
+
+	@Test
+	public void shouldAssertPrimitiveFieldValues() {
+		//@formatter:off
+		assertThat(message)
+				.hasDoubleFieldValue(OrderQty.FIELD, 1000, 0)
+				.hasDoubleFieldValue(Price.FIELD, 300.25, 0.0001)
+				.hasCharFieldValue(Side.FIELD, Side.BUY)
+				.header()
+					.hasIntFieldValue(MsgSeqNum.FIELD, 215)
+					.hasBooleanFieldValue(PossDupFlag.FIELD, true);
+		//@formatter:on
+	}
+
+	@Test
+	public void shouldFailToAssertDoubleFieldValueOutsideTolerance() {
+		try {
+			assertThat(message)
+					.hasDoubleFieldValue(Price.FIELD, 300.3, 0.01);
+		} catch (AssertionError e) {
+			org.assertj.core.api.Assertions.assertThat(e).hasMessageContaining(format(
+					"to have value:%n"
+							+ " <300.3>%n"
+							+ "but was:%n"
+							+ " <300.25>"));
+			return;
+		}
+		fail("Should have thrown AssertionError");
+	}
+
+	@Test
+	public void shouldFailToAssertIntFieldValueGivenFieldIsMissing() {
+		try {
+			assertThat(message)
+					.hasIntFieldValue(MsgSeqNum.FIELD, 215);
+		} catch (AssertionError e) {
+			org.assertj.core.api.Assertions.assertThat(e).hasMessageContaining("to have field with tag <34>");
+			return;
+		}
+		fail("Should have thrown AssertionError");
+	}
+
+	@Test
+	public void shouldNotAllocateOnPassingPath() {
+		// Given
+		MessageAssert messageAssert = assertThat(message);
+		MessageHeaderAssert headerAssert = messageAssert.header();
+
+		// When
+		long allocated = allocatedBytes(iterations -> runPrimitiveAssertions(messageAssert, headerAssert, iterations));
+
+		// Then
+		org.assertj.core.api.Assertions.assertThat(allocated)
+				.as("bytes allocated over %d iterations", ITERATIONS)
+				.isLessThan(MAX_ALLOCATED_BYTES);
+	}
+
+	@Test
+	public void shouldOnlyAllocateTheBoxedTagOnPassingPathGivenTagsOutsideTheIntegerCache() {
+		// Given
+		MessageAssert messageAssert = assertThat(message);
+		MessageHeaderAssert headerAssert = messageAssert.header();
+		int lookups = 2;
+
+		// When
+		long allocated = allocatedBytes(iterations -> runPrimitiveAssertionsOfLargeTags(messageAssert, headerAssert, iterations));
+
+		// Then
+		org.assertj.core.api.Assertions.assertThat(allocated)
+				.as("bytes allocated over %d iterations", ITERATIONS)
+				.isLessThan(MAX_ALLOCATED_BYTES + ITERATIONS * lookups * BOXED_TAGS_PER_LOOKUP * BYTES_PER_BOXED_TAG);
+	}
+
+	private static long allocatedBytes(IntConsumer iterations) {
+		com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		assumeTrue(threadMXBean.isThreadAllocatedMemorySupported() && threadMXBean.isThreadAllocatedMemoryEnabled());
+		iterations.accept(WARM_UP_ITERATIONS);
+		long threadId = Thread.currentThread().getId();
+		long before = threadMXBean.getThreadAllocatedBytes(threadId);
+		long measurementOverhead = threadMXBean.getThreadAllocatedBytes(threadId) - before;
+		before = threadMXBean.getThreadAllocatedBytes(threadId);
+		iterations.accept(ITERATIONS);
+		return threadMXBean.getThreadAllocatedBytes(threadId) - before - measurementOverhead;
+	}
+
+	private static void runPrimitiveAssertions(MessageAssert messageAssert, MessageHeaderAssert headerAssert, int iterations) {
+		for (int i = 0; i < iterations; i++) {
+			messageAssert
+					.hasDoubleFieldValue(Price.FIELD, 300.25, 0.0001)
+					.hasCharFieldValue(Side.FIELD, Side.BUY);
+			headerAssert
+					.hasIntFieldValue(MsgSeqNum.FIELD, 215)
+					.hasBooleanFieldValue(PossDupFlag.FIELD, true);
+		}
+	}
+
+	private static void runPrimitiveAssertionsOfLargeTags(MessageAssert messageAssert, MessageHeaderAssert headerAssert, int iterations) {
+		for (int i = 0; i < iterations; i++) {
+			messageAssert.hasDoubleFieldValue(StrikePrice.FIELD, 1.25, 0);
+			headerAssert.hasIntFieldValue(LastMsgSeqNumProcessed.FIELD, 1000);
+		}
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.api;
+
+import org.junit.Test;
+import quickfix.Message;
+import quickfix.field.MsgSeqNum;
+import quickfix.field.Symbol;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static io.allune.quickfixj.api.Assertions.assertThat;
+import static io.allune.quickfixj.api.Assertions.assertThatMessages;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Eduardo Sanchez-Ros
+ */
+public class MessageAssert_hasSameFingerprintAs_Test {
+
+	private static final String NEW_ORDER_SINGLE =
+			"8=FIX.4.0\u00019=122\u000135=D\u000134=215\u000149=CLIENT12\u000152=20100225-19:41:57.316\u000138=1000\u000156=B\u00011=Marcel\u000111=13346\u000121=1\u000140=2\u000144=5\u000154=1\u000155=GBP/USD\u000159=0\u000160=20100225-19:39:52.020\u000110=074\u0001";
+
+	@Test
+	public void shouldHaveSameFingerprintIgnoringVolatileFields() throws Exception {
+		// Given
+		Message recorded = new Message(NEW_ORDER_SINGLE);
+		Message replayed = order(216, "GBP/USD");
+
+		// When/Then
+		assertThat(replayed).ignoringVolatileFields().hasSameFingerprintAs(recorded);
+	}
+
+	@Test
+	public void shouldFailWhenFingerprintsDiffer() throws Exception {
+		// Given
+		Message recorded = new Message(NEW_ORDER_SINGLE);
+		Message replayed = order(216, "EUR/USD");
+
+		try {
+			// When
+			assertThat(replayed).ignoringVolatileFields().hasSameFingerprintAs(recorded);
+		} catch (AssertionError e) {
+			// Then
+			org.assertj.core.api.Assertions.assertThat(e)
+					.hasMessageContaining("to have fingerprint:")
+					.hasMessageContaining("ignoring tags [9, 10, 34, 52]");
+			return;
+		}
+		fail("Should have thrown AssertionError");
+	}
+
+	@Test
+	public void shouldHaveFingerprintComputedWithoutIgnoredFields() throws Exception {
+		// Given
+		Fingerprint recorded = Fingerprint.of(new Message(NEW_ORDER_SINGLE), MsgSeqNum.FIELD);
+		Message replayed = order(216, "GBP/USD");
+
+		// When/Then
+		org.assertj.core.api.Assertions.assertThat(Fingerprint.of(replayed, MsgSeqNum.FIELD)).isEqualTo(recorded);
+		assertThat(replayed).ignoringFields(MsgSeqNum.FIELD).hasFingerprint(recorded);
+	}
+
+	@Test
+	public void shouldCompareCorporaInAnyOrder() throws Exception {
+		// Given
+		List<Message> oldEngine = Arrays.asList(order(1, "GBP/USD"), order(2, "EUR/USD"), order(3, "EUR/USD"));
+		List<Message> newEngine = Arrays.asList(order(7, "EUR/USD"), order(8, "GBP/USD"), order(9, "EUR/USD"));
+
+		// When/Then
+		assertThatMessages(newEngine).ignoringVolatileFields().hasSameFingerprintsAs(oldEngine);
+		assertThatMessages(newEngine).ignoringVolatileFields().inParallel().containsFingerprintsOf(oldEngine.subList(0, 2));
+	}
+
+	@Test
+	public void shouldListUnmatchedMessagesOnBothSides() throws Exception {
+		// Given
+		List<Message> oldEngine = Arrays.asList(order(1, "GBP/USD"), order(2, "EUR/USD"), order(3, "EUR/USD"));
+		List<Message> newEngine = Arrays.asList(order(7, "EUR/USD"), order(8, "GBP/USD"), order(9, "USD/JPY"));
+
+		try {
+			// When
+			assertThatMessages(newEngine).ignoringVolatileFields().hasSameFingerprintsAs(oldEngine);
+		} catch (AssertionError e) {
+			// Then
+			org.assertj.core.api.Assertions.assertThat(e)
+					.hasMessageContaining("but <1> Messages matched no expected Message")
+					.hasMessageContaining("index <2>")
+					.hasMessageContaining("and <1> expected Messages matched no Message")
+					.hasMessageContaining("expected index <1>");
+			return;
+		}
+		fail("Should have thrown AssertionError");
+	}
+
+	private static Message order(int msgSeqNum, String symbol) throws Exception {
+		Message message = new Message(NEW_ORDER_SINGLE);
+		message.getHeader().setField(new MsgSeqNum(msgSeqNum));
+		message.setField(new Symbol(symbol));
+		return message;
+	}
+}
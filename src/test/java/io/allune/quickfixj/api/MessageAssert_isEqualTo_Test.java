@@ -0,0 +1,151 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.api;
+
+import org.junit.Test;
+import quickfix.Group;
+import quickfix.Message;
+import quickfix.field.BeginString;
+import quickfix.field.MDEntryPx;
+import quickfix.field.MDEntryType;
+import quickfix.field.MsgType;
+import quickfix.field.NoMDEntries;
+import quickfix.field.Symbol;
+
+import java.util.Comparator;
+
+import static io.allune.quickfixj.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+import static quickfix.FixVersions.BEGINSTRING_FIX44;
+
+/**
+ * @author Eduardo Sanchez-Ros
+ */
+public class MessageAssert_isEqualTo_Test {
+
+	private static final String RECORDED =
+			"8=FIX.4.0\u00019=122\u000135=D\u000134=215\u000149=CLIENT12\u000152=20100225-19:41:57.316\u000138=1000\u000156=B\u00011=Marcel\u000111=13346\u000121=1\u000140=2\u000144=5\u000154=1\u000155=GBP/USD\u000159=0\u000160=20100225-19:39:52.020\u000110=074\u0001";
+
+	private static final String REPLAYED =
+			"8=FIX.4.0\u00019=122\u000135=D\u000134=987\u000149=CLIENT12\u000152=20200408-06:49:07.000\u000138=1000\u000156=B\u00011=Marcel\u000111=13346\u000121=1\u000140=2\u000144=5\u000154=1\u000155=GBP/USD\u000159=0\u000160=20100225-19:39:52.020\u000110=123\u0001";
+
+	@Test
+	public void shouldBeEqualIgnoringVolatileFields() throws Exception {
+		// Given
+		Message recorded = new Message(RECORDED);
+		Message replayed = new Message(REPLAYED, false);
+
+		// When/Then
+		assertThat(replayed).ignoringVolatileFields().isEqualTo(recorded);
+		assertThat(replayed).ignoringFields(34, 52, 10).isEqualTo(recorded);
+	}
+
+	@Test
+	public void shouldReportTheFirstDifferingField() throws Exception {
+		// Given
+		Message recorded = new Message(RECORDED);
+		Message replayed = new Message(REPLAYED, false);
+
+		try {
+			// When
+			assertThat(replayed).isEqualTo(recorded);
+		} catch (AssertionError e) {
+			// Then
+			org.assertj.core.api.Assertions.assertThat(e)
+					.hasMessageContaining("but header differs at tag <34>")
+					.hasMessageContaining("\"215\"")
+					.hasMessageContaining("\"987\"");
+			return;
+		}
+		fail("Should have thrown AssertionError");
+	}
+
+	@Test
+	public void shouldReportMissingField() throws Exception {
+		// Given
+		Message recorded = new Message(RECORDED);
+		Message replayed = new Message(REPLAYED, false);
+		replayed.removeField(Symbol.FIELD);
+
+		try {
+			// When
+			assertThat(replayed).ignoringVolatileFields().isEqualTo(recorded);
+		} catch (AssertionError e) {
+			// Then
+			org.assertj.core.api.Assertions.assertThat(e)
+					.hasMessageContaining("ignoring tags [9, 10, 34, 52]")
+					.hasMessageContaining("but body differs at tag <55>")
+					.hasMessageContaining("no such field");
+			return;
+		}
+		fail("Should have thrown AssertionError");
+	}
+
+	@Test
+	public void shouldCompareRepeatingGroups() {
+		// Given
+		Message recorded = marketDataSnapshot(1.1, 1.2);
+		Message replayed = marketDataSnapshot(1.1, 1.3);
+
+		// When/Then
+		assertThat(marketDataSnapshot(1.1, 1.2)).isEqualTo(recorded);
+		try {
+			assertThat(replayed).isEqualTo(recorded);
+		} catch (AssertionError e) {
+			org.assertj.core.api.Assertions.assertThat(e)
+					.hasMessageContaining("but body, entry <2> of group <268> differs at tag <270>");
+			return;
+		}
+		fail("Should have thrown AssertionError");
+	}
+
+	@Test
+	public void shouldCompareOtherValuesWithEquals() throws Exception {
+		// Given
+		Message recorded = new Message(RECORDED);
+
+		try {
+			// When
+			assertThat(recorded).isEqualTo(RECORDED);
+		} catch (AssertionError e) {
+			// Then
+			return;
+		}
+		fail("Should have thrown AssertionError");
+	}
+
+	@Test
+	public void shouldCompareWithComparatorGivenOne() throws Exception {
+		// Given
+		Message recorded = new Message(RECORDED);
+		Message replayed = new Message(REPLAYED, false);
+		Comparator<Message> bySymbol = Comparator.comparing(message -> message.getOptionalString(Symbol.FIELD).orElse(""));
+
+		// When/Then
+		assertThat(replayed).usingComparator(bySymbol).isEqualTo(recorded);
+	}
+
+	private static Message marketDataSnapshot(double... prices) {
+		Message message = new Message();
+		message.getHeader().setField(new BeginString(BEGINSTRING_FIX44));
+		message.getHeader().setField(new MsgType(MsgType.MARKET_DATA_SNAPSHOT_FULL_REFRESH));
+		message.setField(new Symbol("EUR/USD"));
+		for (double price : prices) {
+			Group group = new Group(NoMDEntries.FIELD, MDEntryType.FIELD);
+			group.setField(new MDEntryType(MDEntryType.BID));
+			group.setField(new MDEntryPx(price));
+			message.addGroup(group);
+		}
+		return message;
+	}
+}
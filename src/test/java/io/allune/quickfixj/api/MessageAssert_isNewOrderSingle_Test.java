@@ -15,6 +15,7 @@ package io.allune.quickfixj.api;
 import org.junit.Test;
 import quickfix.InvalidMessage;
 import quickfix.Message;
+import quickfix.field.BeginString;
 
 import static io.allune.quickfixj.api.Assertions.assertThat;
 import static java.lang.String.format;
@@ -56,4 +57,24 @@ public class MessageAssert_isNewOrderSingle_Test {
 		}
 		fail("Should have thrown AssertionError");
 	}
+
+	@Test
+	public void shouldFailToAssertIsNewOrderSingleGivenMessageHasNoMsgType() {
+		try {
+			// Given
+			Message message = new Message();
+			message.getHeader().setField(new BeginString("FIX.4.0"));
+
+			// When
+			assertThat(message)
+					.isNewOrderSingle();
+		} // Then
+		catch (AssertionError e) {
+			org.assertj.core.api.Assertions.assertThat(e).hasMessageContaining(format(
+					"to have field with tag <35>%n"
+							+ "but did not."));
+			return;
+		}
+		fail("Should have thrown AssertionError");
+	}
 }
@@ -0,0 +1,92 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.api;
+
+import org.junit.Test;
+import quickfix.Message;
+import quickfix.field.MsgSeqNum;
+import quickfix.field.Symbol;
+
+import java.util.Comparator;
+
+import static io.allune.quickfixj.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Eduardo Sanchez-Ros
+ */
+public class MessageAssert_isNotEqualTo_Test {
+
+	private static final String RECORDED =
+			"8=FIX.4.0\u00019=122\u000135=D\u000134=215\u000149=CLIENT12\u000152=20100225-19:41:57.316\u000138=1000\u000156=B\u00011=Marcel\u000111=13346\u000121=1\u000140=2\u000144=5\u000154=1\u000155=GBP/USD\u000159=0\u000160=20100225-19:39:52.020\u000110=074\u0001";
+
+	@Test
+	public void shouldPassWhenMessagesDiffer() throws Exception {
+		// Given
+		Message recorded = new Message(RECORDED);
+		Message amended = new Message(RECORDED);
+		amended.setField(new Symbol("EUR/USD"));
+
+		// When/Then
+		assertThat(amended).isNotEqualTo(recorded);
+		assertThat(amended).ignoringVolatileFields().isNotEqualTo(recorded);
+	}
+
+	@Test
+	public void shouldFailWhenDistinctMessagesAreStructurallyEqual() throws Exception {
+		// Given
+		Message recorded = new Message(RECORDED);
+		Message resent = new Message(RECORDED);
+		resent.getHeader().setField(new MsgSeqNum(216));
+
+		try {
+			// When
+			assertThat(resent).ignoringVolatileFields().isNotEqualTo(recorded);
+		} catch (AssertionError e) {
+			// Then
+			org.assertj.core.api.Assertions.assertThat(e)
+					.hasMessageContaining("not to be equal to")
+					.hasMessageContaining("ignoring tags [9, 10, 34, 52]");
+			return;
+		}
+		fail("Should have thrown AssertionError");
+	}
+
+	@Test
+	public void shouldCompareWithComparatorGivenOne() throws Exception {
+		// Given
+		Message recorded = new Message(RECORDED);
+		Message resent = new Message(RECORDED);
+		resent.getHeader().setField(new MsgSeqNum(216));
+		Comparator<Message> byMsgSeqNum = Comparator.comparing(message -> message.getHeader().getOptionalString(MsgSeqNum.FIELD).orElse(""));
+
+		// When/Then
+		assertThat(resent).ignoringVolatileFields().usingComparator(byMsgSeqNum).isNotEqualTo(recorded);
+	}
+
+	@Test
+	public void shouldBeSymmetricWithIsEqualTo() throws Exception {
+		// Given
+		Message recorded = new Message(RECORDED);
+		Message reparsed = new Message(RECORDED);
+
+		// When/Then
+		assertThat(reparsed).isEqualTo(recorded);
+		try {
+			assertThat(reparsed).isNotEqualTo(recorded);
+		} catch (AssertionError e) {
+			return;
+		}
+		fail("Should have thrown AssertionError");
+	}
+}
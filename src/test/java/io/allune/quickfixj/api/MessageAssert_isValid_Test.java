@@ -0,0 +1,128 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.api;
+
+import io.allune.quickfixj.support.NewOrderSingle;
+import org.junit.Test;
+import quickfix.Message;
+import quickfix.field.BeginString;
+import quickfix.field.OrdType;
+import quickfix.field.Side;
+import quickfix.field.Symbol;
+import quickfix.field.TransactTime;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.allune.quickfixj.api.Assertions.assertThat;
+import static io.allune.quickfixj.api.Assertions.assertThatMessages;
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.fail;
+import static quickfix.FixVersions.BEGINSTRING_FIX44;
+
+/**
+ * @author Eduardo Sanchez-Ros
+ */
+public class MessageAssert_isValid_Test {
+
+	@Test
+	public void shouldAssertMessageIsValid() {
+		// Given
+		Message message = validNewOrderSingle();
+
+		// When/Then
+		assertThat(message)
+				.isValid();
+	}
+
+	@Test
+	public void shouldFailToAssertMessageIsValidGivenRequiredFieldIsMissing() {
+		try {
+			// Given
+			Message message = newOrderSingleWithoutClOrdID();
+
+			// When
+			assertThat(message)
+					.isValid();
+		} // Then
+		catch (AssertionError e) {
+			org.assertj.core.api.Assertions.assertThat(e.getMessage())
+					.contains(format("to be a valid message but was not.%nError:%n"))
+					.contains("field=11");
+			return;
+		}
+		fail("Should have thrown AssertionError");
+	}
+
+	@Test
+	public void shouldAssertAllMessagesAreValidInParallel() {
+		// Given
+		List<Message> messages = new ArrayList<>();
+		for (int i = 0; i < 500; i++) {
+			messages.add(validNewOrderSingle());
+		}
+
+		// When/Then
+		assertThatMessages(messages)
+				.inParallel()
+				.allValid();
+	}
+
+	@Test
+	public void shouldAggregateInvalidMessagesPerMsgTypeAndReason() {
+		try {
+			// Given
+			List<Message> messages = new ArrayList<>();
+			for (int i = 0; i < 200; i++) {
+				messages.add(i % 50 == 0 ? newOrderSingleWithoutClOrdID() : validNewOrderSingle());
+			}
+
+			// When
+			assertThatMessages(messages)
+					.inParallel()
+					.allValid();
+		} // Then
+		catch (AssertionError e) {
+			org.assertj.core.api.Assertions.assertThat(e.getMessage())
+					.startsWith(format("Expecting all <200> Messages to be valid%nbut <4> were not:%n"))
+					.contains("MsgType <D>:", "<4> x ", "field=11", "at indexes [0, 50, 100, 150]");
+			return;
+		}
+		fail("Should have thrown AssertionError");
+	}
+
+	private static Message validNewOrderSingle() {
+		return NewOrderSingle.builder()
+				.sender("BANZAI")
+				.target("EXEC")
+				.clientOrderId("13346")
+				.symbol("GBP/USD")
+				.side(Side.BUY)
+				.orderQty(1000D)
+				.orderType(OrdType.MARKET)
+				.transactTime(LocalDateTime.now())
+				.build()
+				.toMessage(BEGINSTRING_FIX44);
+	}
+
+	private static Message newOrderSingleWithoutClOrdID() {
+		quickfix.fix44.NewOrderSingle message = new quickfix.fix44.NewOrderSingle();
+		message.getHeader().setField(new BeginString(BEGINSTRING_FIX44));
+		message.set(new Side(Side.BUY));
+		message.set(new Symbol("GBP/USD"));
+		message.set(new TransactTime());
+		message.set(new OrdType(OrdType.MARKET));
+		return message;
+	}
+}
@@ -0,0 +1,135 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.api;
+
+import io.allune.quickfixj.internal.SnapshotStore;
+import io.allune.quickfixj.internal.Snapshots;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import quickfix.Message;
+import quickfix.field.MsgSeqNum;
+import quickfix.field.Symbol;
+
+import java.io.File;
+
+import static io.allune.quickfixj.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Eduardo Sanchez-Ros
+ */
+public class MessageAssert_matchesSnapshot_Test {
+
+	private static final String NEW_ORDER_SINGLE =
+			"8=FIX.4.0\u00019=122\u000135=D\u000134=215\u000149=CLIENT12\u000152=20100225-19:41:57.316\u000138=1000\u000156=B\u00011=Marcel\u000111=13346\u000121=1\u000140=2\u000144=5\u000154=1\u000155=GBP/USD\u000159=0\u000160=20100225-19:39:52.020\u000110=074\u0001";
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private File snapshotDirectory;
+
+	@Before
+	public void setUp() throws Exception {
+		snapshotDirectory = temporaryFolder.newFolder();
+		System.setProperty(Snapshots.SNAPSHOT_DIRECTORY_PROPERTY, snapshotDirectory.getPath());
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		// written before the temporary folder is deleted rather than when the JVM exits
+		SnapshotStore.of(snapshotFile().toPath()).flush();
+		System.clearProperty(Snapshots.SNAPSHOT_DIRECTORY_PROPERTY);
+		System.clearProperty(Snapshots.UPDATE_SNAPSHOTS_PROPERTY);
+	}
+
+	@Test
+	public void shouldMatchRecordedSnapshot() throws Exception {
+		// Given
+		record("new order", order(215, "GBP/USD"));
+		record("other order", order(216, "EUR/USD"));
+
+		// When/Then
+		assertThat(order(215, "GBP/USD")).matchesSnapshot("new order");
+		assertThat(order(217, "EUR/USD")).ignoringVolatileFields().matchesSnapshot("other order");
+		org.assertj.core.api.Assertions.assertThat(snapshotFile()).doesNotExist();
+		SnapshotStore.of(snapshotFile().toPath()).flush();
+		org.assertj.core.api.Assertions.assertThat(snapshotFile()).isFile();
+	}
+
+	@Test
+	public void shouldFailWhenMessageDiffersFromSnapshot() throws Exception {
+		// Given
+		record("new order", order(215, "GBP/USD"));
+
+		try {
+			// When
+			assertThat(order(215, "EUR/USD")).matchesSnapshot("new order");
+		} catch (AssertionError e) {
+			// Then
+			org.assertj.core.api.Assertions.assertThat(e)
+					.hasMessageContaining("to match snapshot <\"new order\">")
+					.hasMessageContaining("but body differs at tag <55>")
+					.hasMessageContaining("GBP/USD");
+			return;
+		}
+		fail("Should have thrown AssertionError");
+	}
+
+	@Test
+	public void shouldFailWhenSnapshotIsMissing() throws Exception {
+		try {
+			// When
+			assertThat(order(215, "GBP/USD")).matchesSnapshot(MessageAssert_matchesSnapshot_Test.class, "missing");
+		} catch (AssertionError e) {
+			// Then
+			org.assertj.core.api.Assertions.assertThat(e)
+					.hasMessageContaining("but there is no such snapshot")
+					.hasMessageContaining("-D" + Snapshots.UPDATE_SNAPSHOTS_PROPERTY + "=true");
+			return;
+		}
+		fail("Should have thrown AssertionError");
+	}
+
+	@Test
+	public void shouldReplaceSnapshotOnlyWhenRequested() throws Exception {
+		// Given
+		record("new order", order(215, "GBP/USD"));
+		record("new order", order(215, "EUR/USD"));
+
+		// When/Then
+		assertThat(order(215, "EUR/USD")).matchesSnapshot("new order");
+	}
+
+	private File snapshotFile() {
+		return new File(snapshotDirectory, getClass().getName() + ".fixsnap");
+	}
+
+	private static void record(String name, Message message) {
+		System.setProperty(Snapshots.UPDATE_SNAPSHOTS_PROPERTY, "true");
+		try {
+			assertThat(message).matchesSnapshot(name);
+		} finally {
+			System.clearProperty(Snapshots.UPDATE_SNAPSHOTS_PROPERTY);
+		}
+	}
+
+	private static Message order(int msgSeqNum, String symbol) throws Exception {
+		Message message = new Message(NEW_ORDER_SINGLE);
+		message.getHeader().setField(new MsgSeqNum(msgSeqNum));
+		message.setField(new Symbol(symbol));
+		return message;
+	}
+}
@@ -0,0 +1,143 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.api;
+
+import org.junit.Test;
+import quickfix.Message;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static io.allune.quickfixj.api.Assertions.assertThatMessages;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Eduardo Sanchez-Ros
+ */
+public class MessageListAssert_correlate_Test {
+
+	@Test
+	public void shouldCountMatchedTimedOutAndOrphanRequests() throws Exception {
+		// Given
+		List<Message> flow = flow();
+
+		// When/Then
+		assertThatMessages(flow)
+				.correlate("F", 11, "8", "9")
+				.hasRequestCount(3)
+				.hasMatchedCount(2)
+				.hasOrphanCount(1)
+				.hasTimeoutCount(0)
+				.within(2)
+				.hasMatchedCount(1)
+				.hasTimeoutCount(1);
+	}
+
+	@Test
+	public void shouldPassWhenAllRequestsAreAnswered() throws Exception {
+		// Given
+		List<Message> flow = flow().subList(0, 6);
+
+		// When/Then
+		assertThatMessages(flow)
+				.correlate("F", 11, "8", "9")
+				.within(3)
+				.allAnswered();
+	}
+
+	@Test
+	public void shouldReportUnansweredAndLateRequests() throws Exception {
+		// Given
+		List<Message> flow = flow();
+
+		try {
+			// When
+			assertThatMessages(flow)
+					.correlate("F", 11, "8", "9")
+					.within(2)
+					.allAnswered();
+		} catch (AssertionError e) {
+			// Then
+			org.assertj.core.api.Assertions.assertThat(e)
+					.hasMessageContaining("Expecting all <3> requests to be answered within <2> Messages")
+					.hasMessageContaining("but <1> were never answered and <1> were answered later")
+					.hasMessageContaining("unanswered requests at indexes [6]")
+					.hasMessageContaining("late requests at indexes [2]");
+			return;
+		}
+		fail("Should have thrown AssertionError");
+	}
+
+	@Test
+	public void shouldFailWhenOrphanCountDiffers() throws Exception {
+		// Given
+		List<Message> flow = flow();
+
+		try {
+			// When
+			assertThatMessages(flow)
+					.correlate("F", 11, "8", "9")
+					.hasOrphanCount(0);
+		} catch (AssertionError e) {
+			// Then
+			org.assertj.core.api.Assertions.assertThat(e)
+					.hasMessageContaining("Expecting <0> of the <3> requests never to be answered")
+					.hasMessageContaining("unanswered requests at indexes [6]");
+			return;
+		}
+		fail("Should have thrown AssertionError");
+	}
+
+	@Test
+	public void shouldReportTheFirstOrphansByIndex() throws Exception {
+		// Given
+		List<Message> flow = new ArrayList<>();
+		flow.add(message("F", "11=A"));
+		for (int i = 1; i <= 20; i++) {
+			flow.add(message("F", "11=" + i));
+			flow.add(message("F", "11=" + i));
+		}
+		flow.add(message("F", "11=A"));
+
+		try {
+			// When
+			assertThatMessages(flow)
+					.correlate("F", 11, "8")
+					.hasOrphanCount(0);
+		} catch (AssertionError e) {
+			// Then
+			org.assertj.core.api.Assertions.assertThat(e)
+					.hasMessageContaining("Expecting <0> of the <42> requests never to be answered")
+					.hasMessageContaining("unanswered requests at indexes [0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19] ...");
+			return;
+		}
+		fail("Should have thrown AssertionError");
+	}
+
+	private static List<Message> flow() throws Exception {
+		return Arrays.asList(
+				message("F", "11=1"),
+				message("8", "11=1\u000139=4"),
+				message("F", "11=2"),
+				message("D", "11=2"),
+				message("8", "11=9\u000139=0"),
+				message("9", "11=2"),
+				message("F", "11=3"));
+	}
+
+	private static Message message(String msgType, String fields) throws Exception {
+		return new Message("8=FIX.4.4\u00019=100\u000135=" + msgType + "\u000134=1\u000149=BANZAI"
+				+ "\u000152=20200727-12:28:02.659\u000156=EXEC\u0001" + fields + "\u000110=000\u0001", false);
+	}
+}
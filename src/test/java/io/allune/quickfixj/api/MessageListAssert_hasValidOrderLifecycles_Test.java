@@ -0,0 +1,85 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.api;
+
+import org.junit.Test;
+import quickfix.Message;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static io.allune.quickfixj.api.Assertions.assertThatMessages;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Eduardo Sanchez-Ros
+ */
+public class MessageListAssert_hasValidOrderLifecycles_Test {
+
+	@Test
+	public void shouldFollowFillsCancelsAndReplaces() throws Exception {
+		// Given
+		List<Message> flow = Arrays.asList(
+				message("D", "11=1\u000138=100"),
+				message("8", "11=1\u000139=0\u000114=0\u0001151=100"),
+				message("8", "11=1\u000139=1\u000114=40\u0001151=60"),
+				message("F", "11=2\u000141=1"),
+				message("8", "11=2\u000141=1\u000139=6\u000114=40\u0001151=60"),
+				message("8", "11=2\u000141=1\u000139=4\u000114=40\u0001151=0"),
+				message("D", "11=3\u000138=50"),
+				message("8", "11=3\u000139=0\u000114=0\u0001151=50"),
+				message("8", "11=3\u000139=2\u000114=50\u0001151=0"),
+				message("8", "11=3\u000139=2\u000114=50\u0001151=0"),
+				message("D", "11=4\u000138=10"),
+				message("G", "11=5\u000141=4\u000138=20"),
+				message("8", "11=5\u000141=4\u000139=0\u000138=20\u000114=0\u0001151=20"),
+				message("8", "11=5\u000139=2\u000114=20\u0001151=0"));
+
+		// When/Then
+		assertThatMessages(flow).hasValidOrderLifecycles();
+	}
+
+	@Test
+	public void shouldReportInvalidTransitionsAndQuantities() throws Exception {
+		// Given
+		List<Message> flow = Arrays.asList(
+				message("D", "11=1\u000138=100"),
+				message("8", "11=1\u000139=1\u000114=40\u0001151=60"),
+				message("8", "11=1\u000139=0\u000114=40\u0001151=60"),
+				message("8", "11=1\u000139=1\u000114=30\u0001151=70"),
+				message("8", "11=1\u000139=4\u000114=40\u0001151=0"),
+				message("8", "11=1\u000139=1\u000114=60\u0001151=40"),
+				message("8", "11=9\u000139=0\u000114=0"));
+
+		try {
+			// When
+			assertThatMessages(flow).hasValidOrderLifecycles();
+		} catch (AssertionError e) {
+			// Then
+			org.assertj.core.api.Assertions.assertThat(e)
+					.hasMessageContaining("Expecting the lifecycles of all <1> orders to be valid over <6> ExecutionReports")
+					.hasMessageContaining("but found <4> anomalies:")
+					.hasMessageContaining("order <1>: New after a fill of <40.0> at index <2>")
+					.hasMessageContaining("order <1>: CumQty decreased from <40.0> to <30.0> at index <3>")
+					.hasMessageContaining("order <1>: ExecutionReport with OrdStatus <1> after Canceled at index <5>")
+					.hasMessageContaining("ExecutionReport for unknown ClOrdID <9> at index <6>");
+			return;
+		}
+		fail("Should have thrown AssertionError");
+	}
+
+	private static Message message(String msgType, String fields) throws Exception {
+		return new Message("8=FIX.4.4\u00019=100\u000135=" + msgType + "\u000134=1\u000149=BANZAI"
+				+ "\u000152=20200727-12:28:02.659\u000156=EXEC\u0001" + fields + "\u000110=000\u0001", false);
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.api;
+
+import org.junit.Test;
+import quickfix.Message;
+import quickfix.field.ClOrdID;
+import quickfix.field.MsgType;
+import quickfix.field.TransactTime;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.allune.quickfixj.api.Assertions.assertThatMessages;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Eduardo Sanchez-Ros
+ */
+public class MessageListAssert_latencyBetween_Test {
+
+	private static final DateTimeFormatter UTC_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HH:mm:ss.SSS");
+
+	private static final LocalDateTime START = LocalDateTime.of(2020, 7, 27, 12, 0);
+
+	@Test
+	public void shouldHavePercentileBelow() throws Exception {
+		// Given
+		List<Message> flow = flow(100, 1, 5);
+
+		// When/Then
+		assertThatMessages(flow)
+				.latencyBetween(MsgType.ORDER_SINGLE, MsgType.EXECUTION_REPORT, ClOrdID.FIELD)
+				.hasSampleCount(100)
+				.hasPercentileBelow(99, Duration.ofMillis(2))
+				.hasMaxBelow(Duration.ofMillis(6));
+	}
+
+	@Test
+	public void shouldMeasureOnTransactTime() throws Exception {
+		// Given
+		List<Message> flow = flow(10, 3, 3);
+
+		// When/Then
+		assertThatMessages(flow)
+				.latencyBetween(MsgType.ORDER_SINGLE, MsgType.EXECUTION_REPORT, ClOrdID.FIELD, TransactTime.FIELD)
+				.hasSampleCount(10)
+				.hasPercentileBelow(50, Duration.ofMillis(4));
+	}
+
+	@Test
+	public void shouldFailWhenPercentileIsAboveLimit() throws Exception {
+		// Given
+		List<Message> flow = flow(100, 1, 5);
+
+		try {
+			// When
+			assertThatMessages(flow)
+					.latencyBetween(MsgType.ORDER_SINGLE, MsgType.EXECUTION_REPORT, ClOrdID.FIELD)
+					.hasPercentileBelow(99.9, Duration.ofMillis(2));
+		} catch (AssertionError e) {
+			// Then
+			org.assertj.core.api.Assertions.assertThat(e)
+					.hasMessageContaining("Expecting the p<99.9> latency of <100> paired Messages to be below:")
+					.hasMessageContaining("max <PT0.005S>");
+			return;
+		}
+		fail("Should have thrown AssertionError");
+	}
+
+	@Test
+	public void shouldFailWhenNoRequestIsPaired() throws Exception {
+		// Given
+		List<Message> flow = flow(3, 1, 1);
+
+		try {
+			// When
+			assertThatMessages(flow)
+					.latencyBetween(MsgType.ORDER_CANCEL_REQUEST, MsgType.EXECUTION_REPORT, ClOrdID.FIELD)
+					.hasMaxBelow(Duration.ofMillis(1));
+		} catch (AssertionError e) {
+			// Then
+			org.assertj.core.api.Assertions.assertThat(e)
+					.hasMessageContaining("but there were none");
+			return;
+		}
+		fail("Should have thrown AssertionError");
+	}
+
+	/**
+	 * Orders acknowledged after the given latency in milliseconds, the last one after the slowest latency, each
+	 * followed by a second ExecutionReport which is not paired.
+	 */
+	private static List<Message> flow(int orderCount, int latencyMillis, int slowestLatencyMillis) throws Exception {
+		List<Message> flow = new ArrayList<>();
+		for (int i = 0; i < orderCount; i++) {
+			LocalDateTime sent = START.plusSeconds(i);
+			LocalDateTime acknowledged = sent.plusNanos((i == orderCount - 1 ? slowestLatencyMillis : latencyMillis) * 1_000_000L);
+			flow.add(message("D", 2 * i + 1, sent, "11=" + i + "\u000160=" + UTC_TIMESTAMP.format(sent) + "\u0001"));
+			flow.add(message("8", 2 * i + 1, acknowledged, "11=" + i + "\u000160=" + UTC_TIMESTAMP.format(acknowledged) + "\u0001"));
+			flow.add(message("8", 2 * i + 2, acknowledged.plusSeconds(10), "11=" + i + "\u0001"));
+		}
+		return flow;
+	}
+
+	private static Message message(String msgType, int msgSeqNum, LocalDateTime sendingTime, String fields) throws Exception {
+		return new Message("8=FIX.4.4\u00019=100\u000135=" + msgType + "\u000134=" + msgSeqNum + "\u000149=BANZAI"
+				+ "\u000152=" + UTC_TIMESTAMP.format(sendingTime) + "\u000156=EXEC\u0001" + fields + "10=000\u0001", false);
+	}
+}
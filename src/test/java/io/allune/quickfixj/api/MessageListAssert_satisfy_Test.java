@@ -0,0 +1,238 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.api;
+
+import org.junit.Test;
+import quickfix.Message;
+import quickfix.field.BeginString;
+import quickfix.field.ClOrdID;
+import quickfix.field.MsgType;
+import quickfix.field.Side;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.allune.quickfixj.api.Assertions.assertThatMessages;
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.fail;
+import static quickfix.FixVersions.BEGINSTRING_FIX44;
+
+/**
+ * @author Eduardo Sanchez-Ros
+ */
+public class MessageListAssert_satisfy_Test {
+
+	@Test
+	public void shouldAssertAllMessagesSatisfyRequirements() {
+		// Given
+		List<Message> messages = Arrays.asList(newOrderSingle("1", Side.BUY), newOrderSingle("2", Side.BUY));
+
+		// When/Then
+		assertThatMessages(messages)
+				.hasSize(2)
+				.allSatisfy(message -> message.isNewOrderSingle().hasFieldValue(Side.FIELD, Side.BUY));
+	}
+
+	@Test
+	public void shouldReportEveryFailingIndexGivenMessagesDoNotAllSatisfyRequirements() {
+		try {
+			// Given
+			List<Message> messages = Arrays.asList(newOrderSingle("1", Side.SELL), newOrderSingle("2", Side.BUY), newOrderSingle("3", Side.SELL));
+
+			// When
+			assertThatMessages(messages)
+					.allSatisfy(message -> message.hasFieldValue(Side.FIELD, Side.BUY));
+		} // Then
+		catch (AssertionError e) {
+			org.assertj.core.api.Assertions.assertThat(e.getMessage())
+					.startsWith(format("Expecting all <3> Messages to satisfy the requirements%nbut <2> did not:%n"))
+					.contains("index <0>:", "index <2>:")
+					.doesNotContain("index <1>:");
+			return;
+		}
+		fail("Should have thrown AssertionError");
+	}
+
+	@Test
+	public void shouldAssertAnyMessageSatisfiesRequirements() {
+		// Given
+		List<Message> messages = Arrays.asList(newOrderSingle("1", Side.SELL), newOrderSingle("2", Side.BUY));
+
+		// When/Then
+		assertThatMessages(messages.stream())
+				.anySatisfy(message -> message.hasFieldValue(Side.FIELD, Side.BUY));
+	}
+
+	@Test
+	public void shouldFailToAssertAnyMessageSatisfiesRequirementsGivenNoneDoes() {
+		try {
+			// Given
+			List<Message> messages = Arrays.asList(newOrderSingle("1", Side.SELL), newOrderSingle("2", Side.SELL));
+
+			// When
+			assertThatMessages(messages)
+					.anySatisfy(message -> message.hasFieldValue(Side.FIELD, Side.BUY));
+		} // Then
+		catch (AssertionError e) {
+			org.assertj.core.api.Assertions.assertThat(e.getMessage())
+					.startsWith(format("Expecting any of the <2> Messages to satisfy the requirements%nbut none did:%n"))
+					.contains("index <0>:", "index <1>:");
+			return;
+		}
+		fail("Should have thrown AssertionError");
+	}
+
+	@Test
+	public void shouldFailToAssertNoMessageSatisfiesRequirementsGivenSomeDo() {
+		try {
+			// Given
+			List<Message> messages = Arrays.asList(newOrderSingle("1", Side.BUY), newOrderSingle("2", Side.SELL), newOrderSingle("3", Side.BUY));
+
+			// When
+			assertThatMessages(messages)
+					.noneSatisfy(message -> message.hasFieldValue(Side.FIELD, Side.BUY));
+		} // Then
+		catch (AssertionError e) {
+			org.assertj.core.api.Assertions.assertThat(e).hasMessage(format(
+					"Expecting none of the <3> Messages to satisfy the requirements%n"
+							+ "but the Messages at indexes <[0, 2]> did."));
+			return;
+		}
+		fail("Should have thrown AssertionError");
+	}
+
+	@Test
+	public void shouldReportOriginalIndexesGivenMessagesFilteredOnMsgType() {
+		try {
+			// Given
+			Message heartbeat = new Message();
+			heartbeat.getHeader().setField(new BeginString(BEGINSTRING_FIX44));
+			heartbeat.getHeader().setField(new MsgType(MsgType.HEARTBEAT));
+			List<Message> messages = Arrays.asList(heartbeat, newOrderSingle("1", Side.BUY), heartbeat, newOrderSingle("2", Side.SELL));
+
+			// When
+			assertThatMessages(messages)
+					.filteredOn(MsgType.ORDER_SINGLE)
+					.hasSize(2)
+					.allSatisfy(message -> message.hasFieldValue(Side.FIELD, Side.BUY));
+		} // Then
+		catch (AssertionError e) {
+			org.assertj.core.api.Assertions.assertThat(e.getMessage())
+					.startsWith(format("Expecting all <2> Messages to satisfy the requirements%nbut <1> did not:%n"))
+					.contains("index <3>:");
+			return;
+		}
+		fail("Should have thrown AssertionError");
+	}
+
+	@Test
+	public void shouldReportSameFailuresGivenRequirementsEvaluatedInParallel() {
+		// Given
+		List<Message> messages = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			messages.add(newOrderSingle(String.valueOf(i), i % 100 == 0 ? Side.SELL : Side.BUY));
+		}
+		ForkJoinPool pool = new ForkJoinPool(4);
+
+		try {
+			// When
+			assertThatMessages(messages)
+					.inParallel(pool)
+					.allSatisfy(message -> message.hasFieldValue(Side.FIELD, Side.BUY));
+		} // Then
+		catch (AssertionError e) {
+			org.assertj.core.api.Assertions.assertThat(e.getMessage())
+					.startsWith(format("Expecting all <1000> Messages to satisfy the requirements%nbut <10> did not:%n"))
+					.contains("index <0>:", "index <500>:", "index <900>:");
+			return;
+		} finally {
+			pool.shutdown();
+		}
+		fail("Should have thrown AssertionError");
+	}
+
+	@Test
+	public void shouldReportTheFirstFailuresGivenManyMessagesDoNotSatisfyAnyRequirements() {
+		// Given
+		List<Message> messages = new ArrayList<>();
+		for (int i = 0; i < 25; i++) {
+			messages.add(newOrderSingle(String.valueOf(i), Side.SELL));
+		}
+
+		try {
+			// When
+			assertThatMessages(messages)
+					.anySatisfy(message -> message.hasFieldValue(Side.FIELD, Side.BUY));
+		} // Then
+		catch (AssertionError e) {
+			org.assertj.core.api.Assertions.assertThat(e.getMessage())
+					.startsWith(format("Expecting any of the <25> Messages to satisfy the requirements%nbut none did, showing the first <20>:%n"))
+					.contains("index <19>:")
+					.doesNotContain("index <20>:");
+			return;
+		}
+		fail("Should have thrown AssertionError");
+	}
+
+	@Test
+	public void shouldReportTheFirstIndexesGivenManyMessagesSatisfyRequirements() {
+		// Given
+		List<Message> messages = new ArrayList<>();
+		for (int i = 0; i < 25; i++) {
+			messages.add(newOrderSingle(String.valueOf(i), Side.BUY));
+		}
+
+		try {
+			// When
+			assertThatMessages(messages)
+					.noneSatisfy(message -> message.hasFieldValue(Side.FIELD, Side.BUY));
+		} // Then
+		catch (AssertionError e) {
+			org.assertj.core.api.Assertions.assertThat(e.getMessage())
+					.startsWith(format("Expecting none of the <25> Messages to satisfy the requirements%nbut <25> did, the first ones at indexes <[0, 1,"))
+					.contains(", 19]>")
+					.doesNotContain("20");
+			return;
+		}
+		fail("Should have thrown AssertionError");
+	}
+
+	@Test
+	public void shouldStopAtTheFirstSatisfyingMessageGivenRequirementsEvaluatedSequentially() {
+		// Given
+		List<Message> messages = Arrays.asList(newOrderSingle("1", Side.SELL), newOrderSingle("2", Side.BUY), newOrderSingle("3", Side.BUY));
+		AtomicInteger evaluated = new AtomicInteger();
+
+		// When
+		assertThatMessages(messages)
+				.anySatisfy(message -> {
+					evaluated.incrementAndGet();
+					message.hasFieldValue(Side.FIELD, Side.BUY);
+				});
+
+		// Then
+		org.assertj.core.api.Assertions.assertThat(evaluated).hasValue(2);
+	}
+
+	private static Message newOrderSingle(String clOrdId, char side) {
+		Message message = new Message();
+		message.getHeader().setField(new BeginString(BEGINSTRING_FIX44));
+		message.getHeader().setField(new MsgType(MsgType.ORDER_SINGLE));
+		message.setField(new ClOrdID(clOrdId));
+		message.setField(new Side(side));
+		return message;
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.api;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import quickfix.Message;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static io.allune.quickfixj.api.Assertions.assertThatMessages;
+import static io.allune.quickfixj.api.Assertions.assertThatMessageLog;
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * @author Eduardo Sanchez-Ros
+ */
+public class MessageLogAssert_hasContinuousMsgSeqNums_Test {
+
+	@Rule
+	public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Test
+	public void shouldFollowGapFillsAndResends() throws Exception {
+		// Given
+		Path log = writeLog(
+				message("EXEC", "BANZAI", "A", 1, ""),
+				message("BANZAI", "EXEC", "A", 1, ""),
+				message("EXEC", "BANZAI", "8", 2, ""),
+				message("EXEC", "BANZAI", "4", 3, "43=Y\u0001123=Y\u000136=6\u0001"),
+				message("BANZAI", "EXEC", "D", 2, ""),
+				message("EXEC", "BANZAI", "8", 6, ""),
+				message("EXEC", "BANZAI", "8", 4, "43=Y\u0001"),
+				message("EXEC", "BANZAI", "8", 7, ""));
+
+		// When/Then
+		assertThatMessageLog(log).hasContinuousMsgSeqNums();
+	}
+
+	@Test
+	public void shouldStartOverOnLogonWithResetSeqNumFlag() throws Exception {
+		// Given
+		Path log = writeLog(
+				message("EXEC", "BANZAI", "A", 1, ""),
+				message("EXEC", "BANZAI", "8", 2, ""),
+				message("EXEC", "BANZAI", "A", 1, "141=Y\u0001"),
+				message("EXEC", "BANZAI", "8", 2, ""));
+
+		// When/Then
+		assertThatMessageLog(log).hasContinuousMsgSeqNums();
+	}
+
+	@Test
+	public void shouldReportGapsDuplicatesAndOutOfOrderMessages() throws Exception {
+		try {
+			// Given
+			Path log = writeLog(
+					message("EXEC", "BANZAI", "A", 1, ""),
+					message("EXEC", "BANZAI", "8", 2, ""),
+					message("EXEC", "BANZAI", "8", 5, ""),
+					message("EXEC", "BANZAI", "8", 5, ""),
+					message("EXEC", "BANZAI", "8", 3, ""));
+
+			// When
+			assertThatMessageLog(log).hasContinuousMsgSeqNums();
+		} // Then
+		catch (AssertionError e) {
+			org.assertj.core.api.Assertions.assertThat(e.getMessage())
+					.startsWith(format("Expecting the MsgSeqNums of all <5> Messages to be continuous per session%n"
+							+ "but found <1> missing in <1> gaps, <1> duplicates and <1> out of order:%n"))
+					.contains("session <FIX.4.4:EXEC->BANZAI>: duplicate MsgSeqNum <5> at index <3>, after <5>")
+					.contains("session <FIX.4.4:EXEC->BANZAI>: out of order MsgSeqNum <3> at index <4>, after <5>")
+					.contains("session <FIX.4.4:EXEC->BANZAI>: missing MsgSeqNum <4>");
+			return;
+		}
+		fail("Should have thrown AssertionError");
+	}
+
+	@Test
+	public void shouldReportRunOfDuplicatesOnce() throws Exception {
+		try {
+			// Given
+			Message[] messages = new Message[6];
+			int[] msgSeqNums = {1, 2, 3, 2, 3, 4};
+			for (int i = 0; i < messages.length; i++) {
+				messages[i] = new Message(message("EXEC", "BANZAI", "8", msgSeqNums[i], ""), false);
+			}
+
+			// When
+			assertThatMessages(Arrays.asList(messages)).hasContinuousMsgSeqNums();
+		} // Then
+		catch (AssertionError e) {
+			org.assertj.core.api.Assertions.assertThat(e.getMessage())
+					.contains("but found <0> missing in <0> gaps, <2> duplicates and <0> out of order")
+					.contains("duplicate <2> MsgSeqNums <2> to <3> at index <3>, after <3>, without PossDupFlag");
+			return;
+		}
+		fail("Should have thrown AssertionError");
+	}
+
+	private static String message(String sender, String target, String msgType, int msgSeqNum, String fields) {
+		return "8=FIX.4.4\u00019=100\u000135=" + msgType + "\u000134=" + msgSeqNum + "\u000149=" + sender
+				+ "\u000152=20200727-12:28:02.659\u000156=" + target + "\u0001" + fields + "10=000\u0001";
+	}
+
+	private Path writeLog(String... messages) throws Exception {
+		StringBuilder content = new StringBuilder();
+		for (String message : messages) {
+			content.append("20200727-12:28:02.659: ").append(message).append('\n');
+		}
+		Path log = temporaryFolder.newFile().toPath();
+		Files.write(log, content.toString().getBytes(StandardCharsets.ISO_8859_1));
+		return log;
+	}
+}
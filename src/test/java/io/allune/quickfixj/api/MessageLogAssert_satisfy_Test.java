@@ -0,0 +1,132 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.api;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import quickfix.field.MsgType;
+import quickfix.field.OrdStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static io.allune.quickfixj.api.Assertions.assertThatMessageLog;
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * @author Eduardo Sanchez-Ros
+ */
+public class MessageLogAssert_satisfy_Test {
+
+	private static final String LOGON = "8=FIX.4.4\u00019=65\u000135=A\u000134=1\u000149=BANZAI\u000152=20200408-06:49:07\u000156=EXEC\u000198=0\u0001108=30\u000110=015\u0001";
+
+	private static final String FILLED = "8=FIX.4.4\u00019=100\u000135=8\u000134=2\u000149=EXEC\u000152=20200727-12:28:02.659\u000156=BANZAI\u00016=0\u000111=1\u000114=1000\u000117=1\u000137=1\u000139=2\u000154=1\u0001150=F\u0001151=0\u000110=000\u0001";
+
+	private static final String WITHOUT_ORD_STATUS = "8=FIX.4.4\u00019=100\u000135=8\u000134=3\u000149=EXEC\u000152=20200727-12:28:03.001\u000156=BANZAI\u00016=0\u000111=2\u000114=1000\u000117=2\u000137=2\u000154=1\u0001150=F\u0001151=0\u000110=000\u0001";
+
+	@Rule
+	public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Test
+	public void shouldAssertAllExecutionReportsHaveOrdStatus() throws Exception {
+		// Given
+		Path log = writeLog(LOGON, FILLED, FILLED);
+
+		// When/Then
+		assertThatMessageLog(log)
+				.filteredOn(MsgType.EXECUTION_REPORT)
+				.hasMessageCount(2)
+				.allSatisfy(message -> message.hasField(OrdStatus.FIELD));
+	}
+
+	@Test
+	public void shouldReportLogIndexesGivenExecutionReportsWithoutOrdStatus() throws Exception {
+		try {
+			// Given
+			Path log = writeLog(LOGON, FILLED, WITHOUT_ORD_STATUS);
+
+			// When
+			assertThatMessageLog(log)
+					.filteredOn(MsgType.EXECUTION_REPORT)
+					.allSatisfy(message -> message.hasField(OrdStatus.FIELD));
+		} // Then
+		catch (AssertionError e) {
+			org.assertj.core.api.Assertions.assertThat(e.getMessage())
+					.startsWith(format("Expecting all <2> Messages to satisfy the requirements%nbut <1> did not:%n"))
+					.contains("index <2>:", "to have field with tag <39>");
+			return;
+		}
+		fail("Should have thrown AssertionError");
+	}
+
+	@Test
+	public void shouldAssertNoMessageIsLogon() throws Exception {
+		try {
+			// Given
+			Path log = writeLog(LOGON, FILLED);
+
+			// When
+			assertThatMessageLog(log)
+					.noneSatisfy(message -> message.isLogon());
+		} // Then
+		catch (AssertionError e) {
+			org.assertj.core.api.Assertions.assertThat(e.getMessage())
+					.startsWith(format("Expecting none of the <2> Messages to satisfy the requirements%n"
+							+ "but the Messages at indexes <[0"));
+			return;
+		}
+		fail("Should have thrown AssertionError");
+	}
+
+	@Test
+	public void shouldAssertAnyMessageIsLogon() throws Exception {
+		// Given
+		Path log = writeLog(FILLED, LOGON);
+
+		// When/Then
+		assertThatMessageLog(log)
+				.hasMessageCount(2)
+				.anySatisfy(message -> message.isLogon());
+	}
+
+	@Test
+	public void shouldFailWhenMessageCountDiffers() throws Exception {
+		try {
+			// Given
+			Path log = writeLog(LOGON, FILLED);
+
+			// When
+			assertThatMessageLog(log)
+					.hasMessageCount(3);
+		} // Then
+		catch (AssertionError e) {
+			org.assertj.core.api.Assertions.assertThat(e.getMessage())
+					.contains(format("to contain <3> Messages%nbut contained:%n <2>"));
+			return;
+		}
+		fail("Should have thrown AssertionError");
+	}
+
+	private Path writeLog(String... messages) throws Exception {
+		StringBuilder content = new StringBuilder();
+		for (String message : messages) {
+			content.append("20200727-12:28:02.659: ").append(message).append('\n');
+		}
+		Path log = temporaryFolder.newFile().toPath();
+		Files.write(log, content.toString().getBytes(StandardCharsets.ISO_8859_1));
+		return log;
+	}
+}
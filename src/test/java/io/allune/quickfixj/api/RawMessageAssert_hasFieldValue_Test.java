@@ -0,0 +1,169 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.api;
+
+import org.junit.Test;
+import quickfix.field.ClOrdID;
+import quickfix.field.HeartBtInt;
+import quickfix.field.MsgType;
+import quickfix.field.OrderQty;
+import quickfix.field.Price;
+import quickfix.field.ResetSeqNumFlag;
+import quickfix.field.Side;
+import quickfix.field.Symbol;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static io.allune.quickfixj.api.Assertions.assertThatRaw;
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * @author Eduardo Sanchez-Ros
+ */
+public class RawMessageAssert_hasFieldValue_Test {
+
+	private static final String LOGON = "8=FIX.4.4\u00019=68\u000135=A\u000134=1\u000149=BANZAI\u000152=20200408-06:49:07\u000156=EXEC\u000198=0\u0001108=30\u0001141=Y\u000110=015\u0001";
+
+	private static final String NEW_ORDER_SINGLE = "8=FIX.4.4\u00019=112\u000135=D\u000134=2\u000149=BANZAI\u000152=20200727-12:28:02.659\u000156=EXEC\u000111=13346\u000121=1\u000138=1000\u000140=2\u000144=300.50\u000154=1\u000155=GBP/USD\u000110=018\u0001";
+
+	@Test
+	public void shouldAssertFieldsOfCharSequence() {
+		// When/Then
+		assertThatRaw(NEW_ORDER_SINGLE)
+				.isVersion44()
+				.hasMsgType(MsgType.ORDER_SINGLE)
+				.hasFields(ClOrdID.FIELD, Side.FIELD)
+				.hasFieldValue(Symbol.FIELD, "GBP/USD")
+				.hasIntFieldValue(OrderQty.FIELD, 1000)
+				.hasDecimalFieldValue(Price.FIELD, 3005, 1)
+				.hasCharFieldValue(Side.FIELD, Side.BUY);
+	}
+
+	@Test
+	public void shouldAssertFieldsOfBytes() {
+		// When/Then
+		assertThatRaw(LOGON.getBytes(StandardCharsets.ISO_8859_1))
+				.isVersion44()
+				.hasMsgType(MsgType.LOGON)
+				.hasIntFieldValue(HeartBtInt.FIELD, 30)
+				.hasBooleanFieldValue(ResetSeqNumFlag.FIELD, true);
+	}
+
+	@Test
+	public void shouldAssertFieldsBetweenPositionAndLimitOfByteBuffer() {
+		// Given
+		byte[] bytes = ("garbage" + LOGON + "garbage").getBytes(StandardCharsets.ISO_8859_1);
+		ByteBuffer buffer = ByteBuffer.wrap(bytes, 7, LOGON.length());
+
+		// When
+		assertThatRaw(buffer)
+				.hasMsgType(MsgType.LOGON)
+				.hasIntFieldValue(HeartBtInt.FIELD, 30);
+
+		// Then
+		org.assertj.core.api.Assertions.assertThat(buffer.position()).isEqualTo(7);
+	}
+
+	@Test
+	public void shouldFailToAssertFieldValueGivenDifferentValue() {
+		try {
+			// When
+			assertThatRaw(NEW_ORDER_SINGLE)
+					.hasFieldValue(Symbol.FIELD, "EUR/USD");
+		} // Then
+		catch (AssertionError e) {
+			org.assertj.core.api.Assertions.assertThat(e).hasMessage(format(
+					"Expecting field with tag <55> in Message:%n"
+							+ " <" + NEW_ORDER_SINGLE + ">%n"
+							+ "to have value:%n"
+							+ " <\"EUR/USD\">%n"
+							+ "but was:%n"
+							+ " <\"GBP/USD\">"));
+			return;
+		}
+		fail("Should have thrown AssertionError");
+	}
+
+	@Test
+	public void shouldFailToAssertHasFieldGivenFieldIsMissing() {
+		try {
+			// When
+			assertThatRaw(LOGON)
+					.hasField(ClOrdID.FIELD);
+		} // Then
+		catch (AssertionError e) {
+			org.assertj.core.api.Assertions.assertThat(e).hasMessage(format(
+					"Expecting Message:%n"
+							+ " <" + LOGON + ">%n"
+							+ "to have field with tag <11>%n"
+							+ "but did not."));
+			return;
+		}
+		fail("Should have thrown AssertionError");
+	}
+
+	@Test
+	public void shouldFailToAssertMsgTypeGivenDifferentMsgType() {
+		try {
+			// When
+			assertThatRaw(LOGON)
+					.hasMsgType(MsgType.ORDER_SINGLE);
+		} // Then
+		catch (AssertionError e) {
+			org.assertj.core.api.Assertions.assertThat(e).hasMessage(format(
+					"Expecting Message:%n"
+							+ " <" + LOGON + ">%n"
+							+ "to be of type <\"D\">%n"
+							+ "but was:%n"
+							+ " <\"A\">"));
+			return;
+		}
+		fail("Should have thrown AssertionError");
+	}
+
+	@Test
+	public void shouldFailToAssertVersionGivenDifferentBeginString() {
+		try {
+			// When
+			assertThatRaw(LOGON)
+					.isVersion42();
+		} // Then
+		catch (AssertionError e) {
+			org.assertj.core.api.Assertions.assertThat(e).hasMessage(format(
+					"Expecting Message:%n"
+							+ " <" + LOGON + ">%n"
+							+ "to have version:%n"
+							+ " <\"FIX.4.2\">%n"
+							+ "but was:%n"
+							+ " <\"FIX.4.4\">"));
+			return;
+		}
+		fail("Should have thrown AssertionError");
+	}
+
+	@Test
+	public void shouldNotMatchTagSuffix() {
+		try {
+			// When
+			assertThatRaw("8=FIX.4.4\u000135=D\u0001155=1\u0001")
+					.hasField(55);
+		} // Then
+		catch (AssertionError e) {
+			org.assertj.core.api.Assertions.assertThat(e).hasMessageContaining("to have field with tag <55>");
+			return;
+		}
+		fail("Should have thrown AssertionError");
+	}
+}
@@ -0,0 +1,149 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.api;
+
+import org.junit.Test;
+import quickfix.Message;
+import quickfix.field.CheckSum;
+import quickfix.field.ClOrdID;
+import quickfix.field.SenderCompID;
+import quickfix.field.Symbol;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Eduardo Sanchez-Ros
+ */
+public class SoftMessageAssertions_Test {
+
+	private static final String NEW_ORDER_SINGLE =
+			"8=FIX.4.0\u00019=122\u000135=D\u000134=215\u000149=CLIENT12\u000152=20100225-19:41:57.316\u000138=1000\u000156=B\u00011=Marcel\u000111=13346\u000121=1\u000140=2\u000144=5\u000154=1\u000155=GBP/USD\u000159=0\u000160=20100225-19:39:52.020\u000110=074\u0001";
+
+	@Test
+	public void shouldPassWhenAllChecksPass() throws Exception {
+		// Given
+		Message message = new Message(NEW_ORDER_SINGLE);
+		SoftMessageAssertions softly = new SoftMessageAssertions();
+
+		// When
+		//@formatter:off
+		softly.assertThat(message)
+				.isNewOrderSingle()
+				.hasFieldValue(Symbol.FIELD, "GBP/USD")
+				.header()
+					.hasSenderCompID("CLIENT12")
+				.and()
+				.trailer()
+					.hasChecksum("074");
+		//@formatter:on
+
+		// Then
+		softly.assertAll();
+	}
+
+	@Test
+	public void shouldCollectEveryFailureOfTheChain() throws Exception {
+		// Given
+		Message message = new Message(NEW_ORDER_SINGLE);
+		SoftMessageAssertions softly = new SoftMessageAssertions();
+
+		// When
+		//@formatter:off
+		softly.assertThat(message)
+				.isExecutionReport()
+				.hasFieldValue(Symbol.FIELD, "EUR/USD")
+				.hasFieldValue(ClOrdID.FIELD, "13346")
+				.header()
+					.hasFieldValue(SenderCompID.FIELD, "CLIENT99")
+				.and()
+				.trailer()
+					.hasFieldValue(CheckSum.FIELD, "075");
+		//@formatter:on
+
+		// Then
+		assertThat(softly.errorsCollected()).hasSize(4);
+		try {
+			softly.assertAll();
+		} catch (AssertionError e) {
+			assertThat(e).hasMessageContaining("EUR/USD")
+					.hasMessageContaining("CLIENT99")
+					.hasMessageContaining("075");
+			return;
+		}
+		fail("Should have thrown AssertionError");
+	}
+
+	@Test
+	public void shouldKeepStandardSoftAssertions() throws Exception {
+		// Given
+		Message message = new Message(NEW_ORDER_SINGLE);
+		SoftMessageAssertions softly = new SoftMessageAssertions();
+
+		// When
+		softly.assertThat(message).hasFieldValue(Symbol.FIELD, "EUR/USD");
+		softly.assertThat("GBP/USD").isEqualTo("EUR/USD");
+
+		// Then
+		assertThat(softly.errorsCollected()).hasSize(2);
+	}
+
+	@Test
+	public void shouldRenderTheMessageOnlyWhenTheErrorsAreRead() throws Exception {
+		// Given
+		AtomicInteger renderings = new AtomicInteger();
+		Message message = new Message(NEW_ORDER_SINGLE) {
+			@Override
+			public String toString() {
+				renderings.incrementAndGet();
+				return super.toString();
+			}
+		};
+		SoftMessageAssertions softly = new SoftMessageAssertions();
+
+		// When
+		softly.assertThat(message)
+				.isExecutionReport()
+				.hasFieldValue(Symbol.FIELD, "EUR/USD");
+
+		// Then
+		assertThat(renderings).hasValue(0);
+		try {
+			softly.assertAll();
+		} catch (AssertionError e) {
+			assertThat(e).hasMessageContaining("55=GBP/USD");
+			assertThat(renderings.get()).isPositive();
+			return;
+		}
+		fail("Should have thrown AssertionError");
+	}
+
+	@Test
+	public void shouldKeepNavigatingAfterFailuresOfTheHeaderAndTrailer() {
+		// Given
+		SoftMessageAssertions softly = new SoftMessageAssertions();
+		MessageAssert messageAssert = softly.assertThat(new Message());
+
+		// When
+		messageAssert.trailer()
+				.hasChecksum("074")
+				.and()
+				.header()
+				.hasSenderCompID("CLIENT12");
+
+		// Then
+		assertThat(softly.errorsCollected()).hasSize(2);
+	}
+}
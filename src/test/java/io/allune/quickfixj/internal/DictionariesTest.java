@@ -0,0 +1,141 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.internal;
+
+import io.allune.quickfixj.exception.DictionaryLoadException;
+import org.junit.Test;
+import quickfix.DataDictionary;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static quickfix.FixVersions.BEGINSTRING_FIX41;
+import static quickfix.FixVersions.BEGINSTRING_FIX42;
+import static quickfix.FixVersions.BEGINSTRING_FIX43;
+import static quickfix.FixVersions.BEGINSTRING_FIX44;
+
+/**
+ * @author Eduardo Sanchez-Ros
+ */
+public class DictionariesTest {
+
+	private final Dictionaries dictionaries = Dictionaries.instance();
+
+	@Test
+	public void shouldScopeDataDictionaryWithoutAffectingGlobalInstance() {
+		// Given
+		DataDictionary global = dictionaries.getSessionDataDictionary(BEGINSTRING_FIX44);
+		DataDictionary custom = new DataDictionary(global);
+
+		// When
+		Dictionaries scoped = dictionaries.withDataDictionary(BEGINSTRING_FIX44, custom);
+
+		// Then
+		assertThat(scoped.getSessionDataDictionary(BEGINSTRING_FIX44)).isSameAs(custom);
+		assertThat(dictionaries.getSessionDataDictionary(BEGINSTRING_FIX44)).isSameAs(global);
+	}
+
+	@Test
+	public void shouldDelegateOtherVersionsToParent() {
+		// Given
+		DataDictionary custom = new DataDictionary(dictionaries.getSessionDataDictionary(BEGINSTRING_FIX44));
+
+		// When
+		Dictionaries scoped = dictionaries.withDataDictionary("FIX.4.4-custom", custom);
+
+		// Then
+		assertThat(scoped.getSessionDataDictionary(BEGINSTRING_FIX44)).isSameAs(dictionaries.getSessionDataDictionary(BEGINSTRING_FIX44));
+	}
+
+	@Test
+	public void shouldResolveScopedDictionariesConcurrently() throws Exception {
+		// Given
+		DataDictionary global = dictionaries.getSessionDataDictionary(BEGINSTRING_FIX44);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		List<Callable<Boolean>> tasks = new ArrayList<>();
+		for (int i = 0; i < 16; i++) {
+			tasks.add(() -> {
+				DataDictionary custom = new DataDictionary(global);
+				Dictionaries scoped = dictionaries.withDataDictionary(BEGINSTRING_FIX44, custom);
+				return scoped.getSessionDataDictionary(BEGINSTRING_FIX44) == custom
+						&& scoped.getFieldValueTable(BEGINSTRING_FIX44) != null;
+			});
+		}
+
+		// When
+		List<Future<Boolean>> results;
+		try {
+			results = executor.invokeAll(tasks);
+		} finally {
+			executor.shutdown();
+		}
+
+		// Then
+		for (Future<Boolean> result : results) {
+			assertThat(result.get()).isTrue();
+		}
+		assertThat(dictionaries.getSessionDataDictionary(BEGINSTRING_FIX44)).isSameAs(global);
+	}
+
+	@Test
+	public void shouldLoadDictionaryOnceOnConcurrentFirstUse() throws Exception {
+		// Given
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		List<Callable<DataDictionary>> tasks = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			tasks.add(() -> dictionaries.getSessionDataDictionary(BEGINSTRING_FIX41));
+		}
+
+		// When
+		List<Future<DataDictionary>> results;
+		try {
+			results = executor.invokeAll(tasks);
+		} finally {
+			executor.shutdown();
+		}
+
+		// Then
+		for (Future<DataDictionary> result : results) {
+			assertThat(result.get()).isSameAs(dictionaries.getSessionDataDictionary(BEGINSTRING_FIX41));
+		}
+	}
+
+	@Test
+	public void shouldPreloadDictionariesInParallel() {
+		// When
+		DictionaryLoadReport report = dictionaries.preload(BEGINSTRING_FIX42, BEGINSTRING_FIX43, BEGINSTRING_FIX44);
+
+		// Then
+		assertThat(report.hasFailures()).isFalse();
+		assertThat(report.getLoadTimes().size() + report.getAlreadyLoaded().size()).isEqualTo(3);
+		assertThat(dictionaries.isLoaded(BEGINSTRING_FIX42)).isTrue();
+		assertThat(dictionaries.isLoaded(BEGINSTRING_FIX43)).isTrue();
+		assertThat(dictionaries.preload(BEGINSTRING_FIX42).getAlreadyLoaded()).containsExactly(BEGINSTRING_FIX42);
+	}
+
+	@Test
+	public void shouldReportDictionariesFailingToLoad() {
+		// When
+		DictionaryLoadReport report = dictionaries.preload("FIX.9.9");
+
+		// Then
+		assertThat(report.hasFailures()).isTrue();
+		assertThat(report.getFailures().get("FIX.9.9")).isInstanceOf(DictionaryLoadException.class);
+		assertThat(dictionaries.isLoaded("FIX.9.9")).isFalse();
+	}
+}
@@ -0,0 +1,173 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.internal;
+
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import quickfix.DataDictionary;
+import quickfix.field.ClOrdID;
+import quickfix.field.MDEntryPx;
+import quickfix.field.MDEntryType;
+import quickfix.field.NoMDEntries;
+import quickfix.field.OrdType;
+import quickfix.field.Side;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static quickfix.FixVersions.BEGINSTRING_FIX44;
+
+/**
+ * @author Eduardo Sanchez-Ros
+ */
+public class DictionarySnapshotTest {
+
+	@ClassRule
+	public static final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private static final Dictionaries dictionaries = Dictionaries.instance();
+
+	private static DataDictionary dataDictionary;
+
+	private static Path snapshotFile;
+
+	private static DictionarySnapshot snapshot;
+
+	@BeforeClass
+	public static void writeSnapshot() throws Exception {
+		dataDictionary = dictionaries.getSessionDataDictionary(BEGINSTRING_FIX44);
+		snapshotFile = temporaryFolder.getRoot().toPath().resolve("FIX44.snapshot");
+		dictionaries.saveSnapshot(BEGINSTRING_FIX44, snapshotFile);
+		snapshot = DictionarySnapshot.open(snapshotFile);
+	}
+
+	@Test
+	public void shouldReadFieldTypesAndNames() {
+		// Given
+		int[] tags = dataDictionary.getOrderedFields();
+
+		// When / Then
+		assertThat(snapshot.getBeginString()).isEqualTo(BEGINSTRING_FIX44);
+		for (int tag : tags) {
+			assertThat(snapshot.getFieldType(tag)).as("type of %d", tag).isEqualTo(dataDictionary.getFieldType(tag));
+			assertThat(snapshot.getFieldName(tag)).as("name of %d", tag).isEqualTo(dataDictionary.getFieldName(tag));
+		}
+		assertThat(snapshot.getFieldType(Integer.MAX_VALUE)).isNull();
+	}
+
+	@Test
+	public void shouldReadMessageTypes() {
+		// When / Then
+		assertThat(snapshot.getMsgType("NewOrderSingle")).isEqualTo(dataDictionary.getMsgType("NewOrderSingle"));
+		assertThat(snapshot.getMsgTypeName("D")).isEqualTo("NewOrderSingle");
+		assertThat(snapshot.getMsgType("Unknown")).isNull();
+		assertThat(snapshot.isAdminMessage("0")).isTrue();
+		assertThat(snapshot.isAdminMessage("D")).isFalse();
+	}
+
+	@Test
+	public void shouldReadRequiredFields() {
+		// When
+		int[] requiredFields = snapshot.getRequiredFields("D");
+
+		// Then
+		assertThat(requiredFields).contains(ClOrdID.FIELD, Side.FIELD, OrdType.FIELD);
+		for (int tag : requiredFields) {
+			assertThat(dataDictionary.isRequiredField("D", tag)).as("%d is required", tag).isTrue();
+		}
+		assertThat(snapshot.getRequiredFields("Unknown")).isEmpty();
+	}
+
+	@Test
+	public void shouldReadGroupLayouts() {
+		// When
+		GroupLayout mdEntries = snapshot.getGroupLayout("W", NoMDEntries.FIELD);
+
+		// Then
+		assertThat(mdEntries).isNotNull();
+		assertThat(mdEntries.getCounterTag()).isEqualTo(NoMDEntries.FIELD);
+		assertThat(mdEntries.getDelimiterTag()).isEqualTo(MDEntryType.FIELD);
+		assertThat(mdEntries.getFieldTags()).contains(MDEntryType.FIELD, MDEntryPx.FIELD);
+		assertThat(snapshot.getGroupLayout("D", NoMDEntries.FIELD)).isNull();
+	}
+
+	@Test
+	public void shouldCompileSameFieldValueTableAsDictionary() {
+		// Given
+		FieldValueTable expected = FieldValueTable.compile(dataDictionary, BEGINSTRING_FIX44);
+
+		// When
+		FieldValueTable actual = FieldValueTable.compile(snapshot.getFieldTypes(), BEGINSTRING_FIX44);
+
+		// Then
+		for (int tag : dataDictionary.getOrderedFields()) {
+			assertThat(actual.getFieldType(tag)).as("type of %d", tag).isEqualTo(expected.getFieldType(tag));
+			assertThat(actual.getExtractor(tag) == null).as("extractor of %d", tag).isEqualTo(expected.getExtractor(tag) == null);
+		}
+	}
+
+	@Test
+	public void shouldResolveMsgTypesFromLoadedSnapshot() throws Exception {
+		// Given
+		Dictionaries scoped = dictionaries.withDataDictionary("FIX.4.4-unused", dataDictionary);
+
+		// When
+		scoped.loadSnapshot(snapshotFile);
+
+		// Then
+		assertThat(scoped.getMsgType(BEGINSTRING_FIX44, "NewOrderSingle")).isEqualTo("D");
+		assertThat(scoped.getFieldValueTable(BEGINSTRING_FIX44).getFieldType(ClOrdID.FIELD)).isEqualTo(dataDictionary.getFieldType(ClOrdID.FIELD));
+		assertThat(scoped.getSessionDataDictionary(BEGINSTRING_FIX44).getMsgType("NewOrderSingle")).isEqualTo("D");
+	}
+
+	@Test
+	public void shouldRecordQuickFixJVersionAndDictionaryDigest() throws Exception {
+		// Given
+		String digest;
+		try (InputStream dictionaryXml = getClass().getClassLoader().getResourceAsStream("FIX44.xml")) {
+			digest = DictionarySnapshot.digest(dictionaryXml);
+		}
+
+		// When / Then
+		assertThat(snapshot.getQuickFixJVersion()).isEqualTo(DictionarySnapshot.QUICKFIXJ_VERSION);
+		assertThat(snapshot.getDictionaryDigest()).isEqualTo(digest).hasSize(64);
+	}
+
+	@Test
+	public void shouldRejectSnapshotOfAnotherDictionary() throws Exception {
+		// Given
+		ByteArrayOutputStream editedXml = new ByteArrayOutputStream();
+		try (InputStream dictionaryXml = getClass().getClassLoader().getResourceAsStream("FIX44.xml")) {
+			byte[] buffer = new byte[8192];
+			for (int read = dictionaryXml.read(buffer); read != -1; read = dictionaryXml.read(buffer)) {
+				editedXml.write(buffer, 0, read);
+			}
+		}
+		editedXml.write("<!-- edited -->".getBytes(StandardCharsets.UTF_8));
+		Path staleFile = temporaryFolder.getRoot().toPath().resolve("FIX44-edited.snapshot");
+		DictionarySnapshotWriter.write(BEGINSTRING_FIX44, dataDictionary, new ByteArrayInputStream(editedXml.toByteArray()), staleFile);
+		Dictionaries scoped = dictionaries.withDataDictionary("FIX.4.4-unused", dataDictionary);
+
+		// When / Then
+		assertThatThrownBy(() -> scoped.loadSnapshot(staleFile))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Dictionary snapshot of FIX.4.4 was written from another version of the dictionary");
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.internal;
+
+import org.junit.Test;
+import quickfix.StringField;
+import quickfix.field.MsgSeqNum;
+import quickfix.field.Price;
+import quickfix.field.SendingTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Eduardo Sanchez-Ros
+ */
+public class FieldDescriptorTest {
+
+	@Test
+	public void shouldResolveQuickFixField() {
+		// When
+		FieldDescriptor descriptor = FieldDescriptor.of(MsgSeqNum.class);
+
+		// Then
+		assertThat(descriptor.isResolved()).isTrue();
+		assertThat(descriptor.getTag()).isEqualTo(MsgSeqNum.FIELD);
+		assertThat(descriptor.getKind()).isEqualTo(FieldKind.INT);
+		assertThat(FieldDescriptor.of(SendingTime.class).getKind()).isEqualTo(FieldKind.UTC_TIMESTAMP);
+	}
+
+	@Test
+	public void shouldCacheDescriptorPerClass() {
+		assertThat(FieldDescriptor.of(MsgSeqNum.class)).isSameAs(FieldDescriptor.of(MsgSeqNum.class));
+	}
+
+	@Test
+	public void shouldResolveCustomFieldClass() {
+		// When
+		FieldDescriptor descriptor = FieldDescriptor.of(CustomPrice.class);
+
+		// Then
+		assertThat(descriptor.isResolved()).isTrue();
+		assertThat(descriptor.getTag()).isEqualTo(CustomPrice.FIELD);
+		assertThat(descriptor.getKind()).isEqualTo(FieldKind.DOUBLE);
+	}
+
+	@Test
+	public void shouldNotResolveFieldClassWithoutTag() {
+		// When
+		FieldDescriptor descriptor = FieldDescriptor.of(UntaggedField.class);
+
+		// Then
+		assertThat(descriptor.isResolved()).isFalse();
+		assertThat(descriptor.getKind()).isEqualTo(FieldKind.STRING);
+	}
+
+	public static class CustomPrice extends Price {
+
+		public static final int FIELD = 5001;
+
+		public CustomPrice() {
+			super();
+		}
+	}
+
+	public static class UntaggedField extends StringField {
+
+		public UntaggedField() {
+			super(5002);
+		}
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.internal;
+
+import org.junit.Test;
+import quickfix.DataDictionary;
+import quickfix.FieldType;
+import quickfix.Message;
+import quickfix.field.Price;
+import quickfix.field.Side;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static quickfix.FixVersions.BEGINSTRING_FIX40;
+import static quickfix.FixVersions.BEGINSTRING_FIX44;
+
+/**
+ * @author Eduardo Sanchez-Ros
+ */
+public class FieldValueTableTest {
+
+	private final Dictionaries dictionaries = Dictionaries.instance();
+
+	@Test
+	public void shouldCompileTableOncePerDictionary() {
+		assertThat(dictionaries.getFieldValueTable(BEGINSTRING_FIX44)).isSameAs(dictionaries.getFieldValueTable(BEGINSTRING_FIX44));
+	}
+
+	@Test
+	public void shouldShareTableAcrossScopedDictionaries() {
+		// Given
+		DataDictionary custom = new DataDictionary(dictionaries.getSessionDataDictionary(BEGINSTRING_FIX44));
+
+		// When
+		FieldValueTable first = dictionaries.withDataDictionary(BEGINSTRING_FIX44, custom).getFieldValueTable(BEGINSTRING_FIX44);
+		FieldValueTable second = dictionaries.withDataDictionary(BEGINSTRING_FIX44, custom).getFieldValueTable(BEGINSTRING_FIX44);
+
+		// Then
+		assertThat(second).isSameAs(first);
+		assertThat(first).isNotSameAs(dictionaries.getFieldValueTable(BEGINSTRING_FIX44));
+	}
+
+	@Test
+	public void shouldExtractValuesByDictionaryFieldType() throws Exception {
+		// Given
+		FieldValueTable table = dictionaries.getFieldValueTable(BEGINSTRING_FIX44);
+		Message message = new Message();
+		message.setField(new Price(300.5));
+		message.setField(new Side(Side.BUY));
+
+		// When/Then
+		assertThat(table.getFieldType(Price.FIELD)).isEqualTo(FieldType.PRICE);
+		assertThat(table.getExtractor(Price.FIELD).extract(message, Price.FIELD)).isEqualTo(300.5);
+		assertThat(table.getExtractor(Side.FIELD).extract(message, Side.FIELD)).isEqualTo(Side.BUY);
+	}
+
+	@Test
+	public void shouldExtractCharFieldsAsStringsForOlderVersions() throws Exception {
+		// Given
+		FieldValueTable table = dictionaries.getFieldValueTable(BEGINSTRING_FIX40);
+		Message message = new Message();
+		message.setField(new Side(Side.BUY));
+
+		// When/Then
+		assertThat(table.getExtractor(Side.FIELD).extract(message, Side.FIELD)).isEqualTo(String.valueOf(Side.BUY));
+	}
+
+	@Test
+	public void shouldCompileTablePerCharExtractionOfSameDictionary() throws Exception {
+		// Given
+		DataDictionary custom = new DataDictionary(dictionaries.getSessionDataDictionary(BEGINSTRING_FIX44));
+		Message message = new Message();
+		message.setField(new Side(Side.BUY));
+
+		// When
+		FieldValueTable fix40 = FieldValueTable.of(custom, BEGINSTRING_FIX40);
+		FieldValueTable fix44 = FieldValueTable.of(custom, BEGINSTRING_FIX44);
+
+		// Then
+		assertThat(fix40.getExtractor(Side.FIELD).extract(message, Side.FIELD)).isEqualTo(String.valueOf(Side.BUY));
+		assertThat(fix44.getExtractor(Side.FIELD).extract(message, Side.FIELD)).isEqualTo(Side.BUY);
+		assertThat(FieldValueTable.of(custom, BEGINSTRING_FIX40)).isSameAs(fix40);
+	}
+
+	@Test
+	public void shouldReturnNullExtractorForUnknownTag() {
+		assertThat(dictionaries.getFieldValueTable(BEGINSTRING_FIX44).getExtractor(Integer.MAX_VALUE)).isNull();
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.internal;
+
+import org.junit.Test;
+import quickfix.Group;
+import quickfix.Message;
+import quickfix.field.BeginString;
+import quickfix.field.MDEntryPx;
+import quickfix.field.MDEntryType;
+import quickfix.field.MsgSeqNum;
+import quickfix.field.MsgType;
+import quickfix.field.NoMDEntries;
+import quickfix.field.Symbol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static quickfix.FixVersions.BEGINSTRING_FIX44;
+
+/**
+ * @author Eduardo Sanchez-Ros
+ */
+public class FingerprintTest {
+
+	private static final String NEW_ORDER_SINGLE =
+			"8=FIX.4.0\u00019=122\u000135=D\u000134=215\u000149=CLIENT12\u000152=20100225-19:41:57.316\u000138=1000\u000156=B\u00011=Marcel\u000111=13346\u000121=1\u000140=2\u000144=5\u000154=1\u000155=GBP/USD\u000159=0\u000160=20100225-19:39:52.020\u000110=074\u0001";
+
+	@Test
+	public void shouldBeStableAcrossParses() throws Exception {
+		// Given
+		Fingerprint first = Fingerprint.of(new Message(NEW_ORDER_SINGLE));
+		Fingerprint second = Fingerprint.of(new Message(NEW_ORDER_SINGLE));
+
+		// Then
+		assertThat(first).isEqualTo(second);
+		assertThat(first.toString()).hasSize(32);
+	}
+
+	@Test
+	public void shouldIgnoreTheGivenTags() throws Exception {
+		// Given
+		Message message = new Message(NEW_ORDER_SINGLE);
+		Message resent = new Message(NEW_ORDER_SINGLE);
+		resent.getHeader().setField(new MsgSeqNum(216));
+
+		// Then
+		assertThat(Fingerprint.of(resent)).isNotEqualTo(Fingerprint.of(message));
+		assertThat(Fingerprint.of(resent, TagSet.VOLATILE)).isEqualTo(Fingerprint.of(message, TagSet.VOLATILE));
+	}
+
+	@Test
+	public void shouldRejectTagsOutsideTheFixRange() {
+		// When/Then
+		assertThatThrownBy(() -> TagSet.of(1_000_000_000))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Tag numbers must be between 1 and 99999, got 1000000000");
+		assertThat(TagSet.of(TagSet.MAX_TAG).contains(TagSet.MAX_TAG)).isTrue();
+	}
+
+	@Test
+	public void shouldDependOnTheOrderOfGroupEntriesOnly() {
+		// Given
+		Message message = marketDataSnapshot(1.1, 1.2);
+		Message reordered = marketDataSnapshot(1.2, 1.1);
+
+		// Then
+		assertThat(Fingerprint.of(marketDataSnapshot(1.1, 1.2))).isEqualTo(Fingerprint.of(message));
+		assertThat(Fingerprint.of(reordered)).isNotEqualTo(Fingerprint.of(message));
+	}
+
+	@Test
+	public void shouldDistinguishSections() {
+		// Given
+		Message inBody = new Message();
+		inBody.setField(new Symbol("EUR/USD"));
+		Message inHeader = new Message();
+		inHeader.getHeader().setField(new Symbol("EUR/USD"));
+
+		// Then
+		assertThat(Fingerprint.of(inBody)).isNotEqualTo(Fingerprint.of(inHeader));
+	}
+
+	private static Message marketDataSnapshot(double... prices) {
+		Message message = new Message();
+		message.getHeader().setField(new BeginString(BEGINSTRING_FIX44));
+		message.getHeader().setField(new MsgType(MsgType.MARKET_DATA_SNAPSHOT_FULL_REFRESH));
+		message.setField(new Symbol("EUR/USD"));
+		for (double price : prices) {
+			Group group = new Group(NoMDEntries.FIELD, MDEntryType.FIELD);
+			group.setField(new MDEntryType(MDEntryType.BID));
+			group.setField(new MDEntryPx(price));
+			message.addGroup(group);
+		}
+		return message;
+	}
+}
@@ -0,0 +1,163 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.internal;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Eduardo Sanchez-Ros
+ */
+public class FixLogReaderTest {
+
+	private static final String LOGON = "8=FIX.4.4\u00019=65\u000135=A\u000134=1\u000149=BANZAI\u000152=20200408-06:49:07\u000156=EXEC\u000198=0\u0001108=30\u000110=015\u0001";
+
+	private static final String NEW_ORDER_SINGLE = "8=FIX.4.4\u00019=112\u000135=D\u000134=2\u000149=BANZAI\u000152=20200727-12:28:02.659\u000156=EXEC\u000111=13346\u000121=1\u000138=1000\u000140=2\u000144=300\u000154=1\u000155=GBP/USD\u000110=018\u0001";
+
+	@Rule
+	public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Test
+	public void shouldFrameMessagesSkippingTimestampPrefixes() throws Exception {
+		// Given
+		Path log = writeLog("20200727-12:28:02.659: " + LOGON + "\n"
+				+ "20200727-12:28:03.001: " + NEW_ORDER_SINGLE + "\n");
+
+		// When
+		List<String> messages = readAll(log, FixLogReader.DEFAULT_WINDOW_SIZE);
+
+		// Then
+		assertThat(messages).containsExactly(LOGON, NEW_ORDER_SINGLE);
+	}
+
+	@Test
+	public void shouldFrameMessagesSpanningSeveralWindows() throws Exception {
+		// Given
+		StringBuilder content = new StringBuilder();
+		List<String> expected = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			String message = i % 2 == 0 ? LOGON : NEW_ORDER_SINGLE;
+			content.append("20200727-12:28:02.659: ").append(message).append('\n');
+			expected.add(message);
+		}
+		Path log = writeLog(content.toString());
+
+		// When
+		List<String> messages = readAll(log, 37);
+
+		// Then
+		assertThat(messages).isEqualTo(expected);
+	}
+
+	@Test
+	public void shouldReadMsgTypeWithoutDecodingMessage() throws Exception {
+		// Given
+		Path log = writeLog(LOGON + NEW_ORDER_SINGLE);
+
+		// When
+		List<String> msgTypes = new ArrayList<>();
+		try (FixLogReader reader = FixLogReader.open(log)) {
+			while (reader.next()) {
+				msgTypes.add(reader.getMsgType());
+			}
+		}
+
+		// Then
+		assertThat(msgTypes).containsExactly("A", "D");
+	}
+
+	@Test
+	public void shouldReportIncompleteMessages() throws Exception {
+		// Given
+		String truncated = NEW_ORDER_SINGLE.substring(0, 40);
+		Path log = writeLog(truncated + "\n" + LOGON);
+
+		// When
+		List<Boolean> complete = new ArrayList<>();
+		List<Long> offsets = new ArrayList<>();
+		try (FixLogReader reader = FixLogReader.open(log)) {
+			while (reader.next()) {
+				complete.add(reader.isComplete());
+				offsets.add(reader.getOffset());
+			}
+		}
+
+		// Then
+		assertThat(complete).containsExactly(false, true);
+		assertThat(offsets).containsExactly(0L, (long) truncated.length() + 1);
+	}
+
+	@Test
+	public void shouldNotFrameBeginStringLikeValues() throws Exception {
+		// Given
+		Path log = writeLog("58=FIX text\n" + LOGON);
+
+		// When
+		List<String> messages = readAll(log, FixLogReader.DEFAULT_WINDOW_SIZE);
+
+		// Then
+		assertThat(messages).containsExactly(LOGON);
+	}
+
+	@Test
+	public void shouldMoveTheSameIndexedViewFromMessageToMessage() throws Exception {
+		// Given
+		StringBuilder content = new StringBuilder();
+		for (int i = 0; i < 10; i++) {
+			content.append(i % 2 == 0 ? LOGON : NEW_ORDER_SINGLE);
+		}
+		Path log = writeLog(content.toString());
+
+		// When
+		List<RawMessage> views = new ArrayList<>();
+		List<String> values = new ArrayList<>();
+		try (FixLogReader reader = FixLogReader.open(log, 64)) {
+			while (reader.next()) {
+				RawMessage view = reader.getRawMessage().index();
+				views.add(view);
+				String msgType = view.getValue(35).toString();
+				values.add(view.hasField(55) ? msgType + "/" + view.getValue(55) : msgType);
+			}
+		}
+
+		// Then
+		assertThat(views).hasSize(10).containsOnly(views.get(0));
+		assertThat(values).containsExactly("A", "D/GBP/USD", "A", "D/GBP/USD", "A", "D/GBP/USD", "A", "D/GBP/USD", "A", "D/GBP/USD");
+	}
+
+	private Path writeLog(String content) throws Exception {
+		Path log = temporaryFolder.newFile().toPath();
+		Files.write(log, content.getBytes(StandardCharsets.ISO_8859_1));
+		return log;
+	}
+
+	private static List<String> readAll(Path log, int windowSize) throws Exception {
+		List<String> messages = new ArrayList<>();
+		try (FixLogReader reader = FixLogReader.open(log, windowSize)) {
+			while (reader.next()) {
+				assertThat(reader.isComplete()).isTrue();
+				messages.add(reader.getMessage());
+			}
+		}
+		return messages;
+	}
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.internal;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Eduardo Sanchez-Ros
+ */
+public class RawFieldValuesTest {
+
+	@Test
+	public void shouldParseInt() {
+		assertThat(RawFieldValues.parseInt("215")).isEqualTo(215);
+		assertThat(RawFieldValues.parseInt("-2147483648")).isEqualTo(Integer.MIN_VALUE);
+		assertThat(RawFieldValues.parseInt("2147483648")).isEqualTo(RawFieldValues.INVALID_INT);
+		assertThat(RawFieldValues.parseInt("12a")).isEqualTo(RawFieldValues.INVALID_INT);
+		assertThat(RawFieldValues.parseInt("")).isEqualTo(RawFieldValues.INVALID_INT);
+	}
+
+	@Test
+	public void shouldParseDouble() {
+		assertThat(RawFieldValues.parseDouble("300.25")).isEqualTo(300.25);
+		assertThat(RawFieldValues.parseDouble("-0.5")).isEqualTo(-0.5);
+		assertThat(RawFieldValues.parseDouble("1000")).isEqualTo(1000d);
+		assertThat(RawFieldValues.parseDouble("1.2.3")).isNaN();
+		assertThat(RawFieldValues.parseDouble("-")).isNaN();
+	}
+
+	@Test
+	public void shouldRejectNonFixFloatsBeyondTheExactRange() {
+		assertThat(RawFieldValues.parseDouble("0.12345678901234567890")).isEqualTo(0.12345678901234567890);
+		assertThat(RawFieldValues.parseDouble("1e5")).isNaN();
+		assertThat(RawFieldValues.parseDouble("NaN")).isNaN();
+		assertThat(RawFieldValues.parseDouble("Infinity")).isNaN();
+		assertThat(RawFieldValues.parseDouble("0x1p3")).isNaN();
+		assertThat(RawFieldValues.parseDouble(" 1.5")).isNaN();
+		assertThat(RawFieldValues.parseDouble("1.5 ")).isNaN();
+		assertThat(RawFieldValues.parseDouble("1.5d")).isNaN();
+		assertThat(RawFieldValues.decimalEquals("1e5", new BigDecimal("100000"))).isFalse();
+	}
+
+	@Test
+	public void shouldCompareDecimalsExactly() {
+		assertThat(RawFieldValues.decimalEquals("300.250", 30025, 2)).isTrue();
+		assertThat(RawFieldValues.decimalEquals("1000", 1, -3)).isTrue();
+		assertThat(RawFieldValues.decimalEquals("-0.10", -1, 1)).isTrue();
+		assertThat(RawFieldValues.decimalEquals("0.000", 0, 5)).isTrue();
+		assertThat(RawFieldValues.decimalEquals("300.25", 30026, 2)).isFalse();
+		assertThat(RawFieldValues.decimalEquals("12345678901234567890.5", 5, 1)).isFalse();
+		assertThat(RawFieldValues.decimalEquals("abc", 0, 0)).isFalse();
+	}
+}
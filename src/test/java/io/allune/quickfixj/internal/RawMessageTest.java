@@ -0,0 +1,64 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.internal;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Eduardo Sanchez-Ros
+ */
+public class RawMessageTest {
+
+	private static final String MESSAGE = "8=FIX.4.4\u00019=65\u000135=A\u000134=1\u000149=BANZAI\u000152=20200408-06:49:07\u000156=EXEC\u000198=0\u0001108=30\u0001269=0\u0001269=1\u000110=015\u0001";
+
+	@Test
+	public void shouldFindSameValuesWhenScanningAndIndexed() {
+		// Given
+		RawMessage scanned = RawMessage.of(MESSAGE);
+		RawMessage indexed = RawMessage.of(MESSAGE).index();
+
+		// When / Then
+		for (int tag : new int[]{8, 9, 35, 34, 49, 52, 56, 98, 108, 269, 10, 11, 0, 1080}) {
+			CharSequence expected = scanned.getValue(tag);
+			CharSequence actual = indexed.getValue(tag);
+			assertThat(actual == null ? null : actual.toString()).as("tag %d", tag).isEqualTo(expected == null ? null : expected.toString());
+		}
+	}
+
+	@Test
+	public void shouldReturnFirstOccurrenceOfRepeatedTag() {
+		// When / Then
+		assertThat(RawMessage.of(MESSAGE).getValue(269).toString()).isEqualTo("0");
+		assertThat(RawMessage.of(MESSAGE).index().getValue(269).toString()).isEqualTo("0");
+	}
+
+	@Test
+	public void shouldIndexMessagesWithManyFields() {
+		// Given
+		StringBuilder message = new StringBuilder("8=FIX.4.4\u0001");
+		for (int tag = 5000; tag < 5500; tag++) {
+			message.append(tag).append('=').append(tag * 2).append('\u0001');
+		}
+
+		// When
+		RawMessage indexed = RawMessage.of(message).index();
+
+		// Then
+		for (int tag = 5000; tag < 5500; tag++) {
+			assertThat(indexed.getValue(tag).toString()).isEqualTo(String.valueOf(tag * 2));
+		}
+		assertThat(indexed.getValue(4999)).isNull();
+	}
+}
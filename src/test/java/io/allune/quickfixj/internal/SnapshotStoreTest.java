@@ -0,0 +1,75 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2020-2020 the original author or authors.
+ */
+package io.allune.quickfixj.internal;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Eduardo Sanchez-Ros
+ */
+public class SnapshotStoreTest {
+
+	private static final String NEW_ORDER = "8=FIX.4.4\u00019=12\u000135=D\u000155=GBP/USD\u000110=000\u0001";
+
+	private static final String CANCEL = "8=FIX.4.4\u00019=12\u000135=F\u000155=EUR/USD\u000110=000\u0001";
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Test
+	public void shouldWriteFileOnlyWhenFlushed() throws Exception {
+		// Given
+		Path file = temporaryFolder.getRoot().toPath().resolve("Test.fixsnap");
+		SnapshotStore store = new SnapshotStore(file);
+
+		// When
+		store.put("new order", NEW_ORDER.getBytes(StandardCharsets.US_ASCII));
+		store.put("cancel", CANCEL.getBytes(StandardCharsets.US_ASCII));
+
+		// Then
+		assertThat(file).doesNotExist();
+		assertThat(store.get("new order").toString()).isEqualTo(NEW_ORDER);
+		store.flush();
+		SnapshotStore written = new SnapshotStore(file);
+		assertThat(written.getNames()).containsExactly("cancel", "new order");
+		assertThat(written.get("new order").toString()).isEqualTo(NEW_ORDER);
+		assertThat(written.get("cancel").toString()).isEqualTo(CANCEL);
+	}
+
+	@Test
+	public void shouldKeepExistingSnapshotsGivenFileUpdated() throws Exception {
+		// Given
+		Path file = temporaryFolder.getRoot().toPath().resolve("Test.fixsnap");
+		SnapshotStore store = new SnapshotStore(file);
+		store.put("new order", NEW_ORDER.getBytes(StandardCharsets.US_ASCII));
+		store.flush();
+
+		// When
+		SnapshotStore updated = new SnapshotStore(file);
+		updated.get("new order");
+		updated.put("cancel", CANCEL.getBytes(StandardCharsets.US_ASCII));
+		updated.flush();
+
+		// Then
+		SnapshotStore written = new SnapshotStore(file);
+		assertThat(written.getNames()).containsExactly("cancel", "new order");
+		assertThat(written.get("new order").toString()).isEqualTo(NEW_ORDER);
+	}
+}